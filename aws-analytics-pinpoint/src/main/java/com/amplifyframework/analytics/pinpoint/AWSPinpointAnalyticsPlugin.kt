@@ -84,6 +84,11 @@ class AWSPinpointAnalyticsPlugin : AnalyticsPlugin<PinpointClient>() {
                 pinpointAnalyticsConfigJson.getLong(PinpointConfigurationKey.AUTO_FLUSH_INTERVAL.configurationKey)
             )
         }
+        if (pinpointAnalyticsConfigJson.has(PinpointConfigurationKey.MAX_STORAGE_SIZE.configurationKey)) {
+            configBuilder.withMaxStorageSize(
+                pinpointAnalyticsConfigJson.getLong(PinpointConfigurationKey.MAX_STORAGE_SIZE.configurationKey)
+            )
+        }
         if (pinpointAnalyticsConfigJson.has(PinpointConfigurationKey.TRACK_APP_LIFECYCLE_EVENTS.configurationKey)) {
             configBuilder.withTrackAppLifecycleEvents(
                 pinpointAnalyticsConfigJson.getBoolean(
@@ -134,6 +139,11 @@ private enum class PinpointConfigurationKey(
      */
     AUTO_FLUSH_INTERVAL("autoFlushEventsInterval"),
 
+    /**
+     * Bound of the size of events stored before they are submitted, past which the oldest events are dropped.
+     */
+    MAX_STORAGE_SIZE("maxStorageSize"),
+
     /**
      * Whether to track app lifecycle events automatically.
      */
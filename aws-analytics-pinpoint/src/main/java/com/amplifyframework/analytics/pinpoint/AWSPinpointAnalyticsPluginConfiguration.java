@@ -15,6 +15,8 @@
 
 package com.amplifyframework.analytics.pinpoint;
 
+import com.amplifyframework.pinpoint.core.database.PinpointDatabase;
+
 /**
  * Configuration options for Amplify Analytics Pinpoint plugin.
  */
@@ -27,12 +29,14 @@ final class AWSPinpointAnalyticsPluginConfiguration {
     private final boolean trackAppLifecycleEvents;
     private final String region;
     private final long autoFlushEventsInterval;
+    private final long maxStorageSize;
 
     private AWSPinpointAnalyticsPluginConfiguration(Builder builder) {
         this.appId = builder.appId;
         this.region = builder.region;
         this.trackAppLifecycleEvents = builder.trackAppLifecycleEvents;
         this.autoFlushEventsInterval = builder.autoFlushEventsInterval;
+        this.maxStorageSize = builder.maxStorageSize;
     }
 
     /**
@@ -62,6 +66,15 @@ final class AWSPinpointAnalyticsPluginConfiguration {
         return autoFlushEventsInterval;
     }
 
+    /**
+     * Accessor for the bound of the size of events stored before they are submitted.
+     *
+     * @return bound of the size of stored events.
+     */
+    long getMaxStorageSize() {
+        return maxStorageSize;
+    }
+
     /**
      * Is auto session tracking enabled.
      * @return Is auto session tracking enabled.
@@ -87,6 +100,7 @@ final class AWSPinpointAnalyticsPluginConfiguration {
         private boolean trackAppLifecycleEvents = false;
         private String region;
         private long autoFlushEventsInterval = DEFAULT_AUTO_FLUSH_INTERVAL;
+        private long maxStorageSize = PinpointDatabase.DEFAULT_MAX_STORAGE_SIZE;
 
         Builder withAppId(final String appId) {
             this.appId = appId;
@@ -103,6 +117,11 @@ final class AWSPinpointAnalyticsPluginConfiguration {
             return this;
         }
 
+        Builder withMaxStorageSize(final long maxStorageSize) {
+            this.maxStorageSize = maxStorageSize;
+            return this;
+        }
+
         Builder withTrackAppLifecycleEvents(final boolean trackAppLifecycleEvents) {
             this.trackAppLifecycleEvents = trackAppLifecycleEvents;
             return this;
@@ -49,7 +49,7 @@ internal class PinpointManager constructor(
     }
 
     init {
-        val pinpointDatabase = PinpointDatabase(context)
+        val pinpointDatabase = PinpointDatabase(context, maxStorageSize = awsPinpointConfiguration.maxStorageSize)
 
         /*
         Auth plugin needs to read from Pinpoint shared preferences, but we don't currently have an architecture
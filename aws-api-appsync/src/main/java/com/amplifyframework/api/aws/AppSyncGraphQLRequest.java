@@ -16,6 +16,7 @@
 package com.amplifyframework.api.aws;
 
 import android.text.TextUtils;
+import android.util.LruCache;
 import androidx.annotation.NonNull;
 import androidx.core.util.ObjectsCompat;
 
@@ -33,6 +34,7 @@ import com.amplifyframework.util.Wrap;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -87,6 +89,14 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
         return Immutable.of(variables);
     }
 
+    /**
+     * Returns the GraphQL types of the variables of this request, keyed by variable name.
+     * @return the GraphQL types of the variables of this request.
+     */
+    public Map<String, String> getVariableTypes() {
+        return Immutable.of(variableTypes);
+    }
+
     /**
      * Returns the {@link AuthorizationType} for this request.
      * @return the {@link AuthorizationType} for this request.
@@ -138,23 +148,91 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
      */
     @Override
     public String getQuery() {
+        LruCache<List<Object>, String> documents = selectionSet.getDocuments();
+        if (documents == null) {
+            return renderQuery();
+        }
+        // The selection set is cached, so the document only depends on these.
+        List<Object> key = Arrays.asList(
+                operation,
+                modelSchema.getName(),
+                modelSchema.getPluralName(),
+                modelSchema.getListPluralName(),
+                modelSchema.getSyncPluralName(),
+                variableTypes
+        );
+        String query = documents.get(key);
+        if (query == null) {
+            query = renderQuery();
+            documents.put(key, query);
+        }
+        return query;
+    }
+
+    /**
+     * Returns the root field of the document returned by {@link #getQuery()}, with its arguments and selection set,
+     * so that the fields of several requests can be combined into a single document. The field is given the alias,
+     * and each variable it refers to is renamed by appending the suffix, so the combined document must declare the
+     * variables of this request under those names.
+     *
+     *  Sample return value, for the alias "mutation0" and the suffix "_0":
+     *      mutation0: createPerson(input: $input_0) {
+     *          age dob first_name id last_name relationship
+     *      }
+     *
+     * @param alias alias of the field in the combined document
+     * @param variableSuffix suffix appended to the name of each variable of this request
+     * @return the aliased root field of this request
+     */
+    public String getAliasedField(@NonNull String alias, @NonNull String variableSuffix) {
+        return Objects.requireNonNull(alias) + ": " + renderField(Objects.requireNonNull(variableSuffix));
+    }
+
+    private String renderQuery() {
         String inputTypeString = "";
-        String inputParameterString = "";
         if (variableTypes.size() > 0) {
-            List<String> inputKeys = new ArrayList<>(variableTypes.keySet());
-            Collections.sort(inputKeys);
-
             List<String> inputTypes = new ArrayList<>();
-            List<String> inputParameters = new ArrayList<>();
-            for (String key : inputKeys) {
+            for (String key : sortedVariableNames()) {
                 inputTypes.add("$" + key + ": " + variableTypes.get(key));
-                inputParameters.add(key + ": $" + key);
             }
-
             inputTypeString = Wrap.inParentheses(TextUtils.join(", ", inputTypes));
+        }
+
+        return operation.getOperationType().getName() +
+                " " +
+                Casing.from(Casing.CaseType.SCREAMING_SNAKE_CASE).to(Casing.CaseType.PASCAL_CASE)
+                    .convert(operation.toString()) +
+                getOperationModelName() +
+                inputTypeString +
+                Wrap.inPrettyBraces(renderField(""), "", "  ") +
+                "\n";
+    }
+
+    private String renderField(String variableSuffix) {
+        String inputParameterString = "";
+        if (variableTypes.size() > 0) {
+            List<String> inputParameters = new ArrayList<>();
+            for (String key : sortedVariableNames()) {
+                inputParameters.add(key + ": $" + key + variableSuffix);
+            }
             inputParameterString = Wrap.inParentheses(TextUtils.join(", ", inputParameters));
         }
 
+        return Casing.from(Casing.CaseType.SCREAMING_SNAKE_CASE)
+                    .to(Casing.CaseType.CAMEL_CASE)
+                    .convert(operation.toString()) +
+                getOperationModelName() +
+                inputParameterString +
+                selectionSet.toString("  ");
+    }
+
+    private List<String> sortedVariableNames() {
+        List<String> inputKeys = new ArrayList<>(variableTypes.keySet());
+        Collections.sort(inputKeys);
+        return inputKeys;
+    }
+
+    private String getOperationModelName() {
         String modelName = Casing.capitalizeFirst(modelSchema.getName());
         String pluralName = modelSchema.getPluralName() != null &&
                 !modelSchema.getPluralName().isEmpty()
@@ -174,23 +252,7 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
                     ? Casing.capitalizeFirst(modelSchema.getSyncPluralName())
                     : pluralName;
         }
-
-        String operationString =
-                Casing.from(Casing.CaseType.SCREAMING_SNAKE_CASE)
-                    .to(Casing.CaseType.CAMEL_CASE)
-                    .convert(operation.toString()) +
-                modelName +
-                inputParameterString +
-                selectionSet.toString("  ");
-
-        return operation.getOperationType().getName() +
-                " " +
-                Casing.from(Casing.CaseType.SCREAMING_SNAKE_CASE).to(Casing.CaseType.PASCAL_CASE)
-                    .convert(operation.toString()) +
-                modelName +
-                inputTypeString +
-                Wrap.inPrettyBraces(operationString, "", "  ") +
-                "\n";
+        return modelName;
     }
 
     @Override
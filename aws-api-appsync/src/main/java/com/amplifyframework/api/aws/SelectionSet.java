@@ -16,7 +16,9 @@
 package com.amplifyframework.api.aws;
 
 import android.text.TextUtils;
+import android.util.LruCache;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.core.util.ObjectsCompat;
 
 import com.amplifyframework.AmplifyException;
@@ -40,6 +42,7 @@ import com.amplifyframework.util.Wrap;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -55,9 +58,12 @@ import java.util.Set;
  */
 public final class SelectionSet {
     private static final String INDENT = "  ";
+    private static final int MAX_DOCUMENTS = 16;
 
     private final String value;
     private final Set<SelectionSet> nodes;
+    // Documents rendered from this selection set, kept only by the immutable selection sets that are cached.
+    private final LruCache<List<Object>, String> documents;
 
     /**
      * Copy constructor.
@@ -82,12 +88,49 @@ public final class SelectionSet {
      * @param nodes Set of child nodes
      */
     public SelectionSet(String value, @NonNull Set<SelectionSet> nodes) {
+        this(value, nodes, null);
+    }
+
+    private SelectionSet(String value, @NonNull Set<SelectionSet> nodes, LruCache<List<Object>, String> documents) {
         this.value = value;
         this.nodes = Objects.requireNonNull(nodes);
+        this.documents = documents;
+    }
+
+    /**
+     * Returns an immutable copy of a selection set, which can be shared by requests and keeps the documents
+     * rendered from it.
+     * @param selectionSet selection set to copy
+     * @return an immutable copy of the selection set
+     */
+    static SelectionSet cacheable(@NonNull SelectionSet selectionSet) {
+        return new SelectionSet(selectionSet.value, immutableNodes(selectionSet), new LruCache<>(MAX_DOCUMENTS));
+    }
+
+    private static Set<SelectionSet> immutableNodes(SelectionSet selectionSet) {
+        if (Empty.check(selectionSet.nodes)) {
+            return Collections.emptySet();
+        }
+        Set<SelectionSet> nodes = new HashSet<>();
+        for (SelectionSet node : selectionSet.nodes) {
+            nodes.add(new SelectionSet(node.value, immutableNodes(node)));
+        }
+        return Collections.unmodifiableSet(nodes);
+    }
+
+    /**
+     * Returns the documents rendered from this selection set, keyed by the rest of their inputs, if this selection
+     * set is cached.
+     * @return the documents rendered from this selection set, or null if it is not cached
+     */
+    @Nullable
+    LruCache<List<Object>, String> getDocuments() {
+        return documents;
     }
 
     /**
-     * Returns child nodes.
+     * Returns child nodes. The nodes of a selection set built by the {@link Builder} cannot be modified, since it
+     * is shared by every request for the same model and operation. Copy it to modify its nodes.
      * @return child nodes
      */
     @NonNull
@@ -200,7 +243,8 @@ public final class SelectionSet {
         }
 
         /**
-         * Builds the SelectionSet containing all of the fields of the provided model class.
+         * Builds the SelectionSet containing all of the fields of the provided model class. The selection set is
+         * cached, so it is immutable and shared with the other requests for the same model, operation and options.
          * @return selection set
          * @throws AmplifyException if a ModelSchema cannot be created from the provided model class.
          */
@@ -210,6 +254,19 @@ public final class SelectionSet {
                         "Provide either a modelClass or a modelSchema to build the selection set");
             }
             Objects.requireNonNull(this.operation);
+            List<Object> key = Arrays.asList(
+                    SerializedModel.class == modelClass ? modelSchema : modelClass,
+                    operation,
+                    requestOptions.maxDepth(),
+                    requestOptions.leafSerializationBehavior(),
+                    requestOptions.listField(),
+                    requestOptions.paginationFields(),
+                    requestOptions.modelMetaFields()
+            );
+            return SelectionSetCache.get(key, this::buildSelectionSet);
+        }
+
+        private SelectionSet buildSelectionSet() throws AmplifyException {
             SelectionSet node = new SelectionSet(null,
                     SerializedModel.class == modelClass
                             ? getModelFields(modelSchema, requestOptions.maxDepth(), operation)
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.SchemaRegistry;
+
+import java.util.List;
+
+/**
+ * Selection sets built for each model, operation and request options. Building a selection set walks the model
+ * through reflection, so it is built once and shared by every request for the same model and operation, along with
+ * the documents rendered from it. Selection sets of serialized models are built from the schemas in the
+ * {@link SchemaRegistry}, so the cache is cleared whenever those change. Only the most recently used selection
+ * sets are kept, so models that are no longer queried do not hold on to theirs.
+ */
+final class SelectionSetCache {
+    private static final int MAX_SELECTION_SETS = 256;
+    private static final LruCache<List<Object>, SelectionSet> SELECTION_SETS = new LruCache<>(MAX_SELECTION_SETS);
+    private static volatile int schemaRegistryVersion = -1;
+
+    private SelectionSetCache() { }
+
+    /**
+     * Returns the selection set cached for the key, or builds and caches one.
+     * @param key the inputs the selection set is built from
+     * @param factory builds the selection set if it is not cached
+     * @return an immutable selection set
+     * @throws AmplifyException if the selection set cannot be built
+     */
+    @NonNull
+    static SelectionSet get(@NonNull List<Object> key, @NonNull Factory factory) throws AmplifyException {
+        int version = SchemaRegistry.instance().getVersion();
+        if (version != schemaRegistryVersion) {
+            clear(version);
+        }
+        SelectionSet cached = SELECTION_SETS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        SelectionSet built = SelectionSet.cacheable(factory.build());
+        SELECTION_SETS.put(key, built);
+        return built;
+    }
+
+    private static synchronized void clear(int version) {
+        if (version != schemaRegistryVersion) {
+            SELECTION_SETS.evictAll();
+            schemaRegistryVersion = version;
+        }
+    }
+
+    /**
+     * Builds a selection set that is not cached yet.
+     */
+    interface Factory {
+        @NonNull
+        SelectionSet build() throws AmplifyException;
+    }
+}
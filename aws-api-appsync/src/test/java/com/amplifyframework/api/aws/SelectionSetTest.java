@@ -43,6 +43,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 @RunWith(RobolectricTestRunner.class)
 public class SelectionSetTest {
@@ -60,6 +62,39 @@ public class SelectionSetTest {
         assertEquals(Resources.readAsString("selection-set-post.txt"), selectionSet.toString() + "\n");
     }
 
+    /**
+     * Test that the selection set built for a model and operation is reused, until the schema registry changes.
+     * @throws AmplifyException if a ModelSchema can't be derived from Post.class
+     */
+    @Test
+    public void selectionSetIsReusedUntilSchemaRegistryChanges() throws AmplifyException {
+        SelectionSet selectionSet = buildPostSelectionSet(QueryType.LIST);
+        assertSame(selectionSet, buildPostSelectionSet(QueryType.LIST));
+        assertNotSame(selectionSet, buildPostSelectionSet(QueryType.SYNC));
+
+        SchemaRegistry.instance().register(Collections.singleton(Post.class));
+        SelectionSet rebuilt = buildPostSelectionSet(QueryType.LIST);
+        assertNotSame(selectionSet, rebuilt);
+        assertEquals(selectionSet.toString(), rebuilt.toString());
+    }
+
+    /**
+     * Test that a reused selection set cannot be modified by the requests sharing it.
+     * @throws AmplifyException if a ModelSchema can't be derived from Post.class
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void reusedSelectionSetIsImmutable() throws AmplifyException {
+        buildPostSelectionSet(QueryType.GET).getNodes().add(new SelectionSet("extra"));
+    }
+
+    private static SelectionSet buildPostSelectionSet(QueryType queryType) throws AmplifyException {
+        return SelectionSet.builder()
+                .modelClass(Post.class)
+                .operation(queryType)
+                .requestOptions(new DefaultGraphQLRequestOptions())
+                .build();
+    }
+
     /**
      * Test that custom type selection set serialization works as expected.
      * @throws AmplifyException if a ModelSchema can't be derived from Post.class
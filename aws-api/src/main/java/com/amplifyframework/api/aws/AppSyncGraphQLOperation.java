@@ -130,32 +130,27 @@ public final class AppSyncGraphQLOperation<R> extends GraphQLOperation<R> {
         @Override
         public void onResponse(@NonNull Call call, @NonNull Response response) {
             final ResponseBody responseBody = response.body();
-            String jsonResponse = null;
-            if (responseBody != null) {
-                try {
-                    jsonResponse = responseBody.string();
-                } catch (IOException exception) {
-                    LOG.warn("Error retrieving JSON from response.", exception);
-                    onFailure.accept(new ApiException(
-                        "Could not retrieve the response body from the returned JSON",
-                        exception, AmplifyException.TODO_RECOVERY_SUGGESTION
-                    ));
-                    return;
-                }
-            }
             if (response.code() >= START_OF_CLIENT_ERROR_CODE && response.code() <= END_OF_CLIENT_ERROR_CODE) {
+                response.close();
                 onFailure.accept(new ApiException
                         .NonRetryableException("OkHttp client request failed.", "Irrecoverable error")
                 );
                 return;
             }
 
+            // The body is parsed as it is read, rather than first being buffered into a String.
+            final GraphQLResponse<R> graphQLResponse;
             try {
-                onResponse.accept(wrapResponse(jsonResponse));
-                //TODO: Dispatch to hub
+                graphQLResponse = responseBody != null ?
+                    wrapResponse(responseBody.charStream()) : wrapResponse((String) null);
             } catch (ApiException exception) {
                 onFailure.accept(exception);
+                return;
+            } finally {
+                response.close();
             }
+            onResponse.accept(graphQLResponse);
+            //TODO: Dispatch to hub
         }
 
         @Override
@@ -22,36 +22,60 @@ import com.amplifyframework.api.ApiException;
 import com.amplifyframework.api.graphql.GraphQLRequest;
 import com.amplifyframework.api.graphql.GraphQLResponse;
 import com.amplifyframework.api.graphql.PaginatedResult;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.datastore.appsync.ModelWithMetadata;
 import com.amplifyframework.util.Empty;
 import com.amplifyframework.util.GsonFactory;
 import com.amplifyframework.util.TypeMaker;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Converts JSON strings into models of a given type, using Gson.
+ *
+ * Responses are parsed as a stream, straight into the response type, without first building
+ * a tree of the whole JSON document. The Gson instance is created once and reused for every
+ * response, so that Gson's own cache of type adapters is shared by all of them.
  */
 final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
+    private static final String DATA_KEY = "data";
+    private static final String ERRORS_KEY = "errors";
+    private static final Type ERRORS_TYPE =
+        TypeMaker.getParameterizedType(ArrayList.class, GraphQLResponse.Error.class);
+
     private final Gson gson;
+    private final TypeAdapter<List<GraphQLResponse.Error>> errorsAdapter;
 
     GsonGraphQLResponseFactory() {
         this(GsonFactory.instance());
     }
 
     @VisibleForTesting
+    @SuppressWarnings("unchecked")
     GsonGraphQLResponseFactory(Gson gson) {
-        this.gson = gson;
+        this.gson = gson.newBuilder()
+            .registerTypeAdapterFactory(new IterableTypeAdapterFactory())
+            .create();
+        this.errorsAdapter =
+            (TypeAdapter<List<GraphQLResponse.Error>>) this.gson.getAdapter(TypeToken.get(ERRORS_TYPE));
     }
 
     @Override
@@ -62,114 +86,257 @@ final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
         // https://github.com/google/gson/issues/457
         // https://github.com/google/gson/issues/1697
         if (Empty.check(responseJson)) {
-            throw new ApiException(
-                "Amplify encountered an error while deserializing an object.",
-                new JsonParseException("Empty response."),
-                AmplifyException.TODO_RECOVERY_SUGGESTION
-            );
+            throw emptyResponseException();
         }
+        return buildResponse(request, new StringReader(responseJson));
+    }
 
-        Type responseType = TypeMaker.getParameterizedType(GraphQLResponse.class, request.getResponseType());
+    @Override
+    public <T> GraphQLResponse<T> buildResponse(GraphQLRequest<T> request, Reader responseJson)
+            throws ApiException {
+        if (responseJson == null) {
+            throw emptyResponseException();
+        }
+        JsonReader reader = new JsonReader(responseJson);
+        // Match the leniency of Gson.fromJson(...), which the response factory used before it streamed.
+        reader.setLenient(true);
         try {
-            Gson responseGson = gson.newBuilder()
-                .registerTypeHierarchyAdapter(Iterable.class, new IterableDeserializer<>(request))
-                .create();
-            return responseGson.fromJson(responseJson, responseType);
-        } catch (JsonParseException jsonParseException) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                throw new JsonParseException(
+                    "Expected a JsonObject while deserializing GraphQLResponse but found " + reader.peek()
+                );
+            }
+            return readResponse(request, reader);
+        } catch (EOFException emptyException) {
+            throw emptyResponseException();
+        } catch (JsonParseException | MalformedJsonException | IllegalStateException parseException) {
             throw new ApiException(
                     "Amplify encountered an error while deserializing an object.",
-                    jsonParseException,
+                    parseException,
                     AmplifyException.TODO_RECOVERY_SUGGESTION
             );
+        } catch (IOException exception) {
+            throw new ApiException(
+                "Could not retrieve the response body from the returned JSON",
+                exception, AmplifyException.TODO_RECOVERY_SUGGESTION
+            );
+        }
+    }
+
+    private <T> GraphQLResponse<T> readResponse(GraphQLRequest<T> request, JsonReader reader) throws IOException {
+        Type dataType = request.getResponseType();
+        T data = null;
+        List<GraphQLResponse.Error> errors = Collections.emptyList();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+            } else if (DATA_KEY.equals(name)) {
+                data = shouldSkipQueryLevel(dataType) ? readQueryLevel(request, reader) : readData(request, reader);
+            } else if (ERRORS_KEY.equals(name)) {
+                errors = errorsAdapter.read(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new GraphQLResponse<>(data, errors);
+    }
+
+    // Skips a JSON level to get content of query, not query itself
+    private <T> T readQueryLevel(GraphQLRequest<T> request, JsonReader reader) throws IOException {
+        reader.beginObject();
+        if (!reader.hasNext()) {
+            throw new JsonParseException(
+                    "Amplify encountered an error while serializing/deserializing an object.  " +
+                            "Please add a single top level field in your query."
+            );
+        }
+        reader.nextName();
+        T data = null;
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+        } else {
+            data = readData(request, reader);
+        }
+        if (reader.hasNext()) {
+            throw new JsonParseException(
+                    "Amplify encountered an error while serializing/deserializing an object.  " +
+                            "Please reduce your query to a single top level field."
+            );
+        }
+        reader.endObject();
+        return data;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T readData(GraphQLRequest<T> request, JsonReader reader) throws IOException {
+        Type dataType = request.getResponseType();
+        if (dataType instanceof ParameterizedType &&
+                PaginatedResult.class.equals(((ParameterizedType) dataType).getRawType())) {
+            // Only a root-level result knows the request, which it needs to build the request for the next page.
+            // It is only ever read, so it writes with the adapter that Gson uses for the same type.
+            return (T) new IterableTypeAdapter<>(
+                gson, dataType, request, gson.getAdapter(TypeToken.get(dataType))
+            ).read(reader);
+        }
+        return (T) gson.getAdapter(TypeToken.get(dataType)).read(reader);
+    }
+
+    // Mirrors GsonResponseAdapters.ResponseDeserializer, which parses responses from a JSON tree.
+    private static boolean shouldSkipQueryLevel(Type type) {
+        if (type instanceof ParameterizedType) {
+            final Type rawType = ((ParameterizedType) type).getRawType();
+            return ModelWithMetadata.class.equals(rawType) || Iterable.class.isAssignableFrom((Class<?>) rawType);
+        }
+        return Model.class.isAssignableFrom((Class<?>) type);
+    }
+
+    private static ApiException emptyResponseException() {
+        return new ApiException(
+            "Amplify encountered an error while deserializing an object.",
+            new JsonParseException("Empty response."),
+            AmplifyException.TODO_RECOVERY_SUGGESTION
+        );
+    }
+
+    /**
+     * Creates the adapters that read JSON lists into Iterables.
+     */
+    static final class IterableTypeAdapterFactory implements TypeAdapterFactory {
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+            if (!Iterable.class.isAssignableFrom(typeToken.getRawType())) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            TypeAdapter<T> adapter = (TypeAdapter<T>) new IterableTypeAdapter<>(
+                gson, typeToken.getType(), null, gson.getDelegateAdapter(this, typeToken)
+            );
+            return adapter;
         }
     }
 
-    static final class IterableDeserializer<R> implements JsonDeserializer<Iterable<Object>> {
+    /**
+     * Reads a JSON list, or an AppSync list object with items and a nextToken, into an Iterable.
+     * @param <R> Type of the request whose response contains the list
+     */
+    static final class IterableTypeAdapter<R> extends TypeAdapter<Iterable<Object>> {
         private static final String ITEMS_KEY = "items";
         private static final String NEXT_TOKEN_KEY = "nextToken";
 
+        private final Type iterableType;
         private final GraphQLRequest<R> request;
+        private final TypeAdapter<?> itemAdapter;
+        private final TypeAdapter<?> writeDelegate;
 
-        IterableDeserializer(GraphQLRequest<R> request) {
+        /**
+         * Constructs an adapter of an Iterable type.
+         * @param gson Gson, to look up the adapter of the item type
+         * @param iterableType The type of Iterable, which must be parameterized with its item type
+         * @param request The request, if this Iterable is the root of its response, or null
+         * @param writeDelegate Adapter to write the Iterable type with
+         */
+        IterableTypeAdapter(Gson gson, Type iterableType, GraphQLRequest<R> request, TypeAdapter<?> writeDelegate) {
+            this.iterableType = iterableType;
             this.request = request;
+            this.itemAdapter = iterableType instanceof ParameterizedType ?
+                gson.getAdapter(TypeToken.get(((ParameterizedType) iterableType).getActualTypeArguments()[0])) : null;
+            this.writeDelegate = writeDelegate;
         }
 
         @Override
-        public Iterable<Object> deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-                throws JsonParseException {
-            final Type templateClassType;
-            if (typeOfT instanceof ParameterizedType) {
-                templateClassType = ((ParameterizedType) typeOfT).getActualTypeArguments()[0];
-            } else {
+        @SuppressWarnings("unchecked")
+        public void write(JsonWriter out, Iterable<Object> value) throws IOException {
+            ((TypeAdapter<Object>) writeDelegate).write(out, value);
+        }
+
+        @Override
+        public Iterable<Object> read(JsonReader in) throws IOException {
+            if (itemAdapter == null) {
                 throw new JsonParseException("Expected a parameterized type during list deserialization.");
             }
+            JsonToken token = in.peek();
+            if (token == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            } else if (token == JsonToken.BEGIN_ARRAY) {
+                return readItems(in);
+            } else if (token != JsonToken.BEGIN_OBJECT) {
+                throw new JsonParseException(
+                    "Got a JSON value that was not an object or a list. " +
+                        "Refusing to deserialize into a Java Iterable."
+                );
+            }
 
-            // If the json we got is not really a list and the list has a generics type...
-            if (json.isJsonObject()) {
-                /*
-                 * Parses JSON such as the following:
-                 *   {
-                 *      "items" : [
-                 *          {
-                 *              "description": null,
-                 *              "id": "92863611-684a-424d-b3e5-94d42c4914c9",
-                 *              "name": "some name"
-                 *          }
-                 *      ],
-                 *      "nextToken" : "some_next_token"
-                 *   }
-                 */
-                JsonObject jsonObject = json.getAsJsonObject();
-                // ...and it is in the format we expect from AppSync
-                // for a list of objects in a relationship
-                if (jsonObject.has(ITEMS_KEY) && jsonObject.get(ITEMS_KEY).isJsonArray()) {
-                    JsonArray itemsArray = jsonObject.get(ITEMS_KEY).getAsJsonArray();
-                    Iterable<Object> items = toList(itemsArray, templateClassType, context);
-                    if (PaginatedResult.class.equals(((ParameterizedType) typeOfT).getRawType())) {
-                        // Results of a GraphQL query at the root level are parsed into a PaginatedResult.
-                        // A PaginatedResult extends the Iterable class, augmenting it with knowledge
-                        // of whether a next page exists, and how to request that next page
-                        // (via the nextToken).
-                        return buildPaginatedResult(items, jsonObject.get(NEXT_TOKEN_KEY));
-                    } else {
-                        // Results below than the root level are parsed as a List, because that
-                        // is the type on the code generated model for a one to many relationship
-                        // to a list of objects.  For this case, a nextToken may be present,
-                        // but we currently ignore it.  In the future, we could update the
-                        // generated model to use a PaginatedResult instead of List,
-                        // which would expose these details for customers.
-                        return items;
-                    }
+            /*
+             * Parses JSON such as the following, which is the format we expect from AppSync
+             * for a list of objects in a relationship:
+             *   {
+             *      "items" : [
+             *          {
+             *              "description": null,
+             *              "id": "92863611-684a-424d-b3e5-94d42c4914c9",
+             *              "name": "some name"
+             *          }
+             *      ],
+             *      "nextToken" : "some_next_token"
+             *   }
+             */
+            List<Object> items = null;
+            String nextToken = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (ITEMS_KEY.equals(name) && in.peek() == JsonToken.BEGIN_ARRAY) {
+                    items = readItems(in);
+                } else if (NEXT_TOKEN_KEY.equals(name) && in.peek() != JsonToken.NULL) {
+                    nextToken = in.nextString();
                 } else {
-                    throw new JsonParseException(
-                        "Got JSON from an API call which was supposed to go with a List " +
-                            "but is in the form of an object rather than an array. " +
-                            "It also is not in the standard format of having an items " +
-                            "property with the actual array of data so we do not know how " +
-                            "to deserialize it."
-                    );
+                    in.skipValue();
                 }
-            } else if (json.isJsonArray()) {
-                return toList(json.getAsJsonArray(), templateClassType, context);
             }
-            throw new JsonParseException(
-                    "Got a JSON value that was not an object or a list. " +
-                            "Refusing to deserialize into a Java Iterable."
-            );
+            in.endObject();
+            if (items == null) {
+                throw new JsonParseException(
+                    "Got JSON from an API call which was supposed to go with a List " +
+                        "but is in the form of an object rather than an array. " +
+                        "It also is not in the standard format of having an items " +
+                        "property with the actual array of data so we do not know how " +
+                        "to deserialize it."
+                );
+            }
+            if (PaginatedResult.class.equals(((ParameterizedType) iterableType).getRawType())) {
+                // Results of a GraphQL query at the root level are parsed into a PaginatedResult.
+                // A PaginatedResult extends the Iterable class, augmenting it with knowledge
+                // of whether a next page exists, and how to request that next page
+                // (via the nextToken).
+                return buildPaginatedResult(items, nextToken);
+            } else {
+                // Results below than the root level are parsed as a List, because that
+                // is the type on the code generated model for a one to many relationship
+                // to a list of objects.  For this case, a nextToken may be present,
+                // but we currently ignore it.  In the future, we could update the
+                // generated model to use a PaginatedResult instead of List,
+                // which would expose these details for customers.
+                return items;
+            }
         }
 
-        private Iterable<Object> toList(JsonArray jsonArray, Type type, JsonDeserializationContext context) {
+        private List<Object> readItems(JsonReader in) throws IOException {
             final List<Object> items = new ArrayList<>();
-            for (JsonElement item : jsonArray) {
-                items.add(context.deserialize(item, type));
+            in.beginArray();
+            while (in.hasNext()) {
+                items.add(itemAdapter.read(in));
             }
+            in.endArray();
             return items;
         }
 
-        private PaginatedResult<Object> buildPaginatedResult(Iterable<Object> items, JsonElement nextTokenElement) {
+        private PaginatedResult<Object> buildPaginatedResult(List<Object> items, String nextToken) {
             GraphQLRequest<PaginatedResult<Object>> requestForNextPage = null;
-            if (nextTokenElement.isJsonPrimitive()) {
-                String nextToken = nextTokenElement.getAsJsonPrimitive().getAsString();
+            if (nextToken != null) {
                 try {
                     if (request instanceof AppSyncGraphQLRequest) {
                         requestForNextPage = ((AppSyncGraphQLRequest<R>) request).newBuilder()
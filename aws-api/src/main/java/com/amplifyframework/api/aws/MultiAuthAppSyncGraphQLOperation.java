@@ -162,30 +162,25 @@ public final class MultiAuthAppSyncGraphQLOperation<R> extends GraphQLOperation<
         @Override
         public void onResponse(@NonNull Call call, @NonNull Response response) {
             final ResponseBody responseBody = response.body();
-            String jsonResponse = null;
-            if (responseBody != null) {
-                try {
-                    jsonResponse = responseBody.string();
-                } catch (IOException exception) {
-                    onFailure.accept(new ApiException(
-                        "Could not retrieve the response body from the returned JSON",
-                        exception, AmplifyException.TODO_RECOVERY_SUGGESTION
-                    ));
-                    return;
-                }
-            }
 
+            // The body is parsed as it is read, rather than first being buffered into a String.
+            final GraphQLResponse<R> graphQLResponse;
             try {
-                GraphQLResponse<R> graphQLResponse = wrapResponse(jsonResponse);
-                if (graphQLResponse.hasErrors() && hasAuthRelatedErrors(graphQLResponse) && authTypes.hasNext()) {
-                    executorService.submit(MultiAuthAppSyncGraphQLOperation.this::dispatchRequest);
-                } else {
-                    onResponse.accept(graphQLResponse);
-                }
-                //TODO: Dispatch to hub
+                graphQLResponse = responseBody != null ?
+                    wrapResponse(responseBody.charStream()) : wrapResponse((String) null);
             } catch (ApiException exception) {
                 onFailure.accept(exception);
+                return;
+            } finally {
+                response.close();
+            }
+
+            if (graphQLResponse.hasErrors() && hasAuthRelatedErrors(graphQLResponse) && authTypes.hasNext()) {
+                executorService.submit(MultiAuthAppSyncGraphQLOperation.this::dispatchRequest);
+            } else {
+                onResponse.accept(graphQLResponse);
             }
+            //TODO: Dispatch to hub
         }
 
         @Override
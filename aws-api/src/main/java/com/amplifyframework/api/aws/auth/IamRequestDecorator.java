@@ -20,21 +20,22 @@ import com.amplifyframework.api.aws.sigv4.AWS4Signer;
 
 import aws.smithy.kotlin.runtime.net.Url;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 
 import aws.smithy.kotlin.runtime.auth.awscredentials.CredentialsProvider;
 import aws.smithy.kotlin.runtime.http.DeferredHeaders;
 import aws.smithy.kotlin.runtime.http.Headers;
+import aws.smithy.kotlin.runtime.http.HttpBody;
 import aws.smithy.kotlin.runtime.http.HttpMethod;
-import aws.smithy.kotlin.runtime.http.content.ByteArrayContent;
 import aws.smithy.kotlin.runtime.http.request.HttpRequest;
 import aws.smithy.kotlin.runtime.http.request.HttpRequestKt;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okio.Buffer;
+import okio.BufferedSink;
 
 /**
  * Request decorator implementatioon that uses AWS SigV4 signing.
@@ -67,9 +68,9 @@ public class IamRequestDecorator implements RequestDecorator {
      * @throws ApiAuthException If the signing process fails.
      */
     public final okhttp3.Request decorate(okhttp3.Request req) throws ApiAuthException {
-        //set the request body
-        final byte[] bodyBytes = getBytes(req.body());
-        ByteArrayContent body2 = new ByteArrayContent(bodyBytes);
+        // Hash the body segments in place, so the signer does not need its own copy of the body.
+        final Buffer body = getBody(req.body());
+        final String payloadHash = body.sha256().hex();
 
         HttpMethod method = HttpMethod.Companion.parse(req.method());
         Url url = Url.Companion.parse(req.url().uri().toString());
@@ -82,9 +83,19 @@ public class IamRequestDecorator implements RequestDecorator {
             return null;
         });
 
-        HttpRequest req2 = HttpRequestKt.HttpRequest(method, url, headers, body2, DeferredHeaders.Companion.getEmpty());
+        HttpRequest req2 = HttpRequestKt.HttpRequest(
+            method, url, headers, HttpBody.Empty.INSTANCE, DeferredHeaders.Companion.getEmpty()
+        );
 
-        HttpRequest request = v4Signer.signBlocking(req2, credentialsProvider, serviceName).getOutput();
+        final HttpRequest request;
+        try {
+            request = v4Signer.signBlocking(req2, credentialsProvider, serviceName, payloadHash).getOutput();
+        } catch (CancellationException exception) {
+            // The signer leaves the thread's interrupt flag set.
+            throw new ApiAuthException("Interrupted while signing the request",
+                exception,
+                "Retry the request if it is still needed.");
+        }
 
         //Copy the signed/credentialed request back into an OKHTTP Request object.
         okhttp3.Request.Builder okReqBuilder = new okhttp3.Request.Builder();
@@ -99,7 +110,7 @@ public class IamRequestDecorator implements RequestDecorator {
         if (req.body() == null) {
             requestBody = null;
         } else {
-            requestBody = RequestBody.create(bodyBytes, JSON_MEDIA_TYPE);
+            requestBody = new BufferRequestBody(body);
         }
 
         okReqBuilder.method(req.method(), requestBody);
@@ -108,27 +119,46 @@ public class IamRequestDecorator implements RequestDecorator {
         return okReqBuilder.build();
     }
 
-    private byte[] getBytes(RequestBody body) throws ApiAuthException {
+    private Buffer getBody(RequestBody body) throws ApiAuthException {
+        final Buffer buffer = new Buffer();
         if (body == null) {
-            return "".getBytes();
+            return buffer;
         }
 
-        final int BUFFER_SIZE = 1024 * 4;
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            //write the body to a byte array.
-            final Buffer buffer = new Buffer();
+        try {
             body.writeTo(buffer);
-
-            final byte[] bytes = new byte[BUFFER_SIZE];
-            int n = 0;
-            while ((n = buffer.inputStream().read(bytes)) != -1) {
-                output.write(bytes, 0, n);
-            }
-            return output.toByteArray();
+            return buffer;
         } catch (IOException exception) {
             throw new ApiAuthException("Unable to calculate SigV4 signature for the request",
                 exception,
                 "Check your application logs for details.");
         }
     }
+
+    /**
+     * Writes the already hashed body without copying its bytes. Every write shares the buffer's segments,
+     * so the body can be written more than once, as on a retry.
+     */
+    private static final class BufferRequestBody extends RequestBody {
+        private final Buffer buffer;
+
+        BufferRequestBody(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return JSON_MEDIA_TYPE;
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.size();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            sink.writeAll(buffer.clone());
+        }
+    }
 }
@@ -21,7 +21,10 @@ import aws.smithy.kotlin.runtime.auth.awssigning.AwsSignedBodyHeader
 import aws.smithy.kotlin.runtime.auth.awssigning.AwsSigningConfig
 import aws.smithy.kotlin.runtime.auth.awssigning.AwsSigningResult
 import aws.smithy.kotlin.runtime.auth.awssigning.DefaultAwsSigner
+import aws.smithy.kotlin.runtime.auth.awssigning.HashSpecification
 import aws.smithy.kotlin.runtime.http.request.HttpRequest
+import java.util.concurrent.CancellationException
+import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.runBlocking
 
 /**
@@ -32,12 +35,14 @@ abstract class AWS4Signer(private val regionName: String) {
 
     /**
      * Async signing
+     * @param payloadHash hex encoded SHA-256 hash of the body, if already known, so the body is not read again
      */
     @OptIn(InternalApi::class)
     suspend fun sign(
         httpRequest: HttpRequest,
         credentialsProvider: CredentialsProvider,
-        serviceName: String
+        serviceName: String,
+        payloadHash: String? = null
     ): AwsSigningResult<HttpRequest> {
         val signingConfig = AwsSigningConfig.invoke {
             region = regionName
@@ -45,21 +50,32 @@ abstract class AWS4Signer(private val regionName: String) {
             service = serviceName
             this.credentials = credentialsProvider.resolve()
             signedBodyHeader = awsSignedBodyHeaderType
+            payloadHash?.let { hashSpecification = HashSpecification.Precalculated(it) }
         }
         return DefaultAwsSigner.sign(httpRequest, signingConfig)
     }
 
     /**
-     * Sign synchronously
+     * Sign synchronously, on the calling thread. The thread only waits if resolving the credentials suspends.
+     * @param payloadHash hex encoded SHA-256 hash of the body, if already known, so the body is not read again
+     * @throws CancellationException if the calling thread is interrupted while waiting, which cancels the signing.
+     * The thread's interrupt flag stays set.
      */
     @OptIn(InternalApi::class)
+    @JvmOverloads
     fun signBlocking(
         httpRequest: HttpRequest,
         credentialsProvider: CredentialsProvider,
-        serviceName: String
+        serviceName: String,
+        payloadHash: String? = null
     ): AwsSigningResult<HttpRequest> {
-        return runBlocking {
-            sign(httpRequest, credentialsProvider, serviceName)
+        try {
+            return runBlocking(Dispatchers.Unconfined) {
+                sign(httpRequest, credentialsProvider, serviceName, payloadHash)
+            }
+        } catch (exception: InterruptedException) {
+            Thread.currentThread().interrupt()
+            throw CancellationException("Interrupted while signing the request").apply { initCause(exception) }
         }
     }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws.sigv4;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.aws.auth.CognitoJWTParser;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of a Cognito User Pools token, kept until shortly before the expiry in its JWT. A valid token is read without
+ * locking. Once the token is about to expire, a single caller fetches a new one while the others keep using the
+ * current one; once it has expired, the callers wait for that single fetch instead of starting their own.
+ */
+final class CognitoUserPoolsTokenCache {
+    static final long REFRESH_AHEAD_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final String EXPIRATION_CLAIM = "exp";
+
+    private final LongSupplier currentTimeMillis;
+    private final AtomicReference<CachedToken> cachedToken = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<String>> pendingFetch = new AtomicReference<>();
+
+    CognitoUserPoolsTokenCache() {
+        this(System::currentTimeMillis);
+    }
+
+    CognitoUserPoolsTokenCache(@NonNull LongSupplier currentTimeMillis) {
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    /**
+     * Returns the cached token, or fetches a new one if it is about to expire.
+     * @param fetcher Fetches a new token
+     * @return A token that has not expired
+     * @throws ApiException If the token could not be fetched
+     */
+    @NonNull
+    String getToken(@NonNull TokenFetcher fetcher) throws ApiException {
+        while (true) {
+            CachedToken cached = cachedToken.get();
+            long now = currentTimeMillis.getAsLong();
+            if (cached != null && now < cached.refreshAtMillis) {
+                return cached.token;
+            }
+            CompletableFuture<String> fetch = pendingFetch.get();
+            if (fetch == null) {
+                CompletableFuture<String> newFetch = new CompletableFuture<>();
+                if (pendingFetch.compareAndSet(null, newFetch)) {
+                    return fetch(fetcher, newFetch, cached);
+                }
+                continue;
+            }
+            if (cached != null && now < cached.expiresAtMillis) {
+                return cached.token;
+            }
+            return await(fetch);
+        }
+    }
+
+    /**
+     * Forgets the cached token, and any token being fetched, such as when the user signs out.
+     */
+    synchronized void invalidate() {
+        cachedToken.set(null);
+        pendingFetch.set(null);
+    }
+
+    private String fetch(TokenFetcher fetcher, CompletableFuture<String> fetch, @Nullable CachedToken previous)
+            throws ApiException {
+        try {
+            String token = fetcher.fetch();
+            store(fetch, token, previous);
+            fetch.complete(token);
+            return token;
+        } catch (ApiException | RuntimeException exception) {
+            fetch.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            pendingFetch.compareAndSet(fetch, null);
+        }
+    }
+
+    private synchronized void store(CompletableFuture<String> fetch, String token, @Nullable CachedToken previous) {
+        // The cache was invalidated while this token was fetched, so it may belong to the previous user.
+        if (pendingFetch.get() != fetch) {
+            return;
+        }
+        long expiresAtMillis;
+        try {
+            String expiration = CognitoJWTParser.Companion.getClaim(token, EXPIRATION_CLAIM);
+            expiresAtMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(expiration));
+        } catch (RuntimeException exception) {
+            // Without an expiry, the token is fetched again for each request.
+            cachedToken.set(null);
+            return;
+        }
+        // Auth only refreshes tokens once they expire, so getting the same token back means waiting until then.
+        boolean isSameToken = previous != null && previous.expiresAtMillis == expiresAtMillis;
+        long refreshAtMillis = isSameToken ? expiresAtMillis : expiresAtMillis - REFRESH_AHEAD_MILLIS;
+        cachedToken.set(new CachedToken(token, refreshAtMillis, expiresAtMillis));
+    }
+
+    private static String await(CompletableFuture<String> fetch) throws ApiException {
+        try {
+            return fetch.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(
+                    "Interrupted waiting for Cognito Userpools token.",
+                    exception,
+                    AmplifyException.TODO_RECOVERY_SUGGESTION
+            );
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof ApiException) {
+                throw (ApiException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ApiException(
+                    "Failed to fetch Cognito Userpools token.",
+                    cause,
+                    AmplifyException.TODO_RECOVERY_SUGGESTION
+            );
+        }
+    }
+
+    /**
+     * Fetches a new token.
+     */
+    interface TokenFetcher {
+        @NonNull
+        String fetch() throws ApiException;
+    }
+
+    private static final class CachedToken {
+        private final String token;
+        private final long refreshAtMillis;
+        private final long expiresAtMillis;
+
+        CachedToken(String token, long refreshAtMillis, long expiresAtMillis) {
+            this.token = token;
+            this.refreshAtMillis = refreshAtMillis;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
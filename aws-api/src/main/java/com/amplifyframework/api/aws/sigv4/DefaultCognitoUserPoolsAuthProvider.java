@@ -21,19 +21,22 @@ import com.amplifyframework.api.ApiException.ApiAuthException;
 import com.amplifyframework.auth.AuthUser;
 import com.amplifyframework.auth.CognitoCredentialsProvider;
 import com.amplifyframework.core.Amplify;
+import com.amplifyframework.hub.HubChannel;
 
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Basic retrieval of the Cognito Userpools token. The user must have already signed-in before using
  * this class as the retrieval mechanism.
  * to successfully fetch the token.
+ * The token is cached until shortly before it expires, and the cache is shared by all instances,
+ * since one is created for each request.
  */
 public final class DefaultCognitoUserPoolsAuthProvider implements CognitoUserPoolsAuthProvider {
 
-    private String token;
     private final CognitoCredentialsProvider credentialsProvider;
-    private String lastTokenRetrievalFailureMessage;
+    private final CognitoUserPoolsTokenCache tokenCache;
     private AuthUser currentUser;
     private String currentUserRetrievalFailureMessage;
 
@@ -53,17 +56,19 @@ public final class DefaultCognitoUserPoolsAuthProvider implements CognitoUserPoo
                     "Before configuring Amplify, be sure to add AWSCognitoAuthPlugin same as you added AWSApiPlugin."
             );
         }
+        this.tokenCache = SharedTokenCache.INSTANCE;
     }
 
     // Fetches token from the mobile client.
-    private synchronized void fetchToken() throws ApiException {
+    private String fetchToken() throws ApiException {
         final Semaphore semaphore = new Semaphore(0);
-        lastTokenRetrievalFailureMessage = null;
+        final AtomicReference<String> token = new AtomicReference<>();
+        final AtomicReference<String> tokenRetrievalFailureMessage = new AtomicReference<>();
         credentialsProvider.getAccessToken(value -> {
-            token = value;
+            token.set(value);
             semaphore.release();
         }, error -> {
-                lastTokenRetrievalFailureMessage = error.getLocalizedMessage();
+                tokenRetrievalFailureMessage.set(error.getLocalizedMessage());
                 semaphore.release();
             });
 
@@ -77,15 +82,15 @@ public final class DefaultCognitoUserPoolsAuthProvider implements CognitoUserPoo
             );
         }
 
-        if (lastTokenRetrievalFailureMessage != null) {
-            throw new ApiAuthException(lastTokenRetrievalFailureMessage, AmplifyException.TODO_RECOVERY_SUGGESTION);
+        if (tokenRetrievalFailureMessage.get() != null) {
+            throw new ApiAuthException(tokenRetrievalFailureMessage.get(), AmplifyException.TODO_RECOVERY_SUGGESTION);
         }
+        return token.get();
     }
 
     @Override
     public String getLatestAuthToken() throws ApiException {
-        fetchToken();
-        return token;
+        return tokenCache.getToken(this::fetchToken);
     }
 
     @Override
@@ -121,4 +126,18 @@ public final class DefaultCognitoUserPoolsAuthProvider implements CognitoUserPoo
             );
         }
     }
+
+    /**
+     * Holds the token cache shared by default providers, which is cleared when the signed-in user changes.
+     */
+    private static final class SharedTokenCache {
+        private static final CognitoUserPoolsTokenCache INSTANCE = createTokenCache();
+
+        private static CognitoUserPoolsTokenCache createTokenCache() {
+            CognitoUserPoolsTokenCache tokenCache = new CognitoUserPoolsTokenCache();
+            // Auth events mark a change of the signed-in user or of their session.
+            Amplify.Hub.subscribe(HubChannel.AUTH, event -> tokenCache.invalidate());
+            return tokenCache;
+        }
+    }
 }
@@ -37,6 +37,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -524,6 +525,52 @@ public final class GsonGraphQLResponseFactoryTest {
         assertEquals(expectedMeetings, actualMeetings);
     }
 
+    /**
+     * Parsing a response as it is read gives the same result as parsing it from a String,
+     * and the same result is given when a response type is parsed again.
+     * @throws ApiException From API configuration
+     */
+    @Test
+    public void responseParsedFromReaderMatchesResponseParsedFromString() throws ApiException {
+        final String partialResponseJson = Resources.readAsString("partial-gql-response.json");
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        GraphQLRequest<PaginatedResult<Todo>> request = buildDummyRequest(responseType);
+
+        GraphQLResponse<PaginatedResult<Todo>> fromString = responseFactory.buildResponse(request, partialResponseJson);
+        GraphQLResponse<PaginatedResult<Todo>> fromReader =
+            responseFactory.buildResponse(request, new StringReader(partialResponseJson));
+        GraphQLResponse<PaginatedResult<Todo>> fromReaderAgain =
+            responseFactory.buildResponse(request, new StringReader(partialResponseJson));
+
+        assertEquals(fromString, fromReader);
+        assertEquals(fromString, fromReaderAgain);
+    }
+
+    /**
+     * Validates that an empty response body throws an ApiException.
+     * @throws ApiException From API configuration
+     */
+    @Test
+    public void emptyReaderThrowsApiException() throws ApiException {
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        GraphQLRequest<PaginatedResult<Todo>> request = buildDummyRequest(responseType);
+
+        assertThrows(ApiException.class, () -> responseFactory.buildResponse(request, new StringReader("")));
+    }
+
+    /**
+     * The adapter that reads Iterables can also write them, as Gson would without it.
+     */
+    @Test
+    public void iterableAdapterWritesIterables() {
+        Gson iterableGson = GsonFactory.instance().newBuilder()
+            .registerTypeAdapterFactory(new GsonGraphQLResponseFactory.IterableTypeAdapterFactory())
+            .create();
+        Type listType = TypeMaker.getParameterizedType(List.class, String.class);
+
+        assertEquals("[\"a\",\"b\"]", iterableGson.toJson(Arrays.asList("a", "b"), listType));
+    }
+
     private <T> AppSyncGraphQLRequest<T> buildDummyRequest(Type responseType) throws ApiException {
         try {
             return AppSyncGraphQLRequest.builder()
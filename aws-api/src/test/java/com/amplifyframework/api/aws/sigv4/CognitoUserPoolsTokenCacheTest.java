@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws.sigv4;
+
+import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.aws.auth.FakeJWTToken;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests the {@link CognitoUserPoolsTokenCache}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class CognitoUserPoolsTokenCacheTest {
+    private static final long EXPIRATION_SECONDS = 3_600;
+
+    private long currentTimeMillis;
+    private AtomicInteger fetchCount;
+    private CognitoUserPoolsTokenCache tokenCache;
+
+    /**
+     * Starts each test at the beginning of the clock, with an empty cache.
+     */
+    @Before
+    public void setup() {
+        currentTimeMillis = 0;
+        fetchCount = new AtomicInteger();
+        tokenCache = new CognitoUserPoolsTokenCache(() -> currentTimeMillis);
+    }
+
+    /**
+     * A valid token is fetched once.
+     * @throws ApiException Not expected
+     */
+    @Test
+    public void validTokenIsFetchedOnce() throws ApiException {
+        String token = token(EXPIRATION_SECONDS);
+        assertEquals(token, tokenCache.getToken(() -> fetch(token)));
+        assertEquals(token, tokenCache.getToken(() -> fetch(token)));
+        assertEquals(1, fetchCount.get());
+    }
+
+    /**
+     * A token about to expire is fetched again, but the same token is not fetched again until it expires.
+     * @throws ApiException Not expected
+     */
+    @Test
+    public void tokenIsFetchedAgainBeforeExpiry() throws ApiException {
+        String token = token(EXPIRATION_SECONDS);
+        tokenCache.getToken(() -> fetch(token));
+
+        currentTimeMillis = TimeUnit.SECONDS.toMillis(EXPIRATION_SECONDS) -
+            CognitoUserPoolsTokenCache.REFRESH_AHEAD_MILLIS;
+        assertEquals(token, tokenCache.getToken(() -> fetch(token)));
+        assertEquals(token, tokenCache.getToken(() -> fetch(token)));
+        assertEquals(2, fetchCount.get());
+
+        currentTimeMillis = TimeUnit.SECONDS.toMillis(EXPIRATION_SECONDS);
+        String newToken = token(EXPIRATION_SECONDS * 2);
+        assertEquals(newToken, tokenCache.getToken(() -> fetch(newToken)));
+        assertEquals(3, fetchCount.get());
+    }
+
+    /**
+     * Callers waiting for a token share a single fetch.
+     * @throws Exception Not expected
+     */
+    @Test
+    public void concurrentCallersShareOneFetch() throws Exception {
+        String token = token(EXPIRATION_SECONDS);
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch fetchAllowed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> tokenCache.getToken(() -> {
+            fetchStarted.countDown();
+            fetchAllowed.await();
+            return fetch(token);
+        })));
+        fetchStarted.await();
+        for (int index = 0; index < 3; index++) {
+            results.add(executor.submit(() -> tokenCache.getToken(() -> fetch(token))));
+        }
+        fetchAllowed.countDown();
+        for (Future<String> result : results) {
+            assertEquals(token, result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, fetchCount.get());
+    }
+
+    /**
+     * A failed fetch is not cached.
+     * @throws ApiException Not expected
+     */
+    @Test
+    public void failedFetchIsNotCached() throws ApiException {
+        assertThrows(ApiException.class, () -> tokenCache.getToken(() -> {
+            throw new ApiException("Failed", "Try again");
+        }));
+        String token = token(EXPIRATION_SECONDS);
+        assertEquals(token, tokenCache.getToken(() -> fetch(token)));
+    }
+
+    /**
+     * An invalidated token is fetched again.
+     * @throws ApiException Not expected
+     */
+    @Test
+    public void invalidatedTokenIsFetchedAgain() throws ApiException {
+        String token = token(EXPIRATION_SECONDS);
+        tokenCache.getToken(() -> fetch(token));
+        tokenCache.invalidate();
+        tokenCache.getToken(() -> fetch(token));
+        assertEquals(2, fetchCount.get());
+    }
+
+    private String fetch(String token) {
+        fetchCount.incrementAndGet();
+        return token;
+    }
+
+    private static String token(long expirationSeconds) {
+        return FakeJWTToken.builder()
+            .putPayload("exp", expirationSeconds)
+            .build()
+            .asString();
+    }
+}
@@ -162,6 +162,14 @@ internal class RealAWSCognitoAuthPlugin(
 
     private val lastPublishedHubEventName = AtomicReference<String>()
 
+    // Session built for the last established credential, so it is not built again on each fetch.
+    @Volatile
+    private var establishedSession: EstablishedSession? = null
+
+    // Session fetch that was started for a credential, which the callers asking while it runs wait for.
+    private var pendingSessionFetch: PendingSessionFetch? = null
+    private val pendingSessionFetchLock = Any()
+
     init {
         addAuthStateChangeListener()
         configureAuthStates()
@@ -976,53 +984,36 @@ internal class RealAWSCognitoAuthPlugin(
         onError: Consumer<AuthException>
     ) {
         val forceRefresh = options.forceRefresh
+        if (!forceRefresh) {
+            // Once every event sent so far is resolved, a valid established session is returned without a round trip
+            // through the state machine.
+            val authZState = authStateMachine.settledState?.authZState
+            if (authZState is AuthorizationState.SessionEstablished && authZState.amplifyCredential.isValid()) {
+                onSuccess.accept(getEstablishedSession(authZState.amplifyCredential))
+                return
+            }
+        }
         authStateMachine.getCurrentState { authState ->
             when (val authZState = authState.authZState) {
                 is AuthorizationState.Configured -> {
-                    authStateMachine.send(AuthorizationEvent(AuthorizationEvent.EventType.FetchUnAuthSession))
-                    _fetchAuthSession(onSuccess, onError)
+                    fetchSessionOnce(
+                        AmplifyCredential.Empty,
+                        AuthorizationEvent(AuthorizationEvent.EventType.FetchUnAuthSession),
+                        onSuccess,
+                        onError
+                    )
                 }
                 is AuthorizationState.SessionEstablished -> {
                     val credential = authZState.amplifyCredential
                     if (!credential.isValid() || forceRefresh) {
-                        if (credential is AmplifyCredential.IdentityPoolFederated) {
-                            authStateMachine.send(
-                                AuthorizationEvent(
-                                    AuthorizationEvent.EventType.StartFederationToIdentityPool(
-                                        credential.federatedToken,
-                                        credential.identityId,
-                                        credential
-                                    )
-                                )
-                            )
-                        } else {
-                            authStateMachine.send(
-                                AuthorizationEvent(AuthorizationEvent.EventType.RefreshSession(credential))
-                            )
-                        }
-                        _fetchAuthSession(onSuccess, onError)
-                    } else onSuccess.accept(credential.getCognitoSession())
+                        fetchSessionOnce(credential, refreshSessionEvent(credential), onSuccess, onError)
+                    } else onSuccess.accept(getEstablishedSession(credential))
                 }
                 is AuthorizationState.Error -> {
                     val error = authZState.exception
                     if (error is SessionError) {
                         val amplifyCredential = error.amplifyCredential
-                        if (amplifyCredential is AmplifyCredential.IdentityPoolFederated) {
-                            authStateMachine.send(
-                                AuthorizationEvent(
-                                    AuthorizationEvent.EventType.StartFederationToIdentityPool(
-                                        amplifyCredential.federatedToken,
-                                        amplifyCredential.identityId,
-                                        amplifyCredential
-                                    )
-                                )
-                            )
-                        } else {
-                            authStateMachine.send(
-                                AuthorizationEvent(AuthorizationEvent.EventType.RefreshSession(amplifyCredential))
-                            )
-                        }
-                        _fetchAuthSession(onSuccess, onError)
+                        fetchSessionOnce(amplifyCredential, refreshSessionEvent(amplifyCredential), onSuccess, onError)
                     } else {
                         onError.accept(InvalidStateException())
                     }
@@ -1032,6 +1023,66 @@ internal class RealAWSCognitoAuthPlugin(
         }
     }
 
+    private fun getEstablishedSession(credential: AmplifyCredential): AuthSession {
+        val cached = establishedSession
+        if (cached?.credential === credential) {
+            return cached.session
+        }
+        return EstablishedSession(credential).also { establishedSession = it }.session
+    }
+
+    private fun refreshSessionEvent(credential: AmplifyCredential): AuthorizationEvent {
+        return if (credential is AmplifyCredential.IdentityPoolFederated) {
+            AuthorizationEvent(
+                AuthorizationEvent.EventType.StartFederationToIdentityPool(
+                    credential.federatedToken,
+                    credential.identityId,
+                    credential
+                )
+            )
+        } else {
+            AuthorizationEvent(AuthorizationEvent.EventType.RefreshSession(credential))
+        }
+    }
+
+    /**
+     * Sends the event that fetches a session for the credential, unless a fetch for the same credential is already
+     * running, in which case the callbacks wait for that fetch.
+     */
+    private fun fetchSessionOnce(
+        credential: AmplifyCredential,
+        event: AuthorizationEvent,
+        onSuccess: Consumer<AuthSession>,
+        onError: Consumer<AuthException>
+    ) {
+        val fetch = synchronized(pendingSessionFetchLock) {
+            pendingSessionFetch?.takeIf { it.credential == credential }?.let {
+                it.callbacks.add(onSuccess to onError)
+                return
+            }
+            PendingSessionFetch(credential).also {
+                it.callbacks.add(onSuccess to onError)
+                pendingSessionFetch = it
+            }
+        }
+        authStateMachine.send(event)
+        _fetchAuthSession(
+            { session -> completeSessionFetch(fetch).forEach { it.first.accept(session) } },
+            { error -> completeSessionFetch(fetch).forEach { it.second.accept(error) } }
+        )
+    }
+
+    private fun completeSessionFetch(
+        fetch: PendingSessionFetch
+    ): List<Pair<Consumer<AuthSession>, Consumer<AuthException>>> {
+        return synchronized(pendingSessionFetchLock) {
+            if (pendingSessionFetch === fetch) {
+                pendingSessionFetch = null
+            }
+            fetch.callbacks.toList()
+        }
+    }
+
     private fun _fetchAuthSession(
         onSuccess: Consumer<AuthSession>,
         onError: Consumer<AuthException>
@@ -2006,4 +2057,12 @@ internal class RealAWSCognitoAuthPlugin(
             Amplify.Hub.publish(HubChannel.AUTH, HubEvent.create(eventName))
         }
     }
+
+    private class EstablishedSession(val credential: AmplifyCredential) {
+        val session: AuthSession by lazy { credential.getCognitoSession() }
+    }
+
+    private class PendingSessionFetch(val credential: AmplifyCredential) {
+        val callbacks = mutableListOf<Pair<Consumer<AuthSession>, Consumer<AuthException>>>()
+    }
 }
@@ -16,11 +16,18 @@
 package com.amplifyframework.statemachine
 
 import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.CoroutineExceptionHandler
+import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
-import kotlinx.coroutines.GlobalScope
 import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.asStateFlow
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.newFixedThreadPoolContext
 
@@ -39,6 +46,12 @@ internal class StateChangeListenerToken private constructor(val uuid: UUID) {
  * Listener - which accepts and enqueues incoming events
  * StateChangedListeners - which are notified whenever the state changes
  * EffectExecutor - which resolves and executes side Effects/Actions
+ *
+ * Events are resolved one at a time on the state machine's own thread. StateChangedListeners are not invoked from
+ * that thread: each one has its own queue of states, drained on `concurrentQueue`. A listener sees every state in the
+ * order it was resolved, but may see it after later events have been resolved, so it must not assume that the state
+ * it is given is still the current one. Use `getCurrentState` to read the state once the events sent before the read
+ * have been resolved, or `settledState` to read it right away if they already are.
  * @implements EventDispatcher
  * @param resolver responsible for mutating state based on incoming events
  * @param environment holds system specific environment info accessible to Effects/Actions
@@ -55,12 +68,33 @@ internal open class StateMachine<StateType : State, EnvironmentType : Environmen
 ) : EventDispatcher {
     private val resolver = resolver.eraseToAnyResolver()
     private val executor: EffectExecutor
-    private var currentState = initialState ?: resolver.defaultState
+    private val currentStateFlow = MutableStateFlow(initialState ?: resolver.defaultState)
+    private var currentState: StateType
+        get() = currentStateFlow.value
+        set(value) {
+            currentStateFlow.value = value
+        }
 
-    private val dispatcherQueue: CoroutineDispatcher
+    /**
+     * Latest resolved state, readable from any thread without waiting for the events queued before the read. Use
+     * `getCurrentState` to read the state once those events have been processed.
+     */
+    val state: StateFlow<StateType> = currentStateFlow.asStateFlow()
+
+    /**
+     * Number of events sent but not resolved yet.
+     */
+    private val pendingEvents = AtomicInteger(0)
 
     /**
-     * Manage consistency of internal state machine state and limits invocation of listeners to a minimum of one at a time.
+     * The value of [state] if every event sent so far has been resolved, or null while some are still queued. This is
+     * the state `getCurrentState` would report, read without a round trip through the state machine's thread.
+     */
+    val settledState: StateType?
+        get() = if (pendingEvents.get() == 0) state.value else null
+
+    /**
+     * Manage consistency of internal state machine state.
      */
     private val operationQueue = newFixedThreadPoolContext(1, "Single threaded dispatcher")
     private val exceptionHandler = CoroutineExceptionHandler { _, exception ->
@@ -70,32 +104,37 @@ internal open class StateMachine<StateType : State, EnvironmentType : Environmen
     /**
      * TODO: add coroutine exception handler if required.
      */
-    private val stateMachineScope = Job() + operationQueue // + exceptionHandler
+    private val stateMachineScope = CoroutineScope(Job() + operationQueue) // + exceptionHandler
+
+    /**
+     * Scope of the coroutines delivering states to listeners. A failing listener does not cancel the others.
+     */
+    private val listenerScope: CoroutineScope
 
     // weak wrapper ??
-    private val subscribers: MutableMap<StateChangeListenerToken, (StateType) -> Unit>
+    private val subscribers: MutableMap<StateChangeListenerToken, Subscription>
 
-    // atomic value ??
     private val pendingCancellations: MutableSet<StateChangeListenerToken>
 
     init {
         val resolvedQueue = concurrentQueue ?: Dispatchers.Default
-        dispatcherQueue = resolvedQueue
+        listenerScope = CoroutineScope(SupervisorJob() + resolvedQueue)
         this.executor = executor ?: ConcurrentEffectExecutor(resolvedQueue)
 
         subscribers = mutableMapOf()
-        pendingCancellations = mutableSetOf()
+        pendingCancellations = ConcurrentHashMap.newKeySet()
     }
 
     /**
      * Start listening to state changes updates. Asynchronously invoke listener on a background queue with the current state.
-     * Both `listener` and `onSubscribe` will be invoked on a background queue.
+     * Both `listener` and `onSubscribe` will be invoked on a background queue. The listener receives every later state
+     * in order, without holding up the state machine or the other listeners.
      * @param listener listener to be invoked on state changes
      * @param onSubscribe callback to invoke when subscription is complete
      * @return token that can be used to unsubscribe the listener
      */
     fun listen(token: StateChangeListenerToken, listener: (StateType) -> Unit, onSubscribe: OnSubscribedCallback?) {
-        GlobalScope.launch(stateMachineScope) {
+        stateMachineScope.launch {
             addSubscription(token, listener, onSubscribe)
         }
     }
@@ -107,7 +146,7 @@ internal open class StateMachine<StateType : State, EnvironmentType : Environmen
      */
     fun cancel(token: StateChangeListenerToken) {
         pendingCancellations.add(token)
-        GlobalScope.launch(stateMachineScope) {
+        stateMachineScope.launch {
             removeSubscription(token)
         }
     }
@@ -117,7 +156,7 @@ internal open class StateMachine<StateType : State, EnvironmentType : Environmen
      * @param completion callback to invoke with the current state
      */
     fun getCurrentState(completion: (StateType) -> Unit) {
-        GlobalScope.launch(stateMachineScope) {
+        stateMachineScope.launch {
             completion(currentState)
         }
     }
@@ -134,12 +173,10 @@ internal open class StateMachine<StateType : State, EnvironmentType : Environmen
         onSubscribe: OnSubscribedCallback?
     ) {
         if (pendingCancellations.contains(token)) return
-        val currentState = this.currentState
-        subscribers[token] = listener
+        val subscription = Subscription(token, listener)
+        subscribers.put(token, subscription)?.close()
         onSubscribe?.invoke()
-        GlobalScope.launch(dispatcherQueue) {
-            listener.invoke(currentState)
-        }
+        subscription.notify(currentState)
     }
 
     /**
@@ -147,8 +184,8 @@ internal open class StateMachine<StateType : State, EnvironmentType : Environmen
      * @param token token of the listener to remove
      */
     private fun removeSubscription(token: StateChangeListenerToken) {
+        subscribers.remove(token)?.close()
         pendingCancellations.remove(token)
-        subscribers.remove(token)
     }
 
     /**
@@ -156,24 +193,29 @@ internal open class StateMachine<StateType : State, EnvironmentType : Environmen
      * @param event event to send to the system
      */
     override fun send(event: StateMachineEvent) {
-        GlobalScope.launch(stateMachineScope) {
-            process(event)
+        pendingEvents.incrementAndGet()
+        stateMachineScope.launch {
+            try {
+                process(event)
+            } finally {
+                pendingEvents.decrementAndGet()
+            }
         }
     }
 
     /**
-     * Notify all the listeners with the new state.
-     * @param subscriber pair containing the subscriber token and listener
+     * Notify a listener with the new state.
+     * @param subscriber pair containing the subscriber token and subscription
      * @param newState new state to be sent
-     * @return true if the subscriber was notified, false if the token was null or a cancellation was pending
+     * @return true if the subscriber was notified, false if a cancellation was pending
      */
     private fun notifySubscribers(
-        subscriber: Map.Entry<StateChangeListenerToken, (StateType) -> Unit>,
+        subscriber: Map.Entry<StateChangeListenerToken, Subscription>,
         newState: StateType
     ): Boolean {
         val token = subscriber.key
         if (pendingCancellations.contains(token)) return false
-        subscriber.value(newState)
+        subscriber.value.notify(newState)
         return true
     }
 
@@ -189,7 +231,7 @@ internal open class StateMachine<StateType : State, EnvironmentType : Environmen
         if (currentState != resolution.newState) {
             currentState = resolution.newState
             val subscribersToRemove = subscribers.filter { !notifySubscribers(it, resolution.newState) }
-            subscribersToRemove.forEach { subscribers.remove(it.key) }
+            subscribersToRemove.forEach { subscribers.remove(it.key)?.close() }
         }
         execute(resolution.actions)
     }
@@ -200,4 +242,36 @@ internal open class StateMachine<StateType : State, EnvironmentType : Environmen
     private fun execute(actions: List<Action>) {
         executor.execute(actions, this, environment)
     }
+
+    /**
+     * Queue of the states to deliver to one listener. Each listener is invoked on the dispatcher queue, one state at a
+     * time and in the order the states were resolved, but independently of the state machine and the other listeners.
+     */
+    private inner class Subscription(
+        private val token: StateChangeListenerToken,
+        private val listener: (StateType) -> Unit
+    ) {
+        @Volatile
+        private var isClosed = false
+        private val states = Channel<StateType>(Channel.UNLIMITED)
+
+        init {
+            listenerScope.launch {
+                for (state in states) {
+                    // Drop the states queued before the listener was cancelled.
+                    if (isClosed || pendingCancellations.contains(token)) break
+                    listener(state)
+                }
+            }
+        }
+
+        fun notify(state: StateType) {
+            states.trySend(state)
+        }
+
+        fun close() {
+            isClosed = true
+            states.close()
+        }
+    }
 }
@@ -98,6 +98,7 @@ import kotlin.test.assertEquals
 import kotlin.test.assertFalse
 import kotlin.test.assertNotNull
 import kotlin.test.assertNull
+import kotlin.test.assertSame
 import kotlin.test.assertTrue
 import org.json.JSONObject
 import org.junit.Before
@@ -221,6 +222,77 @@ class RealAWSCognitoAuthPluginTest {
         verify(exactly = 0) { onSuccess.accept(any()) }
     }
 
+    @Test
+    fun testConcurrentFetchAuthSessionRefreshesOnce() {
+        // GIVEN
+        val onSuccess = mockk<Consumer<AuthSession>>(relaxed = true)
+        val onError = mockk<Consumer<AuthException>>(relaxed = true)
+        every { credentials.isValid() } returns false
+        val currentAuthState = mockk<AuthState> {
+            every { authNState } returns AuthenticationState.SignedIn(mockk(), mockk())
+            every { authZState } returns AuthorizationState.SessionEstablished(credentials)
+        }
+        every { authStateMachine.getCurrentState(captureLambda()) } answers {
+            lambda<(AuthState) -> Unit>().invoke(currentAuthState)
+        }
+        val listeners = mutableListOf<(AuthState) -> Unit>()
+        justRun { authStateMachine.listen(any(), capture(listeners), any()) }
+
+        // WHEN
+        plugin.fetchAuthSession(onSuccess, onError)
+        plugin.fetchAuthSession(onSuccess, onError)
+        listeners.forEach { it.invoke(currentAuthState) }
+
+        // THEN
+        verify(exactly = 1) { authStateMachine.send(any()) }
+        verify(exactly = 2) { onSuccess.accept(any()) }
+        verify(exactly = 0) { onError.accept(any()) }
+    }
+
+    @Test
+    fun testFetchAuthSessionReusesEstablishedSession() {
+        // GIVEN
+        val sessions = mutableListOf<AuthSession>()
+        val onSuccess = mockk<Consumer<AuthSession>> {
+            every { accept(capture(sessions)) } returns Unit
+        }
+        val onError = mockk<Consumer<AuthException>>(relaxed = true)
+        every { authStateMachine.getCurrentState(captureLambda()) } answers {
+            lambda<(AuthState) -> Unit>().invoke(
+                mockk {
+                    every { authZState } returns AuthorizationState.SessionEstablished(credentials)
+                }
+            )
+        }
+
+        // WHEN
+        plugin.fetchAuthSession(onSuccess, onError)
+        plugin.fetchAuthSession(onSuccess, onError)
+
+        // THEN
+        assertEquals(2, sessions.size)
+        assertSame(sessions[0], sessions[1])
+        verify(exactly = 0) { onError.accept(any()) }
+    }
+
+    @Test
+    fun testFetchAuthSessionReadsSettledEstablishedSession() {
+        // GIVEN
+        val onSuccess = mockk<Consumer<AuthSession>>(relaxed = true)
+        val onError = mockk<Consumer<AuthException>>(relaxed = true)
+        every { authStateMachine.settledState } returns mockk {
+            every { authZState } returns AuthorizationState.SessionEstablished(credentials)
+        }
+
+        // WHEN
+        plugin.fetchAuthSession(onSuccess, onError)
+
+        // THEN
+        verify(exactly = 1) { onSuccess.accept(any()) }
+        verify(exactly = 0) { authStateMachine.getCurrentState(any()) }
+        verify(exactly = 0) { onError.accept(any()) }
+    }
+
     @Test
     fun testCustomSignInWithSRPSucceedsWithChallenge() {
         // GIVEN
@@ -146,4 +146,123 @@ class StateMachineListenerTests {
         stateMachine.send(Counter.Event("2", eventType = Increment))
         assertFalse { listenLatch.await(5, TimeUnit.SECONDS) }
     }
+
+    @Test
+    fun testNotifyStatesInOrder() {
+        stateMachine.send(Counter.Event("1", eventType = Increment))
+        val values = mutableListOf<Int>()
+        val listenLatch = CountDownLatch(5)
+        val subscribeLatch = CountDownLatch(1)
+        stateMachine.listen(
+            StateChangeListenerToken(),
+            {
+                values.add(it.value)
+                listenLatch.countDown()
+            },
+            {
+                subscribeLatch.countDown()
+            }
+        )
+        assertTrue { subscribeLatch.await(5, TimeUnit.SECONDS) }
+
+        (2..5).forEach { stateMachine.send(Counter.Event("$it", eventType = Increment)) }
+        assertTrue { listenLatch.await(5, TimeUnit.SECONDS) }
+        assertEquals(listOf(1, 2, 3, 4, 5), values)
+    }
+
+    @Test
+    fun testSlowListenerDoesNotBlockOthers() {
+        val releaseLatch = CountDownLatch(1)
+        val fastLatch = CountDownLatch(1)
+        val subscribeLatch = CountDownLatch(2)
+        stateMachine.listen(
+            StateChangeListenerToken(),
+            {
+                if (it.value == 1) releaseLatch.await(5, TimeUnit.SECONDS)
+            },
+            {
+                subscribeLatch.countDown()
+            }
+        )
+        stateMachine.listen(
+            StateChangeListenerToken(),
+            {
+                if (it.value == 1) fastLatch.countDown()
+            },
+            {
+                subscribeLatch.countDown()
+            }
+        )
+        assertTrue { subscribeLatch.await(5, TimeUnit.SECONDS) }
+
+        stateMachine.send(Counter.Event("1", eventType = Increment))
+        assertTrue { fastLatch.await(5, TimeUnit.SECONDS) }
+        releaseLatch.countDown()
+    }
+
+    @Test
+    fun testListenerLagsBehindResolvedState() {
+        val values = mutableListOf<Int>()
+        val releaseLatch = CountDownLatch(1)
+        val listenLatch = CountDownLatch(3)
+        val subscribeLatch = CountDownLatch(1)
+        stateMachine.listen(
+            StateChangeListenerToken(),
+            {
+                if (it.value == 1) releaseLatch.await(5, TimeUnit.SECONDS)
+                if (it.value > 0) {
+                    values.add(it.value)
+                    listenLatch.countDown()
+                }
+            },
+            {
+                subscribeLatch.countDown()
+            }
+        )
+        assertTrue { subscribeLatch.await(5, TimeUnit.SECONDS) }
+
+        (1..3).forEach { stateMachine.send(Counter.Event("$it", eventType = Increment)) }
+        val stateLatch = CountDownLatch(1)
+        var currentValue = 0
+        stateMachine.getCurrentState {
+            currentValue = it.value
+            stateLatch.countDown()
+        }
+        assertTrue { stateLatch.await(5, TimeUnit.SECONDS) }
+        assertEquals(3, currentValue)
+        assertTrue(values.isEmpty())
+
+        releaseLatch.countDown()
+        assertTrue { listenLatch.await(5, TimeUnit.SECONDS) }
+        assertEquals(listOf(1, 2, 3), values)
+    }
+
+    @Test
+    fun testStateSnapshot() {
+        stateMachine.send(Counter.Event("1", eventType = Increment))
+        val testLatch = CountDownLatch(1)
+        stateMachine.getCurrentState {
+            testLatch.countDown()
+        }
+        assertTrue { testLatch.await(5, TimeUnit.SECONDS) }
+        assertEquals(1, stateMachine.state.value.value)
+    }
+
+    @Test
+    fun testSettledStateWaitsForQueuedEvents() {
+        assertEquals(0, stateMachine.settledState?.value)
+        val releaseLatch = CountDownLatch(1)
+        // Holds the state machine's thread, so the event below stays queued.
+        stateMachine.getCurrentState { releaseLatch.await(5, TimeUnit.SECONDS) }
+        stateMachine.send(Counter.Event("1", eventType = Increment))
+        assertEquals(null, stateMachine.settledState)
+
+        releaseLatch.countDown()
+        val testLatch = CountDownLatch(1)
+        stateMachine.getCurrentState {
+            testLatch.countDown()
+        }
+        assertTrue { testLatch.await(5, TimeUnit.SECONDS) }
+        assertEquals(1, stateMachine.settledState?.value)
+    }
 }
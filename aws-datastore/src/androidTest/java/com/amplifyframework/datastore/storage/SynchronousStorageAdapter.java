@@ -189,6 +189,22 @@ public final class SynchronousStorageAdapter {
         );
     }
 
+    /**
+     * Save a batch of models, in a single transaction.
+     * @param models Models to save
+     * @param <T> Type of models being saved
+     * @return One change per saved model
+     * @throws DataStoreException On any failure to save the models
+     */
+    public <T extends Model> List<StorageItemChange<T>> saveAll(@NonNull List<T> models)
+            throws DataStoreException {
+        return Await.result(
+            operationTimeoutMs,
+            (Consumer<List<StorageItemChange<T>>> onResult, Consumer<DataStoreException> onError) ->
+                asyncDelegate.saveAll(models, StorageItemChange.Initiator.DATA_STORE_API, onResult, onError)
+        );
+    }
+
     /**
      * Query the storage adapter for models of a given class.
      * @param modelClass Class of models being queried
@@ -280,6 +296,22 @@ public final class SynchronousStorageAdapter {
         );
     }
 
+    /**
+     * Delete a batch of models, in a single transaction.
+     * @param models Models to delete
+     * @param <T> Type of models being deleted
+     * @return One change per requested deletion
+     * @throws DataStoreException On any failure to delete the models
+     */
+    public <T extends Model> List<StorageItemChange<T>> deleteAll(@NonNull List<T> models)
+            throws DataStoreException {
+        return Await.result(
+            operationTimeoutMs,
+            (Consumer<List<StorageItemChange<T>>> onResult, Consumer<DataStoreException> onError) ->
+                asyncDelegate.deleteAll(models, StorageItemChange.Initiator.DATA_STORE_API, onResult, onError)
+        );
+    }
+
     /**
      * Delete every model of given type that matches predicate.
      * @param modelType Model type to delete
@@ -33,6 +33,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -343,4 +344,46 @@ public final class SQLiteStorageAdapterDeleteTest {
         assertTrue(adapter.query(BlogOwner.class).isEmpty());
         assertTrue(adapter.query(Blog.class).isEmpty());
     }
+
+    /**
+     * Assert that deleteAll deletes every model in the batch, along with their descendants,
+     * and that nonexistent models do not fail the batch.
+     * @throws DataStoreException On unexpected failure manipulating items in/out of DataStore
+     */
+    @Test
+    public void deleteAllDeletesModelsAndCascades() throws DataStoreException {
+        BlogOwner owner = BlogOwner.builder()
+            .name("Blog Owner 1")
+            .build();
+        Blog blog = Blog.builder()
+            .name("Blog 1")
+            .owner(owner)
+            .build();
+        BlogOwner otherOwner = BlogOwner.builder()
+            .name("Blog Owner 2")
+            .build();
+        BlogOwner neverSaved = BlogOwner.builder()
+            .name("Blog Owner 3")
+            .build();
+        adapter.save(owner);
+        adapter.save(blog);
+        adapter.save(otherOwner);
+
+        TestObserver<String> deleteObserver = adapter.observe()
+                .filter(change -> StorageItemChange.Type.DELETE.equals(change.type()))
+                .map(StorageItemChange::item)
+                .map(Model::getPrimaryKeyString)
+                .test();
+
+        List<StorageItemChange<BlogOwner>> changes = adapter.deleteAll(Arrays.asList(owner, otherOwner, neverSaved));
+
+        assertEquals(3, changes.size());
+        deleteObserver.assertValueCount(3);
+        assertEquals(
+            new HashSet<>(Arrays.asList(owner.getId(), blog.getId(), otherOwner.getId())),
+            new HashSet<>(deleteObserver.values())
+        );
+        assertTrue(adapter.query(BlogOwner.class).isEmpty());
+        assertTrue(adapter.query(Blog.class).isEmpty());
+    }
 }
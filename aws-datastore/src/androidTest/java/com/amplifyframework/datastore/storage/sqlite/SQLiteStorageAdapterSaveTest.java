@@ -35,6 +35,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -356,4 +357,35 @@ public final class SQLiteStorageAdapterSaveTest {
         // Assert that update went through successfully
         assertEquals(Collections.singletonList(marksBlogEdit), adapter.query(Blog.class));
     }
+
+    /**
+     * Assert that saveAll creates new models and updates existing ones, and that one
+     * change is emitted for each item in the batch.
+     * @throws DataStoreException On unexpected failure manipulating items in/out of DataStore
+     * @throws InterruptedException If interrupted while awaiting terminal result in test observer
+     */
+    @Test
+    public void saveAllInsertsAndUpdatesData() throws DataStoreException, InterruptedException {
+        final BlogOwner alan = BlogOwner.builder()
+            .name("Alan Turing")
+            .build();
+        adapter.save(alan);
+
+        TestObserver<StorageItemChange<? extends Model>> observer = adapter.observe().test();
+
+        final BlogOwner alanEdit = alan.copyOfBuilder()
+            .name("Alan M. Turing")
+            .build();
+        final BlogOwner grace = BlogOwner.builder()
+            .name("Grace Hopper")
+            .build();
+        List<StorageItemChange<BlogOwner>> changes = adapter.saveAll(Arrays.asList(alanEdit, grace));
+
+        assertEquals(2, changes.size());
+        assertEquals(StorageItemChange.Type.UPDATE, changes.get(0).type());
+        assertEquals(StorageItemChange.Type.CREATE, changes.get(1).type());
+        observer.await(1, TimeUnit.SECONDS);
+        observer.assertValueCount(2);
+        assertEquals(new HashSet<>(Arrays.asList(alanEdit, grace)), new HashSet<>(adapter.query(BlogOwner.class)));
+    }
 }
@@ -263,6 +263,9 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
         }
 
         HubChannel hubChannel = HubChannel.forCategoryType(getCategoryType());
+        // Each outbox status event describes the complete state of the outbox, so a subscriber
+        // that falls behind only needs the latest one.
+        Amplify.Hub.coalesceEvents(hubChannel, DataStoreChannelEventName.OUTBOX_STATUS.toString());
         Amplify.Hub.subscribe(hubChannel,
             event -> InitializationStatus.SUCCEEDED.toString().equals(event.getName()),
             event -> categoryInitializationsPending.countDown()
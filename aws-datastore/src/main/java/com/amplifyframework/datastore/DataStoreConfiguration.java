@@ -48,6 +48,12 @@ public final class DataStoreConfiguration {
     static final int DEFAULT_SYNC_PAGE_SIZE = 1_000;
     @VisibleForTesting
     static final boolean DEFAULT_DO_SYNC_RETRY = false;
+    @VisibleForTesting
+    static final int DEFAULT_SYNC_MAX_CONCURRENT_MODELS = 4;
+    @VisibleForTesting
+    static final int DEFAULT_MUTATION_BATCH_SIZE = 1;
+    @VisibleForTesting
+    static final int DEFAULT_MUTATION_MAX_IN_FLIGHT = 1;
     static final int MAX_RECORDS = 1000;
     static final long MAX_TIME_SEC = 2;
 
@@ -57,6 +63,9 @@ public final class DataStoreConfiguration {
     private final DataStoreConflictHandler conflictHandler;
     private final Integer syncMaxRecords;
     private final Integer syncPageSize;
+    private final Integer syncMaxConcurrentModels;
+    private final Integer mutationBatchSize;
+    private final Integer mutationMaxInFlight;
     private final boolean doSyncRetry;
     private final Map<String, DataStoreSyncExpression> syncExpressions;
     private final Long syncIntervalInMinutes;
@@ -68,6 +77,9 @@ public final class DataStoreConfiguration {
         this.conflictHandler = builder.conflictHandler;
         this.syncMaxRecords = builder.syncMaxRecords;
         this.syncPageSize = builder.syncPageSize;
+        this.syncMaxConcurrentModels = builder.syncMaxConcurrentModels;
+        this.mutationBatchSize = builder.mutationBatchSize;
+        this.mutationMaxInFlight = builder.mutationMaxInFlight;
         this.syncIntervalInMinutes = builder.syncIntervalInMinutes;
         this.syncExpressions = builder.syncExpressions;
         this.doSyncRetry = builder.doSyncRetry;
@@ -126,6 +138,9 @@ public final class DataStoreConfiguration {
             .syncInterval(DEFAULT_SYNC_INTERVAL_MINUTES, TimeUnit.MINUTES)
             .syncPageSize(DEFAULT_SYNC_PAGE_SIZE)
             .syncMaxRecords(DEFAULT_SYNC_MAX_RECORDS)
+            .syncMaxConcurrentModels(DEFAULT_SYNC_MAX_CONCURRENT_MODELS)
+            .mutationBatchSize(DEFAULT_MUTATION_BATCH_SIZE)
+            .mutationMaxInFlight(DEFAULT_MUTATION_MAX_IN_FLIGHT)
                 .doSyncRetry(DEFAULT_DO_SYNC_RETRY)
                 .observeQueryMaxTime(MAX_TIME_SEC)
                 .observeQueryMaxRecords(MAX_RECORDS)
@@ -192,6 +207,36 @@ public final class DataStoreConfiguration {
         return this.syncPageSize;
     }
 
+    /**
+     * Gets the maximum number of models that may be synced at the same time, during the
+     * initial sync. A model is only synced once the models it belongs to have been synced.
+     * @return Max number of models to sync concurrently
+     */
+    @IntRange(from = 1)
+    public Integer getSyncMaxConcurrentModels() {
+        return this.syncMaxConcurrentModels;
+    }
+
+    /**
+     * Gets the maximum number of local changes that may be published to AppSync in a single
+     * request. Changes are published one at a time when this is 1.
+     * @return Max number of mutations to publish per request
+     */
+    @IntRange(from = 1)
+    public Integer getMutationBatchSize() {
+        return this.mutationBatchSize;
+    }
+
+    /**
+     * Gets the maximum number of local changes that may be in the process of being published
+     * to AppSync at the same time. Changes are published one after another when this is 1.
+     * @return Max number of mutations to publish concurrently
+     */
+    @IntRange(from = 1)
+    public Integer getMutationMaxInFlight() {
+        return this.mutationMaxInFlight;
+    }
+
     /**
      * Gets the boolean for enabling retry on sync failure
      * a sync operation.
@@ -232,6 +277,15 @@ public final class DataStoreConfiguration {
         if (!ObjectsCompat.equals(getSyncPageSize(), that.getSyncPageSize())) {
             return false;
         }
+        if (!ObjectsCompat.equals(getSyncMaxConcurrentModels(), that.getSyncMaxConcurrentModels())) {
+            return false;
+        }
+        if (!ObjectsCompat.equals(getMutationBatchSize(), that.getMutationBatchSize())) {
+            return false;
+        }
+        if (!ObjectsCompat.equals(getMutationMaxInFlight(), that.getMutationMaxInFlight())) {
+            return false;
+        }
         if (!ObjectsCompat.equals(getSyncIntervalInMinutes(), that.getSyncIntervalInMinutes())) {
             return false;
         }
@@ -256,6 +310,9 @@ public final class DataStoreConfiguration {
         result = 31 * result + (getConflictHandler() != null ? getConflictHandler().hashCode() : 0);
         result = 31 * result + (getSyncMaxRecords() != null ? getSyncMaxRecords().hashCode() : 0);
         result = 31 * result + (getSyncPageSize() != null ? getSyncPageSize().hashCode() : 0);
+        result = 31 * result + (getSyncMaxConcurrentModels() != null ? getSyncMaxConcurrentModels().hashCode() : 0);
+        result = 31 * result + (getMutationBatchSize() != null ? getMutationBatchSize().hashCode() : 0);
+        result = 31 * result + (getMutationMaxInFlight() != null ? getMutationMaxInFlight().hashCode() : 0);
         result = 31 * result + (getSyncIntervalInMinutes() != null ? getSyncIntervalInMinutes().hashCode() : 0);
         result = 31 * result + (getSyncExpressions() != null ? getSyncExpressions().hashCode() : 0);
         result = 31 * result + getDoSyncRetry().hashCode();
@@ -271,6 +328,9 @@ public final class DataStoreConfiguration {
             ", conflictHandler=" + conflictHandler +
             ", syncMaxRecords=" + syncMaxRecords +
             ", syncPageSize=" + syncPageSize +
+            ", syncMaxConcurrentModels=" + syncMaxConcurrentModels +
+            ", mutationBatchSize=" + mutationBatchSize +
+            ", mutationMaxInFlight=" + mutationMaxInFlight +
             ", syncIntervalInMinutes=" + syncIntervalInMinutes +
             ", syncExpressions=" + syncExpressions +
                 ", doSyncRetry=" + doSyncRetry +
@@ -308,6 +368,9 @@ public final class DataStoreConfiguration {
         private Long syncIntervalInMinutes;
         private Integer syncMaxRecords;
         private Integer syncPageSize;
+        private Integer syncMaxConcurrentModels;
+        private Integer mutationBatchSize;
+        private Integer mutationMaxInFlight;
         private boolean doSyncRetry;
         private Map<String, DataStoreSyncExpression> syncExpressions;
         private boolean ensureDefaults;
@@ -429,6 +492,48 @@ public final class DataStoreConfiguration {
             return Builder.this;
         }
 
+        /**
+         * Sets the maximum number of models that may be synced at the same time. Models that don't
+         * depend on each other are synced concurrently, up to this limit. A value of 1 syncs one
+         * model at a time.
+         * @param syncMaxConcurrentModels Max number of models to sync concurrently
+         * @return Current builder
+         */
+        @NonNull
+        public Builder syncMaxConcurrentModels(@IntRange(from = 1) Integer syncMaxConcurrentModels) {
+            this.syncMaxConcurrentModels = syncMaxConcurrentModels;
+            return Builder.this;
+        }
+
+        /**
+         * Sets the maximum number of local changes that may be published to AppSync in a single
+         * request. Consecutive changes to different models are sent as one GraphQL document with
+         * a mutation for each change, which AppSync applies in order. A value of 1, the default,
+         * publishes one change at a time.
+         * @param mutationBatchSize Max number of mutations to publish per request
+         * @return Current builder
+         */
+        @NonNull
+        public Builder mutationBatchSize(@IntRange(from = 1) Integer mutationBatchSize) {
+            this.mutationBatchSize = mutationBatchSize;
+            return Builder.this;
+        }
+
+        /**
+         * Sets the maximum number of local changes that may be in the process of being published
+         * to AppSync at the same time. Changes to the same model are still published in the order
+         * they were made, and changes to a model are only published once earlier changes to the
+         * models it belongs to, or that belong to it, have been. A value of 1, the default,
+         * publishes one change after another.
+         * @param mutationMaxInFlight Max number of mutations to publish concurrently
+         * @return Current builder
+         */
+        @NonNull
+        public Builder mutationMaxInFlight(@IntRange(from = 1) Integer mutationMaxInFlight) {
+            this.mutationMaxInFlight = mutationMaxInFlight;
+            return Builder.this;
+        }
+
         /**
          * Sets a sync expression for a particular model to filter which data is synced locally.
          * The expression is evaluated each time DataStore is started.
@@ -516,6 +621,13 @@ public final class DataStoreConfiguration {
                 syncIntervalInMinutes);
             syncMaxRecords = getValueOrDefault(userProvidedConfiguration.getSyncMaxRecords(), syncMaxRecords);
             syncPageSize = getValueOrDefault(userProvidedConfiguration.getSyncPageSize(), syncPageSize);
+            syncMaxConcurrentModels = getValueOrDefault(
+                userProvidedConfiguration.getSyncMaxConcurrentModels(),
+                syncMaxConcurrentModels);
+            mutationBatchSize = getValueOrDefault(userProvidedConfiguration.getMutationBatchSize(), mutationBatchSize);
+            mutationMaxInFlight = getValueOrDefault(
+                userProvidedConfiguration.getMutationMaxInFlight(),
+                mutationMaxInFlight);
             syncExpressions = userProvidedConfiguration.getSyncExpressions();
             doSyncRetry = getValueOrDefault(userProvidedConfiguration.getDoSyncRetry(), doSyncRetry);
             observeQueryMaxRecords = getValueOrDefault(userProvidedConfiguration.getObserveQueryMaxRecords(),
@@ -548,6 +660,10 @@ public final class DataStoreConfiguration {
                 syncIntervalInMinutes = getValueOrDefault(syncIntervalInMinutes, DEFAULT_SYNC_INTERVAL_MINUTES);
                 syncMaxRecords = getValueOrDefault(syncMaxRecords, DEFAULT_SYNC_MAX_RECORDS);
                 syncPageSize = getValueOrDefault(syncPageSize, DEFAULT_SYNC_PAGE_SIZE);
+                syncMaxConcurrentModels =
+                    getValueOrDefault(syncMaxConcurrentModels, DEFAULT_SYNC_MAX_CONCURRENT_MODELS);
+                mutationBatchSize = getValueOrDefault(mutationBatchSize, DEFAULT_MUTATION_BATCH_SIZE);
+                mutationMaxInFlight = getValueOrDefault(mutationMaxInFlight, DEFAULT_MUTATION_MAX_IN_FLIGHT);
                 observeQueryMaxRecords = getValueOrDefault(observeQueryMaxRecords, MAX_RECORDS);
                 maxTimeLapseForObserveQuery = maxTimeLapseForObserveQuery == 0 ? MAX_TIME_SEC :
                         maxTimeLapseForObserveQuery;
@@ -20,6 +20,7 @@ import androidx.annotation.Nullable;
 
 import com.amplifyframework.api.graphql.GraphQLRequest;
 import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.api.graphql.MutationType;
 import com.amplifyframework.api.graphql.PaginatedResult;
 import com.amplifyframework.core.Action;
 import com.amplifyframework.core.Consumer;
@@ -29,6 +30,8 @@ import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.datastore.DataStoreException;
 
+import java.util.List;
+
 /**
  * Client interface for an AppSync service endpoint.
  *
@@ -178,6 +181,42 @@ public interface AppSync {
             @NonNull Consumer<DataStoreException> onFailure
     );
 
+    /**
+     * Builds a mutation {@link GraphQLRequest} that can be passed to the
+     * {@link AppSync#mutate(List, Consumer, Consumer)} method, along with other mutations.
+     * @param model An instance of the Model with the values to mutate
+     * @param modelSchema The schema of the object being mutated
+     * @param mutationType The type of mutation to make
+     * @param version The version of the model we have, or null for a {@link MutationType#CREATE}
+     * @param predicate Condition to use for an update or a deletion
+     * @param <T> The type of data in the response. Must extend Model.
+     * @return A {@link GraphQLRequest} for making a mutation
+     * @throws DataStoreException on error building GraphQLRequest due to inability to obtain model schema.
+     */
+    @NonNull
+    <T extends Model> GraphQLRequest<ModelWithMetadata<T>> buildMutationRequest(
+            @NonNull T model,
+            @NonNull ModelSchema modelSchema,
+            @NonNull MutationType mutationType,
+            @Nullable Integer version,
+            @NonNull QueryPredicate predicate
+    ) throws DataStoreException;
+
+    /**
+     * Uses Amplify API to make several mutations in a single request. The mutations are applied
+     * in order, and each one succeeds or fails on its own, so there is a response for each of them.
+     * @param requests The {@link GraphQLRequest}s for the mutations, in the order they should be applied
+     * @param onResponse Invoked with a response for each request, in the order of the requests
+     * @param onFailure Invoked on failure to obtain response data
+     * @return A {@link Cancelable} to provide a means to cancel the asynchronous operation
+     */
+    @NonNull
+    Cancelable mutate(
+            @NonNull List<GraphQLRequest<? extends ModelWithMetadata<?>>> requests,
+            @NonNull Consumer<List<GraphQLResponse<? extends ModelWithMetadata<?>>>> onResponse,
+            @NonNull Consumer<DataStoreException> onFailure
+    );
+
     /**
      * Get notified when a create event happens on a given class.
      * @param modelSchema The schema of the Model we are listening on
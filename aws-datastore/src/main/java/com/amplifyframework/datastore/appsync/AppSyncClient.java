@@ -24,7 +24,9 @@ import com.amplifyframework.api.ApiException;
 import com.amplifyframework.api.aws.AuthModeStrategyType;
 import com.amplifyframework.api.graphql.GraphQLBehavior;
 import com.amplifyframework.api.graphql.GraphQLRequest;
+import com.amplifyframework.api.graphql.GraphQLPathSegment;
 import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.api.graphql.MutationType;
 import com.amplifyframework.api.graphql.PaginatedResult;
 import com.amplifyframework.api.graphql.SubscriptionType;
 import com.amplifyframework.core.Action;
@@ -39,6 +41,15 @@ import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.logging.Logger;
+import com.amplifyframework.util.GsonFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * An implementation of the {@link AppSync} client interface.
@@ -237,6 +248,129 @@ public final class AppSyncClient implements AppSync {
         return new NoOpCancelable();
     }
 
+    @NonNull
+    @Override
+    public <T extends Model> GraphQLRequest<ModelWithMetadata<T>> buildMutationRequest(
+            @NonNull T model,
+            @NonNull ModelSchema modelSchema,
+            @NonNull MutationType mutationType,
+            @Nullable Integer version,
+            @NonNull QueryPredicate predicate) throws DataStoreException {
+        switch (mutationType) {
+            case CREATE:
+                return AppSyncRequestFactory.buildCreationRequest(modelSchema, model, authModeStrategyType);
+            case UPDATE:
+                return AppSyncRequestFactory.buildUpdateRequest(
+                    modelSchema, model, version, predicate, authModeStrategyType
+                );
+            case DELETE:
+                return AppSyncRequestFactory.buildDeletionRequest(
+                    modelSchema, model, version, predicate, authModeStrategyType
+                );
+            default:
+                throw new DataStoreException(
+                    "Unknown mutation type = " + mutationType,
+                    AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+                );
+        }
+    }
+
+    @NonNull
+    @Override
+    public Cancelable mutate(
+            @NonNull List<GraphQLRequest<? extends ModelWithMetadata<?>>> requests,
+            @NonNull Consumer<List<GraphQLResponse<? extends ModelWithMetadata<?>>>> onResponse,
+            @NonNull Consumer<DataStoreException> onFailure) {
+        // Other strategies may pick a different authorization type for each model, but a request only has one.
+        if (authModeStrategyType != AuthModeStrategyType.DEFAULT) {
+            AtomicReference<Cancelable> ongoingMutation = new AtomicReference<>(new NoOpCancelable());
+            mutateInSequence(requests, new ArrayList<>(), ongoingMutation, onResponse, onFailure);
+            return () -> ongoingMutation.get().cancel();
+        }
+
+        final GraphQLRequest<JsonObject> request;
+        try {
+            request = AppSyncRequestFactory.buildBatchMutationRequest(requests);
+        } catch (DataStoreException requestGenerationException) {
+            onFailure.accept(requestGenerationException);
+            return new NoOpCancelable();
+        }
+
+        final Consumer<GraphQLResponse<JsonObject>> responseConsumer = response -> {
+            final List<GraphQLResponse<? extends ModelWithMetadata<?>>> responses;
+            try {
+                responses = splitBatchResponse(requests, response);
+            } catch (JsonParseException parseException) {
+                onFailure.accept(new DataStoreException(
+                    "Failed to parse the response to a batch of mutations.", parseException, "Check details."
+                ));
+                return;
+            }
+            onResponse.accept(responses);
+        };
+        final Consumer<ApiException> failureConsumer =
+            failure -> onFailure.accept(new DataStoreException(
+                "Failure during mutation.", failure, "Check details."
+            ));
+        final Cancelable cancelable = api.mutate(request, responseConsumer, failureConsumer);
+        if (cancelable != null) {
+            return cancelable;
+        }
+        return new NoOpCancelable();
+    }
+
+    @SuppressWarnings("unchecked") // The requests are built for ModelWithMetadata responses.
+    private void mutateInSequence(
+            List<GraphQLRequest<? extends ModelWithMetadata<?>>> requests,
+            List<GraphQLResponse<? extends ModelWithMetadata<?>>> responses,
+            AtomicReference<Cancelable> ongoingMutation,
+            Consumer<List<GraphQLResponse<? extends ModelWithMetadata<?>>>> onResponse,
+            Consumer<DataStoreException> onFailure) {
+        if (responses.size() == requests.size()) {
+            onResponse.accept(responses);
+            return;
+        }
+        GraphQLRequest<ModelWithMetadata<Model>> request =
+            (GraphQLRequest<ModelWithMetadata<Model>>) requests.get(responses.size());
+        ongoingMutation.set(mutation(request, response -> {
+            responses.add(response);
+            mutateInSequence(requests, responses, ongoingMutation, onResponse, onFailure);
+        }, onFailure));
+    }
+
+    /**
+     * Finds the data and errors of each mutation in the response to a batch of mutations. AppSync puts the data of
+     * each mutation under its alias, and the path of each error begins with the alias of the mutation it came from.
+     * An error without a path could have come from any of them, so it is reported for each one.
+     */
+    private static List<GraphQLResponse<? extends ModelWithMetadata<?>>> splitBatchResponse(
+            List<GraphQLRequest<? extends ModelWithMetadata<?>>> requests,
+            GraphQLResponse<JsonObject> response) {
+        JsonObject data = response.getData();
+        List<GraphQLResponse<? extends ModelWithMetadata<?>>> responses = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            String alias = AppSyncRequestFactory.buildBatchAlias(index);
+            GraphQLPathSegment aliasSegment = new GraphQLPathSegment(alias);
+            List<GraphQLResponse.Error> errors = new ArrayList<>();
+            for (GraphQLResponse.Error error : response.getErrors()) {
+                List<GraphQLPathSegment> path = error.getPath();
+                if (path == null || path.isEmpty() || aliasSegment.equals(path.get(0))) {
+                    errors.add(error);
+                }
+            }
+            JsonElement modelWithMetadata = data != null ? data.get(alias) : null;
+            if (!errors.isEmpty() || modelWithMetadata == null || modelWithMetadata.isJsonNull()) {
+                responses.add(new GraphQLResponse<>(null, errors));
+            } else {
+                responses.add(new GraphQLResponse<ModelWithMetadata<?>>(
+                    GsonFactory.instance().fromJson(modelWithMetadata, requests.get(index).getResponseType()),
+                    errors
+                ));
+            }
+        }
+        return responses;
+    }
+
     @NonNull
     @Override
     public <T extends Model> Cancelable onCreate(
@@ -15,6 +15,7 @@
 
 package com.amplifyframework.datastore.appsync;
 
+import android.text.TextUtils;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
@@ -22,9 +23,12 @@ import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.aws.AppSyncGraphQLRequest;
 import com.amplifyframework.api.aws.AuthModeStrategyType;
 import com.amplifyframework.api.aws.GraphQLRequestHelper;
+import com.amplifyframework.api.aws.GsonVariablesSerializer;
+import com.amplifyframework.api.graphql.GraphQLRequest;
 import com.amplifyframework.api.graphql.MutationType;
 import com.amplifyframework.api.graphql.PaginatedResult;
 import com.amplifyframework.api.graphql.QueryType;
+import com.amplifyframework.api.graphql.SimpleGraphQLRequest;
 import com.amplifyframework.api.graphql.SubscriptionType;
 import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.category.CategoryType;
@@ -37,9 +41,15 @@ import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.logging.Logger;
 import com.amplifyframework.util.Casing;
 import com.amplifyframework.util.TypeMaker;
+import com.amplifyframework.util.Wrap;
 
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * A factory to generate requests against an AppSync endpoint.
@@ -211,6 +221,55 @@ final class AppSyncRequestFactory {
         }
     }
 
+    /**
+     * Builds a single request which makes each of the mutations, in order. The root field of each
+     * mutation is given the alias returned by {@link #buildBatchAlias(int)}, under which its data
+     * and errors are found in the response.
+     * @param requests Mutation requests built by this factory, in the order they should be applied
+     * @return A request for the data of all of the mutations, keyed by alias
+     * @throws DataStoreException If one of the requests was not built by this factory
+     */
+    static GraphQLRequest<JsonObject> buildBatchMutationRequest(
+            List<? extends GraphQLRequest<?>> requests) throws DataStoreException {
+        List<String> variableTypes = new ArrayList<>();
+        Map<String, Object> variables = new HashMap<>();
+        StringBuilder fields = new StringBuilder();
+        for (int index = 0; index < requests.size(); index++) {
+            if (!(requests.get(index) instanceof AppSyncGraphQLRequest)) {
+                throw new DataStoreException(
+                    "Unable to batch a mutation that was not built by the AppSync client: " + requests.get(index),
+                    AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+                );
+            }
+            AppSyncGraphQLRequest<?> request = (AppSyncGraphQLRequest<?>) requests.get(index);
+            // Each mutation has its own input, so its variables are renamed to keep them apart.
+            String variableSuffix = "_" + index;
+            for (Map.Entry<String, String> variableType : new TreeMap<>(request.getVariableTypes()).entrySet()) {
+                variableTypes.add("$" + variableType.getKey() + variableSuffix + ": " + variableType.getValue());
+            }
+            for (Map.Entry<String, Object> variable : request.getVariables().entrySet()) {
+                variables.put(variable.getKey() + variableSuffix, variable.getValue());
+            }
+            fields.append("  ")
+                .append(request.getAliasedField(buildBatchAlias(index), variableSuffix))
+                .append("\n");
+        }
+        String document = "mutation BatchMutation" +
+            Wrap.inParentheses(TextUtils.join(", ", variableTypes)) +
+            " " + Wrap.inBraces("\n" + fields) +
+            "\n";
+        return new SimpleGraphQLRequest<>(document, variables, JsonObject.class, new GsonVariablesSerializer());
+    }
+
+    /**
+     * Builds the alias of a mutation in a request built by {@link #buildBatchMutationRequest(List)}.
+     * @param index Position of the mutation in the request
+     * @return The alias of the mutation
+     */
+    static String buildBatchAlias(int index) {
+        return "mutation" + index;
+    }
+
     /**
      * Builds a mutation.
      * @param schema the model schema for the mutation
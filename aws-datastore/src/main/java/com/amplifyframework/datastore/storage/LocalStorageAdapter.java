@@ -89,6 +89,24 @@ public interface LocalStorageAdapter {
             @NonNull Consumer<DataStoreException> onError
     );
 
+    /**
+     * Save a batch of items into local storage as a single unit of work. Items that already
+     * exist are updated, and all others are created. Either every item is written, or none are.
+     * One {@link StorageItemChange} is emitted to observers for each item, after the whole batch
+     * has been written.
+     * @param <T> The type of the items being stored
+     * @param items the items to save into the repository, in the order they should be written
+     * @param initiator An identification of the actor who initiated this save
+     * @param onSuccess A callback that will be invoked with one change per item if the save succeeds
+     * @param onError A callback that will be invoked if the save fails with an error
+     */
+    <T extends Model> void saveAll(
+            @NonNull List<T> items,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError
+    );
+
     /**
      * Query the storage for items of a given type with specific conditions.
      * @param itemClass Items that have this class will be solicited
@@ -137,6 +155,44 @@ public interface LocalStorageAdapter {
             @NonNull Consumer<DataStoreException> onError
     );
 
+    /**
+     * Deletes a batch of items from storage as a single unit of work. Either every item is
+     * deleted, or none are. Items that do not exist are considered deleted, but no change is
+     * emitted for them. For every other item, and for each item removed by a cascading delete,
+     * one {@link StorageItemChange} is emitted to observers after the whole batch has been deleted.
+     * @param <T> The type of the items being deleted
+     * @param items Items to delete
+     * @param initiator An identification of the actor who initiated this deletion
+     * @param onSuccess A callback that will be invoked with one change per item if deletion succeeds
+     * @param onError A callback that will be invoked when deletion fails with an error
+     */
+    <T extends Model> void deleteAll(
+            @NonNull List<T> items,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError
+    );
+
+    /**
+     * Deletes a batch of items and then saves another, as a single unit of work. Either every
+     * item is deleted and saved, or none are. The deletions behave as in
+     * {@link #deleteAll(List, StorageItemChange.Initiator, Consumer, Consumer)}, and the saves as in
+     * {@link #saveAll(List, StorageItemChange.Initiator, Consumer, Consumer)}. The changes of
+     * both are emitted to observers after the whole unit of work has been written.
+     * @param deletions Items to delete
+     * @param saves Items to save once the deletions are done, in the order they should be written
+     * @param initiator An identification of the actor who initiated this write
+     * @param onSuccess A callback that will be invoked with one change per saved item if the write succeeds
+     * @param onError A callback that will be invoked if the write fails with an error
+     */
+    void deleteAllAndSaveAll(
+            @NonNull List<? extends Model> deletions,
+            @NonNull List<? extends Model> saves,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<? extends Model>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError
+    );
+
     /**
      * Deletes all items of a given type from storage that meet the
      * specific conditions. A {@link Consumer} will be invoked when the
@@ -45,6 +45,7 @@ public final class ModelComparator<T extends Model> implements Comparator<T> {
     private final QuerySortBy sortBy;
     private final Class<T> itemClass;
     private final Consumer<DataStoreException> onObservationError;
+    private Method getter;
 
     /***
      * Compares type T which extends models.
@@ -85,7 +86,9 @@ public final class ModelComparator<T extends Model> implements Comparator<T> {
             if (method != null) {
                 Object valueLeft = getValue(method, modelLeft);
                 Object valueRight = getValue(method, modelRight);
-                if (valueLeft == null) {
+                if (valueLeft == null && valueRight == null) {
+                    return 0;
+                } else if (valueLeft == null) {
                     return -1;
                 } else if (valueRight == null) {
                     return 1;
@@ -171,16 +174,28 @@ public final class ModelComparator<T extends Model> implements Comparator<T> {
                     return valueModel1.compareTo(valueModel2);
                 }
                 if (method.getReturnType() == Temporal.Date.class) {
-                    Temporal.DateTime valueModel1 = (Temporal.DateTime) valueLeft;
-                    Temporal.DateTime valueModel2 = (Temporal.DateTime) valueRight;
+                    Temporal.Date valueModel1 = (Temporal.Date) valueLeft;
+                    Temporal.Date valueModel2 = (Temporal.Date) valueRight;
                     return valueModel1.compareTo(valueModel2);
                 }
+                if (valueLeft instanceof Comparable && valueLeft.getClass().isInstance(valueRight)) {
+                    @SuppressWarnings("unchecked")
+                    Comparable<Object> valueModel1 = (Comparable<Object>) valueLeft;
+                    return valueModel1.compareTo(valueRight);
+                }
             }
         }
         return -1;
     }
 
     private Method getMethod() {
+        if (getter == null) {
+            getter = findMethod();
+        }
+        return getter;
+    }
+
+    private Method findMethod() {
         Method method = null;
         try {
             Field field = itemClass.getDeclaredField(sortBy.getField());
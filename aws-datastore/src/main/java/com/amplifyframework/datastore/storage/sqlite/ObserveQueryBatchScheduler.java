@@ -0,0 +1,205 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.core.Amplify;
+import com.amplifyframework.core.category.CategoryType;
+import com.amplifyframework.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules the time-based flushes of observe query batches. All observers share one timer
+ * thread, and observers with the same batching interval share one timer: when it fires, the
+ * pending batches of all those observers are flushed together. A batch can therefore be flushed
+ * sooner than its interval, but never later.
+ *
+ * Flush tasks are run on the timer thread, so they should hand any real work off to another
+ * executor.
+ */
+final class ObserveQueryBatchScheduler {
+    private static final Logger LOG = Amplify.Logging.logger(CategoryType.DATASTORE, "amplify:aws-datastore");
+    private static final String THREAD_NAME = "amplify-observe-query-batch";
+
+    private static ObserveQueryBatchScheduler defaultInstance;
+
+    private final ScheduledThreadPoolExecutor timerExecutor;
+    // Observers that are registered, and whether each has a pending batch. Guarded by this.
+    private final Map<Object, Boolean> observers = new IdentityHashMap<>();
+    // Pending batches by batching interval, in seconds. Guarded by this.
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+    private boolean isShutdown = false;
+
+    ObserveQueryBatchScheduler() {
+        this.timerExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timerExecutor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Gets the scheduler used by observe query executors that were not given one by their
+     * storage adapter. It is created on first use, and is never shut down.
+     * @return A process-wide scheduler
+     */
+    @NonNull
+    static synchronized ObserveQueryBatchScheduler defaultInstance() {
+        if (defaultInstance == null) {
+            defaultInstance = new ObserveQueryBatchScheduler();
+        }
+        return defaultInstance;
+    }
+
+    /**
+     * Registers an observer, so that it is counted as active.
+     * @param observer The observer
+     */
+    synchronized void register(@NonNull Object observer) {
+        if (!observers.containsKey(Objects.requireNonNull(observer))) {
+            observers.put(observer, false);
+        }
+    }
+
+    /**
+     * Unregisters an observer, and drops its pending batch, if any.
+     * @param observer The observer
+     */
+    synchronized void unregister(@NonNull Object observer) {
+        cancel(observer);
+        observers.remove(observer);
+    }
+
+    /**
+     * Schedules the flush of an observer's batch within the given interval. Does nothing if the
+     * observer already has a pending batch.
+     * @param observer The observer whose batch to flush
+     * @param maxTimeSec Maximum time before the batch is flushed, in seconds
+     * @param flush Flushes the batch
+     */
+    synchronized void schedule(@NonNull Object observer, long maxTimeSec, @NonNull Runnable flush) {
+        Objects.requireNonNull(observer);
+        Objects.requireNonNull(flush);
+        if (isShutdown || Boolean.TRUE.equals(observers.get(observer))) {
+            return;
+        }
+        Bucket bucket = buckets.get(maxTimeSec);
+        if (bucket == null) {
+            bucket = new Bucket();
+            buckets.put(maxTimeSec, bucket);
+            try {
+                bucket.future = timerExecutor.schedule(() -> fire(maxTimeSec), maxTimeSec, TimeUnit.SECONDS);
+            } catch (RejectedExecutionException exception) {
+                buckets.remove(maxTimeSec);
+                return;
+            }
+        }
+        bucket.flushes.put(observer, flush);
+        observers.put(observer, true);
+    }
+
+    /**
+     * Drops the pending batch of an observer, if any, without flushing it.
+     * @param observer The observer
+     */
+    synchronized void cancel(@NonNull Object observer) {
+        if (!Boolean.TRUE.equals(observers.get(observer))) {
+            return;
+        }
+        observers.put(observer, false);
+        for (Map.Entry<Long, Bucket> entry : new ArrayList<>(buckets.entrySet())) {
+            Bucket bucket = entry.getValue();
+            if (bucket.flushes.remove(observer) != null && bucket.flushes.isEmpty()) {
+                bucket.future.cancel(false);
+                buckets.remove(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of registered observers.
+     * @return Number of active observers
+     */
+    synchronized int getActiveObserverCount() {
+        return observers.size();
+    }
+
+    /**
+     * Gets the number of batches that are waiting for their timer.
+     * @return Number of pending batches
+     */
+    synchronized int getPendingBatchCount() {
+        int count = 0;
+        for (Bucket bucket : buckets.values()) {
+            count += bucket.flushes.size();
+        }
+        return count;
+    }
+
+    /**
+     * Drops all pending batches and stops the timer thread.
+     */
+    synchronized void shutdown() {
+        isShutdown = true;
+        buckets.clear();
+        observers.clear();
+        timerExecutor.shutdownNow();
+    }
+
+    private void fire(long maxTimeSec) {
+        List<Runnable> flushes;
+        synchronized (this) {
+            Bucket bucket = buckets.remove(maxTimeSec);
+            if (bucket == null) {
+                return;
+            }
+            for (Object observer : bucket.flushes.keySet()) {
+                observers.put(observer, false);
+            }
+            flushes = new ArrayList<>(bucket.flushes.values());
+            LOG.verbose("ObserveQueryBatchScheduler flushing " + flushes.size() + " batches, with " +
+                observers.size() + " active observers.");
+        }
+        for (Runnable flush : flushes) {
+            try {
+                flush.run();
+            } catch (RuntimeException exception) {
+                LOG.warn("Failed to flush an observe query batch.", exception);
+            }
+        }
+    }
+
+    /**
+     * The pending batches that share a timer.
+     */
+    private static final class Bucket {
+        private final Map<Object, Runnable> flushes = new LinkedHashMap<>();
+        private ScheduledFuture<?> future;
+    }
+}
@@ -23,6 +23,10 @@ import com.amplifyframework.core.async.Cancelable;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.query.ObserveQueryOptions;
 import com.amplifyframework.core.model.query.Where;
+import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+import com.amplifyframework.core.model.query.predicate.QueryPredicateGroup;
+import com.amplifyframework.core.model.query.predicate.QueryPredicateOperation;
+import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.DataStoreConfiguration;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.DataStoreItemChange;
@@ -31,21 +35,27 @@ import com.amplifyframework.datastore.storage.ItemChangeMapper;
 import com.amplifyframework.datastore.storage.StorageItemChange;
 import com.amplifyframework.util.Immutable;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
-import java.util.Timer;
-import java.util.TimerTask;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Queue;
+import java.util.TreeSet;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
 
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.subjects.Subject;
 
 /***
- * Executes observe query operations.
+ * Executes observe query operations. The items that match the query are kept in memory, in the
+ * requested sort order, so that each change is applied in O(log n) and each snapshot is a copy of
+ * the already sorted items, along with the differences from the previous snapshot.
  * @param <T> type of Model.
  */
 public class ObserveQueryExecutor<T extends Model> implements Cancelable {
@@ -55,13 +65,24 @@ public class ObserveQueryExecutor<T extends Model> implements Cancelable {
     private final SyncStatus syncStatus;
     private Disposable disposable;
     private final List<DataStoreItemChange<T>> changedItemList = new ArrayList<>();
-    private Timer timer;
+    private final ObserveQueryBatchScheduler batchScheduler;
     private final int maxRecords;
     private final long maxTimeSec;
     private final ModelSorter<T> modelSorter;
     private boolean isCanceled = false;
     private boolean isSynced = false;
-    private final Map<String, T> completeItemMap = new ConcurrentHashMap<>();
+    private final Object itemsLock = new Object();
+    // Items that match the query by primary key, in the order they were added. Guarded by itemsLock.
+    private final Map<String, T> completeItemMap = new LinkedHashMap<>();
+    // The same items in sort order, or null if the query is not sorted. Guarded by itemsLock.
+    private NavigableSet<T> sortedItems;
+    // Items of the last snapshot, used to compute the differences of the next one. Guarded by itemsLock.
+    private List<T> previousItems = Collections.emptyList();
+    // Snapshots waiting to be delivered, in the order their differences were computed. Guarded by itemsLock.
+    private final Queue<Runnable> pendingSnapshots = new ArrayDeque<>();
+    // Whether a thread is delivering the pending snapshots. Guarded by itemsLock.
+    private boolean isDeliveringSnapshots = false;
+    private boolean evaluatePredicateInMemory;
 
     /**
      * Class to manage observeQuery operations.
@@ -78,6 +99,27 @@ public class ObserveQueryExecutor<T extends Model> implements Cancelable {
                                 @NonNull SyncStatus syncStatus,
                                 @NonNull ModelSorter<T> modelSorter,
                                 @NonNull DataStoreConfiguration dataStoreConfiguration) {
+        this(itemChangeSubject, sqlQueryProcessor, threadPool, syncStatus, modelSorter, dataStoreConfiguration,
+            ObserveQueryBatchScheduler.defaultInstance());
+    }
+
+    /**
+     * Class to manage observeQuery operations, with batches flushed by the given scheduler.
+     * @param itemChangeSubject change subject.
+     * @param sqlQueryProcessor sql query processor.
+     * @param threadPool thread pool.
+     * @param syncStatus sync status.
+     * @param modelSorter model sorter.
+     * @param dataStoreConfiguration datastore configuration.
+     * @param batchScheduler schedules the time-based flushes of batches.
+     */
+    ObserveQueryExecutor(@NonNull Subject<StorageItemChange<? extends Model>> itemChangeSubject,
+                         @NonNull SqlQueryProcessor sqlQueryProcessor,
+                         @NonNull ExecutorService threadPool,
+                         @NonNull SyncStatus syncStatus,
+                         @NonNull ModelSorter<T> modelSorter,
+                         @NonNull DataStoreConfiguration dataStoreConfiguration,
+                         @NonNull ObserveQueryBatchScheduler batchScheduler) {
         this.itemChangeSubject = itemChangeSubject;
         this.sqlQueryProcessor = sqlQueryProcessor;
         this.threadPool = threadPool;
@@ -85,6 +127,7 @@ public class ObserveQueryExecutor<T extends Model> implements Cancelable {
         this.maxRecords = dataStoreConfiguration.getObserveQueryMaxRecords();
         this.maxTimeSec = dataStoreConfiguration.getMaxTimeLapseForObserveQuery();
         this.modelSorter = modelSorter;
+        this.batchScheduler = Objects.requireNonNull(batchScheduler);
     }
 
     /***
@@ -111,6 +154,7 @@ public class ObserveQueryExecutor<T extends Model> implements Cancelable {
         this.modelSorter = modelSorter;
         this.maxRecords = maxRecords;
         this.maxTimeSec = maxSecs;
+        this.batchScheduler = ObserveQueryBatchScheduler.defaultInstance();
     }
 
     /**
@@ -133,17 +177,25 @@ public class ObserveQueryExecutor<T extends Model> implements Cancelable {
         Objects.requireNonNull(onObservationError);
         Objects.requireNonNull(onObservationComplete);
 
+        Comparator<T> comparator = modelSorter.getComparator(options, itemClass, onObservationError);
+        if (comparator != null) {
+            // Break ties on the primary key, so that distinct items never compare as equal.
+            sortedItems = new TreeSet<>(comparator.thenComparing(Model::getPrimaryKeyString));
+        }
+        evaluatePredicateInMemory = canEvaluateInMemory(options.getQueryPredicate(), itemClass);
+        batchScheduler.register(this);
+
         Consumer<Object> onItemChanged = value -> {
 
             @SuppressWarnings("unchecked")
             StorageItemChange<T> itemChanged = (StorageItemChange<T>) value;
             try {
-                if (sqlQueryProcessor.modelExists(itemChanged.item(), options.getQueryPredicate())) {
-                    updateCompleteItemMap(itemChanged);
-                } else if (itemChanged.type() == StorageItemChange.Type.UPDATE) {
-                    completeItemMap.remove(itemChanged.item().getPrimaryKeyString());
-                } else if (itemChanged.type() == StorageItemChange.Type.DELETE) {
-                    completeItemMap.remove(itemChanged.item().getPrimaryKeyString());
+                T item = itemChanged.item();
+                if (itemChanged.type() != StorageItemChange.Type.DELETE &&
+                        matches(item, options.getQueryPredicate())) {
+                    putItem(item);
+                } else {
+                    removeItem(item.getPrimaryKeyString());
                 }
                 collect(itemChanged, onQuerySnapshot, itemClass, options, onObservationError);
             } catch (DataStoreException exception) {
@@ -189,10 +241,15 @@ public class ObserveQueryExecutor<T extends Model> implements Cancelable {
             cancel();
             onObservationError.accept(value);
         };
-        for (T model : models) {
-            completeItemMap.put(model.getPrimaryKeyString(), model);
+        synchronized (itemsLock) {
+            for (T model : models) {
+                putItem(model);
+            }
+            List<T> items = currentItems();
+            previousItems = items;
+            pendingSnapshots.add(() -> callOnQuerySnapshot(onQuerySnapshot, itemClass, onQueryError, items, null));
         }
-        callOnQuerySnapshot(onQuerySnapshot, itemClass, onQueryError, models);
+        deliverPendingSnapshots();
     }
 
     /***
@@ -201,8 +258,15 @@ public class ObserveQueryExecutor<T extends Model> implements Cancelable {
     @Override
     public void cancel() {
         isCanceled = true;
-        resetTimer();
-        completeItemMap.clear();
+        batchScheduler.unregister(this);
+        synchronized (itemsLock) {
+            completeItemMap.clear();
+            if (sortedItems != null) {
+                sortedItems.clear();
+            }
+            previousItems = Collections.emptyList();
+            pendingSnapshots.clear();
+        }
         changedItemList.clear();
         if (disposable != null) {
             disposable.dispose();
@@ -210,10 +274,7 @@ public class ObserveQueryExecutor<T extends Model> implements Cancelable {
     }
 
     private void resetTimer() {
-        if (timer != null) {
-            timer.purge();
-        }
-        timer = null;
+        batchScheduler.cancel(this);
     }
 
     /***
@@ -229,7 +290,9 @@ public class ObserveQueryExecutor<T extends Model> implements Cancelable {
      * @return Map.
      */
     Map<String, T> getCompleteMap() {
-        return Immutable.of(completeItemMap);
+        synchronized (itemsLock) {
+            return Immutable.of(new LinkedHashMap<>(completeItemMap));
+        }
     }
 
     /***
@@ -263,54 +326,160 @@ public class ObserveQueryExecutor<T extends Model> implements Cancelable {
                                       Class<T> itemClass,
                                       ObserveQueryOptions options,
                                       Consumer<DataStoreException> onObservationError) {
-        List<T> completeList = new ArrayList<>(completeItemMap.values());
-        sortIfNeeded(options, completeList, itemClass, onObservationError);
-        callOnQuerySnapshot(onQuerySnapshot, itemClass, onObservationError, completeList);
+        // The snapshot is queued along with its diff, so that each diff is relative to the snapshot
+        // the subscriber received just before it. It is delivered outside of the lock.
+        synchronized (itemsLock) {
+            List<T> completeList = currentItems();
+            DataStoreQuerySnapshot.Diff diff = QuerySnapshotDiffer.diff(previousItems, completeList);
+            previousItems = completeList;
+            pendingSnapshots.add(() ->
+                callOnQuerySnapshot(onQuerySnapshot, itemClass, onObservationError, completeList, diff));
+        }
+        deliverPendingSnapshots();
+    }
+
+    /**
+     * Delivers the queued snapshots in order, unless another thread is already delivering them. That
+     * thread then delivers the snapshots queued by this one, so a subscriber is never called
+     * concurrently, nor while the lock is held.
+     */
+    private void deliverPendingSnapshots() {
+        synchronized (itemsLock) {
+            if (isDeliveringSnapshots) {
+                return;
+            }
+            isDeliveringSnapshots = true;
+        }
+        while (true) {
+            Runnable delivery;
+            synchronized (itemsLock) {
+                delivery = pendingSnapshots.poll();
+                if (delivery == null) {
+                    isDeliveringSnapshots = false;
+                    return;
+                }
+            }
+            try {
+                delivery.run();
+            } catch (RuntimeException exception) {
+                synchronized (itemsLock) {
+                    isDeliveringSnapshots = false;
+                }
+                throw exception;
+            }
+        }
     }
 
     private void callOnQuerySnapshot(Consumer<DataStoreQuerySnapshot<T>> onQuerySnapshot,
                                      Class<T> itemClass,
                                      Consumer<DataStoreException> onObservationError,
-                                     List<T> completeList) {
+                                     List<T> completeList,
+                                     DataStoreQuerySnapshot.Diff diff) {
         isSynced = syncStatus.get(itemClass.getSimpleName(), onObservationError);
         DataStoreQuerySnapshot<T> dataStoreQuerySnapshot = new DataStoreQuerySnapshot<>(completeList,
-                isSynced);
+                isSynced, diff);
         getListConsumer(onQuerySnapshot).accept(dataStoreQuerySnapshot);
         changedItemList.clear();
     }
 
-    private void sortIfNeeded(ObserveQueryOptions options,
-                              List<T> completeList,
-                              Class<T> itemClass,
-                              Consumer<DataStoreException> onObservationError) {
-        if (options != null && options.getSortBy() != null && options.getSortBy().size() > 0) {
-            modelSorter.sort(options, completeList, itemClass, onObservationError);
+    private List<T> currentItems() {
+        synchronized (itemsLock) {
+            return new ArrayList<>(sortedItems != null ? sortedItems : completeItemMap.values());
         }
     }
 
-    private void updateCompleteItemMap(StorageItemChange<T> itemChanged) {
-        T item = itemChanged.item();
-        if (itemChanged.type() == StorageItemChange.Type.DELETE) {
-            completeItemMap.remove(item.getPrimaryKeyString());
-        } else {
-            completeItemMap.put(item.getPrimaryKeyString(), item);
+    private void putItem(T item) {
+        synchronized (itemsLock) {
+            T previousItem = completeItemMap.put(item.getPrimaryKeyString(), item);
+            if (sortedItems != null) {
+                // The previous version must be removed by its own sort key, which may differ from the new one.
+                if (previousItem != null) {
+                    removeSortedItem(previousItem);
+                }
+                sortedItems.add(item);
+            }
+        }
+    }
+
+    private void removeItem(String primaryKey) {
+        synchronized (itemsLock) {
+            T previousItem = completeItemMap.remove(primaryKey);
+            if (previousItem != null && sortedItems != null) {
+                removeSortedItem(previousItem);
+            }
+        }
+    }
+
+    private void removeSortedItem(T item) {
+        // The comparator orders values it can't compare inconsistently, so the item may not be found by
+        // its sort key. It is then looked up by its primary key.
+        if (!sortedItems.remove(item)) {
+            String primaryKey = item.getPrimaryKeyString();
+            sortedItems.removeIf(sortedItem -> sortedItem.getPrimaryKeyString().equals(primaryKey));
+        }
+    }
+
+    private boolean matches(T item, QueryPredicate predicate) throws DataStoreException {
+        if (predicate == null || QueryPredicates.all().equals(predicate)) {
+            return true;
+        }
+        if (evaluatePredicateInMemory) {
+            try {
+                return predicate.evaluate(item);
+            } catch (IllegalArgumentException exception) {
+                // Fall back to asking the database.
+            }
         }
+        return sqlQueryProcessor.modelExists(item, predicate);
+    }
+
+    /**
+     * Checks whether evaluating the predicate against a model gives the same result as the
+     * database would. This holds when every condition is on a String or Boolean field of the model
+     * itself. Conditions on other types, such as enums, temporals and numbers, are compared
+     * differently in SQLite than by {@link Object#equals(Object)}, and conditions on associated
+     * models need a join. A condition on a null field is false in memory, but unknown in SQLite,
+     * which only makes a difference when it is negated, so negated predicates are left to SQLite.
+     */
+    private static boolean canEvaluateInMemory(QueryPredicate predicate, Class<?> itemClass) {
+        if (predicate == null || QueryPredicates.all().equals(predicate) || QueryPredicates.none().equals(predicate)) {
+            return true;
+        } else if (predicate instanceof QueryPredicateGroup) {
+            if (((QueryPredicateGroup) predicate).type() == QueryPredicateGroup.Type.NOT) {
+                return false;
+            }
+            for (QueryPredicate child : ((QueryPredicateGroup) predicate).predicates()) {
+                if (!canEvaluateInMemory(child, itemClass)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (predicate instanceof QueryPredicateOperation) {
+            QueryPredicateOperation<?> operation = (QueryPredicateOperation<?>) predicate;
+            if (operation.modelName() != null && !operation.modelName().equals(itemClass.getSimpleName())) {
+                return false;
+            }
+            try {
+                Class<?> fieldType = itemClass.getDeclaredField(operation.field()).getType();
+                return fieldType == String.class || fieldType == Boolean.class || fieldType == boolean.class;
+            } catch (NoSuchFieldException exception) {
+                return false;
+            }
+        }
+        return false;
     }
 
     private void setTimerIfNeeded(Consumer<DataStoreQuerySnapshot<T>> onQuerySnapshot,
                                   Class<T> itemClass,
                                   ObserveQueryOptions options,
                                   Consumer<DataStoreException> onObservationError) {
-        if (timer == null) {
-            timer = new Timer();
-            timer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    processQuerySnapshot(onQuerySnapshot, itemClass, options, onObservationError);
-                    resetTimer();
-                }
-            }, TimeUnit.SECONDS.toMillis(maxTimeSec));
-        }
+        batchScheduler.schedule(this, maxTimeSec, () -> {
+            try {
+                threadPool.execute(() -> processQuerySnapshot(onQuerySnapshot, itemClass, options, onObservationError));
+            } catch (RejectedExecutionException exception) {
+                // The storage adapter is shutting down, so nobody is waiting for this batch.
+            }
+        });
     }
 
     @NonNull
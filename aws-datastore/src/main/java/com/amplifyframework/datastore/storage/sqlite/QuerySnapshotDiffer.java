@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import androidx.annotation.NonNull;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.datastore.DataStoreQuerySnapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the differences between the items of two consecutive observe query snapshots, so that
+ * subscribers can update their views without comparing the complete lists themselves. Items are
+ * matched by primary key. Of the items that are in both snapshots, the longest run that kept its
+ * relative order stays in place, and every other one is reported as a move.
+ */
+final class QuerySnapshotDiffer {
+    private QuerySnapshotDiffer() {}
+
+    /**
+     * Computes the differences between two snapshots.
+     * @param previous Items of the previous snapshot
+     * @param current Items of the current snapshot
+     * @param <T> Type of model
+     * @return Differences from previous to current
+     */
+    @NonNull
+    static <T extends Model> DataStoreQuerySnapshot.Diff diff(@NonNull List<T> previous, @NonNull List<T> current) {
+        Map<String, Integer> previousPositions = positionsByPrimaryKey(previous);
+        Map<String, Integer> currentPositions = positionsByPrimaryKey(current);
+
+        List<Integer> removedPositions = new ArrayList<>();
+        for (int position = 0; position < previous.size(); position++) {
+            if (!currentPositions.containsKey(previous.get(position).getPrimaryKeyString())) {
+                removedPositions.add(position);
+            }
+        }
+
+        List<Integer> insertedPositions = new ArrayList<>();
+        List<Integer> changedPositions = new ArrayList<>();
+        List<Integer> retainedFrom = new ArrayList<>();
+        List<Integer> retainedTo = new ArrayList<>();
+        for (int position = 0; position < current.size(); position++) {
+            T item = current.get(position);
+            Integer previousPosition = previousPositions.get(item.getPrimaryKeyString());
+            if (previousPosition == null) {
+                insertedPositions.add(position);
+                continue;
+            }
+            retainedFrom.add(previousPosition);
+            retainedTo.add(position);
+            if (!ObjectsCompat.equals(previous.get(previousPosition), item)) {
+                changedPositions.add(position);
+            }
+        }
+
+        boolean[] inOrder = longestIncreasingSubsequence(retainedFrom);
+        List<DataStoreQuerySnapshot.Move> moves = new ArrayList<>();
+        for (int index = 0; index < retainedFrom.size(); index++) {
+            if (!inOrder[index]) {
+                moves.add(new DataStoreQuerySnapshot.Move(retainedFrom.get(index), retainedTo.get(index)));
+            }
+        }
+        return new DataStoreQuerySnapshot.Diff(removedPositions, insertedPositions, moves, changedPositions);
+    }
+
+    private static <T extends Model> Map<String, Integer> positionsByPrimaryKey(List<T> items) {
+        Map<String, Integer> positions = new HashMap<>(items.size() * 2);
+        for (int position = 0; position < items.size(); position++) {
+            positions.put(items.get(position).getPrimaryKeyString(), position);
+        }
+        return positions;
+    }
+
+    /**
+     * Finds a longest strictly increasing subsequence of the values, in O(n log n).
+     * @param values Distinct values
+     * @return For each index of values, whether that value is part of the subsequence
+     */
+    private static boolean[] longestIncreasingSubsequence(List<Integer> values) {
+        int size = values.size();
+        // tails[length - 1] is the index of the smallest value that ends an increasing run of that length.
+        int[] tails = new int[size];
+        int[] predecessors = new int[size];
+        int length = 0;
+        for (int index = 0; index < size; index++) {
+            int value = values.get(index);
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values.get(tails[middle]) < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            predecessors[index] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = index;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] members = new boolean[size];
+        for (int index = length > 0 ? tails[length - 1] : -1; index >= 0; index = predecessors[index]) {
+            members[index] = true;
+        }
+        return members;
+    }
+}
@@ -31,17 +31,23 @@ import java.util.List;
 import java.util.Objects;
 
 /**
- * Responsible for compiling, binding values to, and executing SQLiteStatements.   Currently, each statement is run in
- * its own transaction.  In the future, we can extend this class to support batching  multiple commands in the same
- * transaction to improve performance.
+ * Responsible for compiling, binding values to, and executing SQLiteStatements.  Unless the caller has already begun a
+ * transaction on the database, each statement is run in its own transaction.  Batches of writes, such as those made by
+ * {@link SQLiteStorageAdapter#saveAll}, wrap several commands in a single transaction to improve performance.
  */
 final class SQLCommandProcessor {
     private static final Logger LOG = Amplify.Logging.logger(CategoryType.DATASTORE, "amplify:aws-datastore");
 
     private final SQLiteDatabase sqliteDatabase;
+    private final SQLiteStatementCache statementCache;
 
     SQLCommandProcessor(@NonNull SQLiteDatabase sqliteDatabase) {
+        this(sqliteDatabase, new SQLiteStatementCache(sqliteDatabase, SQLiteStatementCache.DEFAULT_MAX_SIZE));
+    }
+
+    SQLCommandProcessor(@NonNull SQLiteDatabase sqliteDatabase, @NonNull SQLiteStatementCache statementCache) {
         this.sqliteDatabase = sqliteDatabase;
+        this.statementCache = Objects.requireNonNull(statementCache);
     }
 
     Cursor rawQuery(SqlCommand command) throws DataStoreException {
@@ -57,7 +63,7 @@ final class SQLCommandProcessor {
     }
 
     boolean executeExists(SqlCommand command) throws DataStoreException {
-        SQLiteStatement sqliteStatement = sqliteDatabase.compileStatement(command.sqlStatement());
+        SQLiteStatement sqliteStatement = statementCache.acquire(command.sqlStatement());
         try {
             long startTime = System.currentTimeMillis();
             bindValuesToStatement(sqliteStatement, command.getBindings());
@@ -67,11 +73,13 @@ final class SQLCommandProcessor {
             return result;
         } catch (SQLException sqlException) {
             throw dataStoreException(sqlException, command.sqlStatement());
+        } finally {
+            statementCache.release(command.sqlStatement(), sqliteStatement);
         }
     }
 
     void execute(SqlCommand command) throws DataStoreException {
-        SQLiteStatement sqliteStatement = sqliteDatabase.compileStatement(command.sqlStatement());
+        SQLiteStatement sqliteStatement = statementCache.acquire(command.sqlStatement());
         try {
             long startTime = System.currentTimeMillis();
             bindValuesToStatement(sqliteStatement, command.getBindings());
@@ -80,6 +88,8 @@ final class SQLCommandProcessor {
                     + " ms inTransaction: " + sqliteDatabase.inTransaction() + " SQL: " + command.sqlStatement());
         } catch (SQLException sqlException) {
             throw dataStoreException(sqlException, command.sqlStatement());
+        } finally {
+            statementCache.release(command.sqlStatement(), sqliteStatement);
         }
     }
 
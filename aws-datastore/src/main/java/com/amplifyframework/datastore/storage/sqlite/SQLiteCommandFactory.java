@@ -52,6 +52,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A factory that produces the SQLite commands for a given
@@ -67,6 +69,13 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     private final SchemaRegistry schemaRegistry;
     private final Gson gson;
 
+    // The INSERT and UPDATE statements of a model only depend on its schema, so they are built once
+    // per table. Only their bindings change from one item to the next.
+    private final Map<String, String> insertStatements;
+    private final Map<String, String> updateStatements;
+    private final AtomicLong templateCacheHits;
+    private final AtomicLong templateCacheMisses;
+
     /**
      * Default constructor.
      */
@@ -75,6 +84,26 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
             @NonNull Gson gson) {
         this.schemaRegistry = Objects.requireNonNull(schemaRegistry);
         this.gson = Objects.requireNonNull(gson);
+        this.insertStatements = new ConcurrentHashMap<>();
+        this.updateStatements = new ConcurrentHashMap<>();
+        this.templateCacheHits = new AtomicLong();
+        this.templateCacheMisses = new AtomicLong();
+    }
+
+    /**
+     * Gets the number of INSERT and UPDATE commands that reused a previously built statement.
+     * @return Number of statement template cache hits
+     */
+    long getTemplateCacheHitCount() {
+        return templateCacheHits.get();
+    }
+
+    /**
+     * Gets the number of INSERT and UPDATE commands for which a statement had to be built.
+     * @return Number of statement template cache misses
+     */
+    long getTemplateCacheMissCount() {
+        return templateCacheMisses.get();
     }
 
     @NonNull
@@ -351,6 +380,22 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     public <T extends Model> SqlCommand insertFor(@NonNull ModelSchema modelSchema,
                                                   @NonNull T item) throws DataStoreException {
         final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        String preparedInsertStatement = insertStatements.get(table.getName());
+        if (preparedInsertStatement != null) {
+            templateCacheHits.incrementAndGet();
+        } else {
+            templateCacheMisses.incrementAndGet();
+            preparedInsertStatement = buildInsertStatement(table);
+            insertStatements.put(table.getName(), preparedInsertStatement);
+        }
+
+        return new SqlCommand(table.getName(),
+                preparedInsertStatement,
+                extractFieldValues(item) // VALUES clause
+        );
+    }
+
+    private String buildInsertStatement(SQLiteTable table) {
         final StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("INSERT INTO")
                 .append(SqlKeyword.DELIMITER)
@@ -379,12 +424,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
             }
         }
         stringBuilder.append(")");
-        final String preparedInsertStatement = stringBuilder.toString();
-
-        return new SqlCommand(table.getName(),
-                preparedInsertStatement,
-                extractFieldValues(item) // VALUES clause
-        );
+        return stringBuilder.toString();
     }
 
     @NonNull
@@ -392,6 +432,23 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     public <T extends Model> SqlCommand updateFor(@NonNull ModelSchema modelSchema,
                                                   @NonNull T model) throws DataStoreException {
         final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        String preparedUpdateStatement = updateStatements.get(table.getName());
+        if (preparedUpdateStatement != null) {
+            templateCacheHits.incrementAndGet();
+        } else {
+            templateCacheMisses.incrementAndGet();
+            preparedUpdateStatement = buildUpdateStatement(table);
+            updateStatements.put(table.getName(), preparedUpdateStatement);
+        }
+
+        List<Object> bindings = extractFieldValues(model); // SET clause
+        bindings.add(model.getPrimaryKeyString()); // WHERE clause
+        return new SqlCommand(table.getName(),
+                preparedUpdateStatement,
+                bindings);
+    }
+
+    private String buildUpdateStatement(SQLiteTable table) throws DataStoreException {
         final StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("UPDATE")
                 .append(SqlKeyword.DELIMITER)
@@ -417,23 +474,17 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
             }
         }
 
-        // Append WHERE statement
-        final SQLiteTable sqliteTable = SQLiteTable.fromSchema(modelSchema);
-        final String primaryKeyName = sqliteTable.getPrimaryKeyColumnName();
-        final QueryPredicate matchId = QueryField.field(primaryKeyName).eq(model.getPrimaryKeyString());
+        // Append WHERE statement. The primary key value is bound for each item, so any
+        // non-null placeholder value yields the same SQL.
+        final String primaryKeyName = table.getPrimaryKeyColumnName();
+        final QueryPredicate matchId = QueryField.field(primaryKeyName).eq("");
         SQLPredicate sqlPredicate = new SQLPredicate(matchId);
         stringBuilder.append(SqlKeyword.DELIMITER)
                 .append(SqlKeyword.WHERE)
                 .append(SqlKeyword.DELIMITER)
                 .append(sqlPredicate)
                 .append(";");
-
-        final String preparedUpdateStatement = stringBuilder.toString();
-        List<Object> bindings = extractFieldValues(model); // SET clause
-        bindings.addAll(sqlPredicate.getBindings()); // WHERE clause
-        return new SqlCommand(table.getName(),
-                preparedUpdateStatement,
-                bindings);
+        return stringBuilder.toString();
     }
 
     @NonNull
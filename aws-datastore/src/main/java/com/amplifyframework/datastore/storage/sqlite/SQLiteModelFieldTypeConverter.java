@@ -234,43 +234,10 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
                 return null;
             }
 
-            final String valueAsString = cursor.getString(columnIndex);
-            LOGGER.verbose(String.format(
-                    "Attempt to convert value \"%s\" from field %s of type %s in model %s",
-                    valueAsString, field.getName(), field.getTargetType(), parentSchema.getName()
-            ));
-
-            switch (javaFieldType) {
-                case STRING:
-                    return cursor.getString(columnIndex);
-                case MODEL:
-                    return convertModelAssociationToTarget(cursor, field);
-                case ENUM:
-                    return convertEnumValueToTarget(valueAsString, field);
-                case CUSTOM_TYPE:
-                    return convertCustomTypeToTarget(cursor, field, columnIndex);
-                case INTEGER:
-                    return cursor.getInt(columnIndex);
-                case BOOLEAN:
-                    return cursor.getInt(columnIndex) != 0;
-                case FLOAT:
-                    return cursor.getFloat(columnIndex);
-                case DOUBLE:
-                    return cursor.getDouble(columnIndex);
-                case LONG:
-                    return cursor.getLong(columnIndex);
-                case DATE:
-                    return new Temporal.Date(valueAsString);
-                case DATE_TIME:
-                    return new Temporal.DateTime(valueAsString);
-                case TIME:
-                    return new Temporal.Time(valueAsString);
-                case TIMESTAMP:
-                    return new Temporal.Timestamp(cursor.getLong(columnIndex), TimeUnit.SECONDS);
-                default:
-                    LOGGER.warn(String.format("Field of type %s is not supported. Fallback to null.", javaFieldType));
-                    return null;
+            if (javaFieldType == JavaFieldType.MODEL) {
+                return convertModelAssociationToTarget(cursor, field);
             }
+            return readColumnValue(cursor, columnIndex, field, javaFieldType, gson);
         } catch (Exception exception) {
             throw new DataStoreException(
                     String.format("Error converting field \"%s\" from model \"%s\"",
@@ -281,6 +248,58 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
         }
     }
 
+    /**
+     * Reads the non-null value of a column that holds a field of any type other than
+     * {@link JavaFieldType#MODEL}, which spans the columns of the associated model instead.
+     *
+     * @param cursor a cursor positioned at the row to read
+     * @param columnIndex index of the column that holds the field
+     * @param field the field held by the column
+     * @param javaFieldType the Java type of the field
+     * @param gson {@code Gson} instance used to read custom types
+     * @return the value of the field
+     * @throws IOException if a custom type can not be read
+     */
+    static Object readColumnValue(
+            @NonNull Cursor cursor,
+            int columnIndex,
+            @NonNull ModelField field,
+            @NonNull JavaFieldType javaFieldType,
+            @NonNull Gson gson
+    ) throws IOException {
+        // Values are read with the typed Cursor getters; a String copy is only made for the types parsed from it.
+        switch (javaFieldType) {
+            case STRING:
+                return cursor.getString(columnIndex);
+            case ENUM:
+                return convertEnumValueToTarget(cursor.getString(columnIndex), field);
+            case CUSTOM_TYPE:
+                return gson.getAdapter(Objects.requireNonNull(field.getJavaClassForValue()))
+                    .fromJson(cursor.getString(columnIndex));
+            case INTEGER:
+                return cursor.getInt(columnIndex);
+            case BOOLEAN:
+                return cursor.getInt(columnIndex) != 0;
+            case FLOAT:
+                return cursor.getFloat(columnIndex);
+            case DOUBLE:
+                return cursor.getDouble(columnIndex);
+            case LONG:
+                return cursor.getLong(columnIndex);
+            case DATE:
+                return new Temporal.Date(cursor.getString(columnIndex));
+            case DATE_TIME:
+                return new Temporal.DateTime(cursor.getString(columnIndex));
+            case TIME:
+                return new Temporal.Time(cursor.getString(columnIndex));
+            case TIMESTAMP:
+                return new Temporal.Timestamp(cursor.getLong(columnIndex), TimeUnit.SECONDS);
+            default:
+                LOGGER.warn(String.format("Field of type %s is not supported. Fallback to null.", javaFieldType));
+                return null;
+        }
+    }
+
     private Object convertModelAssociationToTarget(
             @NonNull Cursor cursor, @NonNull ModelField field) throws DataStoreException {
         // Eager load model if the necessary columns are present inside the cursor.
@@ -293,14 +312,8 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
         return nestedModelConverter.buildMapForModel(cursor);
     }
 
-    private Object convertCustomTypeToTarget(Cursor cursor, ModelField field, int columnIndex) throws IOException {
-        final String stringValue = cursor.getString(columnIndex);
-        return gson.getAdapter(Objects.requireNonNull(field.getJavaClassForValue()))
-            .fromJson(stringValue);
-    }
-
     @SuppressWarnings("unchecked")
-    private <E extends Enum<E>> E convertEnumValueToTarget(
+    private static <E extends Enum<E>> E convertEnumValueToTarget(
             @NonNull final String value, @NonNull ModelField field) {
         Class<E> enumClazz = (Class<E>)
             Objects.requireNonNull(field.getJavaClassForValue())
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.database.Cursor;
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelField;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.SchemaRegistry;
+import com.amplifyframework.core.model.types.JavaFieldType;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteColumn;
+import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteTable;
+import com.amplifyframework.util.FieldFinder;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds the rows of a {@link Cursor} onto instances of a {@link Model} class.
+ *
+ * The binder is compiled once per {@link ModelSchema}: the Java fields backing each {@link ModelField}
+ * are resolved up front, so that each row only costs the column reads and one reflective assignment per
+ * field. This replaces the previous approach of serializing each row to a JSON string and parsing it back
+ * into the model class with Gson.
+ *
+ * The columns of a cursor are resolved once, by {@link #newRowReader(Cursor)}, and each row is then read
+ * straight from the cursor into the model, without an intermediate map of field values.
+ *
+ * @param <T> Type of model produced by this binder
+ */
+final class SQLiteModelRowBinder<T extends Model> {
+    private final ModelSchema modelSchema;
+    private final SchemaRegistry schemaRegistry;
+    private final Gson gson;
+    // Used only to allocate empty instances, exactly as Gson would when deserializing the model.
+    private final TypeAdapter<T> instanceAdapter;
+    private final List<FieldBinding> fieldBindings;
+    // Binders for associated models, created lazily since associations may be cyclic.
+    private final Map<String, SQLiteModelRowBinder<? extends Model>> associatedBinders;
+
+    private SQLiteModelRowBinder(
+            @NonNull Class<T> modelClass,
+            @NonNull ModelSchema modelSchema,
+            @NonNull SchemaRegistry schemaRegistry,
+            @NonNull Gson gson) {
+        this.modelSchema = Objects.requireNonNull(modelSchema);
+        this.schemaRegistry = Objects.requireNonNull(schemaRegistry);
+        this.gson = Objects.requireNonNull(gson);
+        this.instanceAdapter = gson.getAdapter(Objects.requireNonNull(modelClass));
+        this.fieldBindings = new ArrayList<>();
+        this.associatedBinders = new ConcurrentHashMap<>();
+
+        final Map<String, Field> javaFields = new HashMap<>();
+        for (Field javaField : FieldFinder.findModelFieldsIn(modelClass)) {
+            javaField.setAccessible(true);
+            javaFields.put(javaField.getName(), javaField);
+        }
+        final Map<String, SQLiteColumn> columns = SQLiteTable.fromSchema(modelSchema).getColumns();
+        for (ModelField modelField : modelSchema.getFields().values()) {
+            final Field javaField = javaFields.get(modelField.getName());
+            if (javaField != null) {
+                fieldBindings.add(new FieldBinding(modelField, javaField, columns.get(modelField.getName())));
+            }
+        }
+    }
+
+    /**
+     * Compiles a binder for the given model class.
+     * @param modelClass Class of the model to bind rows onto
+     * @param modelSchema Schema of the model class
+     * @param schemaRegistry Registry used to resolve the schemas of associated models
+     * @param gson Gson instance used to allocate models and adapt custom type values
+     * @param <T> Type of model
+     * @return A binder for the model class
+     */
+    @NonNull
+    static <T extends Model> SQLiteModelRowBinder<T> compile(
+            @NonNull Class<T> modelClass,
+            @NonNull ModelSchema modelSchema,
+            @NonNull SchemaRegistry schemaRegistry,
+            @NonNull Gson gson) {
+        return new SQLiteModelRowBinder<>(modelClass, modelSchema, schemaRegistry, gson);
+    }
+
+    /**
+     * Resolves the columns of a cursor that was selected for this binder's model.
+     * @param cursor A cursor over rows of this binder's model, joined with the rows of its associated models
+     * @return A reader of the model at the cursor's current position, reused across the rows of the cursor
+     * @throws DataStoreException If a column of the model is missing from the cursor
+     */
+    @NonNull
+    RowReader newRowReader(@NonNull Cursor cursor) throws DataStoreException {
+        final Map<String, Integer> innerModelCounts = new HashMap<>();
+        innerModelCounts.put(modelSchema.getName(), 1);
+        return newRowReader(Objects.requireNonNull(cursor), innerModelCounts, false);
+    }
+
+    // Mirrors the aliases given to joined tables by SQLiteCommandFactory: the n-th occurrence of a model's
+    // table in the cursor has its column names suffixed with n, from the second occurrence onwards.
+    private RowReader newRowReader(Cursor cursor, Map<String, Integer> innerModelCounts, boolean isInnerModel)
+            throws DataStoreException {
+        final int[] columnIndexes = new int[fieldBindings.size()];
+        final List<SQLiteModelRowBinder<? extends Model>.RowReader> associatedReaders =
+            new ArrayList<>(fieldBindings.size());
+        for (int index = 0; index < fieldBindings.size(); index++) {
+            final FieldBinding binding = fieldBindings.get(index);
+            columnIndexes[index] = -1;
+            associatedReaders.add(null);
+            if (binding.column == null) {
+                continue;
+            }
+            String columnName = binding.column.getAliasedName();
+            if (binding.javaFieldType == JavaFieldType.MODEL) {
+                final Integer count = innerModelCounts.get(binding.modelField.getTargetType());
+                innerModelCounts.put(binding.modelField.getTargetType(), count == null ? 1 : count + 1);
+            }
+            final Integer modelCount = innerModelCounts.get(modelSchema.getName());
+            if (isInnerModel && modelCount != null && modelCount != 1) {
+                columnName += modelCount;
+            }
+            try {
+                columnIndexes[index] = cursor.getColumnIndexOrThrow(columnName);
+            } catch (IllegalArgumentException exception) {
+                throw new DataStoreException(
+                    String.format("Error converting field \"%s\" from model \"%s\"",
+                        binding.modelField.getName(), modelSchema.getName()),
+                    exception,
+                    AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+                );
+            }
+            if (binding.isAssociation) {
+                associatedReaders.set(index, associatedBinder(binding.javaField, binding.modelField)
+                    .newRowReader(cursor, innerModelCounts, true));
+            }
+        }
+        return new RowReader(cursor, columnIndexes, associatedReaders);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SQLiteModelRowBinder<? extends Model> associatedBinder(Field javaField, ModelField modelField) {
+        return associatedBinders.computeIfAbsent(modelField.getName(), name -> compile(
+            (Class<? extends Model>) javaField.getType(),
+            schemaRegistry.getModelSchemaForModelClass(modelField.getTargetType()),
+            schemaRegistry,
+            gson
+        ));
+    }
+
+    /**
+     * Reads models from the rows of a single cursor, using the column indexes resolved for that cursor.
+     */
+    final class RowReader {
+        private final Cursor cursor;
+        // Parallel to fieldBindings. An index of -1 means that the field has no column.
+        private final int[] columnIndexes;
+        // Parallel to fieldBindings. Non-null only for associations.
+        private final List<SQLiteModelRowBinder<? extends Model>.RowReader> associatedReaders;
+
+        private RowReader(
+                Cursor cursor,
+                int[] columnIndexes,
+                List<SQLiteModelRowBinder<? extends Model>.RowReader> associatedReaders) {
+            this.cursor = cursor;
+            this.columnIndexes = columnIndexes;
+            this.associatedReaders = associatedReaders;
+        }
+
+        /**
+         * Reads the model at the cursor's current position.
+         * @return A model instance holding the values of the current row
+         * @throws DataStoreException If a column can not be read or assigned to the model
+         */
+        @NonNull
+        T read() throws DataStoreException {
+            final T model;
+            try {
+                model = instanceAdapter.fromJsonTree(new JsonObject());
+            } catch (RuntimeException exception) {
+                throw new DataStoreException(
+                    "Unable to instantiate model " + modelSchema.getName(),
+                    exception,
+                    AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+                );
+            }
+            for (int index = 0; index < fieldBindings.size(); index++) {
+                final FieldBinding binding = fieldBindings.get(index);
+                final int columnIndex = columnIndexes[index];
+                // This check is necessary, because primitive values will return 0 even when null
+                if (columnIndex < 0 || cursor.isNull(columnIndex)) {
+                    binding.assign(model, null);
+                } else if (binding.isAssociation) {
+                    binding.assign(model, associatedReaders.get(index).read());
+                } else {
+                    binding.assign(model, binding.read(cursor, columnIndex));
+                }
+            }
+            return model;
+        }
+    }
+
+    /**
+     * Reads the value of a single {@link ModelField} from its column, and assigns it to its backing Java field.
+     */
+    private final class FieldBinding {
+        private final ModelField modelField;
+        private final Field javaField;
+        // Null if the field has no column, in which case it is always bound to null.
+        private final SQLiteColumn column;
+        private final JavaFieldType javaFieldType;
+        private final boolean isAssociation;
+        // Non-null only for custom types with generic parameters (e.g. List<Integer>), which the
+        // converter can only read using the raw class of the field.
+        private final TypeAdapter<?> parameterizedAdapter;
+
+        FieldBinding(ModelField modelField, Field javaField, SQLiteColumn column) {
+            this.modelField = modelField;
+            this.javaField = javaField;
+            this.column = column;
+            this.javaFieldType = TypeConverter.getJavaFieldType(modelField);
+            this.isAssociation = javaFieldType == JavaFieldType.MODEL
+                && Model.class.isAssignableFrom(javaField.getType());
+            this.parameterizedAdapter =
+                javaFieldType == JavaFieldType.CUSTOM_TYPE && javaField.getGenericType() instanceof ParameterizedType
+                    ? gson.getAdapter(TypeToken.get(javaField.getGenericType()))
+                    : null;
+        }
+
+        Object read(Cursor cursor, int columnIndex) throws DataStoreException {
+            try {
+                if (javaFieldType == JavaFieldType.MODEL) {
+                    // Not backed by a model class, so hold the key of the associated model, as it is stored.
+                    return cursor.getString(columnIndex);
+                } else if (parameterizedAdapter != null) {
+                    return parameterizedAdapter.fromJson(cursor.getString(columnIndex));
+                }
+                return SQLiteModelFieldTypeConverter.readColumnValue(
+                    cursor, columnIndex, modelField, javaFieldType, gson);
+            } catch (IOException | RuntimeException exception) {
+                throw new DataStoreException(
+                    String.format("Error converting field \"%s\" from model \"%s\"",
+                        modelField.getName(), modelSchema.getName()),
+                    exception,
+                    AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+                );
+            }
+        }
+
+        void assign(T model, Object value) throws DataStoreException {
+            try {
+                javaField.set(model, value);
+            } catch (IllegalAccessException | IllegalArgumentException exception) {
+                throw new DataStoreException(
+                    String.format("Error binding field \"%s\" of model \"%s\"",
+                        modelField.getName(), modelSchema.getName()),
+                    exception,
+                    AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+
+import java.util.Objects;
+
+/**
+ * A bounded, least-recently-used cache of compiled {@link SQLiteStatement}s, keyed by their SQL text.
+ *
+ * A {@link SQLiteStatement} can not be bound and executed by two threads at once, so statements are
+ * checked out of the cache with {@link #acquire(String)} for the exclusive use of the caller, and
+ * returned with {@link #release(String, SQLiteStatement)} once executed. Statements are closed when
+ * they are evicted, when a duplicate is returned to the cache, or when the cache is {@link #close()}d. A
+ * statement released after the cache is closed is closed instead of being cached.
+ */
+final class SQLiteStatementCache {
+    /**
+     * Default number of compiled statements to retain. There are a handful of distinct
+     * INSERT, UPDATE, EXISTS and DELETE statements per model.
+     */
+    static final int DEFAULT_MAX_SIZE = 100;
+
+    private final SQLiteDatabase sqliteDatabase;
+    private final LruCache<String, SQLiteStatement> statements;
+    private boolean closed;
+
+    SQLiteStatementCache(@NonNull SQLiteDatabase sqliteDatabase, int maxSize) {
+        this.sqliteDatabase = Objects.requireNonNull(sqliteDatabase);
+        this.statements = new LruCache<String, SQLiteStatement>(maxSize) {
+            @Override
+            protected void entryRemoved(
+                    boolean evicted, String sql, SQLiteStatement oldStatement, SQLiteStatement newStatement) {
+                // A statement that is removed without a replacement has been checked out, and is still in use.
+                if (evicted || newStatement != null) {
+                    oldStatement.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * Checks out a compiled statement for the given SQL, compiling it if none is cached.
+     * @param sql SQL text of the statement
+     * @return A compiled statement, for the exclusive use of the caller until it is released
+     */
+    @NonNull
+    SQLiteStatement acquire(@NonNull String sql) {
+        if (statements.get(sql) != null) {
+            final SQLiteStatement statement = statements.remove(sql);
+            // Another thread may have checked out the same statement in the meantime.
+            if (statement != null) {
+                return statement;
+            }
+        }
+        return sqliteDatabase.compileStatement(sql);
+    }
+
+    /**
+     * Returns a statement obtained from {@link #acquire(String)} to the cache, so that it can be reused.
+     * @param sql SQL text of the statement
+     * @param statement The statement to return
+     */
+    synchronized void release(@NonNull String sql, @NonNull SQLiteStatement statement) {
+        if (closed) {
+            statement.close();
+            return;
+        }
+        statement.clearBindings();
+        statements.put(sql, statement);
+    }
+
+    /**
+     * Gets the number of times a compiled statement was found in the cache.
+     * @return Number of cache hits
+     */
+    int hitCount() {
+        return statements.hitCount();
+    }
+
+    /**
+     * Gets the number of times a statement had to be compiled, since it wasn't in the cache.
+     * @return Number of cache misses
+     */
+    int missCount() {
+        return statements.missCount();
+    }
+
+    /**
+     * Closes and removes every statement held by the cache.
+     */
+    synchronized void close() {
+        closed = true;
+        statements.evictAll();
+    }
+}
@@ -65,6 +65,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -110,6 +111,9 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
     // ThreadPool for SQLite operations.
     private ExecutorService threadPool;
 
+    // Timer shared by all observe queries, to flush their batches of changes.
+    private ObserveQueryBatchScheduler observeQueryBatchScheduler;
+
     // Data is read from SQLite and de-serialized using GSON
     // into a strongly typed Java object.
     private final Gson gson;
@@ -129,6 +133,9 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
     // Responsible for executing all commands on the SQLiteDatabase.
     private SQLCommandProcessor sqlCommandProcessor;
 
+    // Compiled statements, reused by the command processor across executions of the same SQL.
+    private SQLiteStatementCache statementCache;
+
     // Factory that produces SQL commands.
     private SQLCommandFactory sqlCommandFactory;
 
@@ -226,6 +233,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         // OutOfMemoryError and CursorWindowAllocationException issues.
         this.threadPool = Executors.newFixedThreadPool(
                 Runtime.getRuntime().availableProcessors() * THREAD_POOL_SIZE_MULTIPLIER);
+        this.observeQueryBatchScheduler = new ObserveQueryBatchScheduler();
         this.context = context;
         this.dataStoreConfiguration = dataStoreConfiguration;
         threadPool.submit(() -> {
@@ -281,7 +289,11 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                 /*
                  * Create a command processor which runs the actual SQL transactions.
                  */
-                this.sqlCommandProcessor = new SQLCommandProcessor(databaseConnectionHandle);
+                this.statementCache = new SQLiteStatementCache(
+                    databaseConnectionHandle,
+                    SQLiteStatementCache.DEFAULT_MAX_SIZE
+                );
+                this.sqlCommandProcessor = new SQLCommandProcessor(databaseConnectionHandle, statementCache);
 
                 sqlQueryProcessor = new SqlQueryProcessor(sqlCommandProcessor,
                         sqlCommandFactory,
@@ -389,6 +401,49 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Model> void saveAll(
+            @NonNull List<T> items,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError) {
+        Objects.requireNonNull(items);
+        Objects.requireNonNull(initiator);
+        Objects.requireNonNull(onSuccess);
+        Objects.requireNonNull(onError);
+        threadPool.submit(() -> {
+            try {
+                final List<StorageItemChange<T>> changes;
+
+                // Write every item in one transaction, so that the batch costs a single commit.
+                databaseConnectionHandle.beginTransaction();
+                try {
+                    changes = saveAllInTransaction(items, initiator);
+                    databaseConnectionHandle.setTransactionSuccessful();
+                } finally {
+                    databaseConnectionHandle.endTransaction();
+                }
+
+                // publish successful saves, only once the whole batch is committed
+                for (StorageItemChange<T> change : changes) {
+                    itemChangeSubject.onNext(change);
+                }
+                onSuccess.accept(changes);
+            } catch (DataStoreException dataStoreException) {
+                onError.accept(dataStoreException);
+            } catch (Exception someOtherTypeOfException) {
+                DataStoreException dataStoreException = new DataStoreException(
+                    "Error in saving a batch of " + items.size() + " models.",
+                    someOtherTypeOfException, "See attached exception for details."
+                );
+                onError.accept(dataStoreException);
+            }
+        });
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -542,6 +597,178 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Model> void deleteAll(
+            @NonNull List<T> items,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError) {
+        Objects.requireNonNull(items);
+        Objects.requireNonNull(initiator);
+        Objects.requireNonNull(onSuccess);
+        Objects.requireNonNull(onError);
+        threadPool.submit(() -> {
+            try {
+                final List<StorageItemChange<T>> changes;
+                final List<StorageItemChange<? extends Model>> deletions = new ArrayList<>();
+
+                // Delete every item in one transaction, so that the batch costs a single commit.
+                databaseConnectionHandle.beginTransaction();
+                try {
+                    changes = deleteAllInTransaction(items, initiator, deletions);
+                    databaseConnectionHandle.setTransactionSuccessful();
+                } finally {
+                    databaseConnectionHandle.endTransaction();
+                }
+
+                // publish cascaded deletions, then the successful deletion of top-level items
+                for (StorageItemChange<? extends Model> deletion : deletions) {
+                    itemChangeSubject.onNext(deletion);
+                }
+                onSuccess.accept(changes);
+            } catch (DataStoreException dataStoreException) {
+                onError.accept(dataStoreException);
+            } catch (Exception someOtherTypeOfException) {
+                DataStoreException dataStoreException = new DataStoreException(
+                    "Error in deleting a batch of " + items.size() + " models.",
+                    someOtherTypeOfException, "See attached exception for details."
+                );
+                onError.accept(dataStoreException);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteAllAndSaveAll(
+            @NonNull List<? extends Model> deletions,
+            @NonNull List<? extends Model> saves,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull Consumer<List<StorageItemChange<? extends Model>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError) {
+        Objects.requireNonNull(deletions);
+        Objects.requireNonNull(saves);
+        Objects.requireNonNull(initiator);
+        Objects.requireNonNull(onSuccess);
+        Objects.requireNonNull(onError);
+        threadPool.submit(() -> {
+            try {
+                final List<StorageItemChange<? extends Model>> changesToPublish = new ArrayList<>();
+                final List<StorageItemChange<? extends Model>> saveChanges;
+
+                // Delete and save every item in one transaction, so that the unit of work costs a single commit.
+                databaseConnectionHandle.beginTransaction();
+                try {
+                    deleteAllInTransaction(deletions, initiator, changesToPublish);
+                    saveChanges = new ArrayList<>(saveAllInTransaction(saves, initiator));
+                    databaseConnectionHandle.setTransactionSuccessful();
+                } finally {
+                    databaseConnectionHandle.endTransaction();
+                }
+
+                // publish the deletions and the successful saves, only once everything is committed
+                changesToPublish.addAll(saveChanges);
+                for (StorageItemChange<? extends Model> change : changesToPublish) {
+                    itemChangeSubject.onNext(change);
+                }
+                onSuccess.accept(saveChanges);
+            } catch (DataStoreException dataStoreException) {
+                onError.accept(dataStoreException);
+            } catch (Exception someOtherTypeOfException) {
+                DataStoreException dataStoreException = new DataStoreException(
+                    "Error in deleting a batch of " + deletions.size() + " models and saving a batch of " +
+                        saves.size() + " models.",
+                    someOtherTypeOfException, "See attached exception for details."
+                );
+                onError.accept(dataStoreException);
+            }
+        });
+    }
+
+    // Creates or updates the items, within the caller's transaction. Returns one change per item.
+    private <T extends Model> List<StorageItemChange<T>> saveAllInTransaction(
+            List<T> items, StorageItemChange.Initiator initiator) throws DataStoreException {
+        final List<StorageItemChange<T>> changes = new ArrayList<>(items.size());
+        for (T item : items) {
+            final ModelSchema modelSchema = schemaRegistry.getModelSchemaForModelClass(item.getModelName());
+            final StorageItemChange.Type writeType = sqlQueryProcessor.modelExists(item, QueryPredicates.all())
+                ? StorageItemChange.Type.UPDATE
+                : StorageItemChange.Type.CREATE;
+            writeData(item, writeType);
+            changes.add(StorageItemChange.<T>builder()
+                .item(item)
+                .patchItem(SerializedModel.create(item, modelSchema))
+                .modelSchema(modelSchema)
+                .type(writeType)
+                .predicate(QueryPredicates.all())
+                .initiator(initiator)
+                .build());
+        }
+        return changes;
+    }
+
+    // Deletes the items, within the caller's transaction. Returns one change per item. The changes to
+    // publish, which are those of the cascaded deletions followed by those of the items that existed,
+    // are added to changesToPublish.
+    private <T extends Model> List<StorageItemChange<T>> deleteAllInTransaction(
+            List<T> items,
+            StorageItemChange.Initiator initiator,
+            List<StorageItemChange<? extends Model>> changesToPublish) throws DataStoreException {
+        final List<StorageItemChange<T>> changes = new ArrayList<>(items.size());
+        final List<StorageItemChange<T>> deletions = new ArrayList<>(items.size());
+        final List<T> existingItems = new ArrayList<>(items.size());
+        final Map<String, List<T>> existingItemsByModel = new LinkedHashMap<>();
+        for (T item : items) {
+            final ModelSchema modelSchema = schemaRegistry.getModelSchemaForModelClass(item.getModelName());
+            final StorageItemChange<T> change = StorageItemChange.<T>builder()
+                .item(item)
+                .patchItem(SerializedModel.create(item, modelSchema))
+                .modelSchema(modelSchema)
+                .type(StorageItemChange.Type.DELETE)
+                .predicate(QueryPredicates.all())
+                .initiator(initiator)
+                .build();
+            changes.add(change);
+            // "Succeed" deletion of items that don't exist, but don't publish them.
+            if (sqlQueryProcessor.modelExists(item, QueryPredicates.all())) {
+                existingItems.add(item);
+                deletions.add(change);
+                List<T> sameModelItems = existingItemsByModel.get(item.getModelName());
+                if (sameModelItems == null) {
+                    sameModelItems = new ArrayList<>();
+                    existingItemsByModel.put(item.getModelName(), sameModelItems);
+                }
+                sameModelItems.add(item);
+            }
+        }
+
+        // identify items affected by cascading delete before deleting them
+        for (List<T> sameModelItems : existingItemsByModel.values()) {
+            for (Model cascadedModel : sqliteModelTree.descendantsOf(sameModelItems)) {
+                ModelSchema schema = schemaRegistry.getModelSchemaForModelClass(cascadedModel.getModelName());
+                changesToPublish.add(StorageItemChange.builder()
+                    .item(cascadedModel)
+                    .patchItem(SerializedModel.create(cascadedModel, schema))
+                    .modelSchema(schema)
+                    .type(StorageItemChange.Type.DELETE)
+                    .predicate(QueryPredicates.all())
+                    .initiator(initiator)
+                    .build());
+            }
+        }
+
+        for (T item : existingItems) {
+            writeData(item, StorageItemChange.Type.DELETE);
+        }
+        changesToPublish.addAll(deletions);
+        return changes;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -666,7 +893,8 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                 threadPool,
                 syncStatus,
                 new ModelSorter<T>(),
-                dataStoreConfiguration)
+                dataStoreConfiguration,
+                observeQueryBatchScheduler)
                 .observeQuery(itemClass,
                         options,
                         onObservationStarted,
@@ -690,6 +918,12 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
             if (threadPool != null) {
                 threadPool.shutdown();
             }
+            if (observeQueryBatchScheduler != null) {
+                observeQueryBatchScheduler.shutdown();
+            }
+            if (statementCache != null) {
+                statementCache.close();
+            }
             if (databaseConnectionHandle != null) {
                 databaseConnectionHandle.close();
             }
@@ -718,6 +952,8 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         } catch (InterruptedException exception) {
             LOG.warn("Storage adapter thread pool was interrupted during shutdown.", exception);
         }
+        observeQueryBatchScheduler.shutdown();
+        statementCache.close();
         sqliteStorageHelper.close();
         databaseConnectionHandle.close();
         LOG.debug("Clearing DataStore.");
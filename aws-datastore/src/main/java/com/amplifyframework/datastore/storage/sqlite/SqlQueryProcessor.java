@@ -38,6 +38,7 @@ import com.google.gson.Gson;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 class SqlQueryProcessor {
 
@@ -46,6 +47,8 @@ class SqlQueryProcessor {
     private final SQLCommandFactory sqlCommandFactory;
     private final SQLCommandProcessor sqlCommandProcessor;
     private final Gson gson;
+    // Row binders are compiled once per model class, and reused across queries.
+    private final Map<String, SQLiteModelRowBinder<? extends Model>> rowBinders;
 
     SqlQueryProcessor(SQLCommandProcessor sqlCommandProcessor,
                       SQLCommandFactory sqlCommandFactory,
@@ -54,6 +57,7 @@ class SqlQueryProcessor {
         this.sqlCommandFactory = sqlCommandFactory;
         this.modelSchemaRegistry = modelSchemaRegistry;
         this.gson = GsonFactory.instance();
+        this.rowBinders = new ConcurrentHashMap<>();
     }
 
     <T extends Model> List<T> queryOfflineData(@NonNull Class<T> itemClass,
@@ -64,19 +68,16 @@ class SqlQueryProcessor {
 
         try (Cursor cursor = sqlCommandProcessor.rawQuery(sqlCommandFactory.queryFor(modelSchema, options))) {
             LOG.debug("Querying item for: " + itemClass.getSimpleName());
-            final SQLiteModelFieldTypeConverter converter =
-                    new SQLiteModelFieldTypeConverter(modelSchema, modelSchemaRegistry, gson);
-
             if (cursor == null) {
                 onError.accept(new DataStoreException(
                         "Error in getting a cursor to the table for class: " + itemClass.getSimpleName(),
                         AmplifyException.TODO_RECOVERY_SUGGESTION
                 ));
             } else if (cursor.moveToFirst()) {
+                final SQLiteModelRowBinder<T>.RowReader rowReader =
+                        rowBinderFor(itemClass, modelSchema).newRowReader(cursor);
                 do {
-                    Map<String, Object> map = converter.buildMapForModel(cursor);
-                    String jsonString = gson.toJson(map);
-                    models.add(gson.fromJson(jsonString, itemClass));
+                    models.add(rowReader.read());
                 } while (cursor.moveToNext());
             }
         } catch (Exception exception) {
@@ -88,6 +89,12 @@ class SqlQueryProcessor {
         return models;
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends Model> SQLiteModelRowBinder<T> rowBinderFor(Class<T> itemClass, ModelSchema modelSchema) {
+        return (SQLiteModelRowBinder<T>) rowBinders.computeIfAbsent(itemClass.getName(),
+            name -> SQLiteModelRowBinder.compile(itemClass, modelSchema, modelSchemaRegistry, gson));
+    }
+
     boolean modelExists(Model model, QueryPredicate predicate) throws DataStoreException {
         final String modelName = model.getModelName();
         final ModelSchema schema = modelSchemaRegistry.getModelSchemaForModelClass(modelName);
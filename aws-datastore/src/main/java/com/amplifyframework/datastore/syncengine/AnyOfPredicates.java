@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.core.model.query.predicate.QueryField;
+import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Builds predicates that match any one of several values of a field, for looking up a batch of
+ * records with one query instead of one query per record. The SQLite storage adapter renders each
+ * predicate as a chain of equality checks on the same column, which SQLite plans as an IN lookup.
+ */
+final class AnyOfPredicates {
+    /**
+     * Maximum number of values per predicate. Each value is a bound SQL parameter, and older
+     * versions of SQLite accept at most 999 parameters per statement.
+     */
+    static final int MAX_VALUES_PER_PREDICATE = 500;
+
+    private AnyOfPredicates() {}
+
+    /**
+     * Creates the predicates that, together, match every one of the given values.
+     * @param field Field to match
+     * @param values Values to match; may be empty
+     * @return One predicate per chunk of at most {@link #MAX_VALUES_PER_PREDICATE} values
+     */
+    @NonNull
+    static List<QueryPredicate> of(@NonNull QueryField field, @NonNull Collection<String> values) {
+        final List<QueryPredicate> predicates = new ArrayList<>();
+        final Iterator<String> valueIterator = values.iterator();
+        while (valueIterator.hasNext()) {
+            QueryPredicate predicate = field.eq(valueIterator.next());
+            for (int count = 1; count < MAX_VALUES_PER_PREDICATE && valueIterator.hasNext(); count++) {
+                predicate = predicate.or(field.eq(valueIterator.next()));
+            }
+            predicates.add(predicate);
+        }
+        return predicates;
+    }
+}
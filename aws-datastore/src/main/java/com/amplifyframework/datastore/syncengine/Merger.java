@@ -34,10 +34,17 @@ import com.amplifyframework.hub.HubChannel;
 import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.logging.Logger;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
 
 /**
  * The merger is responsible for merging cloud data back into the local store.
@@ -136,6 +143,115 @@ final class Merger {
         });
     }
 
+    /**
+     * Merge a page of items back into the local store, using the same strategy as
+     * {@link #merge(ModelWithMetadata, Consumer)}. Rather than handling one item at a time, the
+     * local versions of the whole page are looked up together, the outbox is checked once for
+     * the whole page, and the models and their metadata are written in a single transaction.
+     * If the page can't be merged as a whole, its items are merged one at a time instead.
+     * @param modelsWithMetadata A page of models, each combined with metadata about it
+     * @param changeTypeConsumer A callback invoked once for each model that is saved or deleted
+     * @param <T> Type of model
+     * @return A completable operation to merge the page of models
+     */
+    <T extends Model> Completable mergeAll(
+            List<ModelWithMetadata<T>> modelsWithMetadata, Consumer<StorageItemChange.Type> changeTypeConsumer) {
+        AtomicReference<Long> startTime = new AtomicReference<>();
+        return Completable.defer(() -> {
+            // If a page contains the same model more than once, only its latest version can be merged.
+            Map<String, ModelWithMetadata<T>> latestById = new LinkedHashMap<>();
+            for (ModelWithMetadata<T> modelWithMetadata : modelsWithMetadata) {
+                String metadataId = VersionRepository.metadataId(modelWithMetadata.getModel());
+                ModelWithMetadata<T> existing = latestById.get(metadataId);
+                if (existing == null || incomingVersion(modelWithMetadata) > incomingVersion(existing)) {
+                    latestById.put(metadataId, modelWithMetadata);
+                }
+            }
+            List<T> models = new ArrayList<>(latestById.size());
+            for (ModelWithMetadata<T> modelWithMetadata : latestById.values()) {
+                models.add(modelWithMetadata.getModel());
+            }
+
+            return versionRepository.findModelVersions(models)
+                .flatMapCompletable(currentVersions -> {
+                    // Same rule as for a single item: only strictly newer versions are merged.
+                    List<ModelWithMetadata<T>> newer = new ArrayList<>();
+                    for (Map.Entry<String, ModelWithMetadata<T>> entry : latestById.entrySet()) {
+                        Integer currentVersion = currentVersions.get(entry.getKey());
+                        if (currentVersion == null || incomingVersion(entry.getValue()) > currentVersion) {
+                            newer.add(entry.getValue());
+                        }
+                    }
+                    return writeAll(newer, changeTypeConsumer);
+                })
+                .onErrorResumeNext(failure -> {
+                    LOG.warn("Failed to merge a page of " + modelsWithMetadata.size() + " remote models "
+                        + "into local storage. Merging them one at a time, instead.", failure);
+                    return Flowable.fromIterable(modelsWithMetadata)
+                        .concatMapCompletable(modelWithMetadata -> merge(modelWithMetadata, changeTypeConsumer));
+                });
+        })
+        .doOnSubscribe(disposable -> startTime.set(System.currentTimeMillis()))
+        .doOnTerminate(() -> {
+            long duration = System.currentTimeMillis() - startTime.get();
+            LOG.verbose("Merged a page of " + modelsWithMetadata.size() + " items in " + duration + " ms.");
+        });
+    }
+
+    // Writes the models and metadata of a page, once it is known that they are all newer than local data.
+    private <T extends Model> Completable writeAll(
+            List<ModelWithMetadata<T>> modelsWithMetadata, Consumer<StorageItemChange.Type> changeTypeConsumer) {
+        if (modelsWithMetadata.isEmpty()) {
+            return Completable.complete();
+        }
+        List<String> modelIds = new ArrayList<>(modelsWithMetadata.size());
+        for (ModelWithMetadata<T> modelWithMetadata : modelsWithMetadata) {
+            modelIds.add(modelWithMetadata.getModel().getPrimaryKeyString());
+        }
+        Set<String> pendingModelIds = mutationOutbox.findPendingMutationModelIds(modelIds);
+
+        List<T> deletions = new ArrayList<>();
+        List<Model> saves = new ArrayList<>();
+        List<ModelMetadata> metadata = new ArrayList<>(modelsWithMetadata.size());
+        for (ModelWithMetadata<T> modelWithMetadata : modelsWithMetadata) {
+            T model = modelWithMetadata.getModel();
+            if (pendingModelIds.contains(model.getPrimaryKeyString())) {
+                LOG.info("Mutation outbox has pending mutation for " + model.resolveIdentifier()
+                    + ". Saving the metadata, but not model itself.");
+            } else if (Boolean.TRUE.equals(modelWithMetadata.getSyncMetadata().isDeleted())) {
+                deletions.add(model);
+            } else {
+                saves.add(model);
+            }
+            metadata.add(modelWithMetadata.getSyncMetadata());
+        }
+        int modelSaveCount = saves.size();
+        saves.addAll(metadata);
+
+        return deleteAllAndSaveAll(deletions, saves)
+            .doOnSuccess(saveChanges -> {
+                // Report the changes only once the whole page is written, since a failure will
+                // cause every item of the page to be merged again.
+                for (int index = 0; index < deletions.size(); index++) {
+                    changeTypeConsumer.accept(StorageItemChange.Type.DELETE);
+                }
+                for (StorageItemChange<? extends Model> change : saveChanges.subList(0, modelSaveCount)) {
+                    changeTypeConsumer.accept(change.type());
+                }
+                for (ModelWithMetadata<T> modelWithMetadata : modelsWithMetadata) {
+                    announceSuccessfulMerge(modelWithMetadata);
+                }
+                LOG.debug("A page of " + modelsWithMetadata.size()
+                    + " remote model updates was sync'd down into local storage.");
+            })
+            .ignoreElement();
+    }
+
+    private static <T extends Model> int incomingVersion(ModelWithMetadata<T> modelWithMetadata) {
+        Integer version = modelWithMetadata.getSyncMetadata().getVersion();
+        return version == null ? -1 : version;
+    }
+
     /**
      * Announce a successful merge over Hub.
      * @param modelWithMetadata Model with metadata that was successfully merged
@@ -167,6 +283,17 @@ final class Merger {
         );
     }
 
+    // Delete a batch of models, then create or update another, in one transaction.
+    private Single<List<StorageItemChange<? extends Model>>> deleteAllAndSaveAll(
+            List<? extends Model> deletions, List<? extends Model> saves) {
+        return Single.create(emitter ->
+            localStorageAdapter.deleteAllAndSaveAll(deletions, saves, StorageItemChange.Initiator.SYNC_ENGINE,
+                emitter::onSuccess,
+                emitter::onError
+            )
+        );
+    }
+
     // Create or update a model.
     private <T extends Model> Completable save(T model, Consumer<StorageItemChange.Type> changeTypeConsumer) {
         return Completable.create(emitter ->
@@ -21,6 +21,10 @@ import androidx.annotation.Nullable;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.datastore.DataStoreException;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Observable;
 
@@ -52,6 +56,16 @@ interface MutationOutbox {
      */
     boolean hasPendingMutation(@NonNull String modelId);
 
+    /**
+     * Finds which of the given model IDs have a pending mutation. This is the batch equivalent of
+     * {@link #hasPendingMutation(String)}, for checking many models at once.
+     *
+     * @param modelIds IDs of models in the system
+     * @return The subset of the given model IDs for which there is a pending mutation
+     */
+    @NonNull
+    Set<String> findPendingMutationModelIds(@NonNull Collection<String> modelIds);
+
     /**
      * Write a new {@link PendingMutation} into the outbox.
      * <p>
@@ -89,6 +103,15 @@ interface MutationOutbox {
     @Nullable
     PendingMutation<? extends Model> peek();
 
+    /**
+     * Take a peek at the next items in the outbox, which are not in-flight.
+     * @param maxCount The maximum number of items to return
+     * @return The next pending mutations that are not in-flight, in the order they were
+     *         enqueued; empty if there are none
+     */
+    @NonNull
+    List<PendingMutation<? extends Model>> peek(int maxCount);
+
     /**
      * Marks a pending mutation as "in-flight." An in-flight mutation becomes
      * frozen to any further modifications, until it can be removed from the outbox, entirely.
@@ -18,11 +18,14 @@ package com.amplifyframework.datastore.syncengine;
 import androidx.annotation.NonNull;
 
 import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.graphql.GraphQLRequest;
 import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.api.graphql.MutationType;
 import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.Consumer;
 import com.amplifyframework.core.category.CategoryType;
 import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelProvider;
 import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.SchemaRegistry;
 import com.amplifyframework.core.model.SerializedModel;
@@ -37,13 +40,23 @@ import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.logging.Logger;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.disposables.CompositeDisposable;
+import io.reactivex.rxjava3.observers.DisposableCompletableObserver;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 
 /**
@@ -56,6 +69,7 @@ final class MutationProcessor {
 
     private final Merger merger;
     private final VersionRepository versionRepository;
+    private final ModelProvider modelProvider;
     private final SchemaRegistry schemaRegistry;
     private final MutationOutbox mutationOutbox;
     private final AppSync appSync;
@@ -67,6 +81,7 @@ final class MutationProcessor {
     private MutationProcessor(Builder builder) {
         this.merger = Objects.requireNonNull(builder.merger);
         this.versionRepository = Objects.requireNonNull(builder.versionRepository);
+        this.modelProvider = Objects.requireNonNull(builder.modelProvider);
         this.schemaRegistry = Objects.requireNonNull(builder.schemaRegistry);
         this.mutationOutbox = Objects.requireNonNull(builder.mutationOutbox);
         this.appSync = Objects.requireNonNull(builder.appSync);
@@ -114,14 +129,18 @@ final class MutationProcessor {
     }
 
     private Completable drainMutationOutbox() {
-        PendingMutation<? extends Model> next;
+        int maxInFlight = getMutationMaxInFlight();
+        if (maxInFlight > 1) {
+            return drainMutationOutboxPipelined(maxInFlight);
+        }
+        List<PendingMutation<? extends Model>> next;
         do {
-            next = mutationOutbox.peek();
-            if (next == null) {
+            next = nextOutboxItems();
+            if (next.isEmpty()) {
                 return Completable.complete();
             }
             try {
-                processOutboxItem(next)
+                processOutboxItems(next, true)
                     .blockingAwait();
             } catch (RuntimeException error) {
                 return Completable.error(error);
@@ -129,36 +148,290 @@ final class MutationProcessor {
         } while (true);
     }
 
+    /**
+     * Finds the items at the head of the mutation outbox that can be published in a single request.
+     * Unless batching is enabled, this is just the next item. Otherwise, it is the consecutive items
+     * that mutate different models, so that each model still receives its mutations in order.
+     * @return The next items to publish, or an empty list if the outbox is empty
+     */
+    private List<PendingMutation<? extends Model>> nextOutboxItems() {
+        int batchSize = getMutationBatchSize();
+        if (batchSize <= 1) {
+            PendingMutation<? extends Model> next = mutationOutbox.peek();
+            return next == null ? Collections.emptyList() : Collections.singletonList(next);
+        }
+        List<PendingMutation<? extends Model>> batch = new ArrayList<>();
+        Set<String> batchedModels = new HashSet<>();
+        for (PendingMutation<? extends Model> pendingMutation : mutationOutbox.peek(batchSize)) {
+            // A later mutation of a model in the batch has to wait for the result of the earlier one.
+            if (!batchedModels.add(modelKey(pendingMutation))) {
+                break;
+            }
+            batch.add(pendingMutation);
+        }
+        return batch;
+    }
+
+    /**
+     * Drains the mutation outbox, publishing up to a number of its items at the same time. An item is
+     * only published once the items ahead of it that mutate the same model have been processed, and
+     * so have the items ahead of it that mutate a model of a directly associated type, per the
+     * {@link TopologicalOrdering} of the models. Items that are ready together are still published in
+     * batches, if batching is enabled.
+     * @param maxInFlight Max number of items to publish at the same time
+     * @return A Completable that emits success once the outbox is empty, emits failure, otherwise
+     */
+    private Completable drainMutationOutboxPipelined(int maxInFlight) {
+        TopologicalOrdering ordering = TopologicalOrdering.forRegisteredModels(schemaRegistry, modelProvider);
+        int batchSize = getMutationBatchSize();
+        // Only used on this thread. The items are processed on others, and report back through the queue.
+        Map<TimeBasedUuid, PendingMutation<? extends Model>> inFlight = new LinkedHashMap<>();
+        BlockingQueue<List<PendingMutation<? extends Model>>> processed = new LinkedBlockingQueue<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CompositeDisposable ongoingProcessing = new CompositeDisposable();
+        do {
+            // After a failure, only wait for the items in flight, as the serial drain would.
+            if (failure.get() == null) {
+                List<PendingMutation<? extends Model>> ready =
+                    nextReadyOutboxItems(ordering, inFlight, maxInFlight);
+                for (int start = 0; start < ready.size(); start += batchSize) {
+                    List<PendingMutation<? extends Model>> items =
+                        ready.subList(start, Math.min(start + batchSize, ready.size()));
+                    for (PendingMutation<? extends Model> item : items) {
+                        inFlight.put(item.getMutationId(), item);
+                    }
+                    DisposableCompletableObserver processing = new DisposableCompletableObserver() {
+                        @Override
+                        public void onComplete() {
+                            ongoingProcessing.delete(this);
+                            processed.add(items);
+                        }
+
+                        @Override
+                        public void onError(@NonNull Throwable error) {
+                            ongoingProcessing.delete(this);
+                            failure.compareAndSet(null, error);
+                            processed.add(items);
+                        }
+                    };
+                    // Added before subscribing, since the items may be processed before subscribe returns.
+                    ongoingProcessing.add(processing);
+                    // The outbox status is published once nothing is in flight, since peeking forgets
+                    // which items are in flight.
+                    processOutboxItems(items, false).subscribe(processing);
+                }
+            }
+            if (inFlight.isEmpty()) {
+                Throwable error = failure.get();
+                return error == null ? Completable.complete() : Completable.error(error);
+            }
+            try {
+                for (PendingMutation<? extends Model> item : processed.take()) {
+                    inFlight.remove(item.getMutationId());
+                }
+            } catch (InterruptedException error) {
+                ongoingProcessing.dispose();
+                return Completable.error(error);
+            }
+            if (inFlight.isEmpty()) {
+                publishCurrentOutboxStatus();
+            }
+        } while (true);
+    }
+
+    /**
+     * Finds the items in the mutation outbox that can be published alongside the in-flight items.
+     * @param ordering Topological ordering of the models
+     * @param inFlight The items that are being processed, by their mutation IDs
+     * @param maxInFlight Max number of items to publish at the same time
+     * @return The items that can be published now, in outbox order, possibly none
+     */
+    private List<PendingMutation<? extends Model>> nextReadyOutboxItems(
+            TopologicalOrdering ordering,
+            Map<TimeBasedUuid, PendingMutation<? extends Model>> inFlight,
+            int maxInFlight) {
+        List<PendingMutation<? extends Model>> ready = new ArrayList<>();
+        if (inFlight.size() >= maxInFlight) {
+            return ready;
+        }
+        // The items ahead of the next one, which haven't been processed yet.
+        List<PendingMutation<? extends Model>> ahead = new ArrayList<>(inFlight.values());
+        for (PendingMutation<? extends Model> pendingMutation : mutationOutbox.peek(maxInFlight)) {
+            if (inFlight.size() + ready.size() >= maxInFlight) {
+                break;
+            }
+            if (inFlight.containsKey(pendingMutation.getMutationId())) {
+                continue;
+            }
+            if (!mustWaitForAny(pendingMutation, ahead, ordering)) {
+                ready.add(pendingMutation);
+            }
+            ahead.add(pendingMutation);
+        }
+        return ready;
+    }
+
+    private boolean mustWaitForAny(
+            PendingMutation<? extends Model> pendingMutation,
+            Collection<PendingMutation<? extends Model>> ahead,
+            TopologicalOrdering ordering) {
+        String modelKey = modelKey(pendingMutation);
+        ModelSchema schema = registeredSchemaOf(pendingMutation);
+        Set<ModelSchema> dependencies = ordering.dependenciesOf(schema);
+        for (PendingMutation<? extends Model> aheadMutation : ahead) {
+            if (modelKey.equals(modelKey(aheadMutation))) {
+                return true;
+            }
+            ModelSchema aheadSchema = registeredSchemaOf(aheadMutation);
+            if (dependencies.contains(aheadSchema) || ordering.dependenciesOf(aheadSchema).contains(schema)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ModelSchema registeredSchemaOf(PendingMutation<? extends Model> pendingMutation) {
+        return schemaRegistry.getModelSchemaForModelClass(pendingMutation.getModelSchema().getName());
+    }
+
+    private static String modelKey(PendingMutation<? extends Model> pendingMutation) {
+        return pendingMutation.getModelSchema().getName() + ":" +
+            pendingMutation.getMutatedItem().getPrimaryKeyString();
+    }
+
+    private int getMutationBatchSize() {
+        try {
+            Integer batchSize = dataStoreConfiguration.getConfiguration().getMutationBatchSize();
+            // The builder only hints that the value is positive, and a batch must hold at least one mutation.
+            return batchSize != null ? Math.max(1, batchSize) : 1;
+        } catch (DataStoreException error) {
+            LOG.warn("Unable to read the mutation batch size, publishing one mutation at a time.", error);
+            return 1;
+        }
+    }
+
+    private int getMutationMaxInFlight() {
+        try {
+            Integer maxInFlight = dataStoreConfiguration.getConfiguration().getMutationMaxInFlight();
+            return maxInFlight != null ? Math.max(1, maxInFlight) : 1;
+        } catch (DataStoreException error) {
+            LOG.warn("Unable to read the max number of mutations in flight, publishing one at a time.", error);
+            return 1;
+        }
+    }
+
+    /**
+     * Process items in the mutation outbox, in a single request if there are several.
+     * @param mutationOutboxItems Items in the mutation outbox, which mutate different models
+     * @param publishOutboxStatus Whether to publish the status of the outbox, once the items are processed
+     * @return A Completable that emits success when the items are processed, emits failure, otherwise
+     */
+    private Completable processOutboxItems(
+            List<PendingMutation<? extends Model>> mutationOutboxItems,
+            boolean publishOutboxStatus) {
+        return mutationOutboxItems.size() == 1
+            ? processOutboxItem(mutationOutboxItems.get(0), publishOutboxStatus)
+            : processOutboxBatch(mutationOutboxItems, publishOutboxStatus);
+    }
+
     /**
      * Process an item in the mutation outbox.
      * @param mutationOutboxItem An item in the mutation outbox
+     * @param publishOutboxStatus Whether to publish the status of the outbox, once the item is processed
      * @param <T> Type of model
      * @return A Completable that emits success when the item is processed, emits failure, otherwise
      */
-    private <T extends Model> Completable processOutboxItem(PendingMutation<T> mutationOutboxItem) {
+    private <T extends Model> Completable processOutboxItem(
+            PendingMutation<T> mutationOutboxItem,
+            boolean publishOutboxStatus) {
         // First, mark the item as in-flight.
         return mutationOutbox.markInFlight(mutationOutboxItem.getMutationId())
             // Then, put it "into flight"
-            .andThen(publishWithRetry(mutationOutboxItem)
-                .map(modelWithMetadata -> ensureModelHasSchema(mutationOutboxItem, modelWithMetadata))
-                .flatMapCompletable(modelWithMetadata ->
-                            // Once the server knows about it, it's safe to remove from the outbox.
-                            // This is done before merging, because the merger will refuse to merge
-                            // if there are outstanding mutations in the outbox.
-                            mutationOutbox.remove(mutationOutboxItem.getMutationId())
-                                .andThen(merger.merge(modelWithMetadata))
-                                .doOnComplete(() -> {
-                                    String modelName = mutationOutboxItem.getModelSchema().getName();
-                                    announceMutationProcessed(modelName, modelWithMetadata);
-                                })
-                )
+            .andThen(completeOutboxItem(
+                mutationOutboxItem,
+                publishWithRetry(mutationOutboxItem),
+                publishOutboxStatus
+            ));
+    }
+
+    /**
+     * Process several items in the mutation outbox, by publishing them in a single request.
+     * Each item is then removed from the outbox and merged, or announced as failed, on its own.
+     * @param mutationOutboxItems Items in the mutation outbox, which mutate different models
+     * @param publishOutboxStatus Whether to publish the status of the outbox, once the items are processed
+     * @return A Completable that emits success when the items are processed, emits failure, otherwise
+     */
+    private Completable processOutboxBatch(
+            List<PendingMutation<? extends Model>> mutationOutboxItems,
+            boolean publishOutboxStatus) {
+        // Publish once, however many of the items subscribe to the responses.
+        Single<List<GraphQLResponse<? extends ModelWithMetadata<?>>>> responses =
+            publishBatchWithRetry(mutationOutboxItems).cache();
+        return Observable.fromIterable(mutationOutboxItems)
+            .concatMapCompletable(mutationOutboxItem ->
+                mutationOutbox.markInFlight(mutationOutboxItem.getMutationId())
+            )
+            .andThen(Observable.range(0, mutationOutboxItems.size())
+                .concatMapCompletable(index -> completeBatchedOutboxItem(
+                    mutationOutboxItems.get(index),
+                    responses.map(batchResponses -> batchResponses.get(index))
+                ))
+            )
+            // Publishing the status peeks at the outbox, which forgets the items that are in-flight,
+            // so wait for every item in the batch to be removed.
+            .doOnComplete(() -> {
+                if (publishOutboxStatus) {
+                    publishCurrentOutboxStatus();
+                }
+            });
+    }
+
+    @SuppressWarnings("unchecked") // The response is to the request built for this item.
+    private <T extends Model> Completable completeBatchedOutboxItem(
+            PendingMutation<T> mutationOutboxItem,
+            Single<GraphQLResponse<? extends ModelWithMetadata<?>>> response) {
+        return completeOutboxItem(
+            mutationOutboxItem,
+            response.flatMap(itemResponse ->
+                handleResponse(mutationOutboxItem, (GraphQLResponse<ModelWithMetadata<T>>) itemResponse)
+            ),
+            false
+        );
+    }
+
+    /**
+     * Complete the processing of an item in the mutation outbox, once it has been put into flight.
+     * @param mutationOutboxItem An item in the mutation outbox, which is in-flight
+     * @param publication Publishes the item, and emits the model as it is known to the server
+     * @param publishOutboxStatus Whether to publish the status of the outbox, once the item is processed
+     * @param <T> Type of model
+     * @return A Completable that emits success when the item is processed, emits failure, otherwise
+     */
+    private <T extends Model> Completable completeOutboxItem(
+            PendingMutation<T> mutationOutboxItem,
+            Single<ModelWithMetadata<T>> publication,
+            boolean publishOutboxStatus) {
+        return publication
+            .map(modelWithMetadata -> ensureModelHasSchema(mutationOutboxItem, modelWithMetadata))
+            .flatMapCompletable(modelWithMetadata ->
+                // Once the server knows about it, it's safe to remove from the outbox.
+                // This is done before merging, because the merger will refuse to merge
+                // if there are outstanding mutations in the outbox.
+                mutationOutbox.remove(mutationOutboxItem.getMutationId())
+                    .andThen(merger.merge(modelWithMetadata))
+                    .doOnComplete(() -> {
+                        String modelName = mutationOutboxItem.getModelSchema().getName();
+                        announceMutationProcessed(modelName, modelWithMetadata);
+                    })
             )
             .doOnComplete(() -> {
                 LOG.debug(
                     "Pending mutation was published to cloud successfully, " +
                         "and removed from the mutation outbox: " + mutationOutboxItem
                 );
-                publishCurrentOutboxStatus();
+                if (publishOutboxStatus) {
+                    publishCurrentOutboxStatus();
+                }
             })
             // Errors on a mutation shouldn't halt the processing of the remaining mutations.
             // If an error happens, it has to be announced (via Hub and the error handler) and the mutation removed from
@@ -338,24 +611,81 @@ final class MutationProcessor {
                     }
                 })
             )
-            .flatMap(response -> {
-                // If there are no errors, and the response has data, just return.
-                if (!response.hasErrors() && response.hasData()) {
-                    return Single.just(response.getData());
-                } else {
-                    return handleResponseErrors(mutation, response.getErrors());
-                }
-            });
+            .flatMap(response -> handleResponse(mutation, response));
+    }
+
+    private <T extends Model> Single<ModelWithMetadata<T>> handleResponse(
+            PendingMutation<T> mutation,
+            GraphQLResponse<ModelWithMetadata<T>> response) {
+        // If there are no errors, and the response has data, just return.
+        if (!response.hasErrors() && response.hasData()) {
+            return Single.just(response.getData());
+        } else {
+            return handleResponseErrors(mutation, response.getErrors());
+        }
     }
 
     private <T extends Model> Single<ModelWithMetadata<T>> publishWithRetry(
             @NonNull PendingMutation<T> mutation) {
+        LOG.info("Started Publish with retry: " + mutation);
+        return retryHandler.retry(publishToNetwork(mutation), getNonRetryableExceptions());
+    }
+
+    /**
+     * Attempt to publish several mutations over the network, in a single request.
+     * @param mutations Pending mutations, waiting to be published to remote API
+     * @return A single which emits a response for each mutation, in order, or emits error
+     *         if the request fails
+     */
+    private Single<List<GraphQLResponse<? extends ModelWithMetadata<?>>>> publishBatchWithRetry(
+            @NonNull List<PendingMutation<? extends Model>> mutations) {
+        LOG.info("Started Publish with retry of " + mutations.size() + " mutations: " + mutations);
+        Single<List<GraphQLResponse<? extends ModelWithMetadata<?>>>> publication =
+            Observable.fromIterable(mutations)
+                .<GraphQLRequest<? extends ModelWithMetadata<?>>>concatMapSingle(this::buildMutationRequest)
+                .toList()
+                .flatMap(requests -> Single.<List<GraphQLResponse<? extends ModelWithMetadata<?>>>>create(subscriber ->
+                    appSync.mutate(requests, subscriber::onSuccess, exception -> {
+                        if (!subscriber.isDisposed()) {
+                            subscriber.onError(exception);
+                        }
+                    })
+                ));
+        return retryHandler.retry(publication, getNonRetryableExceptions());
+    }
+
+    // For an item in the outbox, build a mutation request which can be published with others
+    private <T extends Model> Single<GraphQLRequest<ModelWithMetadata<T>>> buildMutationRequest(
+            PendingMutation<T> mutation) {
+        final T mutatedItem = mutation.getMutatedItem();
+        final ModelSchema mutatedItemSchema =
+            this.schemaRegistry.getModelSchemaForModelClass(mutatedItem.getModelName());
+        switch (mutation.getMutationType()) {
+            case CREATE:
+                return Single.fromCallable(() -> appSync.buildMutationRequest(
+                    mutatedItem, mutatedItemSchema, MutationType.CREATE, null, mutation.getPredicate()
+                ));
+            case UPDATE:
+                return versionRepository.findModelVersion(mutatedItem).map(version -> appSync.buildMutationRequest(
+                    mutatedItem, mutatedItemSchema, MutationType.UPDATE, version, mutation.getPredicate()
+                ));
+            case DELETE:
+                return versionRepository.findModelVersion(mutatedItem).map(version -> appSync.buildMutationRequest(
+                    mutatedItem, mutatedItemSchema, MutationType.DELETE, version, mutation.getPredicate()
+                ));
+            default:
+                return Single.error(new DataStoreException(
+                   "Unknown mutation type in storage = " + mutation.getMutationType(),
+                   "This is likely a bug. Please file a ticket with AWS."
+                ));
+        }
+    }
+
+    private static List<Class<? extends Throwable>> getNonRetryableExceptions() {
         List<Class<? extends Throwable>> nonRetryableExceptions = new ArrayList<>();
         nonRetryableExceptions.add(DataStoreException.GraphQLResponseException.class);
         nonRetryableExceptions.add(ApiException.NonRetryableException.class);
-
-        LOG.info("Started Publish with retry: " + mutation);
-        return retryHandler.retry(publishToNetwork(mutation), nonRetryableExceptions);
+        return nonRetryableExceptions;
     }
 
     /**
@@ -411,6 +741,7 @@ final class MutationProcessor {
     static final class Builder implements
             BuilderSteps.MergerStep,
             BuilderSteps.VersionRepositoryStep,
+            BuilderSteps.ModelProviderStep,
             BuilderSteps.ModelSchemaRegistryStep,
             BuilderSteps.MutationOutboxStep,
             BuilderSteps.AppSyncStep,
@@ -419,6 +750,7 @@ final class MutationProcessor {
             BuilderSteps.BuildStep {
         private Merger merger;
         private VersionRepository versionRepository;
+        private ModelProvider modelProvider;
         private SchemaRegistry schemaRegistry;
         private MutationOutbox mutationOutbox;
         private AppSync appSync;
@@ -434,11 +766,18 @@ final class MutationProcessor {
 
         @NonNull
         @Override
-        public BuilderSteps.ModelSchemaRegistryStep versionRepository(@NonNull VersionRepository versionRepository) {
+        public BuilderSteps.ModelProviderStep versionRepository(@NonNull VersionRepository versionRepository) {
             Builder.this.versionRepository = Objects.requireNonNull(versionRepository);
             return Builder.this;
         }
 
+        @NonNull
+        @Override
+        public BuilderSteps.ModelSchemaRegistryStep modelProvider(@NonNull ModelProvider modelProvider) {
+            Builder.this.modelProvider = Objects.requireNonNull(modelProvider);
+            return Builder.this;
+        }
+
         @NonNull
         @Override
         public BuilderSteps.MutationOutboxStep schemaRegistry(@NonNull SchemaRegistry schemaRegistry) {
@@ -490,7 +829,12 @@ final class MutationProcessor {
 
         interface VersionRepositoryStep {
             @NonNull
-            ModelSchemaRegistryStep versionRepository(@NonNull VersionRepository versionRepository);
+            ModelProviderStep versionRepository(@NonNull VersionRepository versionRepository);
+        }
+
+        interface ModelProviderStep {
+            @NonNull
+            ModelSchemaRegistryStep modelProvider(@NonNull ModelProvider modelProvider);
         }
 
         interface ModelSchemaRegistryStep {
@@ -118,6 +118,7 @@ public final class Orchestrator {
         this.mutationProcessor = MutationProcessor.builder()
             .merger(merger)
             .versionRepository(versionRepository)
+            .modelProvider(modelProvider)
             .schemaRegistry(schemaRegistry)
             .mutationOutbox(mutationOutbox)
             .appSync(appSync)
@@ -37,13 +37,18 @@ import com.amplifyframework.datastore.storage.StorageItemChange;
 import com.amplifyframework.hub.HubChannel;
 import com.amplifyframework.logging.Logger;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.subjects.PublishSubject;
@@ -72,7 +77,8 @@ final class PersistentMutationOutbox implements MutationOutbox {
 
     PersistentMutationOutbox(@NonNull final LocalStorageAdapter localStorageAdapter) {
         this.storage = Objects.requireNonNull(localStorageAdapter);
-        this.inFlightMutations = new HashSet<>();
+        // Mutations are marked in-flight and removed from different threads, once several are published at a time.
+        this.inFlightMutations = ConcurrentHashMap.newKeySet();
         this.converter = new GsonPendingMutationConverter();
         this.events = PublishSubject.<OutboxEvent>create().toSerialized();
         this.semaphore = new Semaphore(1);
@@ -87,6 +93,29 @@ final class PersistentMutationOutbox implements MutationOutbox {
         return getMutationForModelId(modelId) != null;
     }
 
+    @NonNull
+    @Override
+    public Set<String> findPendingMutationModelIds(@NonNull Collection<String> modelIds) {
+        Objects.requireNonNull(modelIds);
+        Set<String> pendingModelIds = new HashSet<>();
+        Flowable.fromIterable(AnyOfPredicates.of(PendingMutation.PersistentRecord.CONTAINED_MODEL_ID, modelIds))
+            .concatMapCompletable(predicate -> Completable.create(emitter ->
+                storage.query(PendingMutation.PersistentRecord.class, Where.matches(predicate),
+                    results -> {
+                        while (results.hasNext()) {
+                            pendingModelIds.add(results.next().getContainedModelId());
+                        }
+                        emitter.onComplete();
+                    },
+                    emitter::onError
+                )
+            ))
+            .doOnSubscribe(subscription -> semaphore.acquire())
+            .doOnTerminate(semaphore::release)
+            .blockingAwait();
+        return pendingModelIds;
+    }
+
     @VisibleForTesting
     PendingMutation<? extends Model> getMutationForModelId(@NonNull String modelId) {
         Objects.requireNonNull(modelId);
@@ -302,6 +331,38 @@ final class PersistentMutationOutbox implements MutationOutbox {
         return loadedMutation;
     }
 
+    @NonNull
+    @Override
+    public List<PendingMutation<? extends Model>> peek(int maxCount) {
+        List<PendingMutation<? extends Model>> pendingMutations = new ArrayList<>();
+        Completable.create(emitter -> {
+            // The in-flight mutations are still in the outbox, so they may be among the first results.
+            QueryOptions queryOptions = Where.matchesAll()
+                .paginated(Page.startingAt(0).withLimit(maxCount + inFlightMutations.size()));
+            storage.query(PendingMutation.PersistentRecord.class, queryOptions,
+                results -> {
+                    try {
+                        while (results.hasNext() && pendingMutations.size() < maxCount) {
+                            PendingMutation<? extends Model> pendingMutation = converter.fromRecord(results.next());
+                            if (!inFlightMutations.contains(pendingMutation.getMutationId())) {
+                                pendingMutations.add(pendingMutation);
+                            }
+                        }
+                    } catch (Throwable throwable) {
+                        emitter.onError(throwable);
+                        return;
+                    }
+                    emitter.onComplete();
+                },
+                emitter::onError
+            );
+        })
+        .doOnSubscribe(disposable -> semaphore.acquire())
+        .doOnTerminate(semaphore::release)
+        .blockingAwait();
+        return pendingMutations;
+    }
+
     @NonNull
     @Override
     public Completable markInFlight(@NonNull TimeBasedUuid pendingMutationId) {
@@ -16,6 +16,7 @@
 package com.amplifyframework.datastore.syncengine;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 
 import com.amplifyframework.api.ApiException;
 import com.amplifyframework.api.ApiException.ApiAuthException;
@@ -50,15 +51,19 @@ import com.amplifyframework.util.Time;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.processors.BehaviorProcessor;
 import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
 
 /**
  * "Hydrates" the local DataStore, using model metadata receive from the
@@ -70,6 +75,8 @@ import io.reactivex.rxjava3.schedulers.Schedulers;
  */
 final class SyncProcessor {
     private static final Logger LOG = Amplify.Logging.logger(CategoryType.DATASTORE, "amplify:aws-datastore");
+    // Number of pages of a model that may be fetched while an earlier page is being merged.
+    private static final int PAGE_PREFETCH_COUNT = 2;
 
     private final ModelProvider modelProvider;
     private final SchemaRegistry schemaRegistry;
@@ -116,7 +123,6 @@ final class SyncProcessor {
      * @return An Rx {@link Completable} which can be used to perform the operation.
      */
     Completable hydrate() {
-        final List<Completable> hydrationTasks = new ArrayList<>();
         List<ModelSchema> modelSchemas = new ArrayList<>(modelProvider.modelSchemas().values());
 
         // And sort them all, according to their model's topological order,
@@ -124,17 +130,25 @@ final class SyncProcessor {
         TopologicalOrdering ordering =
             TopologicalOrdering.forRegisteredModels(schemaRegistry, modelProvider);
         Collections.sort(modelSchemas, ordering::compare);
+        List<ModelSchema> toBeSyncedModelSchemas = new ArrayList<>();
         ArrayList<String> toBeSyncedModelArray = new ArrayList<>();
         for (ModelSchema schema : modelSchemas) {
             //Check to see if query predicate for this schema is not equal to none. This means customer does
             // not want to sync the data for this model.
             if (!QueryPredicates.none().equals(queryPredicateProvider.getPredicate(schema.getName()))) {
-                hydrationTasks.add(createHydrationTask(schema));
+                toBeSyncedModelSchemas.add(schema);
                 toBeSyncedModelArray.add(schema.getName());
             }
         }
 
-        return Completable.concat(hydrationTasks)
+        // Models that don't depend on each other are hydrated concurrently. Tasks are subscribed
+        // in topological order, so a task waiting for its dependencies never prevents them from running.
+        return Completable.defer(() -> Completable.merge(
+                Flowable.fromIterable(
+                    createHydrationTasks(toBeSyncedModelSchemas, ordering, this::createHydrationTask)
+                ),
+                getSyncMaxConcurrentModels()
+            ))
             .doOnSubscribe(ignore -> {
                 // This is where we trigger the syncQueriesStarted event since
                 // doOnSubscribe means that all upstream hydration tasks
@@ -161,7 +175,8 @@ final class SyncProcessor {
                 // Sync all the pages
                 return syncModel(schema, lastSyncTime)
                     // Switch to a new thread so that subsequent API fetches will happen in parallel with DB writes.
-                    .observeOn(Schedulers.io())
+                    // Only a bounded number of pages are fetched ahead of the page being merged.
+                    .observeOn(Schedulers.io(), false, PAGE_PREFETCH_COUNT)
                     // Ignore ApiAuthExceptions so that we can continue to sync down other models
                     .materialize()
                     .filter(notification ->
@@ -169,9 +184,8 @@ final class SyncProcessor {
                         !(ErrorInspector.contains(notification.getError(), ApiAuthException.class))
                     )
                     .dematerialize(notification -> notification)
-                    // Flatten to a stream of ModelWithMetadata objects
-                    .concatMap(Flowable::fromIterable)
-                    .concatMapCompletable(item -> merger.merge(item, metricsAccumulator::increment))
+                    // Merge each page of ModelWithMetadata objects as a batch
+                    .concatMapCompletable(page -> merger.mergeAll(page, metricsAccumulator::increment))
                     .toSingle(() -> lastSyncTime.exists() ? SyncType.DELTA : SyncType.BASE);
             })
             .flatMapCompletable(syncType -> {
@@ -198,6 +212,48 @@ final class SyncProcessor {
             );
     }
 
+    /**
+     * Creates a hydration task for each of the model schema. The task of each model only starts
+     * to sync the model once the tasks of the models that it depends on have completed.
+     * @param modelSchemas Schema of the models to hydrate, in topological order
+     * @param ordering Topological ordering of the model schema
+     * @param hydrationTask Creates the task that syncs a single model
+     * @return Hydration tasks, in the same order as the model schema
+     */
+    @VisibleForTesting
+    static List<Completable> createHydrationTasks(
+            List<ModelSchema> modelSchemas,
+            TopologicalOrdering ordering,
+            Function<ModelSchema, Completable> hydrationTask) {
+        final List<Completable> hydrationTasks = new ArrayList<>();
+        final Map<ModelSchema, CompletableSubject> hydratedSignals = new HashMap<>();
+        for (ModelSchema schema : modelSchemas) {
+            // The signals of any dependencies already exist, since the models are in topological order.
+            // Dependencies that aren't being synced have no signal, and aren't waited for. All dependencies,
+            // direct or not, are considered, so that a model still waits for the models that it indirectly
+            // depends on when the models in between aren't being synced.
+            List<Completable> dependenciesHydrated = new ArrayList<>();
+            for (ModelSchema dependency : ordering.transitiveDependenciesOf(schema)) {
+                CompletableSubject dependencyHydrated = hydratedSignals.get(dependency);
+                if (dependencyHydrated != null) {
+                    dependenciesHydrated.add(dependencyHydrated);
+                }
+            }
+            CompletableSubject hydrated = CompletableSubject.create();
+            hydratedSignals.put(schema, hydrated);
+            hydrationTasks.add(Completable.merge(dependenciesHydrated)
+                .andThen(Completable.defer(() -> hydrationTask.apply(schema)))
+                .doOnComplete(hydrated::onComplete));
+        }
+        return hydrationTasks;
+    }
+
+    private int getSyncMaxConcurrentModels() throws DataStoreException {
+        Integer syncMaxConcurrentModels =
+            dataStoreConfigurationProvider.getConfiguration().getSyncMaxConcurrentModels();
+        return syncMaxConcurrentModels == null ? 1 : Math.max(1, syncMaxConcurrentModels);
+    }
+
     /**
      * If a sync time is older than (now) - (the base sync interval), regard the provided sync time
      * as "too old", and return {@link SyncTime#never()}, instead. In all other cases,
@@ -111,6 +111,65 @@ final class TopologicalOrdering {
         return new OrderingCheck(modelSchema);
     }
 
+    /**
+     * Gets the ModelSchema that a ModelSchema directly depends on, i.e., the schema of the
+     * models that it belongs to. Instances of those models must be stored before instances of
+     * the dependent model can refer to them. A schema is never its own dependency.
+     * @param modelSchema A model schema
+     * @return The model schema it depends on
+     */
+    @NonNull
+    Set<ModelSchema> dependenciesOf(@NonNull ModelSchema modelSchema) {
+        Objects.requireNonNull(modelSchema);
+        if (!this.modelSchema.contains(modelSchema)) {
+            throw new NoSuchElementException("No model schema matching " + modelSchema.getName());
+        }
+        final Set<ModelSchema> dependencies = findAssociationOwners(modelSchema, this.modelSchema);
+        dependencies.remove(modelSchema);
+        return dependencies;
+    }
+
+    /**
+     * Gets the ModelSchema that a ModelSchema depends on, either directly or through the models
+     * that it depends on. A schema is never its own dependency.
+     * @param modelSchema A model schema
+     * @return The model schema it depends on, directly or not
+     */
+    @NonNull
+    Set<ModelSchema> transitiveDependenciesOf(@NonNull ModelSchema modelSchema) {
+        final Set<ModelSchema> dependencies = new HashSet<>();
+        final Stack<ModelSchema> unexplored = new Stack<>();
+        unexplored.push(modelSchema);
+        while (!unexplored.isEmpty()) {
+            for (ModelSchema dependency : dependenciesOf(unexplored.pop())) {
+                if (dependencies.add(dependency)) {
+                    unexplored.push(dependency);
+                }
+            }
+        }
+        dependencies.remove(modelSchema);
+        return dependencies;
+    }
+
+    private static Set<ModelSchema> findAssociationOwners(ModelSchema node, List<ModelSchema> candidates) {
+        final Set<ModelSchema> associationOwners = new HashSet<>();
+        for (ModelAssociation association : node.getAssociations().values()) {
+            if (association.isOwner()) {
+                associationOwners.add(findSchemaByName(association.getAssociatedType(), candidates));
+            }
+        }
+        return associationOwners;
+    }
+
+    private static ModelSchema findSchemaByName(String name, List<ModelSchema> candidates) {
+        for (ModelSchema schema : candidates) {
+            if (schema.getName().equals(name)) {
+                return schema;
+            }
+        }
+        throw new NoSuchElementException("No model schema provided with name = " + name);
+    }
+
     /**
      * Exercises a Topological Sort on a list of ModelSchema.
      */
@@ -143,32 +202,13 @@ final class TopologicalOrdering {
 
         private Set<ModelSchema> findUnvisitedAssociationOwners(ModelSchema node) {
             final Set<ModelSchema> unvisitedAssociationOwners = new HashSet<>();
-            for (ModelSchema associationOwner : findAssociationOwners(node)) {
+            for (ModelSchema associationOwner : findAssociationOwners(node, input)) {
                 if (unvisited.contains(associationOwner)) {
                     unvisitedAssociationOwners.add(associationOwner);
                 }
             }
             return unvisitedAssociationOwners;
         }
-
-        private Set<ModelSchema> findAssociationOwners(ModelSchema node) {
-            final Set<ModelSchema> associationOwners = new HashSet<>();
-            for (ModelAssociation association : node.getAssociations().values()) {
-                if (association.isOwner()) {
-                    associationOwners.add(findInputSchemaByName(association.getAssociatedType()));
-                }
-            }
-            return associationOwners;
-        }
-
-        private ModelSchema findInputSchemaByName(String name) {
-            for (ModelSchema schema : input) {
-                if (schema.getName().equals(name)) {
-                    return schema;
-                }
-            }
-            throw new NoSuchElementException("No model schema provided with name = " + name);
-        }
     }
 
     @SuppressWarnings("unused")
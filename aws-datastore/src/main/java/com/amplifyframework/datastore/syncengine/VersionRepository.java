@@ -19,15 +19,23 @@ import androidx.annotation.NonNull;
 
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.query.Where;
+import com.amplifyframework.core.model.query.predicate.QueryField;
+import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.appsync.ModelMetadata;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Single;
 
 /**
@@ -36,6 +44,8 @@ import io.reactivex.rxjava3.core.Single;
  */
 @SuppressWarnings("CodeBlock2Expr")
 final class VersionRepository {
+    private static final QueryField METADATA_ID = QueryField.field("ModelMetadata", "id");
+
     private final LocalStorageAdapter localStorageAdapter;
 
     /**
@@ -57,8 +67,7 @@ final class VersionRepository {
             // The ModelMetadata for the model uses the same ID as an identifier.
             localStorageAdapter.query(
                 ModelMetadata.class,
-                Where.identifier(ModelMetadata.class,
-                        model.getModelName() + "|" + model.getPrimaryKeyString()),
+                Where.identifier(ModelMetadata.class, metadataId(model)),
                 iterableResults -> {
                     try {
                         emitter.onSuccess(extractVersion(model, iterableResults));
@@ -70,6 +79,47 @@ final class VersionRepository {
         });
     }
 
+    /**
+     * Find the current versions of a batch of models, that we have in the local store. The
+     * metadata of the whole batch is looked up in as few queries as possible.
+     * @param models A collection of models, possibly of different types
+     * @return A map from the metadata ID of each model (see {@link #metadataId(Model)}) to its
+     *         version known locally. Models without a locally known version are not in the map.
+     */
+    Single<Map<String, Integer>> findModelVersions(Collection<? extends Model> models) {
+        final Set<String> metadataIds = new LinkedHashSet<>();
+        for (Model model : models) {
+            metadataIds.add(metadataId(model));
+        }
+        return Flowable.fromIterable(AnyOfPredicates.of(METADATA_ID, metadataIds))
+            .concatMapSingle(this::queryMetadata)
+            .collect(HashMap::new, (versions, metadataIterator) -> {
+                while (metadataIterator.hasNext()) {
+                    ModelMetadata metadata = metadataIterator.next();
+                    if (metadata.getVersion() != null) {
+                        versions.put(metadata.resolveIdentifier(), metadata.getVersion());
+                    }
+                }
+            });
+    }
+
+    /**
+     * Gets the ID of the {@link ModelMetadata} that holds the version of a model.
+     * @param model A model
+     * @return ID of the model's metadata
+     */
+    static String metadataId(Model model) {
+        return model.getModelName() + "|" + model.getPrimaryKeyString();
+    }
+
+    private Single<Iterator<ModelMetadata>> queryMetadata(QueryPredicate predicate) {
+        return Single.create(emitter ->
+            localStorageAdapter.query(
+                ModelMetadata.class, Where.matches(predicate), emitter::onSuccess, emitter::onError
+            )
+        );
+    }
+
     /**
      * Extract a model version from an metadata iterator.
      * @param model The model for which metadata is being interrogated, used only for creating error messages.
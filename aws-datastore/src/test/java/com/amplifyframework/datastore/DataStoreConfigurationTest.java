@@ -62,6 +62,12 @@ public final class DataStoreConfigurationTest {
             dataStoreConfiguration.getSyncMaxRecords().intValue());
         assertEquals(DataStoreConfiguration.DEFAULT_SYNC_PAGE_SIZE,
             dataStoreConfiguration.getSyncPageSize().intValue());
+        assertEquals(DataStoreConfiguration.DEFAULT_SYNC_MAX_CONCURRENT_MODELS,
+            dataStoreConfiguration.getSyncMaxConcurrentModels().intValue());
+        assertEquals(DataStoreConfiguration.DEFAULT_MUTATION_BATCH_SIZE,
+            dataStoreConfiguration.getMutationBatchSize().intValue());
+        assertEquals(DataStoreConfiguration.DEFAULT_MUTATION_MAX_IN_FLIGHT,
+            dataStoreConfiguration.getMutationMaxInFlight().intValue());
 
         assertTrue(dataStoreConfiguration.getConflictHandler() instanceof AlwaysApplyRemoteHandler);
         assertTrue(dataStoreConfiguration.getErrorHandler() instanceof DefaultDataStoreErrorHandler);
@@ -88,6 +94,12 @@ public final class DataStoreConfigurationTest {
         assertEquals(expectedSyncMaxRecords, dataStoreConfiguration.getSyncMaxRecords());
         assertEquals(DataStoreConfiguration.DEFAULT_SYNC_PAGE_SIZE,
             dataStoreConfiguration.getSyncPageSize().longValue());
+        assertEquals(DataStoreConfiguration.DEFAULT_SYNC_MAX_CONCURRENT_MODELS,
+            dataStoreConfiguration.getSyncMaxConcurrentModels().intValue());
+        assertEquals(DataStoreConfiguration.DEFAULT_MUTATION_BATCH_SIZE,
+            dataStoreConfiguration.getMutationBatchSize().intValue());
+        assertEquals(DataStoreConfiguration.DEFAULT_MUTATION_MAX_IN_FLIGHT,
+            dataStoreConfiguration.getMutationMaxInFlight().intValue());
 
         assertTrue(dataStoreConfiguration.getConflictHandler() instanceof AlwaysApplyRemoteHandler);
         assertTrue(dataStoreConfiguration.getErrorHandler() instanceof DefaultDataStoreErrorHandler);
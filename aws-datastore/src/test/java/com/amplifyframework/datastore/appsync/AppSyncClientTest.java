@@ -18,8 +18,10 @@ package com.amplifyframework.datastore.appsync;
 import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.ApiCategoryBehavior;
 import com.amplifyframework.api.graphql.GraphQLOperation;
+import com.amplifyframework.api.graphql.GraphQLPathSegment;
 import com.amplifyframework.api.graphql.GraphQLRequest;
 import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.api.graphql.MutationType;
 import com.amplifyframework.api.graphql.PaginatedResult;
 import com.amplifyframework.core.Consumer;
 import com.amplifyframework.core.model.ModelSchema;
@@ -34,6 +36,8 @@ import com.amplifyframework.testutils.Await;
 import com.amplifyframework.testutils.Resources;
 import com.amplifyframework.util.TypeMaker;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import org.json.JSONException;
 import org.junit.Before;
 import org.junit.Test;
@@ -43,10 +47,16 @@ import org.robolectric.RobolectricTestRunner;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -211,4 +221,71 @@ public final class AppSyncClientTest {
                 capturedRequest.getContent(), true);
     }
 
+    /**
+     * Validates that several mutations are made in a single request, in which each mutation is aliased,
+     * and that the data and errors of each alias are returned in the response to its mutation.
+     * @throws JSONException from JSONAssert.assertEquals JSON parsing error
+     * @throws AmplifyException from ModelSchema.fromModelClass to convert model to schema
+     */
+    @Test
+    public void validateBatchMutationIsSplitByAlias() throws AmplifyException, JSONException {
+        final Item item = Item.builder()
+                .orderId("123a7asa")
+                .status(Status.IN_TRANSIT)
+                .createdAt(new Temporal.DateTime("2021-04-20T15:20:32.651Z"))
+                .name("Gummy Bears")
+                .build();
+        final Meeting meeting = Meeting.builder()
+                .name("meeting1")
+                .id("45a5f600-8aa8-41ac-a529-aed75036f5be")
+                .date(new Temporal.Date("2001-02-03"))
+                .dateTime(new Temporal.DateTime("2001-02-03T01:30:15Z"))
+                .time(new Temporal.Time("01:22:33"))
+                .timestamp(new Temporal.Timestamp(1234567890000L, TimeUnit.MILLISECONDS))
+                .build();
+        List<GraphQLRequest<? extends ModelWithMetadata<?>>> requests = Arrays.asList(
+            endpoint.buildMutationRequest(
+                item, ModelSchema.fromModelClass(Item.class), MutationType.DELETE, 1, QueryPredicates.all()
+            ),
+            endpoint.buildMutationRequest(
+                meeting, ModelSchema.fromModelClass(Meeting.class), MutationType.UPDATE, 2, QueryPredicates.all()
+            )
+        );
+        AtomicReference<List<GraphQLResponse<? extends ModelWithMetadata<?>>>> responses = new AtomicReference<>();
+        endpoint.mutate(requests, responses::set, error -> { });
+
+        // Now, capture the request argument on API, so we can see what was passed.
+        ArgumentCaptor<GraphQLRequest<JsonObject>> requestCaptor = ArgumentCaptor.forClass(GraphQLRequest.class);
+        ArgumentCaptor<Consumer<GraphQLResponse<JsonObject>>> responseCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(api).mutate(requestCaptor.capture(), responseCaptor.capture(), any(Consumer.class));
+        JSONAssert.assertEquals(Resources.readAsString("batch-delete-item-and-update-meeting.txt"),
+                requestCaptor.getValue().getContent(), true);
+
+        // Respond with an error for the first mutation, and data for the second one.
+        JsonObject data = JsonParser.parseString("{" +
+                "\"mutation0\": null," +
+                "\"mutation1\": {" +
+                    "\"id\": \"45a5f600-8aa8-41ac-a529-aed75036f5be\"," +
+                    "\"name\": \"meeting1\"," +
+                    "\"_deleted\": false," +
+                    "\"_version\": 3," +
+                    "\"_lastChangedAt\": 1234567890000" +
+                "}" +
+            "}").getAsJsonObject();
+        GraphQLResponse.Error error = new GraphQLResponse.Error(
+            "Conditional request failed.",
+            null,
+            Collections.singletonList(new GraphQLPathSegment("mutation0")),
+            null
+        );
+        responseCaptor.getValue().accept(new GraphQLResponse<>(data, Collections.singletonList(error)));
+
+        assertEquals(2, responses.get().size());
+        assertEquals(Collections.singletonList(error), responses.get().get(0).getErrors());
+        assertNull(responses.get().get(0).getData());
+        assertFalse(responses.get().get(1).hasErrors());
+        assertTrue(responses.get().get(1).hasData());
+        assertEquals(meeting.getId(), responses.get().get(1).getData().getModel().getPrimaryKeyString());
+        assertEquals(Integer.valueOf(3), responses.get().get(1).getData().getSyncMetadata().getVersion());
+    }
 }
@@ -28,6 +28,7 @@ import com.amplifyframework.core.model.SerializedModel;
 import com.amplifyframework.core.model.query.ObserveQueryOptions;
 import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.DataStoreConfiguration;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.DataStoreQuerySnapshot;
@@ -35,6 +36,7 @@ import com.amplifyframework.datastore.DataStoreQuerySnapshot;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.subjects.PublishSubject;
@@ -117,6 +119,24 @@ public final class InMemoryStorageAdapter implements LocalStorageAdapter {
         onSuccess.accept(change);
     }
 
+    @Override
+    public <T extends Model> void saveAll(
+            @NonNull final List<T> items,
+            @NonNull final StorageItemChange.Initiator initiator,
+            @NonNull final Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull final Consumer<DataStoreException> onError) {
+        final List<StorageItemChange<T>> changes = new ArrayList<>();
+        final AtomicReference<DataStoreException> failure = new AtomicReference<>();
+        for (T item : items) {
+            save(item, initiator, QueryPredicates.all(), changes::add, failure::set);
+            if (failure.get() != null) {
+                onError.accept(failure.get());
+                return;
+            }
+        }
+        onSuccess.accept(changes);
+    }
+
     @SuppressWarnings("unchecked") // (T) item *is* checked, via isAssignableFrom().
     @Override
     public <T extends Model> void query(
@@ -199,6 +219,48 @@ public final class InMemoryStorageAdapter implements LocalStorageAdapter {
         onSuccess.accept(deletion);
     }
 
+    @Override
+    public <T extends Model> void deleteAll(
+            @NonNull final List<T> items,
+            @NonNull final StorageItemChange.Initiator initiator,
+            @NonNull final Consumer<List<StorageItemChange<T>>> onSuccess,
+            @NonNull final Consumer<DataStoreException> onError) {
+        final List<StorageItemChange<T>> changes = new ArrayList<>();
+        final AtomicReference<DataStoreException> failure = new AtomicReference<>();
+        for (T item : items) {
+            // Like the SQLite adapter, items that don't exist are not an error in a batch.
+            if (indexOf(item) < 0) {
+                continue;
+            }
+            delete(item, initiator, QueryPredicates.all(), changes::add, failure::set);
+            if (failure.get() != null) {
+                onError.accept(failure.get());
+                return;
+            }
+        }
+        onSuccess.accept(changes);
+    }
+
+    @Override
+    public void deleteAllAndSaveAll(
+            @NonNull final List<? extends Model> deletions,
+            @NonNull final List<? extends Model> saves,
+            @NonNull final StorageItemChange.Initiator initiator,
+            @NonNull final Consumer<List<StorageItemChange<? extends Model>>> onSuccess,
+            @NonNull final Consumer<DataStoreException> onError) {
+        final List<StorageItemChange<? extends Model>> changes = new ArrayList<>();
+        final AtomicReference<DataStoreException> failure = new AtomicReference<>();
+        deleteAll(deletions, initiator, deletionChanges -> { }, failure::set);
+        if (failure.get() == null) {
+            saveAll(saves, initiator, changes::addAll, failure::set);
+        }
+        if (failure.get() != null) {
+            onError.accept(failure.get());
+            return;
+        }
+        onSuccess.accept(changes);
+    }
+
     @SuppressWarnings("unchecked") // item.getClass() -> Class<?>, but type is T. So cast as Class<T> is OK.
     @Override
     public <T extends Model> void delete(
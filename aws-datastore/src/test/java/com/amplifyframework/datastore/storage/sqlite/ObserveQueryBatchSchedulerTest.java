@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ObserveQueryBatchScheduler}.
+ */
+public final class ObserveQueryBatchSchedulerTest {
+    private ObserveQueryBatchScheduler scheduler;
+
+    /**
+     * Creates a scheduler for each test.
+     */
+    @Before
+    public void setup() {
+        scheduler = new ObserveQueryBatchScheduler();
+    }
+
+    /**
+     * Stops the scheduler's timer thread.
+     */
+    @After
+    public void teardown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Batches with the same interval are flushed together, and a batch that is already pending is
+     * not scheduled twice.
+     * @throws InterruptedException If interrupted while waiting for the flush
+     */
+    @Test
+    public void batchesWithSameIntervalAreFlushedTogether() throws InterruptedException {
+        Object first = new Object();
+        Object second = new Object();
+        scheduler.register(first);
+        scheduler.register(second);
+        CountDownLatch flushed = new CountDownLatch(2);
+        AtomicInteger flushCount = new AtomicInteger();
+        Runnable flush = () -> {
+            flushCount.incrementAndGet();
+            flushed.countDown();
+        };
+
+        scheduler.schedule(first, 1, flush);
+        scheduler.schedule(first, 1, flush);
+        scheduler.schedule(second, 1, flush);
+        assertEquals(2, scheduler.getActiveObserverCount());
+        assertEquals(2, scheduler.getPendingBatchCount());
+
+        assertTrue(flushed.await(2, TimeUnit.SECONDS));
+        assertEquals(2, flushCount.get());
+        assertEquals(0, scheduler.getPendingBatchCount());
+    }
+
+    /**
+     * An unregistered observer is no longer active, and its pending batch is dropped.
+     */
+    @Test
+    public void unregisterDropsPendingBatch() {
+        Object observer = new Object();
+        scheduler.register(observer);
+        scheduler.schedule(observer, 1, () -> { throw new AssertionError("Dropped batch was flushed."); });
+
+        scheduler.unregister(observer);
+
+        assertEquals(0, scheduler.getActiveObserverCount());
+        assertEquals(0, scheduler.getPendingBatchCount());
+    }
+}
@@ -37,6 +37,8 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
@@ -332,4 +334,82 @@ public class ObserveQueryExecutorTest {
         Assert.assertTrue(latch.await(1, TimeUnit.SECONDS));
         Assert.assertTrue(changeLatch.await(10, TimeUnit.SECONDS));
     }
+
+    /***
+     * Changes are applied to the sorted items of the query, and each snapshot after the first
+     * carries the differences from the one before it.
+     * @throws InterruptedException InterruptedException
+     * @throws AmplifyException AmplifyException
+     */
+    @Test
+    public void observeQueryKeepsItemsSortedAndReportsDiffs() throws InterruptedException, AmplifyException {
+        BlogOwner bob = BlogOwner.builder().name("Bob").build();
+        BlogOwner alice = BlogOwner.builder().name("Alice").build();
+        BlogOwner renamedBob = bob.copyOfBuilder().name("Aaron").build();
+        List<DataStoreQuerySnapshot<BlogOwner>> snapshots = new ArrayList<>();
+        CountDownLatch initialLatch = new CountDownLatch(1);
+        CountDownLatch changeLatch = new CountDownLatch(2);
+        Consumer<DataStoreQuerySnapshot<BlogOwner>> onQuerySnapshot = value -> {
+            snapshots.add(value);
+            if (initialLatch.getCount() > 0) {
+                initialLatch.countDown();
+            } else {
+                changeLatch.countDown();
+            }
+        };
+        SqlQueryProcessor mockSqlQueryProcessor = mock(SqlQueryProcessor.class);
+        when(mockSqlQueryProcessor.queryOfflineData(eq(BlogOwner.class), any(), any()))
+                .thenReturn(Collections.singletonList(bob));
+        SyncStatus mockSyncStatus = mock(SyncStatus.class);
+        when(mockSyncStatus.get(any(), any())).thenReturn(true);
+        Subject<StorageItemChange<? extends Model>> subject =
+                PublishSubject.<StorageItemChange<? extends Model>>create().toSerialized();
+        ObserveQueryExecutor<BlogOwner> observeQueryExecutor = new ObserveQueryExecutor<>(subject,
+                mockSqlQueryProcessor,
+                Executors.newSingleThreadExecutor(),
+                mockSyncStatus,
+                new ModelSorter<>(),
+                50, 2);
+        observeQueryExecutor.observeQuery(
+                BlogOwner.class,
+                new ObserveQueryOptions(null, Collections.singletonList(BlogOwner.NAME.ascending())),
+                NoOpConsumer.create(),
+                onQuerySnapshot,
+                NoOpConsumer.create(),
+                NoOpAction.create());
+        Assert.assertTrue(initialLatch.await(1, TimeUnit.SECONDS));
+
+        subject.onNext(itemChange(alice, StorageItemChange.Type.CREATE));
+        subject.onNext(itemChange(renamedBob, StorageItemChange.Type.UPDATE));
+        Assert.assertTrue(changeLatch.await(1, TimeUnit.SECONDS));
+
+        Assert.assertNull(snapshots.get(0).getDiff());
+        assertEquals(Arrays.asList(alice, bob), snapshots.get(1).getItems());
+        assertEquals(new DataStoreQuerySnapshot.Diff(
+                Collections.emptyList(),
+                Collections.singletonList(0),
+                Collections.emptyList(),
+                Collections.emptyList()
+        ), snapshots.get(1).getDiff());
+        assertEquals(Arrays.asList(renamedBob, alice), snapshots.get(2).getItems());
+        assertEquals(new DataStoreQuerySnapshot.Diff(
+                Collections.emptyList(),
+                Collections.emptyList(),
+                Collections.singletonList(new DataStoreQuerySnapshot.Move(1, 0)),
+                Collections.singletonList(0)
+        ), snapshots.get(2).getDiff());
+    }
+
+    private static StorageItemChange<BlogOwner> itemChange(BlogOwner item, StorageItemChange.Type type)
+            throws AmplifyException {
+        return StorageItemChange.<BlogOwner>builder()
+                .changeId(UUID.randomUUID().toString())
+                .initiator(StorageItemChange.Initiator.DATA_STORE_API)
+                .item(item)
+                .patchItem(SerializedModel.create(item, ModelSchema.fromModelClass(BlogOwner.class)))
+                .modelSchema(ModelSchema.fromModelClass(BlogOwner.class))
+                .predicate(QueryPredicates.all())
+                .type(type)
+                .build();
+    }
 }
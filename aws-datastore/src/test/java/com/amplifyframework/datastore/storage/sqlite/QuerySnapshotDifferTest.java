@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import com.amplifyframework.datastore.DataStoreQuerySnapshot;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link QuerySnapshotDiffer}.
+ */
+public final class QuerySnapshotDifferTest {
+    /**
+     * Identical snapshots have no differences.
+     */
+    @Test
+    public void identicalSnapshotsHaveEmptyDiff() {
+        BlogOwner alan = BlogOwner.builder().name("Alan").build();
+        BlogOwner grace = BlogOwner.builder().name("Grace").build();
+
+        DataStoreQuerySnapshot.Diff diff =
+            QuerySnapshotDiffer.diff(Arrays.asList(alan, grace), Arrays.asList(alan, grace));
+
+        assertTrue(diff.isEmpty());
+    }
+
+    /**
+     * Items are matched by primary key, so a removed, an inserted, a moved and a changed
+     * item are each reported at their positions.
+     */
+    @Test
+    public void diffReportsRemovedInsertedMovedAndChangedItems() {
+        BlogOwner alan = BlogOwner.builder().name("Alan").build();
+        BlogOwner barbara = BlogOwner.builder().name("Barbara").build();
+        BlogOwner claude = BlogOwner.builder().name("Claude").build();
+        BlogOwner donald = BlogOwner.builder().name("Donald").build();
+        BlogOwner edsger = BlogOwner.builder().name("Edsger").build();
+        BlogOwner renamedBarbara = barbara.copyOfBuilder().name("Barbara L.").build();
+
+        // alan is removed, edsger is inserted, donald moves to the front, and barbara is renamed.
+        DataStoreQuerySnapshot.Diff diff = QuerySnapshotDiffer.diff(
+            Arrays.asList(alan, barbara, claude, donald),
+            Arrays.asList(donald, renamedBarbara, claude, edsger)
+        );
+
+        assertEquals(Collections.singletonList(0), diff.getRemovedPositions());
+        assertEquals(Collections.singletonList(3), diff.getInsertedPositions());
+        assertEquals(Collections.singletonList(new DataStoreQuerySnapshot.Move(3, 0)), diff.getMoves());
+        assertEquals(Collections.singletonList(1), diff.getChangedPositions());
+    }
+}
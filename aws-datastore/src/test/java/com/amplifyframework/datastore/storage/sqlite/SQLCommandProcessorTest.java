@@ -38,6 +38,7 @@ import org.robolectric.RobolectricTestRunner;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -169,6 +170,50 @@ public class SQLCommandProcessorTest {
         assertFalse(sqlCommandProcessor.executeExists(existsCommand));
     }
 
+    /**
+     * Insert and update several BlogOwners, and verify that their statements are only built and
+     * compiled once, while every row is still written with its own values.
+     * @throws AmplifyException on failure to create ModelSchema from class.
+     */
+    @Test
+    public void repeatedCommandsReuseCachedStatements() throws AmplifyException {
+        ModelSchema blogOwnerSchema = ModelSchema.fromModelClass(BlogOwner.class);
+        SQLiteCommandFactory commandFactory = new SQLiteCommandFactory(schemaRegistry, gson);
+        SQLiteStatementCache statementCache =
+            new SQLiteStatementCache(sqliteDatabase, SQLiteStatementCache.DEFAULT_MAX_SIZE);
+        SQLCommandProcessor processor = new SQLCommandProcessor(sqliteDatabase, statementCache);
+
+        List<BlogOwner> owners = Arrays.asList(
+            BlogOwner.builder().name("Abigail McGregor").build(),
+            BlogOwner.builder().name("Jane Doe").build(),
+            BlogOwner.builder().name("John Doe").build()
+        );
+        for (BlogOwner owner : owners) {
+            processor.execute(commandFactory.insertFor(blogOwnerSchema, owner));
+        }
+        BlogOwner renamed = owners.get(0).copyOfBuilder().name("Abby McGregor").build();
+        processor.execute(commandFactory.updateFor(blogOwnerSchema, renamed));
+
+        // One INSERT and one UPDATE statement are built and compiled, and reused afterwards.
+        assertEquals(2, commandFactory.getTemplateCacheMissCount());
+        assertEquals(2, commandFactory.getTemplateCacheHitCount());
+        assertEquals(2, statementCache.missCount());
+        assertEquals(2, statementCache.hitCount());
+
+        Cursor cursor = processor.rawQuery(commandFactory.queryFor(blogOwnerSchema, Where.matchesAll()));
+        List<String> names = new ArrayList<>();
+        if (cursor.moveToFirst()) {
+            int nameIndex = cursor.getColumnIndexOrThrow("BlogOwner_name");
+            do {
+                names.add(cursor.getString(nameIndex));
+            } while (cursor.moveToNext());
+        }
+        cursor.close();
+        statementCache.close();
+        Collections.sort(names);
+        assertEquals(Arrays.asList("Abby McGregor", "Jane Doe", "John Doe"), names);
+    }
+
     /**
      * Verify that index for fields included in belongs to is not created for Comments.
      * @throws AmplifyException on failure to create ModelSchema from class.
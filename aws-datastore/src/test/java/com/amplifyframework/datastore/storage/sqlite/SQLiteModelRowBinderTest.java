@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.ModelProvider;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.SchemaRegistry;
+import com.amplifyframework.core.model.query.Where;
+import com.amplifyframework.core.model.temporal.Temporal;
+import com.amplifyframework.testmodels.commentsblog.AmplifyModelProvider;
+import com.amplifyframework.testmodels.commentsblog.Blog;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.testmodels.commentsblog.Post;
+import com.amplifyframework.testmodels.commentsblog.PostStatus;
+import com.amplifyframework.util.GsonFactory;
+
+import com.google.gson.Gson;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Asserts that the SQLiteModelRowBinder produces the same models as deserializing each row with Gson.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class SQLiteModelRowBinderTest {
+    private SQLCommandFactory sqlCommandFactory;
+    private SQLCommandProcessor sqlCommandProcessor;
+    private SQLiteDatabase sqliteDatabase;
+    private SchemaRegistry schemaRegistry;
+    private Gson gson;
+
+    /**
+     * Sets up model registry and in-memory database.
+     * @throws AmplifyException if model fails to register.
+     */
+    @Before
+    public void setup() throws AmplifyException {
+        ModelProvider modelProvider = AmplifyModelProvider.getInstance();
+        schemaRegistry = SchemaRegistry.instance();
+        schemaRegistry.register(modelProvider.models());
+        gson = GsonFactory.instance();
+        sqlCommandFactory = new SQLiteCommandFactory(schemaRegistry, gson);
+        sqliteDatabase = SQLiteDatabase.createInMemory(new SQLiteDatabase.OpenParams.Builder().build());
+        for (String modelName : modelProvider.modelNames()) {
+            final ModelSchema modelSchema = schemaRegistry.getModelSchemaForModelClass(modelName);
+            sqliteDatabase.execSQL(sqlCommandFactory.createTableFor(modelSchema).sqlStatement());
+        }
+        sqlCommandProcessor = new SQLCommandProcessor(sqliteDatabase);
+    }
+
+    /**
+     * Closes in-memory database.
+     */
+    @After
+    public void clear() {
+        schemaRegistry.clear();
+        sqliteDatabase.close();
+    }
+
+    /**
+     * Rows that include associated models, enums and temporal values are bound to the
+     * same model instances that the Gson round trip produces.
+     * @throws AmplifyException On failure to write or read the models
+     */
+    @Test
+    public void boundModelsMatchGsonDeserialization() throws AmplifyException {
+        BlogOwner owner = BlogOwner.builder()
+            .name("Jane Doe")
+            .createdAt(new Temporal.DateTime("2023-01-01T10:00:00.000Z"))
+            .build();
+        Blog blog = Blog.builder()
+            .name("Jane's blog")
+            .owner(owner)
+            .build();
+        Post post = Post.builder()
+            .title("Hello, world")
+            .status(PostStatus.ACTIVE)
+            .rating(5)
+            .blog(blog)
+            .build();
+        ModelSchema postSchema = schemaRegistry.getModelSchemaForModelClass(Post.class);
+        sqlCommandProcessor.execute(sqlCommandFactory.insertFor(
+            schemaRegistry.getModelSchemaForModelClass(BlogOwner.class), owner));
+        sqlCommandProcessor.execute(sqlCommandFactory.insertFor(
+            schemaRegistry.getModelSchemaForModelClass(Blog.class), blog));
+        sqlCommandProcessor.execute(sqlCommandFactory.insertFor(postSchema, post));
+
+        SQLiteModelRowBinder<Post> binder = SQLiteModelRowBinder.compile(Post.class, postSchema, schemaRegistry, gson);
+        List<Post> bound = new ArrayList<>();
+        List<Post> deserialized = new ArrayList<>();
+        try (Cursor cursor = sqlCommandProcessor.rawQuery(sqlCommandFactory.queryFor(postSchema, Where.matchesAll()))) {
+            SQLiteModelFieldTypeConverter converter =
+                new SQLiteModelFieldTypeConverter(postSchema, schemaRegistry, gson);
+            SQLiteModelRowBinder<Post>.RowReader rowReader = binder.newRowReader(cursor);
+            while (cursor.moveToNext()) {
+                bound.add(rowReader.read());
+                deserialized.add(gson.fromJson(gson.toJson(converter.buildMapForModel(cursor)), Post.class));
+            }
+        }
+
+        assertEquals(Collections.singletonList(post), bound);
+        assertEquals(deserialized, bound);
+        assertEquals(owner, bound.get(0).getBlog().getOwner());
+    }
+}
@@ -26,6 +26,7 @@ import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.appsync.ModelMetadata;
 import com.amplifyframework.datastore.appsync.ModelWithMetadata;
 import com.amplifyframework.datastore.storage.InMemoryStorageAdapter;
+import com.amplifyframework.datastore.storage.StorageItemChange;
 import com.amplifyframework.datastore.storage.SynchronousStorageAdapter;
 import com.amplifyframework.testmodels.commentsblog.Blog;
 import com.amplifyframework.testmodels.commentsblog.BlogOwner;
@@ -36,7 +37,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -421,6 +425,70 @@ public final class MergerTest {
         );
     }
 
+    /**
+     * When a page of items is merged, each item is subject to the same rules as an individually
+     * merged item: items with a lower version than the local one are not merged, and items with a
+     * pending mutation only have their metadata saved.
+     * @throws AmplifyException On failure to arrange data into store
+     * @throws InterruptedException If interrupted while awaiting terminal result in test observer
+     */
+    @Test
+    public void mergeAllAppliesMergeRulesToEachItem() throws AmplifyException, InterruptedException {
+        // Arrange: an up-to-date model, and a model that was updated locally, are in the store.
+        BlogOwner upToDateOwner = BlogOwner.builder()
+            .name("Cornelius Daniels")
+            .build();
+        ModelMetadata upToDateMetadata = new ModelMetadata(
+            upToDateOwner.getModelName() + "|" + upToDateOwner.getId(), false, 55, Temporal.Timestamp.now());
+        BlogOwner locallyUpdatedOwner = BlogOwner.builder()
+            .name("Jameson")
+            .build();
+        ModelMetadata locallyUpdatedMetadata = new ModelMetadata(
+            locallyUpdatedOwner.getModelName() + "|" + locallyUpdatedOwner.getId(), false, 1,
+            Temporal.Timestamp.now());
+        storageAdapter.save(upToDateOwner, upToDateMetadata, locallyUpdatedOwner, locallyUpdatedMetadata);
+        ModelSchema schema = ModelSchema.fromModelClass(BlogOwner.class);
+        TestObserver<Void> enqueueObserver = mutationOutbox.enqueue(PendingMutation.instance(
+            locallyUpdatedOwner, schema, PendingMutation.Type.UPDATE, QueryPredicates.all()
+        )).test();
+        assertTrue(enqueueObserver.await(REASONABLE_WAIT_TIME, TimeUnit.MILLISECONDS));
+        enqueueObserver.assertNoErrors().assertComplete();
+
+        // Act: merge a page with an outdated version of the first model, a deletion of the
+        // locally updated model, and a new model.
+        BlogOwner newOwner = BlogOwner.builder()
+            .name("Raphael")
+            .build();
+        ModelMetadata newMetadata = new ModelMetadata(
+            newOwner.getModelName() + "|" + newOwner.getId(), false, 1, Temporal.Timestamp.now());
+        ModelMetadata deletionMetadata = new ModelMetadata(
+            locallyUpdatedOwner.getModelName() + "|" + locallyUpdatedOwner.getId(), true, 2,
+            Temporal.Timestamp.now());
+        List<ModelWithMetadata<BlogOwner>> page = Arrays.asList(
+            new ModelWithMetadata<>(
+                upToDateOwner.copyOfBuilder().name("Outdated").build(),
+                new ModelMetadata(upToDateMetadata.resolveIdentifier(), false, 33, Temporal.Timestamp.now())
+            ),
+            new ModelWithMetadata<>(locallyUpdatedOwner, deletionMetadata),
+            new ModelWithMetadata<>(newOwner, newMetadata)
+        );
+        List<StorageItemChange.Type> changeTypes = new ArrayList<>();
+        TestObserver<Void> observer = merger.mergeAll(page, changeTypes::add).test();
+        assertTrue(observer.await(REASONABLE_WAIT_TIME, TimeUnit.MILLISECONDS));
+        observer.assertNoErrors().assertComplete();
+
+        // Assert: only the new model was written, along with the metadata of the models that were merged.
+        assertEquals(Collections.singletonList(StorageItemChange.Type.CREATE), changeTypes);
+        assertEquals(
+            new HashSet<>(Arrays.asList(upToDateOwner, locallyUpdatedOwner, newOwner)),
+            new HashSet<>(storageAdapter.query(BlogOwner.class))
+        );
+        assertEquals(
+            new HashSet<>(Arrays.asList(upToDateMetadata, deletionMetadata, newMetadata)),
+            new HashSet<>(storageAdapter.query(ModelMetadata.class))
+        );
+    }
+
     /**
      * Assume item A is dependent on item B, but the remote store has an
      * orphaned item A without item B. Then, we try to merge a save for a
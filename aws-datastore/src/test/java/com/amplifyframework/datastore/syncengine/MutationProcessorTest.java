@@ -19,8 +19,11 @@ import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.graphql.GraphQLLocation;
 import com.amplifyframework.api.graphql.GraphQLOperation;
 import com.amplifyframework.api.graphql.GraphQLPathSegment;
+import com.amplifyframework.api.graphql.GraphQLRequest;
 import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.api.graphql.MutationType;
 import com.amplifyframework.core.Consumer;
+import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.SchemaRegistry;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
@@ -33,11 +36,17 @@ import com.amplifyframework.datastore.appsync.AppSync;
 import com.amplifyframework.datastore.appsync.AppSyncMocking;
 import com.amplifyframework.datastore.appsync.ModelMetadata;
 import com.amplifyframework.datastore.appsync.ModelWithMetadata;
+import com.amplifyframework.datastore.model.SimpleModelProvider;
 import com.amplifyframework.datastore.storage.InMemoryStorageAdapter;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 import com.amplifyframework.datastore.storage.SynchronousStorageAdapter;
 import com.amplifyframework.hub.HubChannel;
+import com.amplifyframework.hub.HubEvent;
+import com.amplifyframework.testmodels.commentsblog.Author;
+import com.amplifyframework.testmodels.commentsblog.Blog;
 import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.testmodels.commentsblog.Post;
+import com.amplifyframework.testmodels.commentsblog.PostStatus;
 import com.amplifyframework.testutils.HubAccumulator;
 import com.amplifyframework.testutils.Latch;
 
@@ -45,14 +54,18 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.shadows.ShadowLog;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -63,10 +76,14 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -77,6 +94,8 @@ import static org.mockito.Mockito.when;
 @RunWith(RobolectricTestRunner.class)
 public final class MutationProcessorTest {
     private static final long TIMEOUT_SECONDS = 5;
+    // How long to wait before concluding that a mutation which has to wait is not published.
+    private static final long NOT_PUBLISHED_MILLIS = 500;
 
     private SchemaRegistry schemaRegistry;
     private SynchronousStorageAdapter synchronousStorageAdapter;
@@ -100,12 +119,16 @@ public final class MutationProcessorTest {
         Merger merger = new Merger(mutationOutbox, versionRepository, localStorageAdapter);
         this.appSync = mock(AppSync.class);
         this.configurationProvider = mock(DataStoreConfigurationProvider.class);
+        when(configurationProvider.getConfiguration()).thenReturn(DataStoreConfiguration.defaults());
         RetryHandler retryHandler = new RetryHandler(0, Duration.ofMinutes(1).toMillis());
+        SimpleModelProvider modelProvider =
+            SimpleModelProvider.withRandomVersion(BlogOwner.class, Blog.class, Post.class, Author.class);
         schemaRegistry = SchemaRegistry.instance();
-        schemaRegistry.register(Collections.singleton(BlogOwner.class));
+        schemaRegistry.register(modelProvider.models());
         this.mutationProcessor = MutationProcessor.builder()
                 .merger(merger)
                 .versionRepository(versionRepository)
+                .modelProvider(modelProvider)
                 .schemaRegistry(schemaRegistry)
                 .mutationOutbox(mutationOutbox)
                 .appSync(appSync)
@@ -183,6 +206,406 @@ public final class MutationProcessorTest {
         verify(appSync).create(eq(tony), any(), any(), any());
     }
 
+    /**
+     * When batching is enabled, mutations of different models are published in a single request,
+     * and each of them is processed from its own response.
+     * @throws DataStoreException On failure to arrange the configuration or the storage
+     */
+    @Test
+    public void publishesMutationsOfDifferentModelsInOneRequest() throws DataStoreException {
+        when(configurationProvider.getConfiguration()).thenReturn(DataStoreConfiguration.builder()
+            .mutationBatchSize(10)
+            .build());
+        ModelSchema schema = schemaRegistry.getModelSchemaForModelClass(BlogOwner.class);
+        BlogOwner tony = BlogOwner.builder()
+            .name("Tony Daniels")
+            .build();
+        BlogOwner raphael = BlogOwner.builder()
+            .name("Raphael Kim")
+            .build();
+        synchronousStorageAdapter.save(tony);
+        synchronousStorageAdapter.save(raphael);
+
+        // Arrange a cooked response from AppSync for each of the mutations.
+        doReturn(mock(GraphQLRequest.class)).when(appSync).buildMutationRequest(any(), any(), any(), any(), any());
+        doAnswer(invocation -> {
+            int indexOfResponseConsumer = 1;
+            Consumer<List<GraphQLResponse<ModelWithMetadata<BlogOwner>>>> onResponse =
+                invocation.getArgument(indexOfResponseConsumer);
+            onResponse.accept(Arrays.asList(
+                new GraphQLResponse<>(new ModelWithMetadata<>(tony, new ModelMetadata(tony.getId(), false, 1,
+                    Temporal.Timestamp.now())), Collections.emptyList()),
+                new GraphQLResponse<>(new ModelWithMetadata<>(raphael, new ModelMetadata(raphael.getId(), false, 1,
+                    Temporal.Timestamp.now())), Collections.emptyList())
+            ));
+            return mock(GraphQLOperation.class);
+        }).when(appSync).mutate(any(), any(), any());
+
+        // Start listening for publication events.
+        HubAccumulator accumulator = HubAccumulator.create(
+            HubChannel.DATASTORE,
+            DataStoreChannelEventName.OUTBOX_MUTATION_PROCESSED,
+            2
+        ).start();
+
+        assertTrue(mutationOutbox.enqueue(PendingMutation.creation(tony, schema))
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(mutationOutbox.enqueue(PendingMutation.creation(raphael, schema))
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // Act! Start draining the outbox.
+        mutationProcessor.startDrainingMutationOutbox();
+
+        // Assert: both mutations were processed, from a single request.
+        assertEquals(2, accumulator.await().size());
+        assertFalse(mutationOutbox.hasPendingMutation(tony.getPrimaryKeyString()));
+        assertFalse(mutationOutbox.hasPendingMutation(raphael.getPrimaryKeyString()));
+        verify(appSync).mutate(any(), any(), any());
+        verify(appSync, never()).create(any(), any(), any(), any());
+    }
+
+    /**
+     * When batching is enabled, a batch ends before a second mutation of a model that is already in it,
+     * so that the later mutation is only published once the earlier one has been processed.
+     * @throws DataStoreException On failure to arrange the configuration or the storage
+     */
+    @Test
+    public void batchEndsAtSecondMutationOfSameModel() throws DataStoreException {
+        when(configurationProvider.getConfiguration()).thenReturn(DataStoreConfiguration.builder()
+            .mutationBatchSize(10)
+            .build());
+        ModelSchema schema = schemaRegistry.getModelSchemaForModelClass(BlogOwner.class);
+        BlogOwner tony = BlogOwner.builder()
+            .name("Tony Daniels")
+            .build();
+        BlogOwner renamedTony = tony.copyOfBuilder()
+            .name("Tony Daniels Jr.")
+            .build();
+        BlogOwner raphael = BlogOwner.builder()
+            .name("Raphael Kim")
+            .build();
+        // The update looks up this version, since the response to the creation is not merged while the
+        // update is in the outbox.
+        synchronousStorageAdapter.save(tony, new ModelMetadata(tony.getId(), false, 1, Temporal.Timestamp.now()));
+        synchronousStorageAdapter.save(raphael);
+
+        // The outbox only keeps two mutations of a model apart if the first one was in flight when the second
+        // was enqueued. Reloading the outbox forgets that it was in flight, as a restart of the app would.
+        PendingMutation<BlogOwner> createTony = PendingMutation.creation(tony, schema);
+        assertTrue(mutationOutbox.enqueue(createTony)
+            .andThen(mutationOutbox.markInFlight(createTony.getMutationId()))
+            .andThen(mutationOutbox.enqueue(PendingMutation.update(renamedTony, schema)))
+            .andThen(mutationOutbox.enqueue(PendingMutation.creation(raphael, schema)))
+            .andThen(mutationOutbox.load())
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // Arrange cooked responses from AppSync, for the creation on its own, then for the rest in a batch.
+        AppSyncMocking.create(appSync).mockSuccessResponse(tony);
+        doReturn(mock(GraphQLRequest.class)).when(appSync).buildMutationRequest(any(), any(), any(), any(), any());
+        doAnswer(invocation -> {
+            int indexOfResponseConsumer = 1;
+            Consumer<List<GraphQLResponse<ModelWithMetadata<BlogOwner>>>> onResponse =
+                invocation.getArgument(indexOfResponseConsumer);
+            onResponse.accept(Arrays.asList(
+                new GraphQLResponse<>(new ModelWithMetadata<>(renamedTony, new ModelMetadata(tony.getId(), false, 2,
+                    Temporal.Timestamp.now())), Collections.emptyList()),
+                new GraphQLResponse<>(new ModelWithMetadata<>(raphael, new ModelMetadata(raphael.getId(), false, 1,
+                    Temporal.Timestamp.now())), Collections.emptyList())
+            ));
+            return mock(GraphQLOperation.class);
+        }).when(appSync).mutate(any(), any(), any());
+
+        HubAccumulator accumulator = HubAccumulator.create(
+            HubChannel.DATASTORE,
+            DataStoreChannelEventName.OUTBOX_MUTATION_PROCESSED,
+            3
+        ).start();
+
+        // Act! Start draining the outbox.
+        mutationProcessor.startDrainingMutationOutbox();
+
+        // Assert: the creation was published on its own, and then the update with the other model's creation.
+        assertEquals(3, accumulator.await().size());
+        InOrder inOrder = inOrder(appSync);
+        inOrder.verify(appSync).create(eq(tony), any(), any(), any());
+        inOrder.verify(appSync).mutate(argThat(requests -> requests.size() == 2), any(), any());
+        verify(appSync).buildMutationRequest(eq(renamedTony), any(), eq(MutationType.UPDATE), eq(1), any());
+        verify(appSync).buildMutationRequest(eq(raphael), any(), eq(MutationType.CREATE), any(), any());
+        verify(appSync, never()).buildMutationRequest(eq(tony), any(), any(), any(), any());
+    }
+
+    /**
+     * When batching is enabled, an error in the response to one of the mutations in a batch only fails
+     * that mutation. The others are merged from their own responses.
+     * @throws DataStoreException On failure to arrange the configuration or the storage
+     */
+    @Test
+    public void errorForOneMutationInBatchOnlyFailsThatMutation() throws DataStoreException {
+        when(configurationProvider.getConfiguration()).thenReturn(DataStoreConfiguration.builder()
+            .mutationBatchSize(10)
+            .build());
+        ModelSchema schema = schemaRegistry.getModelSchemaForModelClass(BlogOwner.class);
+        BlogOwner tony = BlogOwner.builder()
+            .name("Tony Daniels")
+            .build();
+        BlogOwner raphael = BlogOwner.builder()
+            .name("Raphael Kim")
+            .build();
+        synchronousStorageAdapter.save(tony);
+        synchronousStorageAdapter.save(raphael);
+
+        // Arrange a batch response, in which the mutation of raphael has an error.
+        ModelMetadata tonyMetadata = new ModelMetadata(tony.getId(), false, 1, Temporal.Timestamp.now());
+        GraphQLResponse.Error error = new GraphQLResponse.Error(
+            "Not Authorized to access createBlogOwner on type BlogOwner",
+            Collections.emptyList(),
+            Collections.singletonList(new GraphQLPathSegment("createBlogOwner")),
+            Collections.singletonMap("errorType", "Unauthorized")
+        );
+        doReturn(mock(GraphQLRequest.class)).when(appSync).buildMutationRequest(any(), any(), any(), any(), any());
+        doAnswer(invocation -> {
+            int indexOfResponseConsumer = 1;
+            Consumer<List<GraphQLResponse<ModelWithMetadata<BlogOwner>>>> onResponse =
+                invocation.getArgument(indexOfResponseConsumer);
+            onResponse.accept(Arrays.asList(
+                new GraphQLResponse<>(new ModelWithMetadata<>(tony, tonyMetadata), Collections.emptyList()),
+                new GraphQLResponse<>(null, Collections.singletonList(error))
+            ));
+            return mock(GraphQLOperation.class);
+        }).when(appSync).mutate(any(), any(), any());
+
+        HubAccumulator processedAccumulator = HubAccumulator.create(
+            HubChannel.DATASTORE,
+            DataStoreChannelEventName.OUTBOX_MUTATION_PROCESSED,
+            1
+        ).start();
+        HubAccumulator failedAccumulator = HubAccumulator.create(
+            HubChannel.DATASTORE,
+            DataStoreChannelEventName.OUTBOX_MUTATION_FAILED,
+            1
+        ).start();
+
+        assertTrue(mutationOutbox.enqueue(PendingMutation.creation(tony, schema))
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(mutationOutbox.enqueue(PendingMutation.creation(raphael, schema))
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // Act! Start draining the outbox.
+        mutationProcessor.startDrainingMutationOutbox();
+
+        // Assert: tony was merged, raphael failed, and both left the outbox.
+        HubEvent<?> processed = processedAccumulator.awaitFirst();
+        assertEquals(tony, ((OutboxMutationEvent<?>) processed.getData()).getElement().getModel());
+        HubEvent<?> failed = failedAccumulator.awaitFirst();
+        assertEquals(raphael, ((OutboxMutationFailedEvent<?>) failed.getData()).getModel());
+        assertEquals(Collections.singletonList(tonyMetadata), synchronousStorageAdapter.query(ModelMetadata.class));
+        assertFalse(mutationOutbox.hasPendingMutation(tony.getPrimaryKeyString()));
+        assertFalse(mutationOutbox.hasPendingMutation(raphael.getPrimaryKeyString()));
+        verify(appSync).mutate(any(), any(), any());
+    }
+
+    /**
+     * When several mutations may be in flight, mutations of different models are published
+     * without waiting for each other's responses.
+     * @throws DataStoreException On failure to arrange the configuration or the storage
+     * @throws InterruptedException If interrupted while waiting for the mutations to be published
+     */
+    @Test
+    public void publishesMutationsOfDifferentModelsConcurrently() throws DataStoreException, InterruptedException {
+        when(configurationProvider.getConfiguration()).thenReturn(DataStoreConfiguration.builder()
+            .mutationMaxInFlight(2)
+            .build());
+        ModelSchema schema = schemaRegistry.getModelSchemaForModelClass(BlogOwner.class);
+        BlogOwner tony = BlogOwner.builder()
+            .name("Tony Daniels")
+            .build();
+        BlogOwner raphael = BlogOwner.builder()
+            .name("Raphael Kim")
+            .build();
+        synchronousStorageAdapter.save(tony);
+        synchronousStorageAdapter.save(raphael);
+
+        // Hold on to the response consumers, instead of responding right away.
+        Map<BlogOwner, Consumer<GraphQLResponse<ModelWithMetadata<BlogOwner>>>> onResponses =
+            new ConcurrentHashMap<>();
+        CountDownLatch publishedBoth = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            int indexOfModel = 0;
+            int indexOfResponseConsumer = 2;
+            onResponses.put(invocation.getArgument(indexOfModel), invocation.getArgument(indexOfResponseConsumer));
+            publishedBoth.countDown();
+            return mock(GraphQLOperation.class);
+        }).when(appSync).create(any(), any(), any(), any());
+
+        HubAccumulator accumulator = HubAccumulator.create(
+            HubChannel.DATASTORE,
+            DataStoreChannelEventName.OUTBOX_MUTATION_PROCESSED,
+            2
+        ).start();
+
+        assertTrue(mutationOutbox.enqueue(PendingMutation.creation(tony, schema))
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(mutationOutbox.enqueue(PendingMutation.creation(raphael, schema))
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // Act! Start draining the outbox.
+        mutationProcessor.startDrainingMutationOutbox();
+
+        // Assert: both mutations are published before either of them gets a response.
+        assertTrue(publishedBoth.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(new HashSet<>(Arrays.asList(tony, raphael)), onResponses.keySet());
+        for (Map.Entry<BlogOwner, Consumer<GraphQLResponse<ModelWithMetadata<BlogOwner>>>> entry :
+                onResponses.entrySet()) {
+            BlogOwner owner = entry.getKey();
+            ModelMetadata metadata = new ModelMetadata(owner.getId(), false, 1, Temporal.Timestamp.now());
+            entry.getValue().accept(
+                new GraphQLResponse<>(new ModelWithMetadata<>(owner, metadata), Collections.emptyList())
+            );
+        }
+        assertEquals(2, accumulator.await().size());
+        assertFalse(mutationOutbox.hasPendingMutation(tony.getPrimaryKeyString()));
+        assertFalse(mutationOutbox.hasPendingMutation(raphael.getPrimaryKeyString()));
+    }
+
+    /**
+     * When several mutations may be in flight, a mutation of a model is not published until the
+     * response to the earlier mutation of the same model has been processed.
+     * @throws DataStoreException On failure to arrange the configuration or the storage
+     * @throws InterruptedException If interrupted while waiting for the mutations to be published
+     */
+    @Test
+    public void mutationsOfTheSameModelArePublishedInOrder() throws DataStoreException, InterruptedException {
+        when(configurationProvider.getConfiguration()).thenReturn(DataStoreConfiguration.builder()
+            .mutationMaxInFlight(3)
+            .build());
+        ModelSchema schema = schemaRegistry.getModelSchemaForModelClass(BlogOwner.class);
+        BlogOwner tony = BlogOwner.builder()
+            .name("Tony Daniels")
+            .build();
+        BlogOwner raphael = BlogOwner.builder()
+            .name("Raphael Kim")
+            .build();
+        // The update looks up this version, since the response to the creation is not merged while the
+        // update is in the outbox.
+        synchronousStorageAdapter.save(tony, new ModelMetadata(tony.getId(), false, 1, Temporal.Timestamp.now()));
+        synchronousStorageAdapter.save(raphael);
+        HeldResponses creations = HeldResponses.ofCreations(appSync);
+        HeldResponses updates = HeldResponses.ofUpdates(appSync);
+        HubAccumulator raphaelProcessed =
+            HubAccumulator.create(HubChannel.DATASTORE, isProcessed(raphael), 1).start();
+
+        assertTrue(mutationOutbox.enqueue(PendingMutation.creation(tony, schema))
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(mutationOutbox.enqueue(PendingMutation.creation(raphael, schema))
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        mutationProcessor.startDrainingMutationOutbox();
+        assertTrue(creations.awaitPublished(tony));
+        assertTrue(creations.awaitPublished(raphael));
+
+        // The creation is in flight, so the update is kept as a separate mutation in the outbox.
+        BlogOwner renamedTony = tony.copyOfBuilder()
+            .name("Tony Daniels Jr.")
+            .build();
+        assertTrue(mutationOutbox.enqueue(PendingMutation.update(renamedTony, schema))
+            .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // Processing another model's response makes room in flight, but the update still waits.
+        creations.respond(raphael);
+        raphaelProcessed.await();
+        assertFalse(updates.awaitPublished(renamedTony, NOT_PUBLISHED_MILLIS));
+
+        // Once the creation has been processed, the update is published.
+        creations.respond(tony);
+        assertTrue(updates.awaitPublished(renamedTony));
+    }
+
+    /**
+     * When several mutations may be in flight, a mutation of a model is not published until the
+     * mutations ahead of it of the models it belongs to have been processed.
+     * @throws DataStoreException On failure to arrange the configuration or the storage
+     * @throws InterruptedException If interrupted while waiting for the mutations to be published
+     */
+    @Test
+    public void mutationOfChildWaitsForMutationOfParent() throws DataStoreException, InterruptedException {
+        when(configurationProvider.getConfiguration()).thenReturn(DataStoreConfiguration.builder()
+            .mutationMaxInFlight(2)
+            .build());
+        BlogOwner owner = BlogOwner.builder()
+            .name("Tony Daniels")
+            .build();
+        Blog blog = Blog.builder()
+            .name("Tony's Blog")
+            .owner(owner)
+            .build();
+        synchronousStorageAdapter.save(owner);
+        synchronousStorageAdapter.save(blog);
+        HeldResponses creations = HeldResponses.ofCreations(appSync);
+
+        enqueueCreations(owner, blog);
+        mutationProcessor.startDrainingMutationOutbox();
+
+        // The blog belongs to the owner, so it waits, though there is room in flight.
+        assertTrue(creations.awaitPublished(owner));
+        assertFalse(creations.awaitPublished(blog, NOT_PUBLISHED_MILLIS));
+
+        creations.respond(owner);
+        assertTrue(creations.awaitPublished(blog));
+    }
+
+    /**
+     * When several mutations may be in flight, a mutation that has to wait also holds back the
+     * mutations behind it that depend on it, even if they could otherwise be published.
+     * @throws DataStoreException On failure to arrange the configuration or the storage
+     * @throws InterruptedException If interrupted while waiting for the mutations to be published
+     */
+    @Test
+    public void waitingMutationHoldsBackMutationsBehindIt() throws DataStoreException, InterruptedException {
+        when(configurationProvider.getConfiguration()).thenReturn(DataStoreConfiguration.builder()
+            .mutationMaxInFlight(3)
+            .build());
+        BlogOwner owner = BlogOwner.builder()
+            .name("Tony Daniels")
+            .build();
+        Blog blog = Blog.builder()
+            .name("Tony's Blog")
+            .owner(owner)
+            .build();
+        // A post belongs to a blog, but not directly to its owner.
+        Post post = Post.builder()
+            .title("First post")
+            .status(PostStatus.ACTIVE)
+            .rating(5)
+            .blog(blog)
+            .build();
+        synchronousStorageAdapter.save(owner);
+        synchronousStorageAdapter.save(blog);
+        synchronousStorageAdapter.save(post);
+        HeldResponses creations = HeldResponses.ofCreations(appSync);
+
+        enqueueCreations(owner, blog, post);
+        mutationProcessor.startDrainingMutationOutbox();
+
+        // The blog waits for its owner, and the post waits for the blog that is waiting.
+        assertTrue(creations.awaitPublished(owner));
+        assertFalse(creations.awaitPublished(blog, NOT_PUBLISHED_MILLIS));
+        assertFalse(creations.awaitPublished(post, NOT_PUBLISHED_MILLIS));
+
+        creations.respond(owner);
+        assertTrue(creations.awaitPublished(blog));
+        assertFalse(creations.awaitPublished(post, NOT_PUBLISHED_MILLIS));
+
+        creations.respond(blog);
+        assertTrue(creations.awaitPublished(post));
+    }
+
+    private void enqueueCreations(Model... models) {
+        for (Model model : models) {
+            ModelSchema schema = schemaRegistry.getModelSchemaForModelClass(model.getModelName());
+            assertTrue(mutationOutbox.enqueue(PendingMutation.creation(model, schema))
+                .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+
     /**
      * If the AppSync response to the mutation contains a ConflictUnhandled
      * error in the GraphQLResponse error list, then the user-provided
@@ -441,4 +864,67 @@ public final class MutationProcessorTest {
         assertTrue(retryHandlerInvocationCount.await(300, TimeUnit.SECONDS));
         mutationProcessor.stopDrainingMutationOutbox();
     }
+
+    /**
+     * Holds on to the response callbacks of the mutations published through a mock {@link AppSync},
+     * so that a test decides when each of them gets its response.
+     */
+    private static final class HeldResponses {
+        private final Map<String, CountDownLatch> published = new ConcurrentHashMap<>();
+        private final Map<String, Consumer<GraphQLResponse<ModelWithMetadata<Model>>>> onResponses =
+            new ConcurrentHashMap<>();
+
+        static HeldResponses ofCreations(AppSync appSync) {
+            HeldResponses heldResponses = new HeldResponses();
+            doAnswer(invocation -> {
+                int indexOfModel = 0;
+                int indexOfResponseConsumer = 2;
+                heldResponses.hold(
+                    invocation.getArgument(indexOfModel),
+                    invocation.getArgument(indexOfResponseConsumer)
+                );
+                return mock(GraphQLOperation.class);
+            }).when(appSync).create(any(), any(), any(), any());
+            return heldResponses;
+        }
+
+        static HeldResponses ofUpdates(AppSync appSync) {
+            HeldResponses heldResponses = new HeldResponses();
+            doAnswer(invocation -> {
+                int indexOfModel = 0;
+                int indexOfResponseConsumer = 4;
+                heldResponses.hold(
+                    invocation.getArgument(indexOfModel),
+                    invocation.getArgument(indexOfResponseConsumer)
+                );
+                return mock(GraphQLOperation.class);
+            }).when(appSync).update(any(), any(), anyInt(), any(QueryPredicate.class), any(), any());
+            return heldResponses;
+        }
+
+        private void hold(Model model, Consumer<GraphQLResponse<ModelWithMetadata<Model>>> onResponse) {
+            onResponses.put(model.getPrimaryKeyString(), onResponse);
+            latchFor(model).countDown();
+        }
+
+        boolean awaitPublished(Model model) throws InterruptedException {
+            return latchFor(model).await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        boolean awaitPublished(Model model, long timeoutMillis) throws InterruptedException {
+            return latchFor(model).await(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        void respond(Model model) {
+            ModelMetadata metadata =
+                new ModelMetadata(model.getPrimaryKeyString(), false, 1, Temporal.Timestamp.now());
+            onResponses.remove(model.getPrimaryKeyString()).accept(
+                new GraphQLResponse<>(new ModelWithMetadata<>(model, metadata), Collections.emptyList())
+            );
+        }
+
+        private CountDownLatch latchFor(Model model) {
+            return published.computeIfAbsent(model.getPrimaryKeyString(), id -> new CountDownLatch(1));
+        }
+    }
 }
@@ -48,7 +48,9 @@ import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.hub.HubEventFilter;
 import com.amplifyframework.testmodels.commentsblog.AmplifyModelProvider;
 import com.amplifyframework.testmodels.commentsblog.Author;
+import com.amplifyframework.testmodels.commentsblog.Blog;
 import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.testmodels.commentsblog.Comment;
 import com.amplifyframework.testmodels.commentsblog.Post;
 import com.amplifyframework.testutils.HubAccumulator;
 import com.amplifyframework.testutils.random.RandomString;
@@ -64,10 +66,13 @@ import org.robolectric.RobolectricTestRunner;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
@@ -77,9 +82,11 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
 
 import static com.amplifyframework.datastore.appsync.TestModelWithMetadataInstances.BLOGGER_ISLA;
 import static com.amplifyframework.datastore.appsync.TestModelWithMetadataInstances.BLOGGER_JAMESON;
@@ -774,6 +781,55 @@ public final class SyncProcessorTest {
         syncAndExpect(1000, 10000);
     }
 
+    /**
+     * A model waits for the models that it indirectly depends on, even when the models in between
+     * aren't synced, while models that don't depend on each other are hydrated at the same time.
+     * @throws AmplifyException On failure to load models into registry
+     */
+    @Test
+    public void hydrationWaitsForTransitiveDependenciesOfUnsyncedModels() throws AmplifyException {
+        // Arrange: Comment belongs to Post, which belongs to Blog and Author. Blog belongs to BlogOwner.
+        SimpleModelProvider provider =
+            SimpleModelProvider.withRandomVersion(Comment.class, Blog.class, BlogOwner.class, Post.class, Author.class);
+        SchemaRegistry schemaRegistry = SchemaRegistry.instance();
+        schemaRegistry.clear();
+        schemaRegistry.register(provider.models());
+        TopologicalOrdering ordering = TopologicalOrdering.forRegisteredModels(schemaRegistry, provider);
+        ModelSchema commentSchema = schemaRegistry.getModelSchemaForModelClass(Comment.class);
+        ModelSchema blogSchema = schemaRegistry.getModelSchemaForModelClass(Blog.class);
+        ModelSchema blogOwnerSchema = schemaRegistry.getModelSchemaForModelClass(BlogOwner.class);
+        ModelSchema authorSchema = schemaRegistry.getModelSchemaForModelClass(Author.class);
+
+        // Post is not synced.
+        List<ModelSchema> syncedSchemas = Arrays.asList(commentSchema, blogSchema, blogOwnerSchema, authorSchema);
+        Collections.sort(syncedSchemas, ordering::compare);
+        Map<String, CompletableSubject> hydrations = new HashMap<>();
+        List<String> started = new ArrayList<>();
+        List<Completable> tasks = SyncProcessor.createHydrationTasks(syncedSchemas, ordering, schema -> {
+            CompletableSubject hydration = CompletableSubject.create();
+            hydrations.put(schema.getName(), hydration);
+            return hydration.doOnSubscribe(disposable -> started.add(schema.getName()));
+        });
+
+        // Act: hydrate up to 4 models at a time.
+        TestObserver<Void> observer = Completable.merge(Flowable.fromIterable(tasks), 4).test();
+
+        // Assert: the models that don't depend on anything are hydrated at the same time.
+        assertEquals(new HashSet<>(Arrays.asList("BlogOwner", "Author")), new HashSet<>(started));
+
+        // Assert: Comment still waits for Blog, which it depends on through Post.
+        hydrations.get("Author").onComplete();
+        assertFalse(started.contains("Comment"));
+        hydrations.get("BlogOwner").onComplete();
+        assertTrue(started.contains("Blog"));
+        assertFalse(started.contains("Comment"));
+        hydrations.get("Blog").onComplete();
+        assertTrue(started.contains("Comment"));
+
+        hydrations.get("Comment").onComplete();
+        observer.assertComplete();
+    }
+
     private void syncAndExpect(int numPages, int maxSyncRecords) throws AmplifyException, InterruptedException {
         initSyncProcessor(maxSyncRecords);
         // Arrange a subscription to the storage adapter. We're going to watch for changes.
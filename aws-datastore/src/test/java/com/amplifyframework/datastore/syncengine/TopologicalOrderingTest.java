@@ -28,6 +28,11 @@ import com.amplifyframework.testmodels.commentsblog.Post;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -66,6 +71,41 @@ public final class TopologicalOrderingTest {
         assertTrue(topologicalOrdering.check(postSchema).isAfter(blogSchema));
     }
 
+    /**
+     * The dependencies of a model are the models that it directly belongs to.
+     * @throws AmplifyException On failure to load models into registry
+     */
+    @Test
+    public void dependenciesAreModelsBelongedTo() throws AmplifyException {
+        final SimpleModelProvider provider =
+            SimpleModelProvider.withRandomVersion(Comment.class, Blog.class, BlogOwner.class, Post.class, Author.class);
+
+        final SchemaRegistry registry = SchemaRegistry.instance();
+        registry.clear();
+        registry.register(provider.models());
+
+        ModelSchema commentSchema = findSchema(registry, Comment.class);
+        ModelSchema postSchema = findSchema(registry, Post.class);
+        ModelSchema blogSchema = findSchema(registry, Blog.class);
+        ModelSchema authorSchema = findSchema(registry, Author.class);
+        ModelSchema blogOwnerSchema = findSchema(registry, BlogOwner.class);
+
+        // Act: get a topological ordering of the models.
+        TopologicalOrdering topologicalOrdering = TopologicalOrdering.forRegisteredModels(registry, provider);
+
+        // Assert: only direct dependencies are returned.
+        assertEquals(new HashSet<>(Arrays.asList(blogSchema, authorSchema)),
+            topologicalOrdering.dependenciesOf(postSchema));
+        assertEquals(Collections.singleton(postSchema), topologicalOrdering.dependenciesOf(commentSchema));
+        assertEquals(Collections.singleton(blogOwnerSchema), topologicalOrdering.dependenciesOf(blogSchema));
+        assertEquals(Collections.emptySet(), topologicalOrdering.dependenciesOf(blogOwnerSchema));
+
+        // Assert: transitive dependencies include the dependencies of dependencies.
+        assertEquals(new HashSet<>(Arrays.asList(postSchema, blogSchema, authorSchema, blogOwnerSchema)),
+            topologicalOrdering.transitiveDependenciesOf(commentSchema));
+        assertEquals(Collections.emptySet(), topologicalOrdering.transitiveDependenciesOf(blogOwnerSchema));
+    }
+
     /**
      * Find a {@link ModelSchema} in an {@link SchemaRegistry}, looking up by the
      * model's {@link Class}.
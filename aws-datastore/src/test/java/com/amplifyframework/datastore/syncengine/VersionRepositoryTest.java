@@ -25,7 +25,10 @@ import com.amplifyframework.testmodels.commentsblog.BlogOwner;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
@@ -153,4 +156,39 @@ public final class VersionRepositoryTest {
             .assertComplete()
             .assertValue(expectedVersion);
     }
+
+    /**
+     * The versions of a batch of models can be looked up together. Models without
+     * a locally known version are left out of the result.
+     * @throws DataStoreException On failure to arrange metadata into the store
+     * @throws InterruptedException If interrupted while awaiting terminal result in test observer
+     */
+    @Test
+    public void findModelVersionsReturnsKnownVersions() throws DataStoreException, InterruptedException {
+        // Arrange: two models have a version in the store, a third model has none.
+        BlogOwner first = BlogOwner.builder()
+            .name("Jameson")
+            .build();
+        BlogOwner second = BlogOwner.builder()
+            .name("Cornelius")
+            .build();
+        BlogOwner unknown = BlogOwner.builder()
+            .name("Raphael")
+            .build();
+        storageAdapter.save(
+            new ModelMetadata(VersionRepository.metadataId(first), false, 3, Temporal.Timestamp.now()),
+            new ModelMetadata(VersionRepository.metadataId(second), false, 7, Temporal.Timestamp.now())
+        );
+
+        // Act: look up the versions of all three models at once.
+        TestObserver<Map<String, Integer>> observer =
+            versionRepository.findModelVersions(Arrays.asList(first, second, unknown)).test();
+        assertTrue(observer.await(REASONABLE_WAIT_TIME, TimeUnit.MILLISECONDS));
+
+        // Assert: only the known versions are returned.
+        Map<String, Integer> expectedVersions = new HashMap<>();
+        expectedVersions.put(VersionRepository.metadataId(first), 3);
+        expectedVersions.put(VersionRepository.metadataId(second), 7);
+        observer.assertNoErrors().assertValue(expectedVersions);
+    }
 }
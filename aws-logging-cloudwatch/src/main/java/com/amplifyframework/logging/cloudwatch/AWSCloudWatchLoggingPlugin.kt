@@ -112,6 +112,7 @@ class AWSCloudWatchLoggingPlugin @JvmOverloads constructor(
             }
             val cloudWatchLogManager =
                 CloudWatchLogManager(context, awsLoggingConfig, cloudWatchLogsClient, loggingConstraintsResolver)
+            awsCloudWatchLoggingPluginImplementation.cloudWatchLogManager?.close()
             awsCloudWatchLoggingPluginImplementation.cloudWatchLogManager = cloudWatchLogManager
             CloudwatchRouterWorker.workerFactories[CloudwatchRouterWorker.WORKER_FACTORY_KEY] = CloudwatchWorkerFactory(
                 cloudWatchLogManager,
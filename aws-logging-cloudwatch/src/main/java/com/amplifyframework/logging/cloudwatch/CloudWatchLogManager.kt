@@ -14,7 +14,9 @@
  */
 package com.amplifyframework.logging.cloudwatch
 
+import android.content.ComponentCallbacks2
 import android.content.Context
+import android.content.res.Configuration
 import androidx.work.Constraints
 import androidx.work.ExistingWorkPolicy
 import androidx.work.NetworkType
@@ -30,6 +32,7 @@ import com.amplifyframework.core.Amplify
 import com.amplifyframework.core.category.CategoryType
 import com.amplifyframework.hub.HubChannel
 import com.amplifyframework.hub.HubEvent
+import com.amplifyframework.logging.LogLevel
 import com.amplifyframework.logging.LoggingEventName
 import com.amplifyframework.logging.cloudwatch.db.CloudWatchLoggingDatabase
 import com.amplifyframework.logging.cloudwatch.db.LogEvent
@@ -42,12 +45,17 @@ import java.util.Date
 import java.util.Locale
 import java.util.TimerTask
 import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicBoolean
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.delay
 import kotlinx.coroutines.launch
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
 import kotlinx.coroutines.withContext
 
 internal class CloudWatchLogManager(
@@ -71,19 +79,67 @@ internal class CloudWatchLogManager(
     private var isSyncInProgress = AtomicBoolean(false)
     private val logger = Amplify.Logging.logger(CategoryType.LOGGING, this::class.java.simpleName)
     private var syncTask: TimerTask? = null
+    private val logEventBuffer = LogEventRingBuffer(BUFFER_CAPACITY)
+    private val commitMutex = Mutex()
+    private val isImmediateCommitPending = AtomicBoolean(false)
+    private val isDelayedCommitPending = AtomicBoolean(false)
+    private val knownLogStreams = ConcurrentHashMap.newKeySet<String>()
+
+    // Events of a batch that could not be saved, retried once with the next commit. Guarded by commitMutex.
+    private var failedLogEvents = emptyList<CloudWatchLogEvent>()
+
+    // Saves the buffer when the app goes to the background, since the process may be killed afterwards.
+    private val componentCallbacks = object : ComponentCallbacks2 {
+        override fun onTrimMemory(level: Int) {
+            if (level >= ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN) {
+                scheduleImmediateCommit()
+            }
+        }
+
+        override fun onConfigurationChanged(newConfig: Configuration) = Unit
+
+        override fun onLowMemory() = scheduleImmediateCommit()
+    }
+
+    companion object {
+        internal const val BUFFER_CAPACITY = 1024
+        internal const val COMMIT_BATCH_SIZE = 100
+        internal const val COMMIT_INTERVAL_MS = 1000L
+        private const val MAX_EVENTS_PER_BATCH = 10000
+    }
 
     init {
         onSignIn()
+        context.applicationContext.registerComponentCallbacks(componentCallbacks)
     }
 
-    suspend fun saveLogEvent(event: CloudWatchLogEvent) = withContext(coroutineDispatcher) {
-        try {
-            cloudWatchLoggingDatabase.saveLogEvent(event)
-            if (isCacheFull()) {
-                syncLogEventsWithCloudwatch()
-            }
-        } catch (e: Exception) {
-            logger.error("failed to save event", e)
+    /**
+     * Buffers the event without waiting, to be saved with the others written within [COMMIT_INTERVAL_MS] or in the
+     * same [COMMIT_BATCH_SIZE]. Errors are saved right away, since they may come just before the app crashes.
+     * @return false if the buffer is full
+     */
+    fun offerLogEvent(event: CloudWatchLogEvent): Boolean {
+        if (!logEventBuffer.offer(event)) {
+            return false
+        }
+        if (event.level == LogLevel.ERROR || logEventBuffer.size >= COMMIT_BATCH_SIZE) {
+            scheduleImmediateCommit()
+        } else {
+            scheduleDelayedCommit()
+        }
+        return true
+    }
+
+    /**
+     * Buffers the event like [offerLogEvent]. If the buffer is full, the caller waits for it to be committed.
+     */
+    suspend fun saveLogEvent(event: CloudWatchLogEvent) {
+        if (offerLogEvent(event)) {
+            return
+        }
+        commitLogEvents()
+        if (!offerLogEvent(event)) {
+            logger.warn("Log event buffer is full, dropping event")
             Amplify.Hub.publish(
                 HubChannel.LOGGING,
                 HubEvent.create(LoggingEventName.WRITE_LOG_FAILURE, event)
@@ -91,6 +147,75 @@ internal class CloudWatchLogManager(
         }
     }
 
+    /**
+     * Stops listening for the app going to the background, once this manager is replaced.
+     */
+    internal fun close() {
+        context.applicationContext.unregisterComponentCallbacks(componentCallbacks)
+    }
+
+    private fun scheduleImmediateCommit() {
+        if (isImmediateCommitPending.compareAndSet(false, true)) {
+            coroutineScope.launch { commitLogEvents() }
+        }
+    }
+
+    private fun scheduleDelayedCommit() {
+        if (isDelayedCommitPending.compareAndSet(false, true)) {
+            coroutineScope.launch {
+                delay(COMMIT_INTERVAL_MS)
+                commitLogEvents()
+            }
+        }
+    }
+
+    /**
+     * Saves the buffered events, and flushes them to CloudWatch if the local store is full.
+     */
+    internal suspend fun commitLogEvents() {
+        commitBufferedLogEvents()
+        if (isCacheFull()) {
+            syncLogEventsWithCloudwatch()
+        }
+    }
+
+    private suspend fun commitBufferedLogEvents() = withContext(coroutineDispatcher) {
+        commitMutex.withLock {
+            isImmediateCommitPending.set(false)
+            isDelayedCommitPending.set(false)
+            val retriedEvents = failedLogEvents
+            failedLogEvents = emptyList()
+            if (retriedEvents.isNotEmpty() && !saveLogEvents(retriedEvents)) {
+                retriedEvents.forEach { event ->
+                    Amplify.Hub.publish(
+                        HubChannel.LOGGING,
+                        HubEvent.create(LoggingEventName.WRITE_LOG_FAILURE, event)
+                    )
+                }
+            }
+            var events = logEventBuffer.drain(BUFFER_CAPACITY)
+            while (events.isNotEmpty()) {
+                if (!saveLogEvents(events)) {
+                    failedLogEvents = failedLogEvents + events
+                }
+                events = logEventBuffer.drain(BUFFER_CAPACITY)
+            }
+            if (failedLogEvents.isNotEmpty()) {
+                scheduleDelayedCommit()
+            }
+        }
+    }
+
+    private suspend fun saveLogEvents(events: List<CloudWatchLogEvent>): Boolean {
+        return try {
+            cloudWatchLoggingDatabase.saveLogEvents(events)
+            true
+        } catch (e: Exception) {
+            logger.error("failed to save events", e)
+            false
+        }
+    }
+
     suspend fun startSync() {
         stopSync = false
         enqueueSync()
@@ -111,17 +236,25 @@ internal class CloudWatchLogManager(
             var inputLogEventsIdToBeDeleted: List<Long> = emptyList()
             try {
                 isSyncInProgress.set(true)
+                commitBufferedLogEvents()
                 awsCloudWatchLogsClient.let { client ->
-                    while (true) {
-                        val queriedEvents = cloudWatchLoggingDatabase.queryAllEvents().toMutableList()
-                        if (queriedEvents.isEmpty()) break
+                    val groupName = pluginConfiguration.logGroupName
+                    val streamName = "$todayDate.${uniqueDeviceId()}.${userIdentityId ?: "guest"}"
+                    var queriedEvents = cloudWatchLoggingDatabase.queryEventsAfter(0, MAX_EVENTS_PER_BATCH)
+                        .toMutableList()
+                    while (queriedEvents.isNotEmpty()) {
+                        val lastEventId = queriedEvents.last().id
+                        // The next page is read while this one is sent. Batches of the stream are still put one at
+                        // a time and in order.
+                        val nextEvents = async {
+                            cloudWatchLoggingDatabase.queryEventsAfter(lastEventId, MAX_EVENTS_PER_BATCH)
+                        }
                         while (queriedEvents.isNotEmpty()) {
-                            val groupName = pluginConfiguration.logGroupName
-                            val streamName = "$todayDate.${uniqueDeviceId()}.${userIdentityId ?: "guest"}"
                             val nextBatch = getNextBatch(queriedEvents)
                             val inputLogEvents = nextBatch.first
                             inputLogEventsIdToBeDeleted = nextBatch.second
                             if (inputLogEvents.isEmpty()) {
+                                nextEvents.cancel()
                                 return@withContext
                             }
                             createLogStreamIfNotCreated(streamName, groupName, client)
@@ -140,9 +273,13 @@ internal class CloudWatchLogManager(
                                 cloudWatchLoggingDatabase.bulkDelete(inputLogEventsIdToBeDeleted)
                             }
                         }
+                        // Events that were too new stay stored, before the next page, for the next flush.
+                        queriedEvents = nextEvents.await().toMutableList()
                     }
                 }
             } catch (exception: Exception) {
+                // The stream may have been deleted, so it is looked up again on the next flush.
+                knownLogStreams.clear()
                 Amplify.Hub.publish(
                     HubChannel.LOGGING,
                     HubEvent.create(LoggingEventName.FLUSH_LOG_FAILURE, exception)
@@ -161,6 +298,9 @@ internal class CloudWatchLogManager(
         groupName: String,
         client: CloudWatchLogsClient
     ) {
+        if (knownLogStreams.contains(logStream)) {
+            return
+        }
         client.describeLogStreams(
             DescribeLogStreamsRequest {
                 logGroupName = groupName
@@ -176,39 +316,46 @@ internal class CloudWatchLogManager(
                 )
             }
         }
+        knownLogStreams.add(logStream)
     }
 
     private fun getNextBatch(queriedEvents: MutableList<LogEvent>):
         Pair<List<InputLogEvent>, List<Long>> {
         var totalBatchSize = 0L
-        val inputLogEvents = mutableListOf<InputLogEvent>()
-        val inputLogEventsIdToBeDeleted = mutableListOf<Long>()
+        val batchEvents = mutableListOf<LogEvent>()
         val firstEvent = queriedEvents[0]
         val iterator = queriedEvents.iterator()
         while (iterator.hasNext()) {
             val cloudWatchEvent = iterator.next()
             totalBatchSize = totalBatchSize.plus(cloudWatchEvent.message.length).plus(26)
             if (
-                inputLogEvents.size >= 10000 || // The maximum number of log events in a batch is 10,000.
+                batchEvents.size >= MAX_EVENTS_PER_BATCH || // The maximum number of log events in a batch is 10,000.
                 totalBatchSize >= 1048576 || // The maximum batch size is 1,048,576 bytes.
                 cloudWatchEvent.timestamp - firstEvent.timestamp >= 24 * 60 * 60L // A batch of log events in a single request cannot span more than 24 hours. Otherwise, the operation fails.
             ) {
                 break
             }
-            inputLogEvents.add(
-                InputLogEvent {
-                    timestamp = cloudWatchEvent.timestamp
-                    message = cloudWatchEvent.message
-                }
-            )
-            inputLogEventsIdToBeDeleted.add(cloudWatchEvent.id)
+            batchEvents.add(cloudWatchEvent)
             iterator.remove()
         }
-        return Pair(inputLogEvents, inputLogEventsIdToBeDeleted)
+        // Events of a batch must be in chronological order, while pages are in the order events were saved. The ids
+        // are sorted along with the events, since rejected events are reported by their index in the batch.
+        batchEvents.sortBy { it.timestamp }
+        val inputLogEvents = batchEvents.map { event ->
+            InputLogEvent {
+                timestamp = event.timestamp
+                message = event.message
+            }
+        }
+        return Pair(inputLogEvents, batchEvents.map { it.id })
     }
 
     private fun clearCache() {
         coroutineScope.launch {
+            commitMutex.withLock {
+                logEventBuffer.drain(BUFFER_CAPACITY)
+                failedLogEvents = emptyList()
+            }
             cloudWatchLoggingDatabase.clearDatabase()
             context.getSharedPreferences(
                 AWSCloudWatchLoggingPlugin.SHARED_PREFERENCE_FILENAME,
@@ -65,25 +65,29 @@ class CloudWatchLogger internal constructor(
             return
         }
         var logMessage = "${level.name.lowercase()}/$namespace: $message".plus(error?.let { ", error: $it" } ?: "")
-        val event = CloudWatchLogEvent(System.currentTimeMillis(), logMessage)
+        val event = CloudWatchLogEvent(System.currentTimeMillis(), logMessage, level)
         persistEvent(event)
     }
 
     private fun persistEvent(event: CloudWatchLogEvent) {
-        coroutineScope.launch {
-            awsCloudWatchLoggingPlugin.cloudWatchLogManager?.saveLogEvent(event)?.also {
-                flushLogsQueue()
-            } ?: logEventsQueue.add(event)
+        val cloudWatchLogManager = awsCloudWatchLoggingPlugin.cloudWatchLogManager
+        if (cloudWatchLogManager == null) {
+            logEventsQueue.add(event)
+            return
+        }
+        if (!cloudWatchLogManager.offerLogEvent(event)) {
+            // The buffer is full, so the event waits for it to be committed, off the caller's thread.
+            coroutineScope.launch { cloudWatchLogManager.saveLogEvent(event) }
+        }
+        if (logEventsQueue.isNotEmpty()) {
+            coroutineScope.launch { flushLogsQueue(cloudWatchLogManager) }
         }
     }
 
-    private suspend fun flushLogsQueue() {
-        awsCloudWatchLoggingPlugin.cloudWatchLogManager?.let { cloudWatchManager ->
-            val iterator = logEventsQueue.iterator()
-            while (iterator.hasNext()) {
-                cloudWatchManager.saveLogEvent(iterator.next())
-                iterator.remove()
-            }
+    private suspend fun flushLogsQueue(cloudWatchManager: CloudWatchLogManager) {
+        while (true) {
+            val event = logEventsQueue.poll() ?: break
+            cloudWatchManager.saveLogEvent(event)
         }
     }
 
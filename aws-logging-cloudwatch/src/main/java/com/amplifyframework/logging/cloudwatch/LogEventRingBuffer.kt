@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amplifyframework.logging.cloudwatch
+
+import com.amplifyframework.logging.cloudwatch.models.CloudWatchLogEvent
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+import java.util.concurrent.atomic.AtomicReferenceArray
+
+/**
+ * Bounded lock-free queue of log events, written by any number of loggers and drained by a single consumer.
+ *
+ * Each slot carries a sequence number telling whether it is free for the write at a position or holds the event
+ * written there, so writers only race on claiming a position and never wait for each other.
+ */
+internal class LogEventRingBuffer(capacity: Int) {
+    private val capacity = Integer.highestOneBit(maxOf(capacity, 2) - 1) shl 1
+    private val mask = this.capacity - 1L
+    private val slots = AtomicReferenceArray<CloudWatchLogEvent?>(this.capacity)
+    private val sequences = AtomicLongArray(this.capacity)
+    private val tail = AtomicLong(0L)
+    private val head = AtomicLong(0L)
+
+    init {
+        for (index in 0 until this.capacity) {
+            sequences.set(index, index.toLong())
+        }
+    }
+
+    val size: Int
+        get() = (tail.get() - head.get()).coerceIn(0L, capacity.toLong()).toInt()
+
+    /**
+     * Adds the event unless the buffer is full.
+     * @return false if the buffer is full
+     */
+    fun offer(event: CloudWatchLogEvent): Boolean {
+        var position = tail.get()
+        while (true) {
+            val index = (position and mask).toInt()
+            val available = sequences.get(index) - position
+            when {
+                available == 0L -> {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        slots.set(index, event)
+                        sequences.set(index, position + 1)
+                        return true
+                    }
+                    position = tail.get()
+                }
+                // The slot still holds the event written one lap earlier.
+                available < 0L -> return false
+                else -> position = tail.get()
+            }
+        }
+    }
+
+    /**
+     * Removes up to [maxEvents] events, oldest first. Must not be called concurrently.
+     */
+    fun drain(maxEvents: Int): List<CloudWatchLogEvent> {
+        val events = mutableListOf<CloudWatchLogEvent>()
+        var position = head.get()
+        while (events.size < maxEvents) {
+            val index = (position and mask).toInt()
+            // Stops at a slot that is claimed but not written yet, as well as at the end of the buffer.
+            if (sequences.get(index) != position + 1) {
+                break
+            }
+            events.add(slots.getAndSet(index, null)!!)
+            sequences.set(index, position + capacity)
+            position++
+        }
+        head.set(position)
+        return events
+    }
+}
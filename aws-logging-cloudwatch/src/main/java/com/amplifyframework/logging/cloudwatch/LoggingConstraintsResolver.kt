@@ -32,11 +32,30 @@ import java.util.concurrent.TimeUnit
 
 internal class LoggingConstraintsResolver internal constructor(
     internal var context: Context? = null,
-    internal var localLoggingConstraint: LoggingConstraints? = null,
+    localLoggingConstraint: LoggingConstraints? = null,
     private var remoteLoggingConstraintProvider: RemoteLoggingConstraintProvider? = null,
-    internal var userId: String? = null
+    userId: String? = null
 ) {
+    internal var localLoggingConstraint: LoggingConstraints? = localLoggingConstraint
+        set(value) {
+            field = value
+            updateLogLevels()
+        }
+    internal var userId: String? = userId
+        set(value) {
+            field = value
+            updateLogLevels()
+        }
     private var remoteLoggingConstraint: LoggingConstraints? = null
+        set(value) {
+            field = value
+            updateLogLevels()
+        }
+
+    // Threshold of each category for the current constraints and user, indexed by ordinal, followed by the threshold
+    // of loggers without a category. Replaced as a whole whenever one of them changes.
+    @Volatile
+    private var logLevels: Array<LogLevel> = resolveLogLevels()
     private val logger = Amplify.Logging.logger(CategoryType.LOGGING, this::class.java.simpleName)
 
     companion object {
@@ -48,6 +67,23 @@ internal class LoggingConstraintsResolver internal constructor(
     }
 
     fun resolveLogLevel(namespace: String, categoryType: CategoryType?): LogLevel {
+        val levels = logLevels
+        return levels[categoryType?.ordinal ?: (levels.size - 1)]
+    }
+
+    @Synchronized
+    private fun updateLogLevels() {
+        logLevels = resolveLogLevels()
+    }
+
+    private fun resolveLogLevels(): Array<LogLevel> {
+        val categoryTypes = CategoryType.values()
+        return Array(categoryTypes.size + 1) { index ->
+            resolveLogLevel(categoryTypes.getOrNull(index))
+        }
+    }
+
+    private fun resolveLogLevel(categoryType: CategoryType?): LogLevel {
         return remoteLoggingConstraint?.let { loggingConstraint -> // look first in remote config
             loggingConstraint.userLogLevel[userId]?.let { userLogLevel ->
                 userLogLevel.categoryLogLevel[categoryType] ?: userLogLevel.defaultLogLevel
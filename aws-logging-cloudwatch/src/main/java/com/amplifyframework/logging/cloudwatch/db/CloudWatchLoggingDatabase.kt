@@ -22,6 +22,7 @@ import android.net.Uri
 import com.amplifyframework.core.store.EncryptedKeyValueRepository
 import com.amplifyframework.logging.cloudwatch.models.CloudWatchLogEvent
 import java.util.UUID
+import java.util.concurrent.atomic.AtomicLong
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.withContext
@@ -35,6 +36,10 @@ internal class CloudWatchLoggingDatabase(
     private val logEventsId = 20
     private val passphraseKey = "passphrase"
     private val mb = 1024 * 1024
+
+    // Approximate bytes a row takes besides its message: the id, the timestamp and the record header.
+    private val rowOverhead = 26
+    private val maxIdsPerDelete = 500
     private val encryptedKeyValueRepository: EncryptedKeyValueRepository by lazy {
         EncryptedKeyValueRepository(
             context,
@@ -49,6 +54,9 @@ internal class CloudWatchLoggingDatabase(
     private val contentUri: Uri
     private val uriMatcher: UriMatcher
 
+    // Size of the database file at the last check plus what was inserted since, or -1 until the file is next read.
+    private val estimatedCacheSize = AtomicLong(-1L)
+
     init {
         val authority = context.applicationContext.packageName
         contentUri = Uri.parse("content://$authority/$basePath")
@@ -59,47 +67,80 @@ internal class CloudWatchLoggingDatabase(
         uriMatcher.addURI(authority, "$basePath/#", logEventsId)
     }
 
-    internal suspend fun saveLogEvent(event: CloudWatchLogEvent): Uri = withContext(coroutineDispatcher) {
-        insertEvent(event)
+    /**
+     * Inserts the events in one transaction.
+     */
+    internal suspend fun saveLogEvents(events: List<CloudWatchLogEvent>) = withContext(coroutineDispatcher) {
+        database.beginTransaction()
+        try {
+            events.forEach { insertEvent(it) }
+            database.setTransactionSuccessful()
+        } finally {
+            database.endTransaction()
+        }
     }
 
-    internal suspend fun queryAllEvents(): List<LogEvent> = withContext(coroutineDispatcher) {
-        val cloudWatchLogEvents = mutableListOf<LogEvent>()
-        val cursor = query(null, null, null, LogEventTable.COLUMN_TIMESTAMP, "10000")
-        cursor.use {
-            if (!it.moveToFirst()) {
-                return@use
+    /**
+     * Queries up to [limit] events stored after the event with the given id, in the order they were saved.
+     */
+    internal suspend fun queryEventsAfter(eventId: Long, limit: Int): List<LogEvent> =
+        withContext(coroutineDispatcher) {
+            val cloudWatchLogEvents = mutableListOf<LogEvent>()
+            val cursor = query(
+                null,
+                "${LogEventTable.COLUMN_ID} > ?",
+                arrayOf(eventId.toString()),
+                LogEventTable.COLUMN_ID,
+                limit.toString()
+            )
+            cursor.use {
+                while (it.moveToNext()) {
+                    val id = it.getLong(LogEventTable.Column.ID.ordinal)
+                    val timestamp = it.getLong(LogEventTable.Column.TIMESTAMP.ordinal)
+                    val message = it.getString(LogEventTable.Column.MESSAGE.ordinal)
+                    cloudWatchLogEvents.add(LogEvent(timestamp, message, id))
+                }
             }
-            do {
-                val id = it.getLong(LogEventTable.Column.ID.ordinal)
-                val timestamp = it.getLong(LogEventTable.Column.TIMESTAMP.ordinal)
-                val message = it.getString(LogEventTable.Column.MESSAGE.ordinal)
-                cloudWatchLogEvents.add(LogEvent(timestamp, message, id))
-            } while (cursor.moveToNext())
+            cloudWatchLogEvents
         }
-        cloudWatchLogEvents
-    }
 
     internal suspend fun bulkDelete(eventIds: List<Long>) = withContext(coroutineDispatcher) {
-        contentUri
-        val whereClause = "${LogEventTable.COLUMN_ID} in (?)"
-        database.delete(
-            LogEventTable.TABLE_LOG_EVENT,
-            whereClause,
-            arrayOf(eventIds.joinToString(","))
-        )
+        estimatedCacheSize.set(-1L)
+        // A single bound argument would be read as one value, so the ids are written in the statement.
+        var rowsDeleted = 0
+        database.beginTransaction()
+        try {
+            eventIds.chunked(maxIdsPerDelete).forEach { ids ->
+                rowsDeleted += database.delete(
+                    LogEventTable.TABLE_LOG_EVENT,
+                    "${LogEventTable.COLUMN_ID} in (${ids.joinToString(",")})",
+                    null
+                )
+            }
+            database.setTransactionSuccessful()
+        } finally {
+            database.endTransaction()
+        }
+        rowsDeleted
     }
 
+    /**
+     * Checks the size of the database file against the given bound. The file is only read again once the estimate
+     * of its size reaches the bound, or after events were deleted.
+     */
     internal fun isCacheFull(cacheSizeInMB: Int): Boolean {
-        val path = context.getDatabasePath(CloudWatchDatabaseHelper.DATABASE_NAME)
-        return if (path.exists()) {
-            path.length() >= cacheSizeInMB * mb
-        } else {
-            false
+        val maxSize = cacheSizeInMB.toLong() * mb
+        var cacheSize = estimatedCacheSize.get()
+        if (cacheSize < 0 || cacheSize >= maxSize) {
+            val path = context.getDatabasePath(CloudWatchDatabaseHelper.DATABASE_NAME)
+            cacheSize = if (path.exists()) path.length() else 0L
+            estimatedCacheSize.set(cacheSize)
         }
+        return cacheSize >= maxSize
     }
 
     internal suspend fun clearDatabase() = withContext(coroutineDispatcher) {
+        estimatedCacheSize.set(-1L)
         database.delete(LogEventTable.TABLE_LOG_EVENT, null, null)
     }
 
@@ -108,6 +149,7 @@ internal class CloudWatchLoggingDatabase(
         contentValues.put(LogEventTable.COLUMN_TIMESTAMP, event.timestamp)
         contentValues.put(LogEventTable.COLUMN_MESSAGE, event.message)
         val id = database.insertOrThrow(LogEventTable.TABLE_LOG_EVENT, null, contentValues)
+        estimatedCacheSize.getAndUpdate { if (it < 0) it else it + event.message.length + rowOverhead }
         return Uri.parse("$basePath/$id")
     }
 
@@ -14,4 +14,6 @@
  */
 package com.amplifyframework.logging.cloudwatch.models
 
-internal data class CloudWatchLogEvent(val timestamp: Long, val message: String)
+import com.amplifyframework.logging.LogLevel
+
+internal data class CloudWatchLogEvent(val timestamp: Long, val message: String, val level: LogLevel? = null)
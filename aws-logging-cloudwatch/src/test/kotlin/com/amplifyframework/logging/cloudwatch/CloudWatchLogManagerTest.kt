@@ -14,8 +14,8 @@
  */
 package com.amplifyframework.logging.cloudwatch
 
+import android.content.ComponentCallbacks
 import android.content.Context
-import android.net.Uri
 import android.util.Log
 import androidx.test.core.app.ApplicationProvider
 import androidx.work.Configuration
@@ -29,6 +29,7 @@ import aws.sdk.kotlin.services.cloudwatchlogs.model.PutLogEventsRequest
 import aws.sdk.kotlin.services.cloudwatchlogs.model.PutLogEventsResponse
 import aws.sdk.kotlin.services.cloudwatchlogs.model.RejectedLogEventsInfo
 import com.amplifyframework.auth.AuthUser
+import com.amplifyframework.logging.LogLevel
 import com.amplifyframework.logging.cloudwatch.db.CloudWatchLoggingDatabase
 import com.amplifyframework.logging.cloudwatch.db.LogEvent
 import com.amplifyframework.logging.cloudwatch.models.AWSCloudWatchLoggingPluginConfiguration
@@ -39,11 +40,13 @@ import io.mockk.coVerify
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.slot
+import io.mockk.verify
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.test.UnconfinedTestDispatcher
 import kotlinx.coroutines.test.runTest
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -78,8 +81,9 @@ internal class CloudWatchLogManagerTest {
         every { pluginConfiguration.logGroupName }.answers { "LOG_GROUP" }
         coEvery { customCognitoCredentialsProvider.getCurrentUser() }.answers { AuthUser("USER_ID", "USERNAME") }
         coEvery {
-            cloudWatchLoggingDatabase.queryAllEvents()
+            cloudWatchLoggingDatabase.queryEventsAfter(any(), any())
         } returns emptyList()
+        coEvery { cloudWatchLoggingDatabase.saveLogEvents(any()) }.answers { }
         every { loggingConstraintsResolver::userId.set(capture(userIdSlot)) }.answers { }
         val testDispatcher = UnconfinedTestDispatcher(testScheduler)
         cloudWatchLogManager = CloudWatchLogManager(
@@ -97,8 +101,68 @@ internal class CloudWatchLogManagerTest {
     fun `on saveLogEvents and cache not full`() = runTest {
         val cloudwatchEvent = CloudWatchLogEvent(System.currentTimeMillis(), "Sample log")
         cloudWatchLogManager.saveLogEvent(cloudwatchEvent)
+        coVerify(exactly = 0) { cloudWatchLoggingDatabase.saveLogEvents(any()) }
+        cloudWatchLogManager.commitLogEvents()
         assertEquals("USER_ID", userIdSlot.captured)
-        coVerify(exactly = 1) { cloudWatchLoggingDatabase.saveLogEvent(cloudwatchEvent) }
+        coVerify(exactly = 1) { cloudWatchLoggingDatabase.saveLogEvents(listOf(cloudwatchEvent)) }
+    }
+
+    @Test
+    fun `on saveLogEvents commits full batches in one transaction`() = runTest {
+        val cloudwatchEvents = List(CloudWatchLogManager.COMMIT_BATCH_SIZE) {
+            CloudWatchLogEvent(System.currentTimeMillis(), "Sample log $it")
+        }
+        cloudwatchEvents.forEach { cloudWatchLogManager.saveLogEvent(it) }
+        coVerify(exactly = 1) { cloudWatchLoggingDatabase.saveLogEvents(cloudwatchEvents) }
+    }
+
+    @Test
+    fun `on offerLogEvent buffers the event without committing it`() = runTest {
+        val cloudwatchEvent = CloudWatchLogEvent(System.currentTimeMillis(), "Sample log")
+        assertTrue(cloudWatchLogManager.offerLogEvent(cloudwatchEvent))
+        coVerify(exactly = 0) { cloudWatchLoggingDatabase.saveLogEvents(any()) }
+        cloudWatchLogManager.commitLogEvents()
+        coVerify(exactly = 1) { cloudWatchLoggingDatabase.saveLogEvents(listOf(cloudwatchEvent)) }
+    }
+
+    @Test
+    fun `on close stops listening for the app going to the background`() = runTest {
+        val applicationContext = mockk<Context>(relaxed = true)
+        val managerContext = mockk<Context>(relaxed = true)
+        val componentCallbacks = slot<ComponentCallbacks>()
+        every { managerContext.applicationContext }.returns(applicationContext)
+        every { applicationContext.registerComponentCallbacks(capture(componentCallbacks)) }.answers { }
+        val manager = CloudWatchLogManager(
+            managerContext,
+            pluginConfiguration,
+            cloudWatchLogsClient,
+            loggingConstraintsResolver,
+            cloudWatchLoggingDatabase,
+            customCognitoCredentialsProvider,
+            UnconfinedTestDispatcher(testScheduler)
+        )
+        manager.close()
+        verify(exactly = 1) { applicationContext.unregisterComponentCallbacks(componentCallbacks.captured) }
+    }
+
+    @Test
+    fun `on saveLogEvents commits errors right away`() = runTest {
+        val cloudwatchEvent = CloudWatchLogEvent(System.currentTimeMillis(), "Sample error", LogLevel.ERROR)
+        cloudWatchLogManager.saveLogEvent(cloudwatchEvent)
+        coVerify(exactly = 1) { cloudWatchLoggingDatabase.saveLogEvents(listOf(cloudwatchEvent)) }
+    }
+
+    @Test
+    fun `on saveLogEvents retries a batch that failed to save`() = runTest {
+        var attempts = 0
+        coEvery { cloudWatchLoggingDatabase.saveLogEvents(any()) }.answers {
+            if (attempts++ == 0) throw IllegalStateException("database is locked")
+        }
+        val cloudwatchEvent = CloudWatchLogEvent(System.currentTimeMillis(), "Sample log")
+        cloudWatchLogManager.saveLogEvent(cloudwatchEvent)
+        cloudWatchLogManager.commitLogEvents()
+        cloudWatchLogManager.commitLogEvents()
+        coVerify(exactly = 2) { cloudWatchLoggingDatabase.saveLogEvents(listOf(cloudwatchEvent)) }
     }
 
     @Test
@@ -106,9 +170,8 @@ internal class CloudWatchLogManagerTest {
         val cloudwatchEvent = CloudWatchLogEvent(System.currentTimeMillis(), "Sample log")
         val logEvent = LogEvent(cloudwatchEvent.timestamp, cloudwatchEvent.message, 1L)
         every { cloudWatchLoggingDatabase.isCacheFull(any()) }.answers { true }
-        coEvery { cloudWatchLoggingDatabase.saveLogEvent(any()) }.answers { Uri.parse("something/1") }
         coEvery {
-            cloudWatchLoggingDatabase.queryAllEvents()
+            cloudWatchLoggingDatabase.queryEventsAfter(any(), any())
         } returns listOf(logEvent) andThen emptyList()
         coEvery {
             cloudWatchLogsClient.describeLogStreams(any())
@@ -123,8 +186,9 @@ internal class CloudWatchLogManagerTest {
             }
         }
         cloudWatchLogManager.saveLogEvent(cloudwatchEvent)
+        cloudWatchLogManager.commitLogEvents()
         assertEquals("USER_ID", userIdSlot.captured)
-        coVerify(exactly = 1) { cloudWatchLoggingDatabase.saveLogEvent(cloudwatchEvent) }
+        coVerify(exactly = 1) { cloudWatchLoggingDatabase.saveLogEvents(listOf(cloudwatchEvent)) }
         assertEquals("LOG_GROUP", putRequestSlot.captured.logGroupName)
         assertEquals(
             listOf(
@@ -137,6 +201,61 @@ internal class CloudWatchLogManagerTest {
         )
     }
 
+    @Test
+    fun `on sync looks up log stream once`() = runTest {
+        val logEvent = LogEvent(System.currentTimeMillis(), "Sample log", 1L)
+        coEvery { cloudWatchLoggingDatabase.queryEventsAfter(0, any()) } returns listOf(logEvent)
+        coEvery { cloudWatchLoggingDatabase.bulkDelete(any()) }.answers { 1 }
+        coEvery {
+            cloudWatchLogsClient.describeLogStreams(any())
+        }.answers { DescribeLogStreamsResponse.invoke { logStreams = null } }
+        coEvery {
+            cloudWatchLogsClient.createLogStream(any())
+        }.answers { CreateLogStreamResponse.invoke { } }
+        coEvery { cloudWatchLogsClient.putLogEvents(any()) }.answers { PutLogEventsResponse.invoke { } }
+
+        cloudWatchLogManager.syncLogEventsWithCloudwatch()
+        cloudWatchLogManager.syncLogEventsWithCloudwatch()
+
+        coVerify(exactly = 1) { cloudWatchLogsClient.describeLogStreams(any()) }
+        coVerify(exactly = 1) { cloudWatchLogsClient.createLogStream(any()) }
+        coVerify(exactly = 2) { cloudWatchLogsClient.putLogEvents(any()) }
+        coVerify(exactly = 2) { cloudWatchLoggingDatabase.bulkDelete(listOf(1L)) }
+        coVerify(exactly = 2) { cloudWatchLoggingDatabase.queryEventsAfter(1L, any()) }
+    }
+
+    @Test
+    fun `on sync keeps the ids of out of order events aligned with rejections`() = runTest {
+        val logEvents = listOf(
+            LogEvent(3_000L, "Third", 1L),
+            LogEvent(1_000L, "First", 2L),
+            LogEvent(2_000L, "Second", 3L)
+        )
+        coEvery { cloudWatchLoggingDatabase.queryEventsAfter(0, any()) } returns logEvents
+        coEvery { cloudWatchLoggingDatabase.bulkDelete(any()) }.answers { 1 }
+        coEvery {
+            cloudWatchLogsClient.describeLogStreams(any())
+        }.answers { DescribeLogStreamsResponse.invoke { logStreams = null } }
+        coEvery {
+            cloudWatchLogsClient.createLogStream(any())
+        }.answers { CreateLogStreamResponse.invoke { } }
+        val putRequestSlot = slot<PutLogEventsRequest>()
+        coEvery { cloudWatchLogsClient.putLogEvents(capture(putRequestSlot)) }.answers {
+            PutLogEventsResponse.invoke {
+                rejectedLogEventsInfo = RejectedLogEventsInfo.invoke {
+                    tooOldLogEventEndIndex = 0
+                    tooNewLogEventStartIndex = 2
+                }
+            }
+        }
+
+        cloudWatchLogManager.syncLogEventsWithCloudwatch()
+
+        assertEquals(listOf(1_000L, 2_000L, 3_000L), putRequestSlot.captured.logEvents?.map { it.timestamp })
+        // The too old event is dropped, while the too new one, saved first, is kept for the next flush.
+        coVerify(exactly = 1) { cloudWatchLoggingDatabase.bulkDelete(listOf(2L, 3L)) }
+    }
+
     @Test
     fun `test onStopSync`() = runTest {
         context.getSharedPreferences(AWSCloudWatchLoggingPlugin.SHARED_PREFERENCE_FILENAME, Context.MODE_PRIVATE).edit()
@@ -21,6 +21,7 @@ import io.mockk.coEvery
 import io.mockk.coVerify
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.verify
 import java.util.concurrent.ConcurrentLinkedQueue
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.test.UnconfinedTestDispatcher
@@ -109,11 +110,14 @@ internal class CloudWatchLoggerTest {
         every { loggingConstraintsResolver.resolveLogLevel(namespace, categoryType) }.answers { LogLevel.ERROR }
         every { awsCloudWatchLoggingPluginImplementation.cloudWatchLogManager }
             .returns(null) andThen cloudWatchLogManager
+        every { cloudWatchLogManager.offerLogEvent(capture(slot)) }.returns(true)
         coEvery { cloudWatchLogManager.saveLogEvent(capture(slot)) }.answers { }
         cloudWatchLogger.error("Test Message")
-        // assertEquals(1, logsEventsQueue.size)
+        assertEquals(1, logsEventsQueue.size)
         cloudWatchLogger.error("Test Message2")
-        coVerify(exactly = 2) { cloudWatchLogManager.saveLogEvent(any()) }
+        verify(exactly = 1) { cloudWatchLogManager.offerLogEvent(any()) }
+        coVerify(exactly = 1) { cloudWatchLogManager.saveLogEvent(any()) }
+        assertEquals(0, logsEventsQueue.size)
         assertEquals(slot[0].message, "error/NAMESPACE: Test Message2")
         assertEquals(slot[1].message, "error/NAMESPACE: Test Message")
     }
@@ -124,9 +128,23 @@ internal class CloudWatchLoggerTest {
         val slot = mutableListOf<CloudWatchLogEvent>()
         every { loggingConstraintsResolver.resolveLogLevel(namespace, categoryType) }.answers { LogLevel.ERROR }
         every { awsCloudWatchLoggingPluginImplementation.cloudWatchLogManager }.answers { cloudWatchLogManager }
-        coEvery { cloudWatchLogManager.saveLogEvent(capture(slot)) }.answers { }
+        every { cloudWatchLogManager.offerLogEvent(capture(slot)) }.returns(true)
         cloudWatchLogger.error("Test Message")
         assertEquals(0, logsEventsQueue.size)
+        verify(exactly = 1) { cloudWatchLogManager.offerLogEvent(any()) }
+        coVerify(exactly = 0) { cloudWatchLogManager.saveLogEvent(any()) }
+        assertEquals(slot[0].message, "error/NAMESPACE: Test Message")
+    }
+
+    @Test
+    fun `wait for the buffer to be committed when it is full`() = runTest {
+        val cloudWatchLogManager = mockk<CloudWatchLogManager>()
+        val slot = mutableListOf<CloudWatchLogEvent>()
+        every { loggingConstraintsResolver.resolveLogLevel(namespace, categoryType) }.answers { LogLevel.ERROR }
+        every { awsCloudWatchLoggingPluginImplementation.cloudWatchLogManager }.answers { cloudWatchLogManager }
+        every { cloudWatchLogManager.offerLogEvent(any()) }.returns(false)
+        coEvery { cloudWatchLogManager.saveLogEvent(capture(slot)) }.answers { }
+        cloudWatchLogger.error("Test Message")
         coVerify(exactly = 1) { cloudWatchLogManager.saveLogEvent(any()) }
         assertEquals(slot[0].message, "error/NAMESPACE: Test Message")
     }
@@ -137,10 +155,10 @@ internal class CloudWatchLoggerTest {
         val slot = mutableListOf<CloudWatchLogEvent>()
         every { loggingConstraintsResolver.resolveLogLevel(namespace, categoryType) }.answers { LogLevel.ERROR }
         every { awsCloudWatchLoggingPluginImplementation.cloudWatchLogManager }.answers { cloudWatchLogManager }
-        coEvery { cloudWatchLogManager.saveLogEvent(capture(slot)) }.answers { }
+        every { cloudWatchLogManager.offerLogEvent(capture(slot)) }.returns(true)
         cloudWatchLogger.error("Test Message", Throwable("Something Went Wrong"))
         assertEquals(0, logsEventsQueue.size)
-        coVerify(exactly = 1) { cloudWatchLogManager.saveLogEvent(any()) }
+        verify(exactly = 1) { cloudWatchLogManager.offerLogEvent(any()) }
         assertEquals(slot[0].message, "error/NAMESPACE: Test Message, error: java.lang.Throwable: Something Went Wrong")
     }
 }
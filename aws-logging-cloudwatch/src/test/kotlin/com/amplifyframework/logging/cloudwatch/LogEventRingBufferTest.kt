@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amplifyframework.logging.cloudwatch
+
+import com.amplifyframework.logging.cloudwatch.models.CloudWatchLogEvent
+import java.util.concurrent.CountDownLatch
+import kotlin.concurrent.thread
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+internal class LogEventRingBufferTest {
+
+    @Test
+    fun `offer fails when full`() {
+        val buffer = LogEventRingBuffer(4)
+        repeat(4) {
+            assertTrue(buffer.offer(logEvent(it)))
+        }
+        assertFalse(buffer.offer(logEvent(4)))
+        assertEquals(4, buffer.size)
+    }
+
+    @Test
+    fun `drain returns events in order across laps`() {
+        val buffer = LogEventRingBuffer(4)
+        repeat(3) { buffer.offer(logEvent(it)) }
+        assertEquals(listOf("0", "1"), buffer.drain(2).map { it.message })
+        repeat(3) { buffer.offer(logEvent(it + 3)) }
+        assertEquals(listOf("2", "3", "4", "5"), buffer.drain(10).map { it.message })
+        assertEquals(0, buffer.size)
+    }
+
+    @Test
+    fun `concurrent writers do not lose events`() {
+        val buffer = LogEventRingBuffer(4096)
+        val start = CountDownLatch(1)
+        val writers = List(4) { writer ->
+            thread {
+                start.await()
+                repeat(1000) { buffer.offer(logEvent(writer * 1000 + it)) }
+            }
+        }
+        start.countDown()
+        writers.forEach { it.join() }
+        assertEquals((0 until 4000).map { it.toString() }.toSet(), buffer.drain(4096).map { it.message }.toSet())
+    }
+
+    private fun logEvent(id: Int) = CloudWatchLogEvent(id.toLong(), id.toString())
+}
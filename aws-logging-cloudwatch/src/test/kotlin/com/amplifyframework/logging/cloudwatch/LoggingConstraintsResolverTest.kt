@@ -52,6 +52,31 @@ internal class LoggingConstraintsResolverTest {
         assertEquals(LogLevel.ERROR, loggingConstraintsResolver.resolveLogLevel("ANY", CategoryType.LOGGING))
     }
 
+    @Test
+    fun `test resolved logLevel follows user and local config changes`() {
+        val loggingConstraintsResolver = LoggingConstraintsResolver(
+            localLoggingConstraint = LoggingConstraints(
+                defaultLogLevel = LogLevel.INFO,
+                categoryLogLevel = mapOf(CategoryType.API to LogLevel.WARN),
+                userLogLevel = mapOf(
+                    userId to UserLogLevel(
+                        defaultLogLevel = LogLevel.DEBUG,
+                        categoryLogLevel = mapOf(CategoryType.API to LogLevel.VERBOSE)
+                    )
+                )
+            )
+        )
+        assertEquals(LogLevel.WARN, loggingConstraintsResolver.resolveLogLevel("ANY", CategoryType.API))
+        assertEquals(LogLevel.INFO, loggingConstraintsResolver.resolveLogLevel("ANY", null))
+
+        loggingConstraintsResolver.userId = userId
+        assertEquals(LogLevel.VERBOSE, loggingConstraintsResolver.resolveLogLevel("ANY", CategoryType.API))
+        assertEquals(LogLevel.DEBUG, loggingConstraintsResolver.resolveLogLevel("ANY", null))
+
+        loggingConstraintsResolver.localLoggingConstraint = LoggingConstraints(defaultLogLevel = LogLevel.NONE)
+        assertEquals(LogLevel.NONE, loggingConstraintsResolver.resolveLogLevel("ANY", CategoryType.API))
+    }
+
     @Test
     fun `test local config for default`() = runTest {
         val remoteLoggingConstraintProvider = mockk<RemoteLoggingConstraintProvider>(relaxed = true)
@@ -62,6 +62,10 @@ class EventRecorder(
     private val defaultMaxSubmissionAllowed = 3
     private val defaultMaxSubmissionSize = 1024 * 100
     private val serviceDefinedMaxEventsPerBatch: Int = 100
+
+    // Past the allowed submissions, keep submitting while more than this many events are left, so that a
+    // backlog built up while offline drains in one flush.
+    private val backlogDrainThreshold = serviceDefinedMaxEventsPerBatch
     private val badRequestCode = 400
     internal suspend fun recordEvent(pinpointEvent: PinpointEvent): Uri? {
         return withContext(coroutineDispatcher) {
@@ -106,39 +110,37 @@ class EventRecorder(
 
     private suspend fun processEvents(): List<AnalyticsEvent> {
         val syncedAnalyticsEvents = mutableListOf<AnalyticsEvent>()
-        val syncedPinpointEvents = mutableListOf<PinpointEvent>()
-        pinpointDatabase.queryAllEvents().use { cursor ->
-            var currentSubmissions = 0
-            val maxSubmissionsAllowed = defaultMaxSubmissionAllowed
-            do {
-                if (!cursor.moveToFirst()) {
-                    return emptyList()
-                }
-
-                val pinpointEvents = getNextBatchOfEvents(cursor)
-                val eventToColumnIdMap = mutableMapOf<String, Int>()
-                pinpointEvents.forEach { (key, value) ->
-                    eventToColumnIdMap[value.eventId] = key
-                }
-                val submittedEvent = submitEventsAndProcessResponse(
-                    pinpointEvents,
-                    targetingClient.currentEndpoint()
-                )
-                syncedPinpointEvents.addAll(submittedEvent)
-                submittedEvent.forEach {
-                    eventToColumnIdMap[it.eventId]?.let { columnId ->
-                        // TODO: Replace with bulk delete
-                        if (pinpointDatabase.deleteEventById(columnId) > 0) {
-                            logger.info("Successfully submitted ${it.eventId}, deleted event from local database")
-                        }
-                    }
-                }
-                currentSubmissions++
-            } while (currentSubmissions < maxSubmissionsAllowed && !cursor.isClosed && cursor.moveToNext())
-        }
-        syncedPinpointEvents.forEach { pinpointEvent ->
-            syncedAnalyticsEvents.add(convertPinpointEventToAnalyticsEvent(pinpointEvent))
-        }
+        var lastEventColumnId = 0
+        var currentSubmissions = 0
+        do {
+            val pinpointEvents = pinpointDatabase.queryEventsAfter(lastEventColumnId, serviceDefinedMaxEventsPerBatch)
+                .use { cursor -> getNextBatchOfEvents(cursor) }
+            if (pinpointEvents.isEmpty()) {
+                break
+            }
+            // Events that are not deleted below, because of a retryable error, are left for the next flush.
+            lastEventColumnId = pinpointEvents.keys.last()
+            val eventToColumnIdMap = mutableMapOf<String, Int>()
+            pinpointEvents.forEach { (key, value) ->
+                eventToColumnIdMap[value.eventId] = key
+            }
+            val submittedEvents = submitEventsAndProcessResponse(
+                pinpointEvents,
+                targetingClient.currentEndpoint()
+            )
+            val submittedColumnIds = submittedEvents.mapNotNull { eventToColumnIdMap[it.eventId] }
+            if (submittedColumnIds.isNotEmpty()) {
+                val deletedEvents = pinpointDatabase.deleteEventsById(submittedColumnIds)
+                logger.info("Deleted $deletedEvents submitted events from local database")
+            }
+            submittedEvents.forEach { pinpointEvent ->
+                syncedAnalyticsEvents.add(convertPinpointEventToAnalyticsEvent(pinpointEvent))
+            }
+            currentSubmissions++
+            val isDrainingBacklog = submittedEvents.isNotEmpty() &&
+                pinpointDatabase.countEventsAfter(lastEventColumnId) > backlogDrainThreshold
+            val shouldSubmitMore = currentSubmissions < defaultMaxSubmissionAllowed || isDrainingBacklog
+        } while (shouldSubmitMore)
         return syncedAnalyticsEvents
     }
 
@@ -300,23 +302,22 @@ class EventRecorder(
         }
     }
 
+    /**
+     * Reads events from the cursor until the batch is full, in the order of the cursor.
+     */
     private fun getNextBatchOfEvents(cursor: Cursor): Map<Int, PinpointEvent> {
         val result = mutableMapOf<Int, PinpointEvent>()
         var currentRequestSize = 0
         val maxRequestSize = defaultMaxSubmissionSize
-        cursor.use { it ->
-            do {
-                val rowId = it.getInt(EventTable.COLUMNINDEX.ID.index)
-                val rowSize = it.getInt(EventTable.COLUMNINDEX.SIZE.index)
-                val eventJsonString = it.getString(EventTable.COLUMNINDEX.JSON.index)
-                val pinpointEvent = PinpointEvent.fromJsonString(eventJsonString)
-                result.putIfAbsent(rowId, pinpointEvent)
-                currentRequestSize += eventJsonString.length
-            } while (
-                currentRequestSize <= maxRequestSize &&
-                result.size < serviceDefinedMaxEventsPerBatch &&
-                it.moveToNext()
-            )
+        while (result.size < serviceDefinedMaxEventsPerBatch && cursor.moveToNext()) {
+            val rowSize = cursor.getInt(EventTable.COLUMNINDEX.SIZE.index)
+            if (result.isNotEmpty() && currentRequestSize + rowSize > maxRequestSize) {
+                break
+            }
+            val rowId = cursor.getInt(EventTable.COLUMNINDEX.ID.index)
+            val eventJsonString = cursor.getString(EventTable.COLUMNINDEX.JSON.index)
+            result.putIfAbsent(rowId, PinpointEvent.fromJsonString(eventJsonString))
+            currentRequestSize += rowSize
         }
         return result
     }
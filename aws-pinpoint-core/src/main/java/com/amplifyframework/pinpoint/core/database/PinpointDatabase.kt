@@ -19,6 +19,7 @@ import android.content.ContentValues
 import android.content.Context
 import android.content.UriMatcher
 import android.database.Cursor
+import android.database.DatabaseUtils
 import android.database.sqlite.SQLiteDatabase
 import android.database.sqlite.SQLiteQueryBuilder
 import android.net.Uri
@@ -32,10 +33,20 @@ import kotlinx.coroutines.withContext
 class PinpointDatabase(
     context: Context,
     dbName: String = DATABASE_NAME,
-    private val coroutineDispatcher: CoroutineDispatcher = Dispatchers.Default
+    private val coroutineDispatcher: CoroutineDispatcher = Dispatchers.Default,
+    private val maxStorageSize: Long = DEFAULT_MAX_STORAGE_SIZE
 ) {
     companion object {
         private const val DATABASE_NAME = "awspinpoint1.db"
+        private const val MAX_IDS_PER_DELETE = 500
+
+        /**
+         * Default bound of the summed size of stored events, past which the oldest events are evicted.
+         */
+        const val DEFAULT_MAX_STORAGE_SIZE = 5L * 1024 * 1024
+
+        // Eviction frees space down to this share of the bound, so that it does not run again on every new event.
+        private const val EVICTION_TARGET_RATIO = 0.9
     }
 
     private val events = 10
@@ -46,6 +57,9 @@ class PinpointDatabase(
     private val contentUri: Uri
     private val uriMatcher: UriMatcher
 
+    // Summed size of stored events, or null until it is next read from the table.
+    private var storedSize: Long? = null
+
     init {
         val authority = context.applicationContext.packageName
         contentUri = Uri.parse("content://$authority/$basePath")
@@ -62,7 +76,14 @@ class PinpointDatabase(
 
     suspend fun saveEvent(event: PinpointEvent): Uri {
         return withContext(coroutineDispatcher) {
-            insert(getContentUri(), generateContentValuesFromEvent(event))
+            val values = generateContentValuesFromEvent(event)
+            val eventSize = values.getAsLong(EventTable.COLUMN_SIZE)
+            synchronized(this@PinpointDatabase) {
+                val currentSize = evictOldestEventsToFit(eventSize)
+                insert(getContentUri(), values).also {
+                    storedSize = currentSize + eventSize
+                }
+            }
         }
     }
 
@@ -72,17 +93,106 @@ class PinpointDatabase(
         }
     }
 
-    suspend fun deleteEventById(eventColumnId: Int): Int {
+    /**
+     * Queries up to [limit] events stored after the event with the given column id, oldest first. The column id
+     * is the table's primary key, so only the returned rows are read.
+     */
+    suspend fun queryEventsAfter(eventColumnId: Int, limit: Int): Cursor {
         return withContext(coroutineDispatcher) {
-            val whereClause = "${EventTable.COLUMN_ID}=$eventColumnId"
-            database.delete(
+            query(
+                contentUri,
+                selection = "${EventTable.COLUMN_ID} > ?",
+                selectionArgs = arrayOf(eventColumnId.toString()),
+                sortOrder = "${EventTable.COLUMN_ID} ASC",
+                limit = limit.toString()
+            )
+        }
+    }
+
+    suspend fun countEventsAfter(eventColumnId: Int): Long {
+        return withContext(coroutineDispatcher) {
+            DatabaseUtils.queryNumEntries(
+                database,
                 EventTable.TABLE_EVENT,
-                whereClause,
-                null
+                "${EventTable.COLUMN_ID} > ?",
+                arrayOf(eventColumnId.toString())
             )
         }
     }
 
+    suspend fun deleteEventById(eventColumnId: Int): Int {
+        return withContext(coroutineDispatcher) {
+            val whereClause = "${EventTable.COLUMN_ID}=$eventColumnId"
+            synchronized(this@PinpointDatabase) {
+                storedSize = null
+                database.delete(
+                    EventTable.TABLE_EVENT,
+                    whereClause,
+                    null
+                )
+            }
+        }
+    }
+
+    /**
+     * Deletes the events with the given column ids in one transaction.
+     * @return Number of events deleted
+     */
+    suspend fun deleteEventsById(eventColumnIds: List<Int>): Int {
+        return withContext(coroutineDispatcher) {
+            var rowsDeleted = 0
+            synchronized(this@PinpointDatabase) {
+                storedSize = null
+                database.beginTransaction()
+                try {
+                    eventColumnIds.chunked(MAX_IDS_PER_DELETE).forEach { columnIds ->
+                        rowsDeleted += database.delete(
+                            EventTable.TABLE_EVENT,
+                            "${EventTable.COLUMN_ID} IN (${columnIds.joinToString(",")})",
+                            null
+                        )
+                    }
+                    database.setTransactionSuccessful()
+                } finally {
+                    database.endTransaction()
+                }
+            }
+            rowsDeleted
+        }
+    }
+
+    /**
+     * Deletes the oldest events if storing [eventSize] more would exceed [maxStorageSize].
+     * @return The summed size of the events left
+     */
+    private fun evictOldestEventsToFit(eventSize: Long): Long {
+        val currentSize = storedSize ?: DatabaseUtils.longForQuery(
+            database,
+            "SELECT IFNULL(SUM(${EventTable.COLUMN_SIZE}), 0) FROM ${EventTable.TABLE_EVENT}",
+            null
+        )
+        if (currentSize + eventSize <= maxStorageSize) {
+            return currentSize
+        }
+        val sizeToFree = currentSize + eventSize - (maxStorageSize * EVICTION_TARGET_RATIO).toLong()
+        var freedSize = 0L
+        var lastEvictedId: Int? = null
+        query(
+            contentUri,
+            arrayOf(EventTable.COLUMN_ID, EventTable.COLUMN_SIZE),
+            sortOrder = "${EventTable.COLUMN_ID} ASC"
+        ).use { cursor ->
+            while (freedSize < sizeToFree && cursor.moveToNext()) {
+                lastEvictedId = cursor.getInt(0)
+                freedSize += cursor.getLong(1)
+            }
+        }
+        lastEvictedId?.let {
+            database.delete(EventTable.TABLE_EVENT, "${EventTable.COLUMN_ID} <= $it", null)
+        }
+        return currentSize - freedSize
+    }
+
     private fun generateContentValuesFromEvent(event: PinpointEvent): ContentValues {
         val values = ContentValues()
         val eventJsonString = event.toJsonString()
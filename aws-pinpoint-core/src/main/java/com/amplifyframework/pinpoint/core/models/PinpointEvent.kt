@@ -50,21 +50,17 @@ data class PinpointEvent constructor(
 
     companion object {
         @OptIn(ExperimentalSerializationApi::class)
+        private val json = Json {
+            encodeDefaults = true
+            explicitNulls = false
+        }
+
         fun fromJsonString(jsonString: String): PinpointEvent {
-            val json = Json {
-                encodeDefaults = true
-                explicitNulls = false
-            }
             return json.decodeFromString<PinpointEvent>(jsonString)
         }
     }
 
-    @OptIn(ExperimentalSerializationApi::class)
     fun toJsonString(): String {
-        val json = Json {
-            encodeDefaults = true
-            explicitNulls = false
-        }
         return json.encodeToString(this)
     }
 }
@@ -33,13 +33,13 @@ import com.amplifyframework.pinpoint.core.models.PinpointSession
 import com.amplifyframework.pinpoint.core.models.SDKInfo
 import io.mockk.coEvery
 import io.mockk.coVerify
-import io.mockk.coVerifyOrder
 import io.mockk.mockk
 import java.util.UUID
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.test.UnconfinedTestDispatcher
 import kotlinx.coroutines.test.runTest
+import org.junit.Assert.assertEquals
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -100,7 +100,7 @@ class EventRecorderTest {
         pinpointEvents.forEach {
             matrixCursor.addRow(it)
         }
-        coEvery { pinpointDatabaseMock.queryAllEvents() }.answers { matrixCursor }
+        coEvery { pinpointDatabaseMock.queryEventsAfter(0, any()) }.answers { matrixCursor }
 
         // setup pinpoint client
         val endpointId = UUID.randomUUID().toString()
@@ -126,12 +126,58 @@ class EventRecorderTest {
         coEvery { pinpointClient.putEvents(any<PutEventsRequest>()) }.answers { putEventResponse }
 
         eventRecorder.submitEvents()
-        coVerifyOrder {
-            pinpointDatabaseMock.deleteEventById(1)
-            pinpointDatabaseMock.deleteEventById(2)
+        coVerify(exactly = 1) {
+            pinpointDatabaseMock.deleteEventsById(listOf(1, 2))
         }
     }
 
+    @Test
+    fun `test submit events drains backlog`() = runTest {
+        // setup database with five full batches and one more event
+        val eventJsons = List(501) { getPinpointEvent("testEvent").toJsonString() }
+        coEvery { pinpointDatabaseMock.queryEventsAfter(any(), any()) }.answers {
+            val matrixCursor = MatrixCursor(
+                arrayOf(EventTable.COLUMN_ID, EventTable.COLUMN_SIZE, EventTable.COLUMN_JSON)
+            )
+            (firstArg<Int>() + 1..eventJsons.size).take(secondArg()).forEach {
+                matrixCursor.addRow(arrayOf(it, eventJsons[it - 1].length, eventJsons[it - 1]))
+            }
+            matrixCursor
+        }
+        coEvery { pinpointDatabaseMock.countEventsAfter(any()) }.answers {
+            (eventJsons.size - firstArg<Int>()).toLong()
+        }
+
+        // setup pinpoint client to accept every event
+        val endpointId = UUID.randomUUID().toString()
+        coEvery { endpointProfile.endpointId }.answers { endpointId }
+        coEvery { targetingClient.currentEndpoint() }.answers { endpointProfile }
+        coEvery { pinpointClient.putEvents(any<PutEventsRequest>()) }.answers {
+            val eventIds = firstArg<PutEventsRequest>().eventsRequest?.batchItem?.get(endpointId)?.events?.keys
+            PutEventsResponse {
+                eventsResponse = EventsResponse {
+                    results = mapOf(
+                        endpointId to ItemResponse {
+                            eventsItemResponse = eventIds?.associateWith {
+                                EventItemResponse {
+                                    message = "Accepted"
+                                    statusCode = 202
+                                }
+                            }
+                        }
+                    )
+                }
+            }
+        }
+
+        val submittedEvents = eventRecorder.submitEvents()
+
+        // batches keep going past the default three while more than a batch is left
+        assertEquals(500, submittedEvents.size)
+        coVerify(exactly = 5) { pinpointClient.putEvents(any<PutEventsRequest>()) }
+        coVerify(exactly = 1) { pinpointDatabaseMock.deleteEventsById((401..500).toList()) }
+    }
+
     @Test
     fun `test retryable errors`() = runTest {
         val pinpointEvent1 = getPinpointEvent("testEvent1")
@@ -146,7 +192,7 @@ class EventRecorderTest {
         pinpointEvents.forEach {
             matrixCursor.addRow(it)
         }
-        coEvery { pinpointDatabaseMock.queryAllEvents() }.answers { matrixCursor }
+        coEvery { pinpointDatabaseMock.queryEventsAfter(0, any()) }.answers { matrixCursor }
 
         // setup pinpoint client
         val endpointId = UUID.randomUUID().toString()
@@ -174,7 +220,7 @@ class EventRecorderTest {
         eventRecorder.submitEvents()
 
         coVerify(exactly = 0) {
-            pinpointDatabaseMock.deleteEventById(any())
+            pinpointDatabaseMock.deleteEventsById(any())
         }
     }
 
@@ -105,6 +105,66 @@ class PinpointDatabaseTest {
         assertEquals(0, pinpointDatabase.queryAllEvents().count)
     }
 
+    @OptIn(ExperimentalCoroutinesApi::class)
+    @Test
+    public fun `test delete events by ID`() = runTest {
+        repeat(3) {
+            pinpointDatabase.saveEvent(getPinpointEvent("testEventType_$it"))
+        }
+        val ids = mutableListOf<Int>()
+        pinpointDatabase.queryAllEvents().use { cursor ->
+            while (cursor.moveToNext()) {
+                ids.add(cursor.getInt(EventTable.COLUMNINDEX.ID.index))
+            }
+        }
+        assertEquals(2, pinpointDatabase.deleteEventsById(ids.take(2)))
+        val cursor = pinpointDatabase.queryAllEvents()
+        assertEquals(1, cursor.count)
+        cursor.moveToFirst()
+        assertEquals(ids[2], cursor.getInt(EventTable.COLUMNINDEX.ID.index))
+    }
+
+    @OptIn(ExperimentalCoroutinesApi::class)
+    @Test
+    public fun `test query events after ID`() = runTest {
+        repeat(5) {
+            pinpointDatabase.saveEvent(getPinpointEvent("testEventType_$it"))
+        }
+        val ids = mutableListOf<Int>()
+        pinpointDatabase.queryEventsAfter(0, 3).use { cursor ->
+            while (cursor.moveToNext()) {
+                ids.add(cursor.getInt(EventTable.COLUMNINDEX.ID.index))
+            }
+        }
+        assertEquals(3, ids.size)
+        assertEquals(2L, pinpointDatabase.countEventsAfter(ids.last()))
+        assertEquals(2, pinpointDatabase.queryEventsAfter(ids.last(), 3).use { it.count })
+    }
+
+    @OptIn(ExperimentalCoroutinesApi::class)
+    @Test
+    public fun `test oldest events are evicted past max storage size`() = runTest {
+        val pinpointEventList = List(4) { getPinpointEvent("testEventType") }
+        val eventSize = pinpointEventList[0].toJsonString().length
+        pinpointDatabase.closeDB()
+        pinpointDatabase = PinpointDatabase(
+            ApplicationProvider.getApplicationContext(),
+            coroutineDispatcher = coroutineDispatcher,
+            maxStorageSize = eventSize * 3L + eventSize / 2
+        )
+        pinpointEventList.forEach {
+            pinpointDatabase.saveEvent(it)
+        }
+        // The fourth event does not fit, so the oldest event is evicted to bring the store below 90% of the bound.
+        val storedEvents = mutableListOf<String>()
+        pinpointDatabase.queryAllEvents().use { cursor ->
+            while (cursor.moveToNext()) {
+                storedEvents.add(cursor.getString(EventTable.COLUMNINDEX.JSON.index))
+            }
+        }
+        assertEquals(pinpointEventList.drop(1).map { it.toJsonString() }, storedEvents)
+    }
+
     @After
     public fun tearDown() {
         pinpointDatabase.closeDB()
@@ -411,7 +411,8 @@ public final class AWSS3StoragePlugin extends StoragePlugin<S3Client> {
             awsS3StoragePluginConfiguration,
             onProgress,
             onSuccess,
-            onError
+            onError,
+            options instanceof AWSS3StorageUploadFileOptions ? (AWSS3StorageUploadFileOptions) options : null
         );
         operation.start();
 
@@ -477,7 +478,10 @@ public final class AWSS3StoragePlugin extends StoragePlugin<S3Client> {
             request,
             onProgress,
             onSuccess,
-            onError
+            onError,
+            options instanceof AWSS3StorageUploadInputStreamOptions
+                ? (AWSS3StorageUploadInputStreamOptions) options
+                : null
         );
         operation.start();
 
@@ -546,7 +550,8 @@ public final class AWSS3StoragePlugin extends StoragePlugin<S3Client> {
                     TransferType transferType = transferRecord.getType();
                     switch (Objects.requireNonNull(transferType)) {
                         case UPLOAD:
-                            if (transferRecord.getFile().startsWith(TransferStatusUpdater.TEMP_FILE_PREFIX)) {
+                            if (transferRecord.getFile().isEmpty() ||
+                                transferRecord.getFile().startsWith(TransferStatusUpdater.TEMP_FILE_PREFIX)) {
                                 AWSS3StorageUploadInputStreamOperation operation =
                                     new AWSS3StorageUploadInputStreamOperation(
                                         transferId,
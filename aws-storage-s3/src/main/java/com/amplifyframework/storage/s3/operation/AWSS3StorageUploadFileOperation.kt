@@ -28,6 +28,7 @@ import com.amplifyframework.storage.result.StorageTransferProgress
 import com.amplifyframework.storage.result.StorageUploadFileResult
 import com.amplifyframework.storage.s3.ServerSideEncryption
 import com.amplifyframework.storage.s3.configuration.AWSS3StoragePluginConfiguration
+import com.amplifyframework.storage.s3.options.AWSS3StorageUploadFileOptions
 import com.amplifyframework.storage.s3.request.AWSS3StorageUploadRequest
 import com.amplifyframework.storage.s3.service.StorageService
 import com.amplifyframework.storage.s3.transfer.TransferListener
@@ -49,7 +50,8 @@ class AWSS3StorageUploadFileOperation @JvmOverloads internal constructor(
     private var transferObserver: TransferObserver? = null,
     onProgress: Consumer<StorageTransferProgress>? = null,
     onSuccess: Consumer<StorageUploadFileResult>? = null,
-    onError: Consumer<StorageException>? = null
+    onError: Consumer<StorageException>? = null,
+    private val options: AWSS3StorageUploadFileOptions? = null
 ) : StorageUploadFileOperation<AWSS3StorageUploadRequest<File>>(request, transferId, onProgress, onSuccess, onError) {
 
     constructor(
@@ -61,6 +63,28 @@ class AWSS3StorageUploadFileOperation @JvmOverloads internal constructor(
         onProgress: Consumer<StorageTransferProgress>,
         onSuccess: Consumer<StorageUploadFileResult>,
         onError: Consumer<StorageException>
+    ) : this(
+        storageService,
+        executorService,
+        authCredentialsProvider,
+        request,
+        awsS3StoragePluginConfiguration,
+        onProgress,
+        onSuccess,
+        onError,
+        null
+    )
+
+    internal constructor(
+        storageService: StorageService,
+        executorService: ExecutorService,
+        authCredentialsProvider: AuthCredentialsProvider,
+        request: AWSS3StorageUploadRequest<File>,
+        awsS3StoragePluginConfiguration: AWSS3StoragePluginConfiguration,
+        onProgress: Consumer<StorageTransferProgress>,
+        onSuccess: Consumer<StorageUploadFileResult>,
+        onError: Consumer<StorageException>,
+        options: AWSS3StorageUploadFileOptions?
     ) : this(
         UUID.randomUUID().toString(),
         storageService,
@@ -71,7 +95,8 @@ class AWSS3StorageUploadFileOperation @JvmOverloads internal constructor(
         null,
         onProgress,
         onSuccess,
-        onError
+        onError,
+        options
     )
 
     init {
@@ -105,13 +130,24 @@ class AWSS3StorageUploadFileOperation @JvmOverloads internal constructor(
                                 objectMetadata.metaData[ObjectMetadata.SERVER_SIDE_ENCRYPTION] =
                                     storageServerSideEncryption.getName()
                             }
-                            transferObserver = storageService.uploadFile(
-                                transferId,
-                                serviceKey,
-                                file,
-                                objectMetadata,
-                                uploadRequest.useAccelerateEndpoint()
-                            )
+                            transferObserver = if (options != null) {
+                                storageService.uploadFile(
+                                    transferId,
+                                    serviceKey,
+                                    file,
+                                    objectMetadata,
+                                    uploadRequest.useAccelerateEndpoint(),
+                                    options
+                                )
+                            } else {
+                                storageService.uploadFile(
+                                    transferId,
+                                    serviceKey,
+                                    file,
+                                    objectMetadata,
+                                    uploadRequest.useAccelerateEndpoint()
+                                )
+                            }
                             transferObserver?.setTransferListener(UploadTransferListener())
                         } catch (exception: Exception) {
                             onError?.accept(
@@ -28,6 +28,7 @@ import com.amplifyframework.storage.result.StorageTransferProgress
 import com.amplifyframework.storage.result.StorageUploadInputStreamResult
 import com.amplifyframework.storage.s3.ServerSideEncryption
 import com.amplifyframework.storage.s3.configuration.AWSS3StoragePluginConfiguration
+import com.amplifyframework.storage.s3.options.AWSS3StorageUploadInputStreamOptions
 import com.amplifyframework.storage.s3.request.AWSS3StorageUploadRequest
 import com.amplifyframework.storage.s3.service.StorageService
 import com.amplifyframework.storage.s3.transfer.TransferListener
@@ -50,7 +51,8 @@ class AWSS3StorageUploadInputStreamOperation @JvmOverloads internal constructor(
     private var transferObserver: TransferObserver? = null,
     onProgress: Consumer<StorageTransferProgress>? = null,
     onSuccess: Consumer<StorageUploadInputStreamResult>? = null,
-    onError: Consumer<StorageException>? = null
+    onError: Consumer<StorageException>? = null,
+    private val options: AWSS3StorageUploadInputStreamOptions? = null
 ) : StorageUploadInputStreamOperation<AWSS3StorageUploadRequest<InputStream>>(
     request,
     transferId,
@@ -68,6 +70,28 @@ class AWSS3StorageUploadInputStreamOperation @JvmOverloads internal constructor(
         onProgress: Consumer<StorageTransferProgress>,
         onSuccess: Consumer<StorageUploadInputStreamResult>,
         onError: Consumer<StorageException>
+    ) : this(
+        storageService,
+        executorService,
+        authCredentialsProvider,
+        awsS3StoragePluginConfiguration,
+        request,
+        onProgress,
+        onSuccess,
+        onError,
+        null
+    )
+
+    internal constructor(
+        storageService: StorageService,
+        executorService: ExecutorService,
+        authCredentialsProvider: AuthCredentialsProvider,
+        awsS3StoragePluginConfiguration: AWSS3StoragePluginConfiguration,
+        request: AWSS3StorageUploadRequest<InputStream>,
+        onProgress: Consumer<StorageTransferProgress>,
+        onSuccess: Consumer<StorageUploadInputStreamResult>,
+        onError: Consumer<StorageException>,
+        options: AWSS3StorageUploadInputStreamOptions?
     ) : this(
         UUID.randomUUID().toString(),
         storageService,
@@ -78,7 +102,8 @@ class AWSS3StorageUploadInputStreamOperation @JvmOverloads internal constructor(
         null,
         onProgress,
         onSuccess,
-        onError
+        onError,
+        options
     )
 
     init {
@@ -112,13 +137,24 @@ class AWSS3StorageUploadInputStreamOperation @JvmOverloads internal constructor(
                                 objectMetadata.metaData[ObjectMetadata.SERVER_SIDE_ENCRYPTION] =
                                     storageServerSideEncryption.getName()
                             }
-                            transferObserver = storageService.uploadInputStream(
-                                transferId,
-                                serviceKey,
-                                inputStream,
-                                objectMetadata,
-                                uploadRequest.useAccelerateEndpoint()
-                            )
+                            transferObserver = if (options != null) {
+                                storageService.uploadInputStream(
+                                    transferId,
+                                    serviceKey,
+                                    inputStream,
+                                    objectMetadata,
+                                    uploadRequest.useAccelerateEndpoint(),
+                                    options
+                                )
+                            } else {
+                                storageService.uploadInputStream(
+                                    transferId,
+                                    serviceKey,
+                                    inputStream,
+                                    objectMetadata,
+                                    uploadRequest.useAccelerateEndpoint()
+                                )
+                            }
                             transferObserver?.setTransferListener(UploadTransferListener())
                         } catch (ioException: IOException) {
                             onError?.accept(
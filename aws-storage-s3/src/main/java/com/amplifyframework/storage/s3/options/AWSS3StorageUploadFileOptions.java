@@ -27,13 +27,35 @@ import java.util.Objects;
  * Options to specify attributes of object upload operation to an AWS S3 bucket.
  */
 public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOptions {
+    /**
+     * Default lower bound of the part size of a multipart upload, in bytes. This is also the smallest part size S3
+     * accepts.
+     */
+    public static final long DEFAULT_MINIMUM_PART_SIZE = 5L * 1024 * 1024;
+
+    /**
+     * Default upper bound of the part size of a multipart upload, in bytes.
+     */
+    public static final long DEFAULT_MAXIMUM_PART_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * Default upper bound of the number of parts of a multipart upload that are uploaded at the same time.
+     */
+    public static final int DEFAULT_MAXIMUM_CONCURRENT_PARTS = 8;
+
     private final ServerSideEncryption serverSideEncryption;
     private final boolean useAccelerationMode;
+    private final long minimumPartSize;
+    private final long maximumPartSize;
+    private final int maximumConcurrentParts;
 
     private AWSS3StorageUploadFileOptions(final Builder builder) {
         super(builder);
         this.serverSideEncryption = builder.getServerSideEncryption();
         this.useAccelerationMode = builder.useAccelerateEndpoint;
+        this.minimumPartSize = builder.minimumPartSize;
+        this.maximumPartSize = builder.maximumPartSize;
+        this.maximumConcurrentParts = builder.maximumConcurrentParts;
     }
 
     /**
@@ -45,6 +67,32 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
         return serverSideEncryption;
     }
 
+    /**
+     * Lower bound of the part size of a multipart upload, in bytes. The part size is picked between this and
+     * {@link #getMaximumPartSize()} from the throughput of earlier part uploads.
+     * @return Lower bound of the part size
+     */
+    public long getMinimumPartSize() {
+        return minimumPartSize;
+    }
+
+    /**
+     * Upper bound of the part size of a multipart upload, in bytes.
+     * @return Upper bound of the part size
+     */
+    public long getMaximumPartSize() {
+        return maximumPartSize;
+    }
+
+    /**
+     * Upper bound of the number of parts of a multipart upload that are uploaded at the same time. The number of
+     * parts in flight grows towards this while part uploads keep their latency, and halves when they slow down or fail.
+     * @return Upper bound of the number of parts in flight
+     */
+    public int getMaximumConcurrentParts() {
+        return maximumConcurrentParts;
+    }
+
     /**
      * Factory method to create a new instance of the
      * {@link Builder}.  The builder can be
@@ -74,6 +122,9 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
             .targetIdentityId(options.getTargetIdentityId())
             .contentType(options.getContentType())
             .serverSideEncryption(options.getServerSideEncryption())
+            .minimumPartSize(options.getMinimumPartSize())
+            .maximumPartSize(options.getMaximumPartSize())
+            .maximumConcurrentParts(options.getMaximumConcurrentParts())
             .metadata(options.getMetadata());
     }
 
@@ -107,6 +158,9 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
                     ObjectsCompat.equals(getTargetIdentityId(), that.getTargetIdentityId()) &&
                     ObjectsCompat.equals(getContentType(), that.getContentType()) &&
                     ObjectsCompat.equals(getServerSideEncryption(), that.getServerSideEncryption()) &&
+                    getMinimumPartSize() == that.getMinimumPartSize() &&
+                    getMaximumPartSize() == that.getMaximumPartSize() &&
+                    getMaximumConcurrentParts() == that.getMaximumConcurrentParts() &&
                     ObjectsCompat.equals(getMetadata(), that.getMetadata());
         }
     }
@@ -118,6 +172,9 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
                 getTargetIdentityId(),
                 getContentType(),
                 getServerSideEncryption(),
+                getMinimumPartSize(),
+                getMaximumPartSize(),
+                getMaximumConcurrentParts(),
                 getMetadata()
         );
     }
@@ -130,6 +187,9 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
                 ", targetIdentityId=" + getTargetIdentityId() +
                 ", contentType=" + getContentType() +
                 ", serverSideEncryption=" + getServerSideEncryption().getName() +
+                ", minimumPartSize=" + getMinimumPartSize() +
+                ", maximumPartSize=" + getMaximumPartSize() +
+                ", maximumConcurrentParts=" + getMaximumConcurrentParts() +
                 ", metadata=" + getMetadata() +
                 '}';
     }
@@ -142,10 +202,16 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
     public static final class Builder extends StorageUploadFileOptions.Builder<Builder> {
         private ServerSideEncryption serverSideEncryption;
         private boolean useAccelerateEndpoint;
+        private long minimumPartSize;
+        private long maximumPartSize;
+        private int maximumConcurrentParts;
 
         private Builder() {
             super();
             this.serverSideEncryption = ServerSideEncryption.NONE;
+            this.minimumPartSize = DEFAULT_MINIMUM_PART_SIZE;
+            this.maximumPartSize = DEFAULT_MAXIMUM_PART_SIZE;
+            this.maximumConcurrentParts = DEFAULT_MAXIMUM_CONCURRENT_PARTS;
         }
 
         /**
@@ -169,6 +235,41 @@ public final class AWSS3StorageUploadFileOptions extends StorageUploadFileOption
             return this;
         }
 
+        /**
+         * Configures the lower bound of the part size of a multipart upload, in bytes. Values below
+         * {@link #DEFAULT_MINIMUM_PART_SIZE} are raised to it, as S3 rejects smaller parts.
+         * @param minimumPartSize Lower bound of the part size
+         * @return Current Builder instance for fluent chaining
+         */
+        @NonNull
+        public Builder minimumPartSize(long minimumPartSize) {
+            this.minimumPartSize = minimumPartSize;
+            return this;
+        }
+
+        /**
+         * Configures the upper bound of the part size of a multipart upload, in bytes. Large files may still use
+         * bigger parts, as an upload can have at most 10,000 parts.
+         * @param maximumPartSize Upper bound of the part size
+         * @return Current Builder instance for fluent chaining
+         */
+        @NonNull
+        public Builder maximumPartSize(long maximumPartSize) {
+            this.maximumPartSize = maximumPartSize;
+            return this;
+        }
+
+        /**
+         * Configures the upper bound of the number of parts of a multipart upload that are uploaded at the same time.
+         * @param maximumConcurrentParts Upper bound of the number of parts in flight
+         * @return Current Builder instance for fluent chaining
+         */
+        @NonNull
+        public Builder maximumConcurrentParts(int maximumConcurrentParts) {
+            this.maximumConcurrentParts = maximumConcurrentParts;
+            return this;
+        }
+
         @NonNull
         ServerSideEncryption getServerSideEncryption() {
             return serverSideEncryption;
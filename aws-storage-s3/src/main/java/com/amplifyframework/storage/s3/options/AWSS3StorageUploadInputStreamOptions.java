@@ -29,11 +29,13 @@ import java.util.Objects;
 public final class AWSS3StorageUploadInputStreamOptions extends StorageUploadInputStreamOptions {
     private final ServerSideEncryption serverSideEncryption;
     private final boolean useAccelerationMode;
+    private final boolean streamWithoutTempFile;
 
     private AWSS3StorageUploadInputStreamOptions(final Builder builder) {
         super(builder);
         this.serverSideEncryption = builder.serverSideEncryption;
         this.useAccelerationMode = builder.useAccelerateEndpoint;
+        this.streamWithoutTempFile = builder.streamWithoutTempFile;
     }
 
     /**
@@ -45,6 +47,16 @@ public final class AWSS3StorageUploadInputStreamOptions extends StorageUploadInp
         return serverSideEncryption;
     }
 
+    /**
+     * Whether the stream is uploaded as it is read, instead of being copied to a temporary file first. A streamed
+     * upload needs no disk space, but it only lives as long as the app process: it can not be resumed after a restart,
+     * and is marked as failed if the process ends before it completes.
+     * @return true if the stream is uploaded without a temporary file
+     */
+    public boolean streamWithoutTempFile() {
+        return streamWithoutTempFile;
+    }
+
     /**
      * Factory method to create a new instance of the
      * {@link Builder}.  The builder can be
@@ -74,6 +86,7 @@ public final class AWSS3StorageUploadInputStreamOptions extends StorageUploadInp
                 .targetIdentityId(options.getTargetIdentityId())
                 .contentType(options.getContentType())
                 .serverSideEncryption(options.getServerSideEncryption())
+                .streamWithoutTempFile(options.streamWithoutTempFile())
                 .metadata(options.getMetadata());
     }
 
@@ -107,6 +120,7 @@ public final class AWSS3StorageUploadInputStreamOptions extends StorageUploadInp
                     ObjectsCompat.equals(getTargetIdentityId(), that.getTargetIdentityId()) &&
                     ObjectsCompat.equals(getContentType(), that.getContentType()) &&
                     ObjectsCompat.equals(getServerSideEncryption(), that.getServerSideEncryption()) &&
+                    streamWithoutTempFile() == that.streamWithoutTempFile() &&
                     ObjectsCompat.equals(getMetadata(), that.getMetadata());
         }
     }
@@ -118,6 +132,7 @@ public final class AWSS3StorageUploadInputStreamOptions extends StorageUploadInp
                 getTargetIdentityId(),
                 getContentType(),
                 getServerSideEncryption(),
+                streamWithoutTempFile(),
                 getMetadata()
         );
     }
@@ -130,6 +145,7 @@ public final class AWSS3StorageUploadInputStreamOptions extends StorageUploadInp
                 ", targetIdentityId=" + getTargetIdentityId() +
                 ", contentType=" + getContentType() +
                 ", serverSideEncryption=" + getServerSideEncryption().getName() +
+                ", streamWithoutTempFile=" + streamWithoutTempFile() +
                 ", metadata=" + getMetadata() +
                 '}';
     }
@@ -142,6 +158,7 @@ public final class AWSS3StorageUploadInputStreamOptions extends StorageUploadInp
     public static final class Builder extends StorageUploadInputStreamOptions.Builder<Builder> {
         private ServerSideEncryption serverSideEncryption;
         private boolean useAccelerateEndpoint;
+        private boolean streamWithoutTempFile;
 
         private Builder() {
             super();
@@ -169,6 +186,18 @@ public final class AWSS3StorageUploadInputStreamOptions extends StorageUploadInp
             return this;
         }
 
+        /**
+         * Configures whether the stream is uploaded as it is read, instead of being copied to a temporary file first.
+         * Streamed uploads can not be resumed after the app restarts. Defaults to false.
+         * @param streamWithoutTempFile true to upload the stream without a temporary file
+         * @return Current Builder instance for fluent chaining
+         */
+        @NonNull
+        public Builder streamWithoutTempFile(boolean streamWithoutTempFile) {
+            this.streamWithoutTempFile = streamWithoutTempFile;
+            return this;
+        }
+
         @Override
         @NonNull
         public AWSS3StorageUploadInputStreamOptions build() {
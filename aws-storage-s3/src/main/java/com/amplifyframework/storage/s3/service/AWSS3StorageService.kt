@@ -27,6 +27,9 @@ import com.amplifyframework.auth.AuthCredentialsProvider
 import com.amplifyframework.storage.ObjectMetadata
 import com.amplifyframework.storage.StorageItem
 import com.amplifyframework.storage.result.StorageListResult
+import com.amplifyframework.storage.s3.options.AWSS3StorageUploadFileOptions
+import com.amplifyframework.storage.s3.options.AWSS3StorageUploadInputStreamOptions
+import com.amplifyframework.storage.s3.transfer.MultipartUploadLimits
 import com.amplifyframework.storage.s3.transfer.TransferManager
 import com.amplifyframework.storage.s3.transfer.TransferObserver
 import com.amplifyframework.storage.s3.transfer.TransferRecord
@@ -131,6 +134,33 @@ internal class AWSS3StorageService(
         )
     }
 
+    /**
+     * Begin uploading a file, in parts bounded by the given options if it is large enough.
+     * @param serviceKey S3 service key
+     * @param file Target file
+     * @param metadata Object metadata to associate with upload
+     * @param options Bounds of the part size and parts in flight
+     * @return A transfer observer
+     */
+    override fun uploadFile(
+        transferId: String,
+        serviceKey: String,
+        file: File,
+        metadata: ObjectMetadata,
+        useAccelerateEndpoint: Boolean,
+        options: AWSS3StorageUploadFileOptions
+    ): TransferObserver {
+        return transferManager.upload(
+            transferId,
+            s3BucketName,
+            serviceKey,
+            file,
+            metadata,
+            useAccelerateEndpoint = useAccelerateEndpoint,
+            multipartUploadLimits = MultipartUploadLimits.from(options)
+        )
+    }
+
     /**
      * Begin uploading an inputStream.
      * @param serviceKey S3 service key
@@ -150,6 +180,34 @@ internal class AWSS3StorageService(
         return transferManager.upload(transferId, serviceKey, inputStream, uploadOptions, useAccelerateEndpoint)
     }
 
+    /**
+     * Begin uploading an inputStream, without copying it to a file first if the options ask for it.
+     * @param serviceKey S3 service key
+     * @param inputStream Target InputStream
+     * @param metadata Object metadata to associate with upload
+     * @param options Options of the upload
+     * @return A transfer observer
+     * @throws IOException An IOException thrown during the process writing an InputStream into a file
+     */
+    override fun uploadInputStream(
+        transferId: String,
+        serviceKey: String,
+        inputStream: InputStream,
+        metadata: ObjectMetadata,
+        useAccelerateEndpoint: Boolean,
+        options: AWSS3StorageUploadInputStreamOptions
+    ): TransferObserver {
+        val uploadOptions = UploadOptions(s3BucketName, metadata)
+        return transferManager.upload(
+            transferId,
+            serviceKey,
+            inputStream,
+            uploadOptions,
+            useAccelerateEndpoint,
+            options.streamWithoutTempFile()
+        )
+    }
+
     /**
      * List items inside an S3 path.
      * @param path The path to list items from
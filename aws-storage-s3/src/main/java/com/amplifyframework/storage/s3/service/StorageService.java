@@ -22,6 +22,8 @@ import androidx.annotation.Nullable;
 import com.amplifyframework.storage.ObjectMetadata;
 import com.amplifyframework.storage.StorageItem;
 import com.amplifyframework.storage.result.StorageListResult;
+import com.amplifyframework.storage.s3.options.AWSS3StorageUploadFileOptions;
+import com.amplifyframework.storage.s3.options.AWSS3StorageUploadInputStreamOptions;
 import com.amplifyframework.storage.s3.transfer.TransferObserver;
 import com.amplifyframework.storage.s3.transfer.TransferRecord;
 
@@ -80,6 +82,29 @@ public interface StorageService {
                                 @NonNull ObjectMetadata metadata,
                                 boolean useAccelerateEndpoint);
 
+    /**
+     * Begin uploading a file to a key in storage and return an observer
+     * to monitor upload progress. This item will be stored with specified
+     * metadata. If the file is uploaded in parts, the part size and the
+     * number of parts in flight are bounded by the given options.
+     *
+     * @param transferId unique id for this transfer
+     * @param serviceKey Key to uniquely label item in storage
+     * @param file       file to upload
+     * @param metadata   metadata to attach to uploaded item
+     * @param useAccelerateEndpoint flag to use accelerate endpoint
+     * @param options    options bounding the parts of a multipart upload
+     * @return An instance of {@link TransferObserver} to monitor upload
+     */
+    default TransferObserver uploadFile(@NonNull String transferId,
+                                        @NonNull String serviceKey,
+                                        @NonNull File file,
+                                        @NonNull ObjectMetadata metadata,
+                                        boolean useAccelerateEndpoint,
+                                        @NonNull AWSS3StorageUploadFileOptions options) {
+        return uploadFile(transferId, serviceKey, file, metadata, useAccelerateEndpoint);
+    }
+
     /**
      * Begin uploading an InputStream to a key in storage and return an observer
      * to monitor upload progress. This item will be stored with specified
@@ -101,6 +126,32 @@ public interface StorageService {
                                        boolean useAccelerateEndpoint)
         throws IOException;
 
+    /**
+     * Begin uploading an InputStream to a key in storage and return an observer
+     * to monitor upload progress. This item will be stored with specified
+     * metadata. If the options ask for it, the stream is uploaded as it is
+     * read, instead of being saved to a temporary File first.
+     *
+     * @param transferId unique id for this transfer
+     * @param serviceKey  key to uniquely label item in storage
+     * @param inputStream InputStream from which to read content
+     * @param metadata    Metadata to attach to uploaded item
+     * @param useAccelerateEndpoint Flag to use accelerate endpoint
+     * @param options     options of the upload
+     * @return An instance of {@link TransferObserver} to monitor upload
+     * @throws IOException on error reading the InputStream, or saving it to a temporary
+     *                     File before the upload begins.
+     */
+    default TransferObserver uploadInputStream(@NonNull String transferId,
+                                               @NonNull String serviceKey,
+                                               @NonNull InputStream inputStream,
+                                               @NonNull ObjectMetadata metadata,
+                                               boolean useAccelerateEndpoint,
+                                               @NonNull AWSS3StorageUploadInputStreamOptions options)
+        throws IOException {
+        return uploadInputStream(transferId, serviceKey, inputStream, metadata, useAccelerateEndpoint);
+    }
+
     /**
      * Returns a list of items from provided path inside the storage.
      *
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amplifyframework.storage.s3.transfer
+
+import aws.sdk.kotlin.services.s3.S3Client
+import aws.sdk.kotlin.services.s3.abortMultipartUpload
+import aws.sdk.kotlin.services.s3.completeMultipartUpload
+import aws.sdk.kotlin.services.s3.model.CompletedMultipartUpload
+import aws.sdk.kotlin.services.s3.model.CompletedPart
+import aws.sdk.kotlin.services.s3.uploadPart
+import aws.sdk.kotlin.services.s3.withConfig
+import aws.smithy.kotlin.runtime.content.ByteStream
+import com.amplifyframework.core.Amplify
+import com.amplifyframework.core.category.CategoryType
+import com.amplifyframework.storage.TransferState
+import com.amplifyframework.storage.s3.AWSS3StoragePlugin
+import com.amplifyframework.storage.s3.transfer.worker.BaseTransferWorker
+import java.io.InputStream
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import kotlin.math.max
+import kotlin.math.min
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.NonCancellable
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
+
+/**
+ * Uploads an InputStream without staging it in a file. The stream is read in part-sized chunks into a bounded pool of
+ * reusable buffers, and each part is uploaded as soon as its buffer is full, while the next one is read. A stream that
+ * fits in one part is uploaded with a single PutObject request.
+ *
+ * The length of the stream is not known up front, so the part size starts at [initialPartSize] and doubles every
+ * [PARTS_PER_PART_SIZE] parts, up to [MAXIMUM_PART_SIZE]. A stream that does not fit in
+ * [TransferRecord.MAXIMUM_UPLOAD_PARTS] parts fails before its first extra part is sent.
+ *
+ * A stream can only be read once, so the upload can be paused and resumed while the app runs, but not after a restart.
+ * Its record has no file, and is marked as failed by [TransferDB.failInputStreamUploads] once the app restarts.
+ */
+internal class InputStreamUploadTask(
+    private val transferRecord: TransferRecord,
+    private val inputStream: InputStream,
+    private val s3: S3Client,
+    private val transferStatusUpdater: TransferStatusUpdater,
+    initialPartSize: Long = TransferRecord.MINIMUM_UPLOAD_PART_SIZE.toLong(),
+    private val maxBufferedParts: Int = MAX_BUFFERED_PARTS
+) {
+    private val initialPartSize = min(initialPartSize, MAXIMUM_PART_SIZE.toLong()).toInt()
+    private val logger =
+        Amplify.Logging.logger(
+            CategoryType.STORAGE,
+            AWSS3StoragePlugin.AWS_S3_STORAGE_LOG_NAMESPACE.format(this::class.java.simpleName)
+        )
+    private val isPaused = MutableStateFlow(false)
+    private val freeBuffers = Channel<ByteArray>(Channel.UNLIMITED)
+    private val allocatedBuffers = AtomicInteger(0)
+    private val bytesRead = AtomicLong(0L)
+    private val bytesUploaded = AtomicLong(0L)
+
+    // The lifecycle of the task is only read and changed while holding the task's monitor.
+    private var job: Job? = null
+    private var isCancelled = false
+    private var isFinished = false
+
+    companion object {
+        internal const val MAX_BUFFERED_PARTS = 4
+        internal const val PARTS_PER_PART_SIZE = 1000
+
+        // Parts are read into byte arrays, which can not hold the 5 GiB S3 accepts for a part.
+        internal const val MAXIMUM_PART_SIZE = 1024 * 1024 * 1024
+    }
+
+    /**
+     * Starts the upload, unless it was canceled before it started.
+     * @param scope The scope to run the upload in
+     * @param onFinished Called once the upload completed, failed or was canceled
+     */
+    @Synchronized
+    fun start(scope: CoroutineScope, onFinished: () -> Unit) {
+        if (isCancelled) {
+            onFinished()
+            return
+        }
+        job = scope.launch { run() }.apply {
+            invokeOnCompletion {
+                synchronized(this@InputStreamUploadTask) { isFinished = true }
+                onFinished()
+            }
+        }
+    }
+
+    /**
+     * Stops reading the stream, once the parts that were already read are uploaded.
+     */
+    @Synchronized
+    fun pause(): Boolean {
+        if (isFinished || isCancelled || isPaused.value) {
+            return false
+        }
+        isPaused.value = true
+        transferStatusUpdater.updateTransferState(transferRecord.id, TransferState.PAUSED)
+        return true
+    }
+
+    @Synchronized
+    fun resume(): Boolean {
+        if (isFinished || isCancelled || !isPaused.value) {
+            return false
+        }
+        isPaused.value = false
+        transferStatusUpdater.updateTransferState(transferRecord.id, TransferState.IN_PROGRESS)
+        return true
+    }
+
+    @Synchronized
+    fun cancel(): Boolean {
+        if (isFinished || isCancelled) {
+            return false
+        }
+        isCancelled = true
+        job?.let {
+            transferStatusUpdater.updateTransferState(transferRecord.id, TransferState.PENDING_CANCEL)
+            it.cancel()
+        } ?: transferStatusUpdater.updateTransferState(transferRecord.id, TransferState.CANCELED)
+        return true
+    }
+
+    internal suspend fun run() {
+        val client = s3.withConfig {
+            enableAccelerate = transferRecord.useAccelerateEndpoint == 1
+        }
+        var multipartUploadId: String? = null
+        if (!isPaused.value) {
+            transferStatusUpdater.updateTransferState(transferRecord.id, TransferState.IN_PROGRESS)
+        }
+        try {
+            isPaused.first { !it }
+            val firstBuffer = acquireBuffer(partSize(1))
+            val firstLength = readChunk(firstBuffer)
+            val putObjectRequest =
+                BaseTransferWorker.createPutObjectRequest(transferRecord, PartByteStream(firstBuffer, firstLength))
+            if (firstLength < firstBuffer.size) {
+                client.putObject(putObjectRequest)
+                onBytesUploaded(firstLength)
+            } else {
+                val uploadId = client.createMultipartUpload(
+                    BaseTransferWorker.createMultipartUploadRequest(putObjectRequest)
+                ).uploadId ?: throw IllegalStateException("Multipart upload id is empty")
+                multipartUploadId = uploadId
+                transferStatusUpdater.updateMultipartId(transferRecord.id, uploadId)
+                val completedParts = uploadParts(client, uploadId, firstBuffer, firstLength)
+                client.completeMultipartUpload {
+                    bucket = transferRecord.bucketName
+                    key = transferRecord.key
+                    multipartUpload = CompletedMultipartUpload {
+                        parts = completedParts
+                    }
+                    this.uploadId = uploadId
+                }
+            }
+            transferStatusUpdater.updateProgress(transferRecord.id, bytesRead.get(), bytesRead.get(), true)
+            transferStatusUpdater.updateTransferState(transferRecord.id, TransferState.COMPLETED)
+        } catch (exception: CancellationException) {
+            withContext(NonCancellable) {
+                multipartUploadId?.let { abortUpload(client, it) }
+                transferStatusUpdater.updateTransferState(transferRecord.id, TransferState.CANCELED)
+            }
+            throw exception
+        } catch (exception: Exception) {
+            logger.error("Failed to upload InputStream", exception)
+            multipartUploadId?.let { abortUpload(client, it) }
+            transferStatusUpdater.updateOnError(transferRecord.id, exception)
+            transferStatusUpdater.updateTransferState(transferRecord.id, TransferState.FAILED)
+        }
+    }
+
+    private suspend fun uploadParts(
+        client: S3Client,
+        uploadId: String,
+        firstBuffer: ByteArray,
+        firstLength: Int
+    ): List<CompletedPart> {
+        val completedParts = ConcurrentHashMap<Int, CompletedPart>()
+        coroutineScope {
+            var buffer = firstBuffer
+            var length = firstLength
+            var nextPartNumber = 1
+            while (length > 0) {
+                val partBuffer = buffer
+                val partLength = length
+                val partNumberToUpload = nextPartNumber++
+                launch {
+                    try {
+                        val response = client.uploadPart {
+                            bucket = transferRecord.bucketName
+                            key = transferRecord.key
+                            this.uploadId = uploadId
+                            partNumber = partNumberToUpload
+                            body = PartByteStream(partBuffer, partLength)
+                        }
+                        val tag = response.eTag ?: throw IllegalStateException("Etag is empty")
+                        completedParts[partNumberToUpload] = CompletedPart {
+                            partNumber = partNumberToUpload
+                            eTag = tag
+                        }
+                        onBytesUploaded(partLength)
+                    } finally {
+                        freeBuffers.trySend(partBuffer)
+                    }
+                }
+                if (partLength < partBuffer.size) {
+                    break
+                }
+                isPaused.first { !it }
+                if (nextPartNumber > TransferRecord.MAXIMUM_UPLOAD_PARTS) {
+                    checkStreamEnded()
+                    break
+                }
+                buffer = acquireBuffer(partSize(nextPartNumber))
+                length = readChunk(buffer)
+                if (length == 0) {
+                    freeBuffers.trySend(buffer)
+                }
+            }
+        }
+        return completedParts.keys.sorted().map { completedParts.getValue(it) }
+    }
+
+    private fun partSize(partNumber: Int): Int {
+        val doublings = (partNumber - 1) / PARTS_PER_PART_SIZE
+        return min(initialPartSize.toLong() shl doublings, MAXIMUM_PART_SIZE.toLong()).toInt()
+    }
+
+    /**
+     * Takes a free buffer, or allocates one while fewer than [maxBufferedParts] exist, or else waits for an uploaded
+     * part to free its buffer. A free buffer smaller than [size] is from before the part size grew, and is replaced.
+     */
+    private suspend fun acquireBuffer(size: Int): ByteArray {
+        val buffer = freeBuffers.tryReceive().getOrNull() ?: run {
+            if (allocatedBuffers.getAndUpdate { if (it < maxBufferedParts) it + 1 else it } < maxBufferedParts) {
+                return ByteArray(size)
+            }
+            freeBuffers.receive()
+        }
+        return if (buffer.size < size) ByteArray(size) else buffer
+    }
+
+    private fun checkStreamEnded() {
+        if (inputStream.read() != -1) {
+            throw IllegalStateException(
+                "The stream does not fit in the ${TransferRecord.MAXIMUM_UPLOAD_PARTS} parts of a multipart upload"
+            )
+        }
+    }
+
+    private fun readChunk(buffer: ByteArray): Int {
+        var length = 0
+        while (length < buffer.size) {
+            val read = inputStream.read(buffer, length, buffer.size - length)
+            if (read == -1) {
+                break
+            }
+            length += read
+        }
+        bytesRead.addAndGet(length.toLong())
+        return length
+    }
+
+    private fun onBytesUploaded(length: Int) {
+        val uploaded = bytesUploaded.addAndGet(length.toLong())
+        // The total is not known until the stream ends, so it is reported as the bytes read so far.
+        transferStatusUpdater.updateProgress(transferRecord.id, uploaded, max(uploaded, bytesRead.get()), true)
+    }
+
+    private suspend fun abortUpload(client: S3Client, uploadId: String) {
+        try {
+            client.abortMultipartUpload {
+                bucket = transferRecord.bucketName
+                key = transferRecord.key
+                this.uploadId = uploadId
+            }
+        } catch (exception: Exception) {
+            logger.warn("Failed to abort multipart upload $uploadId", exception)
+        }
+    }
+
+    /**
+     * The filled part of a pooled buffer. The buffer is only copied if it is not full, which happens for the last part.
+     */
+    private class PartByteStream(
+        private val buffer: ByteArray,
+        private val length: Int
+    ) : ByteStream.Buffer() {
+        override val contentLength: Long = length.toLong()
+
+        override fun bytes(): ByteArray {
+            return if (length == buffer.size) buffer else buffer.copyOf(length)
+        }
+    }
+}
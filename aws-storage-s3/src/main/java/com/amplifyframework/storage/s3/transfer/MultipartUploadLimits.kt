@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.storage.s3.transfer
+
+import com.amplifyframework.storage.s3.options.AWSS3StorageUploadFileOptions
+import kotlin.math.max
+
+/**
+ * Bounds of the part size and of the number of parts in flight of a multipart upload, used by
+ * [PartUploadScheduler].
+ */
+internal data class MultipartUploadLimits @JvmOverloads constructor(
+    val minimumPartSize: Long = AWSS3StorageUploadFileOptions.DEFAULT_MINIMUM_PART_SIZE,
+    val maximumPartSize: Long = AWSS3StorageUploadFileOptions.DEFAULT_MAXIMUM_PART_SIZE,
+    val maximumConcurrentParts: Int = AWSS3StorageUploadFileOptions.DEFAULT_MAXIMUM_CONCURRENT_PARTS
+) {
+    companion object {
+        /**
+         * Reads the limits of the given options, raised to what S3 accepts where needed.
+         */
+        @JvmStatic
+        fun from(options: AWSS3StorageUploadFileOptions): MultipartUploadLimits {
+            val minimumPartSize = max(options.minimumPartSize, TransferRecord.MINIMUM_UPLOAD_PART_SIZE.toLong())
+            return MultipartUploadLimits(
+                minimumPartSize,
+                max(options.maximumPartSize, minimumPartSize),
+                max(options.maximumConcurrentParts, 1)
+            )
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.storage.s3.transfer
+
+import androidx.annotation.VisibleForTesting
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.math.ceil
+import kotlin.math.max
+import kotlin.math.min
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.sync.Semaphore
+
+/**
+ * Picks the part size of new multipart uploads, and limits how many of their parts are uploaded at the same time.
+ *
+ * The number of parts in flight of an upload follows additive increase, multiplicative decrease: it grows by one
+ * each time a window's worth of parts is uploaded without slowing down, and halves when a part fails or takes more
+ * than [CONGESTION_FACTOR] times as long per byte as the fastest part of that upload. New uploads pick a part size
+ * that takes about [TARGET_PART_DURATION_MS] to upload at the per-part throughput measured so far.
+ *
+ * Windows live in memory, so an upload resumed after the app restarts begins again with the default limits. The
+ * [TransferStatusUpdater] that owns the scheduler removes the window of an upload once it reaches a terminal state.
+ */
+internal class PartUploadScheduler @VisibleForTesting internal constructor(
+    private val nanoTime: () -> Long
+) {
+    private val windows = ConcurrentHashMap<Int, UploadWindow>()
+    private var bytesPerSecond = 0.0
+
+    constructor() : this(System::nanoTime)
+
+    companion object {
+        internal const val INITIAL_CONCURRENT_PARTS = 2
+        internal const val CONGESTION_FACTOR = 2.0
+        internal const val TARGET_PART_DURATION_MS = 5000L
+        private const val THROUGHPUT_SMOOTHING = 0.2
+    }
+
+    /**
+     * Picks the part size of a new upload of the given length, between the limits unless the file needs bigger
+     * parts to fit in [TransferRecord.MAXIMUM_UPLOAD_PARTS].
+     */
+    fun partSize(fileLength: Long, limits: MultipartUploadLimits): Long {
+        val targetPartSize = (currentBytesPerSecond() * TARGET_PART_DURATION_MS / 1000).toLong()
+        val partSize = targetPartSize.coerceIn(limits.minimumPartSize, limits.maximumPartSize)
+        return max(partSize, ceil(fileLength / TransferRecord.MAXIMUM_UPLOAD_PARTS.toDouble()).toLong())
+    }
+
+    fun setLimits(mainUploadId: Int, limits: MultipartUploadLimits) {
+        windows[mainUploadId] = UploadWindow(limits.maximumConcurrentParts)
+    }
+
+    fun remove(mainUploadId: Int) {
+        windows.remove(mainUploadId)
+    }
+
+    /**
+     * Runs the upload of a part once the window of its multipart upload has room for it, and adjusts the window
+     * from how it went.
+     */
+    suspend fun <T> uploadPart(mainUploadId: Int, partSize: Long, upload: suspend () -> T): T {
+        val window = windows.computeIfAbsent(mainUploadId) {
+            UploadWindow(MultipartUploadLimits().maximumConcurrentParts)
+        }
+        window.acquire()
+        val startNanos = nanoTime()
+        val result = try {
+            upload()
+        } catch (exception: CancellationException) {
+            window.release()
+            throw exception
+        } catch (exception: Exception) {
+            window.onPartFailed()
+            throw exception
+        }
+        val elapsedNanos = max(nanoTime() - startNanos, 1L)
+        updateThroughput(partSize, elapsedNanos)
+        window.onPartUploaded(partSize, elapsedNanos)
+        return result
+    }
+
+    @Synchronized
+    private fun currentBytesPerSecond() = bytesPerSecond
+
+    @Synchronized
+    private fun updateThroughput(partSize: Long, elapsedNanos: Long) {
+        val partBytesPerSecond = partSize * 1_000_000_000.0 / elapsedNanos
+        bytesPerSecond = if (bytesPerSecond == 0.0) {
+            partBytesPerSecond
+        } else {
+            bytesPerSecond + THROUGHPUT_SMOOTHING * (partBytesPerSecond - bytesPerSecond)
+        }
+    }
+
+    /**
+     * Parts in flight of one upload. The semaphore holds [maximumConcurrentParts] permits; the ones above the current
+     * window are kept acquired, and a shrinking window takes permits back as the parts holding them finish.
+     */
+    private class UploadWindow(private val maximumConcurrentParts: Int) {
+        private var concurrentParts = min(INITIAL_CONCURRENT_PARTS, maximumConcurrentParts)
+        private val permits = Semaphore(maximumConcurrentParts, maximumConcurrentParts - concurrentParts)
+        private var permitsToRetire = 0
+        private var partsSinceIncrease = 0
+        private var largestPartSize = 0L
+        private var fastestNanosPerByte = Double.MAX_VALUE
+
+        suspend fun acquire() = permits.acquire()
+
+        @Synchronized
+        fun onPartUploaded(partSize: Long, elapsedNanos: Long) {
+            largestPartSize = max(largestPartSize, partSize)
+            // The last part is usually smaller, and its fixed request overhead would look like a slowdown.
+            if (partSize * 2 >= largestPartSize) {
+                val nanosPerByte = elapsedNanos.toDouble() / max(partSize, 1L)
+                fastestNanosPerByte = min(fastestNanosPerByte, nanosPerByte)
+                if (nanosPerByte > fastestNanosPerByte * CONGESTION_FACTOR) decrease() else increase()
+            }
+            release()
+        }
+
+        @Synchronized
+        fun onPartFailed() {
+            decrease()
+            release()
+        }
+
+        @Synchronized
+        fun release() {
+            if (permitsToRetire > 0) permitsToRetire-- else permits.release()
+        }
+
+        private fun increase() {
+            if (concurrentParts >= maximumConcurrentParts || ++partsSinceIncrease < concurrentParts) {
+                return
+            }
+            partsSinceIncrease = 0
+            concurrentParts++
+            if (permitsToRetire > 0) permitsToRetire-- else permits.release()
+        }
+
+        private fun decrease() {
+            partsSinceIncrease = 0
+            val reducedParts = max(concurrentParts / 2, 1)
+            permitsToRetire += concurrentParts - reducedParts
+            concurrentParts = reducedParts
+        }
+    }
+}
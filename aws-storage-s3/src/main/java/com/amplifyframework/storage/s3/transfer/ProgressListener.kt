@@ -127,26 +127,23 @@ internal class UploadProgressListener(
 }
 
 /**
- * ProgressListener to track progress for S3 download request.
+ * ProgressListener to track progress for S3 download request. Parts of a multipart download report their progress
+ * concurrently, to the same listener.
+ * @param previouslyTransferredBytes bytes downloaded before this listener was created
  **/
 internal class DownloadProgressListener(
     private val transferRecord: TransferRecord,
-    private val transferStatusUpdater: TransferStatusUpdater
+    private val transferStatusUpdater: TransferStatusUpdater,
+    previouslyTransferredBytes: Long = transferRecord.bytesCurrent
 ) : ProgressListener {
-    private var bytesTransferredSoFar = 0L
+    private var bytesTransferredSoFar = previouslyTransferredBytes
     private var progressUpdateSink = 0L
 
-    init {
-        bytesTransferredSoFar = transferRecord.bytesCurrent
-    }
-
+    @Synchronized
     override fun progressChanged(bytesTransferred: Long) {
         bytesTransferredSoFar += bytesTransferred
         progressUpdateSink += bytesTransferred
-        transferRecord.bytesCurrent = bytesTransferredSoFar
-        if (transferRecord.bytesCurrent > transferRecord.bytesTotal) {
-            transferRecord.bytesCurrent = transferRecord.bytesTotal
-        }
+        transferRecord.bytesCurrent = min(bytesTransferredSoFar, transferRecord.bytesTotal)
         if (progressUpdateSink >=
             min(transferRecord.bytesTotal / 100, transferRecord.bytesTotal - transferRecord.bytesCurrent)
         ) {
@@ -161,7 +158,8 @@ internal class DownloadProgressListener(
             transferRecord.bytesCurrent,
             transferRecord.bytesTotal,
             true,
-            // writing progress to DB is not required for download operation, as current progress could be inferred from the file length
+            // writing progress to DB is not required for download operation, as current progress could be inferred
+            // from the file length, or is persisted by the part records of a multipart download
             updateDB = false
         )
     }
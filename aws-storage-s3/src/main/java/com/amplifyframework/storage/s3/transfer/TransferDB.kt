@@ -29,6 +29,7 @@ import com.amplifyframework.storage.TransferState
 import com.amplifyframework.storage.s3.AWSS3StoragePlugin
 import com.amplifyframework.storage.s3.utils.JsonUtils
 import java.io.File
+import java.util.UUID
 
 /**
  * SQlite database to store transfer records
@@ -133,6 +134,38 @@ internal class TransferDB private constructor(context: Context) {
         return transferDBHelper.insert(transferDBHelper.contentUri, values)
     }
 
+    /**
+     * Inserts the record of an InputStream upload that is streamed without a temporary file, so it has no file.
+     *
+     * @param bucket The name of the bucket to upload to.
+     * @param key The key in the specified bucket by which to store the new
+     * object.
+     * @param metadata The S3 Object metadata associated with this object
+     * @param cannedAcl The canned Acl of this S3 object
+     * @return An Uri of the record inserted.
+     */
+    fun insertInputStreamUploadRecord(
+        transferId: String,
+        bucket: String,
+        key: String,
+        metadata: ObjectMetadata?,
+        cannedAcl: ObjectCannedAcl?,
+        useAccelerateEndpoint: Boolean
+    ): Uri {
+        val values = generateContentValuesForSinglePartTransfer(
+            transferId,
+            TransferType.UPLOAD,
+            bucket,
+            key,
+            null,
+            metadata,
+            cannedAcl,
+            useAccelerateEndpoint
+        )
+        values.put(TransferTable.COLUMN_FILE, "")
+        return transferDBHelper.insert(transferDBHelper.contentUri, values)
+    }
+
     /**
      * Inserts multiple records at a time.
      *
@@ -143,6 +176,57 @@ internal class TransferDB private constructor(context: Context) {
         return transferDBHelper.bulkInsert(transferDBHelper.contentUri, valuesArray)
     }
 
+    /**
+     * Inserts the ranged part records of a multipart download. Each part covers the bytes from its
+     * range start to its range last, inclusive, and is written to the same offset of the file.
+     *
+     * @param transferRecord The main record of the download.
+     * @param partRanges The byte ranges of the parts, in order.
+     * @return Whether all part records were inserted.
+     */
+    fun insertMultipartDownloadRecords(transferRecord: TransferRecord, partRanges: List<LongRange>): Boolean {
+        val valuesArray = partRanges.mapIndexed { index, range ->
+            ContentValues().apply {
+                put(TransferTable.COLUMN_TRANSFER_ID, UUID.randomUUID().toString())
+                put(TransferTable.COLUMN_TYPE, TransferType.DOWNLOAD.toString())
+                put(TransferTable.COLUMN_STATE, TransferState.WAITING.toString())
+                put(TransferTable.COLUMN_BUCKET_NAME, transferRecord.bucketName)
+                put(TransferTable.COLUMN_KEY, transferRecord.key)
+                put(TransferTable.COLUMN_FILE, transferRecord.file)
+                put(TransferTable.COLUMN_BYTES_CURRENT, 0L)
+                put(TransferTable.COLUMN_BYTES_TOTAL, range.last - range.first + 1)
+                put(TransferTable.COLUMN_IS_MULTIPART, 1)
+                put(TransferTable.COLUMN_PART_NUM, index + 1)
+                put(TransferTable.COLUMN_FILE_OFFSET, range.first)
+                put(TransferTable.COLUMN_DATA_RANGE_START, range.first)
+                put(TransferTable.COLUMN_DATA_RANGE_LAST, range.last)
+                put(TransferTable.COLUMN_IS_LAST_PART, if (index == partRanges.lastIndex) 1 else 0)
+                put(TransferTable.COLUMN_IS_ENCRYPTED, 0)
+                put(TransferTable.COLUMN_USE_ACCELERATE_ENDPOINT, transferRecord.useAccelerateEndpoint)
+            }
+        }.toTypedArray()
+        return transferDBHelper.bulkInsertParts(transferDBHelper.contentUri, transferRecord.id, valuesArray)
+    }
+
+    /**
+     * Queries the part records of a multipart transfer.
+     *
+     * @param mainUploadId The id of the main record of the transfer
+     * @return The part records, by part number
+     */
+    fun getPartTransferRecords(mainUploadId: Int): List<TransferRecord> {
+        val result = mutableListOf<TransferRecord>()
+        transferDBHelper.query(
+            getPartUri(mainUploadId),
+            sortOrder = TransferTable.COLUMN_PART_NUM
+        ).use {
+            while (it.moveToNext()) {
+                result.add(TransferRecord.updateFromDB(it))
+            }
+        }
+        return result
+    }
+
     /**
      * Updates the current bytes of a transfer record.
      *
@@ -164,6 +248,22 @@ internal class TransferDB private constructor(context: Context) {
         return transferDBHelper.update(getRecordUri(id), values, null, null)
     }
 
+    /**
+     * Updates the current and total bytes of many transfer records, in one transaction.
+     *
+     * @param progress The current and total bytes, by transfer id
+     * @return Number of rows updated.
+     */
+    fun updateBytesTransferred(progress: Map<Int, Pair<Long, Long>>): Int {
+        val valuesByUri = progress.entries.associate { (id, bytes) ->
+            getRecordUri(id) to ContentValues().apply {
+                put(TransferTable.COLUMN_BYTES_CURRENT, bytes.first)
+                put(TransferTable.COLUMN_BYTES_TOTAL, bytes.second)
+            }
+        }
+        return transferDBHelper.bulkUpdate(valuesByUri)
+    }
+
     /**
      * Updates the current bytes of a transfer record.
      *
@@ -318,6 +418,39 @@ internal class TransferDB private constructor(context: Context) {
         )
     }
 
+    /**
+     * Updates states of all unfinished streamed uploads of input streams to
+     * "failed". These streams are not saved, so their uploads can not continue
+     * once the process that read them is gone. Input streams copied to a
+     * temporary file are not affected.
+     *
+     * @return Number of rows updated.
+     */
+    fun failInputStreamUploads(): Int {
+        val values = ContentValues()
+        values.put(
+            TransferTable.COLUMN_STATE,
+            TransferState.FAILED.toString()
+        )
+        val selection =
+            TransferTable.COLUMN_TYPE + "=? and " +
+                TransferTable.COLUMN_FILE + "=? and " +
+                TransferTable.COLUMN_STATE + " not in (?,?,?)"
+        val selectionArgs = arrayOf(
+            TransferType.UPLOAD.toString(),
+            "",
+            TransferState.COMPLETED.toString(),
+            TransferState.CANCELED.toString(),
+            TransferState.FAILED.toString()
+        )
+        return transferDBHelper.update(
+            transferDBHelper.contentUri,
+            values,
+            selection,
+            selectionArgs
+        )
+    }
+
     /**
      * Queries all the records which have the given type.
      *
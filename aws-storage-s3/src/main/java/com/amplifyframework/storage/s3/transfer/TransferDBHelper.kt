@@ -208,6 +208,31 @@ internal class TransferDBHelper(private val context: Context) :
         }
     }
 
+    /**
+     * Updates many records in the table, in one transaction.
+     *
+     * @param valuesByUri The values to update, by the Uri of the specific record.
+     * @return Number of rows updated.
+     */
+    @Synchronized
+    internal fun bulkUpdate(valuesByUri: Map<Uri, ContentValues>): Int {
+        var updated = 0
+        ensureDatabaseOpen()
+        try {
+            database.beginTransaction()
+            valuesByUri.forEach { (uri, values) ->
+                updated += update(uri, values, null, null)
+            }
+            database.setTransactionSuccessful()
+        } catch (e: Exception) {
+            logger.error("bulkUpdate error : ", e)
+            updated = 0
+        } finally {
+            database.endTransaction()
+        }
+        return updated
+    }
+
     /**
      * Deletes a record in the table.
      *
@@ -294,6 +319,38 @@ internal class TransferDBHelper(private val context: Context) :
         return mainUploadId
     }
 
+    /**
+     * Inserts part records of a transfer whose main record already exists, in one transaction.
+     *
+     * @param uri The Uri of a table.
+     * @param mainUploadId The id of the main transfer record.
+     * @param valuesArray A array of part values to insert.
+     * @return Whether all part records were inserted.
+     */
+    internal fun bulkInsertParts(uri: Uri, mainUploadId: Int, valuesArray: Array<ContentValues>): Boolean {
+        val uriType = uriMatcher.match(uri)
+        var inserted = false
+        ensureDatabaseOpen()
+        when (uriType) {
+            TRANSFERS ->
+                try {
+                    database.beginTransaction()
+                    valuesArray.forEach {
+                        it.put(TransferTable.COLUMN_MAIN_UPLOAD_ID, mainUploadId)
+                        database.insertOrThrow(TransferTable.TABLE_TRANSFER, null, it)
+                    }
+                    database.setTransactionSuccessful()
+                    inserted = true
+                } catch (e: Exception) {
+                    logger.error("bulkInsertParts error : ", e)
+                } finally {
+                    database.endTransaction()
+                }
+            else -> throw java.lang.IllegalArgumentException("Unknown URI: $uri")
+        }
+        return inserted
+    }
+
     @Synchronized
     private fun ensureDatabaseOpen() {
         if (!database.isOpen) {
@@ -34,9 +34,13 @@ import java.io.FileOutputStream
 import java.io.IOException
 import java.io.InputStream
 import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicBoolean
 import kotlin.math.ceil
-import kotlin.math.max
 import kotlin.math.min
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
 
 /**
  * TransferManager is a high-level class for applications to upload and
@@ -45,7 +49,7 @@ import kotlin.math.min
  */
 internal class TransferManager @JvmOverloads constructor(
     context: Context,
-    s3: S3Client,
+    private val s3: S3Client,
     private val pluginKey: String,
     private val workManager: WorkManager = WorkManager.getInstance(context)
 ) {
@@ -66,12 +70,24 @@ internal class TransferManager @JvmOverloads constructor(
             transferDB
         )
     private val mainHandler = Handler(Looper.getMainLooper())
+    private val inputStreamUploadScope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+    private val inputStreamUploads: MutableMap<Int, InputStreamUploadTask> = ConcurrentHashMap()
+    private val partUploadScheduler = transferStatusUpdater.partUploadScheduler
+
+    companion object {
+        // Streamed uploads only live as long as the process, so the ones left by a previous process fail.
+        private val inputStreamUploadsOfPreviousProcessFailed = AtomicBoolean(false)
+    }
 
     init {
+        if (inputStreamUploadsOfPreviousProcessFailed.compareAndSet(false, true)) {
+            transferDB.failInputStreamUploads()
+        }
         RouterWorker.workerFactories[pluginKey] = TransferWorkerFactory(
             transferDB,
             s3,
-            transferStatusUpdater
+            transferStatusUpdater,
+            partUploadScheduler
         )
     }
 
@@ -86,6 +102,7 @@ internal class TransferManager @JvmOverloads constructor(
      * @param metadata  The S3 metadata to associate with this object
      * @param cannedAcl The canned ACL to associate with this object
      * @param listener  Listener to attach to transfer observer.
+     * @param multipartUploadLimits Bounds of the part size and parts in flight, if uploaded in parts.
      * @return A TransferObserver used to track upload progress and state
      */
     @JvmOverloads
@@ -97,10 +114,20 @@ internal class TransferManager @JvmOverloads constructor(
         metadata: ObjectMetadata,
         cannedAcl: ObjectCannedAcl? = null,
         listener: TransferListener? = null,
-        useAccelerateEndpoint: Boolean = false
+        useAccelerateEndpoint: Boolean = false,
+        multipartUploadLimits: MultipartUploadLimits = MultipartUploadLimits()
     ): TransferObserver {
-        val transferRecordId = if (shouldUploadInMultipart(file)) {
-            createMultipartUploadRecords(transferId, bucket, key, file, metadata, cannedAcl, useAccelerateEndpoint)
+        val transferRecordId = if (shouldUploadInMultipart(file, multipartUploadLimits)) {
+            createMultipartUploadRecords(
+                transferId,
+                bucket,
+                key,
+                file,
+                metadata,
+                cannedAcl,
+                useAccelerateEndpoint,
+                multipartUploadLimits
+            )
         } else {
             val uri = transferDB.insertSingleTransferRecord(
                 transferId,
@@ -134,14 +161,32 @@ internal class TransferManager @JvmOverloads constructor(
         return transferObserver
     }
 
+    /**
+     * Starts uploading the stream to the given bucket, using the given key. By
+     * default the stream is copied to a temporary file, which is then uploaded
+     * like any other file. Otherwise the stream is uploaded as it is read, so
+     * the upload can not be resumed after the app restarts.
+     *
+     * @param key     The key in the specified bucket by which to store the new
+     *                object.
+     * @param inputStream The stream to upload.
+     * @param options The bucket, metadata, canned ACL and listener of the upload.
+     * @param streamWithoutTempFile Whether to upload the stream as it is read.
+     * @return A TransferObserver used to track upload progress and state
+     */
     @Throws(IOException::class)
+    @JvmOverloads
     fun upload(
         transferId: String,
         key: String,
         inputStream: InputStream,
         options: UploadOptions,
-        useAccelerateEndpoint: Boolean
+        useAccelerateEndpoint: Boolean,
+        streamWithoutTempFile: Boolean = false
     ): TransferObserver {
+        if (streamWithoutTempFile) {
+            return stream(transferId, key, inputStream, options, useAccelerateEndpoint)
+        }
         val file = writeInputStreamToFile(inputStream)
         return upload(
             transferId,
@@ -155,6 +200,48 @@ internal class TransferManager @JvmOverloads constructor(
         )
     }
 
+    private fun stream(
+        transferId: String,
+        key: String,
+        inputStream: InputStream,
+        options: UploadOptions,
+        useAccelerateEndpoint: Boolean
+    ): TransferObserver {
+        val uri = transferDB.insertInputStreamUploadRecord(
+            transferId,
+            options.bucket,
+            key,
+            options.objectMetadata,
+            options.cannedAcl,
+            useAccelerateEndpoint
+        )
+        val transferRecordId = uri.lastPathSegment?.toInt()
+            ?: throw IllegalStateException("Invalid TransferRecord ID ${uri.lastPathSegment}")
+        val transferRecord = transferDB.getTransferRecordById(transferRecordId)
+            ?: throw IllegalStateException("Failed to find transferRecord")
+        val transferObserver = TransferObserver(
+            transferRecord.id,
+            transferStatusUpdater,
+            transferRecord.bucketName,
+            transferRecord.key,
+            transferRecord.file,
+            options.transferListener
+        )
+        val task = InputStreamUploadTask(
+            transferRecord,
+            inputStream,
+            s3,
+            transferStatusUpdater,
+            partUploadScheduler.partSize(0, MultipartUploadLimits())
+        )
+        inputStreamUploads[transferRecordId] = task
+        // Like the work requests of other transfers, the upload starts after the caller had a chance to add listeners.
+        mainHandler.post {
+            task.start(inputStreamUploadScope) { inputStreamUploads.remove(transferRecordId) }
+        }
+        return transferObserver
+    }
+
     @JvmOverloads
     fun download(
         transferId: String,
@@ -201,12 +288,16 @@ internal class TransferManager @JvmOverloads constructor(
     }
 
     fun pause(transferRecordId: Int): Boolean {
+        inputStreamUploads[transferRecordId]?.let { return it.pause() }
         val transferRecord = transferStatusUpdater.activeTransferMap[transferRecordId]
         return transferRecord?.let { TransferOperations.pause(it, transferStatusUpdater, workManager) } ?: false
     }
 
     fun resume(transferRecordId: Int): Boolean {
+        inputStreamUploads[transferRecordId]?.let { return it.resume() }
         val transferRecord = transferStatusUpdater.activeTransferMap[transferRecordId]
+            // An upload without a file is the upload of a stream from a previous process, which can't be read again.
+            ?.takeUnless { it.type == TransferType.UPLOAD && it.file.isEmpty() }
         return transferRecord?.let {
             TransferOperations.resume(
                 it,
@@ -225,6 +316,7 @@ internal class TransferManager @JvmOverloads constructor(
     }
 
     fun cancel(transferRecordId: Int): Boolean {
+        inputStreamUploads[transferRecordId]?.let { return it.cancel() }
         val transferRecord = transferStatusUpdater.activeTransferMap[transferRecordId]
         return transferRecord?.let {
             TransferOperations.cancel(
@@ -249,12 +341,11 @@ internal class TransferManager @JvmOverloads constructor(
         file: File,
         metadata: ObjectMetadata,
         cannedAcl: ObjectCannedAcl?,
-        useAccelerateEndpoint: Boolean
+        useAccelerateEndpoint: Boolean,
+        multipartUploadLimits: MultipartUploadLimits
     ): Int {
         var remainingLength = file.length()
-        val partSize =
-            ceil(remainingLength / TransferRecord.MAXIMUM_UPLOAD_PARTS.toDouble()).toInt()
-        val optimalPartSize = max(partSize, TransferRecord.MINIMUM_UPLOAD_PART_SIZE).toLong()
+        val optimalPartSize = partUploadScheduler.partSize(remainingLength, multipartUploadLimits)
         val partCount = ceil(remainingLength.toDouble() / optimalPartSize.toDouble()).toInt()
         var partNum = 1
         var fileOffset = 0L
@@ -294,7 +385,9 @@ internal class TransferManager @JvmOverloads constructor(
             remainingLength -= optimalPartSize
         }
 
-        return transferDB.bulkInsertTransferRecords(contentValues)
+        return transferDB.bulkInsertTransferRecords(contentValues).also {
+            partUploadScheduler.setLimits(it, multipartUploadLimits)
+        }
     }
 
     private fun writeInputStreamToFile(inputStream: InputStream): File {
@@ -310,7 +403,7 @@ internal class TransferManager @JvmOverloads constructor(
         return file
     }
 
-    private fun shouldUploadInMultipart(file: File): Boolean {
-        return file.length() > TransferRecord.MINIMUM_UPLOAD_PART_SIZE
+    private fun shouldUploadInMultipart(file: File, multipartUploadLimits: MultipartUploadLimits): Boolean {
+        return file.length() > multipartUploadLimits.minimumPartSize
     }
 }
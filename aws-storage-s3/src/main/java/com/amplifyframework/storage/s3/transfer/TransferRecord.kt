@@ -62,6 +62,9 @@ internal data class TransferRecord(
 
         const val MINIMUM_UPLOAD_PART_SIZE = 5 * 1024 * 1024
         const val MAXIMUM_UPLOAD_PARTS = 10000
+        const val MINIMUM_DOWNLOAD_PART_SIZE = 8 * 1024 * 1024
+        const val MULTIPART_DOWNLOAD_THRESHOLD = 4 * MINIMUM_DOWNLOAD_PART_SIZE
+        const val MAXIMUM_DOWNLOAD_PARTS = 10000
 
         @JvmStatic
         fun updateFromDB(c: Cursor): TransferRecord {
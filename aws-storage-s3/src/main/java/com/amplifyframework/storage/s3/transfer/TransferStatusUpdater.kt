@@ -18,18 +18,35 @@ package com.amplifyframework.storage.s3.transfer
 import android.content.Context
 import android.os.Handler
 import android.os.Looper
+import android.os.SystemClock
+import androidx.annotation.VisibleForTesting
 import com.amplifyframework.core.Amplify
 import com.amplifyframework.core.category.CategoryType
 import com.amplifyframework.storage.TransferState
 import com.amplifyframework.storage.s3.AWSS3StoragePlugin
 import java.io.File
 import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+import kotlin.math.max
 
 /**
- * Updates transfer status to observers and to local DB
+ * Updates transfer status to observers and to local DB.
+ *
+ * Progress updates do not take the updater's lock. The latest progress of each transfer is kept in memory, written
+ * to the DB for all transfers at once every [PROGRESS_FLUSH_INTERVAL_MS], and reported to listeners at most every
+ * [PROGRESS_NOTIFY_INTERVAL_MS] or every [PROGRESS_NOTIFY_STEPS]th of the transfer, whichever comes first. Completed
+ * progress is always reported. Progress never moves back, unless the transfer starts over, see [resetProgress].
  **/
-internal class TransferStatusUpdater private constructor(
-    private val transferDB: TransferDB
+internal class TransferStatusUpdater @VisibleForTesting internal constructor(
+    private val transferDB: TransferDB,
+    private val progressFlushExecutor: ScheduledExecutorService = Executors.newSingleThreadScheduledExecutor {
+        Thread(it, PROGRESS_FLUSH_THREAD_NAME).apply { isDaemon = true }
+    },
+    val partUploadScheduler: PartUploadScheduler = PartUploadScheduler()
 ) {
     private val logger =
         Amplify.Logging.logger(
@@ -44,6 +61,9 @@ internal class TransferStatusUpdater private constructor(
     private val multiPartTransferStatusListener: MutableMap<Int, MultiPartUploadTaskListener> by lazy {
         ConcurrentHashMap()
     }
+    private val transferProgressMap = ConcurrentHashMap<Int, TransferProgress>()
+    private val pendingProgressWrites: MutableSet<Int> = ConcurrentHashMap.newKeySet()
+    private val isProgressFlushScheduled = AtomicBoolean(false)
     val activeTransferMap = object : AbstractMutableMap<Int, TransferRecord>() {
 
         val transferRecordMap = ConcurrentHashMap<Int, TransferRecord>()
@@ -66,6 +86,10 @@ internal class TransferStatusUpdater private constructor(
     companion object {
 
         internal const val TEMP_FILE_PREFIX = "aws-s3-d861b25a-1edf-11eb-adc1-0242ac120002"
+        internal const val PROGRESS_FLUSH_INTERVAL_MS = 1000L
+        internal const val PROGRESS_NOTIFY_INTERVAL_MS = 100L
+        internal const val PROGRESS_NOTIFY_STEPS = 20
+        private const val PROGRESS_FLUSH_THREAD_NAME = "amplify-storage-progress"
 
         @JvmStatic
         fun getInstance(context: Context): TransferStatusUpdater {
@@ -88,11 +112,14 @@ internal class TransferStatusUpdater private constructor(
                     logger.error("Failed to delete temp file: ${file.name} $exception")
                 }
             }
-            if (it.isMultipart == 1) {
+            if (it.isMultipart == 1 || it.type == TransferType.DOWNLOAD) {
                 transferDB.deletePartTransferRecords(transferRecordId)
             }
             transferDB.deleteTransferRecords(transferRecordId)
             activeTransferMap.remove(transferRecordId)
+            partUploadScheduler.remove(transferRecordId)
+            pendingProgressWrites.remove(transferRecordId)
+            transferProgressMap.remove(transferRecordId)
         }
     }
 
@@ -102,7 +129,14 @@ internal class TransferStatusUpdater private constructor(
             if (transferRecord.state == newState || TransferState.isInTerminalState(transferRecord.state)) {
                 return
             }
+            if (newState == TransferState.IN_PROGRESS) {
+                // A transfer that is resumed or retried reports its progress from where it starts again.
+                resetProgress(transferRecord.id)
+            }
             transferRecord.state = newState
+            if (TransferState.isPaused(newState) || TransferState.isInTerminalState(newState)) {
+                flushProgress(transferRecord.id)
+            }
             transferDB.updateState(transferRecord.id, newState)
             if (TransferState.COMPLETED == newState) {
                 removeTransferRecord(transferRecord.id)
@@ -121,12 +155,12 @@ internal class TransferStatusUpdater private constructor(
             }
 
             if (TransferState.isInTerminalState(newState)) {
+                partUploadScheduler.remove(transferRecord.id)
                 unregisterAllListener(transferRecord.id)
             }
         }
     }
 
-    @Synchronized
     fun updateProgress(
         transferRecordId: Int,
         bytesCurrent: Long,
@@ -134,21 +168,83 @@ internal class TransferStatusUpdater private constructor(
         notifyListener: Boolean,
         updateDB: Boolean = true
     ) {
+        val progress = transferProgressMap[transferRecordId]
+            ?: TransferProgress().let { transferProgressMap.putIfAbsent(transferRecordId, it) ?: it }
+        // Parts report their progress concurrently, so a late report of a smaller value must not move progress back.
+        // A transfer that starts over resets its progress first.
+        val currentBytes = progress.bytesCurrent.updateAndGet { max(it, bytesCurrent) }
+        progress.bytesTotal.set(bytesTotal)
         activeTransferMap[transferRecordId]?.let {
-            it.bytesCurrent = bytesCurrent
+            it.bytesCurrent = currentBytes
             it.bytesTotal = bytesTotal
         }
-        if (updateDB) {
-            transferDB.updateBytesTransferred(transferRecordId, bytesCurrent, bytesTotal)
+        if (updateDB && pendingProgressWrites.add(transferRecordId)) {
+            scheduleProgressFlush()
         }
-        if (notifyListener) {
-            transferStatusListenerMap[transferRecordId]?.forEach {
-                mainHandler.post {
-                    it.onProgressChanged(
-                        transferRecordId,
-                        bytesCurrent,
-                        bytesTotal
-                    )
+        if (notifyListener && progress.shouldNotify(currentBytes, bytesTotal, SystemClock.elapsedRealtime())) {
+            postProgress(transferRecordId, progress)
+        }
+    }
+
+    /**
+     * Forgets the progress reported for a transfer, so that a transfer that starts over can report less progress than
+     * it had before.
+     */
+    fun resetProgress(transferRecordId: Int) {
+        transferProgressMap.remove(transferRecordId)
+    }
+
+    /**
+     * Writes the pending progress of all transfers to the DB, in one transaction.
+     */
+    @VisibleForTesting
+    internal fun flushProgress() {
+        isProgressFlushScheduled.set(false)
+        val progressUpdates = mutableMapOf<Int, Pair<Long, Long>>()
+        pendingProgressWrites.toList().forEach { transferRecordId ->
+            pendingProgressWrites.remove(transferRecordId)
+            transferProgressMap[transferRecordId]?.let {
+                progressUpdates[transferRecordId] = Pair(it.bytesCurrent.get(), it.bytesTotal.get())
+            }
+        }
+        if (progressUpdates.isNotEmpty()) {
+            transferDB.updateBytesTransferred(progressUpdates)
+        }
+    }
+
+    private fun flushProgress(transferRecordId: Int) {
+        if (pendingProgressWrites.remove(transferRecordId)) {
+            transferProgressMap[transferRecordId]?.let {
+                transferDB.updateBytesTransferred(transferRecordId, it.bytesCurrent.get(), it.bytesTotal.get())
+            }
+        }
+    }
+
+    private fun scheduleProgressFlush() {
+        if (isProgressFlushScheduled.compareAndSet(false, true)) {
+            progressFlushExecutor.schedule(
+                {
+                    try {
+                        flushProgress()
+                    } catch (exception: Exception) {
+                        logger.error("Failed to write transfer progress", exception)
+                    }
+                },
+                PROGRESS_FLUSH_INTERVAL_MS,
+                TimeUnit.MILLISECONDS
+            )
+        }
+    }
+
+    private fun postProgress(transferRecordId: Int, progress: TransferProgress) {
+        // A pending post reads the latest progress when it runs, so at most one post per transfer is needed.
+        if (progress.isNotificationPending.compareAndSet(false, true)) {
+            mainHandler.post {
+                progress.isNotificationPending.set(false)
+                val bytesCurrent = progress.bytesCurrent.get()
+                val bytesTotal = progress.bytesTotal.get()
+                transferStatusListenerMap[transferRecordId]?.forEach {
+                    it.onProgressChanged(transferRecordId, bytesCurrent, bytesTotal)
                 }
             }
         }
@@ -222,4 +318,28 @@ internal class TransferStatusUpdater private constructor(
             multiPartTransferStatusListener.remove(transferRecordId)
         }
     }
+
+    /**
+     * Latest progress of a transfer, and when it was last reported to listeners.
+     */
+    private class TransferProgress {
+        val bytesCurrent = AtomicLong(0L)
+        val bytesTotal = AtomicLong(0L)
+        val isNotificationPending = AtomicBoolean(false)
+        private var lastNotifiedBytes = 0L
+        private var lastNotifiedTime = 0L
+
+        @Synchronized
+        fun shouldNotify(bytesCurrent: Long, bytesTotal: Long, now: Long): Boolean {
+            val isComplete = bytesCurrent == bytesTotal
+            val isDue = now - lastNotifiedTime >= PROGRESS_NOTIFY_INTERVAL_MS ||
+                bytesCurrent - lastNotifiedBytes >= bytesTotal / PROGRESS_NOTIFY_STEPS
+            if (isComplete || isDue) {
+                lastNotifiedBytes = bytesCurrent
+                lastNotifiedTime = now
+                return true
+            }
+            return false
+        }
+    }
 }
@@ -29,6 +29,7 @@ import androidx.work.Data
 import androidx.work.ForegroundInfo
 import androidx.work.WorkerParameters
 import androidx.work.workDataOf
+import aws.sdk.kotlin.services.s3.model.CreateMultipartUploadRequest
 import aws.sdk.kotlin.services.s3.model.ObjectCannedAcl
 import aws.sdk.kotlin.services.s3.model.PutObjectRequest
 import aws.sdk.kotlin.services.s3.model.RequestPayer
@@ -85,6 +86,62 @@ internal abstract class BaseTransferWorker(
         internal const val completionRequestTag: String = "COMPLETION_REQUEST_TAG_%s"
         internal const val initiationRequestTag: String = "INITIATION_REQUEST_TAG_%s"
         internal const val MULTIPART_UPLOAD: String = "MULTIPART_UPLOAD"
+
+        internal fun createPutObjectRequest(
+            transferRecord: TransferRecord,
+            requestBody: ByteStream
+        ): PutObjectRequest {
+            return PutObjectRequest {
+                bucket = transferRecord.bucketName
+                key = transferRecord.key
+                body = requestBody
+                cacheControl = transferRecord.headerCacheControl
+                contentDisposition = transferRecord.headerContentDisposition
+                serverSideEncryption = transferRecord.sseAlgorithm?.let {
+                    ServerSideEncryption.fromValue(it)
+                }
+                sseCustomerKey = transferRecord.sseKMSKey
+                contentEncoding = transferRecord.headerContentEncoding
+                contentType = transferRecord.headerContentType
+                expires = transferRecord.httpExpires?.let { Instant.fromEpochSeconds(it) }
+                metadata = transferRecord.userMetadata
+                contentMd5 = transferRecord.md5
+                storageClass = transferRecord.headerStorageClass?.let { StorageClass.fromValue(it) }
+                websiteRedirectLocation = transferRecord.userMetadata?.get(
+                    ObjectMetadata.REDIRECT_LOCATION
+                )
+                acl = transferRecord.cannedAcl?.let { CANNED_ACL_MAP[it] }
+                requestPayer = transferRecord.userMetadata?.get(ObjectMetadata.REQUESTER_PAYS_HEADER)
+                    ?.let { RequestPayer.fromValue(it) }
+                tagging = transferRecord.userMetadata?.get(ObjectMetadata.S3_TAGGING)
+            }
+        }
+
+        /**
+         * Creates the request that starts a multipart upload of the object described by a PutObject request. The
+         * whole-object MD5 does not apply to parts, and a customer-provided encryption key would have to be sent with
+         * every part, so neither is copied.
+         */
+        internal fun createMultipartUploadRequest(
+            putObjectRequest: PutObjectRequest
+        ): CreateMultipartUploadRequest {
+            return CreateMultipartUploadRequest {
+                bucket = putObjectRequest.bucket
+                key = putObjectRequest.key
+                acl = putObjectRequest.acl
+                cacheControl = putObjectRequest.cacheControl
+                contentDisposition = putObjectRequest.contentDisposition
+                contentEncoding = putObjectRequest.contentEncoding
+                contentType = putObjectRequest.contentType
+                expires = putObjectRequest.expires
+                metadata = putObjectRequest.metadata
+                requestPayer = putObjectRequest.requestPayer
+                serverSideEncryption = putObjectRequest.serverSideEncryption
+                storageClass = putObjectRequest.storageClass
+                tagging = putObjectRequest.tagging
+                websiteRedirectLocation = putObjectRequest.websiteRedirectLocation
+            }
+        }
     }
 
     override suspend fun doWork(): Result {
@@ -205,29 +262,6 @@ internal abstract class BaseTransferWorker(
         progressListener: ProgressListener?
     ): PutObjectRequest {
         val file = File(transferRecord.file)
-        return PutObjectRequest {
-            bucket = transferRecord.bucketName
-            key = transferRecord.key
-            body = ByteStream.fromFile(file)
-            cacheControl = transferRecord.headerCacheControl
-            contentDisposition = transferRecord.headerContentDisposition
-            serverSideEncryption = transferRecord.sseAlgorithm?.let {
-                ServerSideEncryption.fromValue(it)
-            }
-            sseCustomerKey = transferRecord.sseKMSKey
-            contentEncoding = transferRecord.headerContentEncoding
-            contentType = transferRecord.headerContentType
-            expires = transferRecord.httpExpires?.let { Instant.fromEpochSeconds(it) }
-            metadata = transferRecord.userMetadata
-            contentMd5 = transferRecord.md5
-            storageClass = transferRecord.headerStorageClass?.let { StorageClass.fromValue(it) }
-            websiteRedirectLocation = transferRecord.userMetadata?.get(
-                ObjectMetadata.REDIRECT_LOCATION
-            )
-            acl = transferRecord.cannedAcl?.let { CANNED_ACL_MAP[it] }
-            requestPayer = transferRecord.userMetadata?.get(ObjectMetadata.REQUESTER_PAYS_HEADER)
-                ?.let { RequestPayer.fromValue(it) }
-            tagging = transferRecord.userMetadata?.get(ObjectMetadata.S3_TAGGING)
-        }
+        return createPutObjectRequest(transferRecord, ByteStream.fromFile(file))
     }
 }
@@ -22,21 +22,37 @@ import aws.sdk.kotlin.services.s3.model.GetObjectRequest
 import aws.sdk.kotlin.services.s3.withConfig
 import aws.smithy.kotlin.runtime.content.ByteStream
 import aws.smithy.kotlin.runtime.content.writeToFile
+import aws.smithy.kotlin.runtime.io.SdkBuffer
 import aws.smithy.kotlin.runtime.io.SdkSource
 import aws.smithy.kotlin.runtime.io.buffer
+import com.amplifyframework.storage.TransferState
 import com.amplifyframework.storage.s3.transfer.DownloadProgressListener
 import com.amplifyframework.storage.s3.transfer.DownloadProgressListenerInterceptor
+import com.amplifyframework.storage.s3.transfer.ProgressListener
 import com.amplifyframework.storage.s3.transfer.TransferDB
+import com.amplifyframework.storage.s3.transfer.TransferRecord
 import com.amplifyframework.storage.s3.transfer.TransferStatusUpdater
 import java.io.BufferedOutputStream
 import java.io.File
 import java.io.FileOutputStream
+import java.io.RandomAccessFile
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import kotlin.math.ceil
+import kotlin.math.max
+import kotlin.math.min
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
 import kotlinx.coroutines.withContext
 
 /**
- * Worker to perform download file task.
+ * Worker to perform download file task. Objects of at least [TransferRecord.MULTIPART_DOWNLOAD_THRESHOLD] bytes are
+ * downloaded as ranged parts, which are tracked as part records of the transfer and fetched concurrently into a
+ * preallocated file, so that an interrupted download resumes each part where it stopped.
  */
 internal class DownloadWorker(
     private val s3: S3Client,
@@ -49,33 +65,68 @@ internal class DownloadWorker(
     private lateinit var downloadProgressListener: DownloadProgressListener
     private val defaultBufferSize = 8192L
     val coroutineScope = CoroutineScope(Dispatchers.IO)
+
+    companion object {
+        private const val MAX_CONCURRENT_PART_DOWNLOADS = 4
+        private const val PART_PROGRESS_UPDATE_SIZE = 1024 * 1024L
+    }
+
     override suspend fun performWork(): Result {
         s3.withConfig {
             enableAccelerate = transferRecord.useAccelerateEndpoint == 1
         }
         val file = File(transferRecord.file)
+        val parts = transferDB.getPartTransferRecords(transferRecord.id)
+        if (parts.isNotEmpty()) {
+            return resumeInParts(file, parts)
+        }
         val downloadedBytes = file.length()
         if (downloadedBytes > 0 && transferRecord.bytesTotal == downloadedBytes) {
             return Result.success(outputData)
         }
+        return download(file, downloadedBytes)
+    }
+
+    private suspend fun download(file: File, downloadedBytes: Long): Result {
+        val isFreshDownload = downloadedBytes == 0L
         val getObjectRequest = GetObjectRequest {
             key = transferRecord.key
             bucket = transferRecord.bucketName
-            range = "bytes=$downloadedBytes-"
+            // A fresh download only asks for the bytes up to the multipart threshold. The Content-Range of the
+            // response tells the size of the object, so that a larger one is downloaded in parts.
+            range = if (isFreshDownload) {
+                "bytes=0-${TransferRecord.MULTIPART_DOWNLOAD_THRESHOLD - 1}"
+            } else {
+                "bytes=$downloadedBytes-"
+            }
         }
 
         downloadProgressListener = DownloadProgressListener(transferRecord, transferStatusUpdater)
-        return s3.withConfig {
+        var parts: List<TransferRecord>? = null
+        val result = s3.withConfig {
             interceptors += DownloadProgressListenerInterceptor(downloadProgressListener)
             enableAccelerate = transferRecord.useAccelerateEndpoint == 1
         }.getObject(getObjectRequest) { response ->
-            val totalBytes = (response.body?.contentLength ?: 0L) + downloadedBytes
+            val receivedBytes = (response.body?.contentLength ?: 0L) + downloadedBytes
+            val totalBytes = response.contentRange?.substringAfterLast('/')?.toLongOrNull() ?: receivedBytes
             transferRecord.bytesTotal = totalBytes
             transferRecord.bytesCurrent = downloadedBytes
             file.parentFile?.takeIf { !it.exists() }?.mkdirs()
+            if (isFreshDownload && totalBytes > receivedBytes) {
+                parts = createPartRecords(file, totalBytes)?.also { createdParts ->
+                    writeFirstPart(file, createdParts.first(), response.body)
+                }
+                if (parts != null) {
+                    return@getObject null
+                }
+            }
             response.body?.let {
                 writeStreamToFile(it, file)
             }
+            if (totalBytes > receivedBytes) {
+                // Parts could not be recorded, so the rest of the object is asked for in a single request.
+                return@getObject null
+            }
             transferStatusUpdater.updateProgress(
                 transferRecord.id,
                 totalBytes,
@@ -84,6 +135,184 @@ internal class DownloadWorker(
             )
             Result.success(outputData)
         }
+        return when {
+            result != null -> result
+            isStopped -> Result.retry()
+            parts != null -> downloadInParts(file, transferDB.getPartTransferRecords(transferRecord.id))
+            else -> download(file, file.length())
+        }
+    }
+
+    /**
+     * Splits the object into ranged part records and preallocates the file. The first part covers the bytes asked for
+     * by the first request of the download.
+     * @return The part records, or null if the object should be downloaded in a single request
+     */
+    private suspend fun createPartRecords(file: File, objectSize: Long): List<TransferRecord>? {
+        val firstPartSize = TransferRecord.MULTIPART_DOWNLOAD_THRESHOLD.toLong()
+        val partSize = max(
+            ceil((objectSize - firstPartSize) / (TransferRecord.MAXIMUM_DOWNLOAD_PARTS - 1).toDouble()).toLong(),
+            TransferRecord.MINIMUM_DOWNLOAD_PART_SIZE.toLong()
+        )
+        val partRanges = listOf(0L until firstPartSize) +
+            (firstPartSize until objectSize step partSize).map { it until min(it + partSize, objectSize) }
+        if (!transferDB.insertMultipartDownloadRecords(transferRecord, partRanges)) {
+            return null
+        }
+        transferDB.updateBytesTotalForDownload(transferRecord.id, objectSize)
+        withContext(Dispatchers.IO) {
+            RandomAccessFile(file, "rw").use { it.setLength(objectSize) }
+        }
+        return transferDB.getPartTransferRecords(transferRecord.id)
+    }
+
+    private suspend fun writeFirstPart(file: File, part: TransferRecord, body: ByteStream?) {
+        withContext(Dispatchers.IO) {
+            RandomAccessFile(file, "rw").use { randomAccessFile ->
+                // The progress of the first request is reported by its interceptor.
+                writePart(body, randomAccessFile.channel, part, null)
+            }
+        }
+    }
+
+    /**
+     * Resumes the download of the parts that are not completed yet. If the file is gone, or is not the size of the
+     * object, the parts written so far are lost, so the download starts over.
+     */
+    private suspend fun resumeInParts(file: File, parts: List<TransferRecord>): Result {
+        if (!file.exists() || file.length() != transferRecord.bytesTotal) {
+            transferDB.deletePartTransferRecords(transferRecord.id)
+            file.delete()
+            transferRecord.bytesCurrent = 0L
+            transferStatusUpdater.resetProgress(transferRecord.id)
+            return download(file, 0L)
+        }
+        return downloadInParts(file, parts)
+    }
+
+    private suspend fun downloadInParts(file: File, parts: List<TransferRecord>): Result {
+        val progressListener = DownloadProgressListener(
+            transferRecord,
+            transferStatusUpdater,
+            parts.sumOf { it.bytesCurrent }
+        )
+        val partClient = s3.withConfig {
+            enableAccelerate = transferRecord.useAccelerateEndpoint == 1
+        }
+        val permits = Semaphore(MAX_CONCURRENT_PART_DOWNLOADS)
+        withContext(Dispatchers.IO) {
+            RandomAccessFile(file, "rw").use { randomAccessFile ->
+                val fileChannel = randomAccessFile.channel
+                coroutineScope {
+                    parts.filter { it.state != TransferState.PART_COMPLETED }.forEach { part ->
+                        launch {
+                            permits.withPermit {
+                                if (!isStopped) {
+                                    downloadPart(partClient, fileChannel, part, progressListener)
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        if (isStopped) {
+            return Result.retry()
+        }
+        transferStatusUpdater.updateProgress(
+            transferRecord.id,
+            transferRecord.bytesTotal,
+            transferRecord.bytesTotal,
+            true
+        )
+        return Result.success(outputData)
+    }
+
+    private suspend fun downloadPart(
+        partClient: S3Client,
+        fileChannel: FileChannel,
+        part: TransferRecord,
+        progressListener: ProgressListener
+    ) {
+        val getObjectRequest = GetObjectRequest {
+            key = transferRecord.key
+            bucket = transferRecord.bucketName
+            range = "bytes=${part.rangeStart + part.bytesCurrent}-${part.rangeLast}"
+        }
+        transferDB.updateState(part.id, TransferState.IN_PROGRESS)
+        partClient.getObject(getObjectRequest) { response ->
+            writePart(response.body, fileChannel, part, progressListener)
+        }
+    }
+
+    /**
+     * Writes the body of a ranged response at the offset of the part, and records the bytes written.
+     */
+    private suspend fun writePart(
+        body: ByteStream?,
+        fileChannel: FileChannel,
+        part: TransferRecord,
+        progressListener: ProgressListener?
+    ) {
+        var unsavedBytes = 0L
+        try {
+            body?.let {
+                readChunks(it) { bytes, length ->
+                    fileChannel.writeFully(bytes, length, part.fileOffset + part.bytesCurrent)
+                    part.bytesCurrent += length
+                    progressListener?.progressChanged(length.toLong())
+                    unsavedBytes += length
+                    if (unsavedBytes >= PART_PROGRESS_UPDATE_SIZE) {
+                        transferDB.updateBytesTransferred(part.id, part.bytesCurrent, part.bytesTotal)
+                        unsavedBytes = 0L
+                    }
+                }
+            }
+        } finally {
+            transferDB.updateBytesTransferred(part.id, part.bytesCurrent, part.bytesTotal)
+        }
+        if (part.bytesCurrent == part.bytesTotal) {
+            transferDB.updateState(part.id, TransferState.PART_COMPLETED)
+        } else if (!isStopped) {
+            throw IllegalStateException(
+                "Part ${part.partNumber} ended after ${part.bytesCurrent} of ${part.bytesTotal} bytes"
+            )
+        }
+    }
+
+    private suspend fun readChunks(stream: ByteStream, onChunk: (ByteArray, Int) -> Unit) {
+        when (stream) {
+            is ByteStream.Buffer -> {
+                val bytes = stream.bytes()
+                onChunk(bytes, bytes.size)
+            }
+            is ByteStream.SourceStream -> {
+                val source = stream.readFrom().buffer()
+                val buffer = ByteArray(defaultBufferSize.toInt())
+                while (!isStopped) {
+                    val readBytes = source.read(buffer, 0, buffer.size)
+                    if (readBytes == -1) break
+                    onChunk(buffer, readBytes)
+                }
+            }
+            is ByteStream.ChannelStream -> {
+                val channel = stream.readFrom()
+                val sdkBuffer = SdkBuffer()
+                while (!isStopped) {
+                    if (channel.read(sdkBuffer, defaultBufferSize) == -1L) break
+                    val bytes = sdkBuffer.readByteArray()
+                    onChunk(bytes, bytes.size)
+                }
+            }
+        }
+    }
+
+    private fun FileChannel.writeFully(bytes: ByteArray, length: Int, position: Long) {
+        val buffer = ByteBuffer.wrap(bytes, 0, length)
+        var offset = position
+        while (buffer.hasRemaining()) {
+            offset += write(buffer, offset)
+        }
     }
 
     private suspend fun writeStreamToFile(
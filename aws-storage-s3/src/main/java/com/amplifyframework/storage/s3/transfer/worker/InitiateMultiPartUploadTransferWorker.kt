@@ -18,7 +18,6 @@ import android.content.Context
 import androidx.work.Data
 import androidx.work.WorkerParameters
 import aws.sdk.kotlin.services.s3.S3Client
-import aws.sdk.kotlin.services.s3.createMultipartUpload
 import aws.sdk.kotlin.services.s3.withConfig
 import com.amplifyframework.storage.TransferState
 import com.amplifyframework.storage.s3.transfer.TransferDB
@@ -40,13 +39,7 @@ internal class InitiateMultiPartUploadTransferWorker(
         val putObjectRequest = createPutObjectRequest(transferRecord, null)
         return s3.withConfig {
             enableAccelerate = transferRecord.useAccelerateEndpoint == 1
-        }.createMultipartUpload {
-            bucket = putObjectRequest.bucket
-            key = putObjectRequest.key
-            acl = putObjectRequest.acl
-            metadata = putObjectRequest.metadata
-            tagging = putObjectRequest.tagging
-        }.let {
+        }.createMultipartUpload(createMultipartUploadRequest(putObjectRequest)).let {
             transferStatusUpdater.updateMultipartId(transferRecord.id, it.uploadId)
             val output = Data.Builder().putInt(TRANSFER_RECORD_ID, transferRecord.id)
                 .putString(MULTI_PART_UPLOAD_ID, it.uploadId).build()
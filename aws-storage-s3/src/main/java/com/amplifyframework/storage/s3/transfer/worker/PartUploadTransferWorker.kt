@@ -22,6 +22,7 @@ import aws.sdk.kotlin.services.s3.withConfig
 import aws.smithy.kotlin.runtime.content.asByteStream
 import com.amplifyframework.storage.TransferState
 import com.amplifyframework.storage.s3.transfer.PartUploadProgressListener
+import com.amplifyframework.storage.s3.transfer.PartUploadScheduler
 import com.amplifyframework.storage.s3.transfer.TransferDB
 import com.amplifyframework.storage.s3.transfer.TransferStatusUpdater
 import com.amplifyframework.storage.s3.transfer.UploadProgressListenerInterceptor
@@ -34,6 +35,7 @@ internal class PartUploadTransferWorker(
     private val s3: S3Client,
     private val transferDB: TransferDB,
     private val transferStatusUpdater: TransferStatusUpdater,
+    private val partUploadScheduler: PartUploadScheduler,
     context: Context,
     workerParameters: WorkerParameters
 ) : BaseTransferWorker(transferStatusUpdater, transferDB, context, workerParameters) {
@@ -49,18 +51,20 @@ internal class PartUploadTransferWorker(
         transferStatusUpdater.updateTransferState(transferRecord.mainUploadId, TransferState.IN_PROGRESS)
         multiPartUploadId = inputData.keyValueMap[MULTI_PART_UPLOAD_ID] as String
         partUploadProgressListener = PartUploadProgressListener(transferRecord, transferStatusUpdater)
-        return s3.withConfig {
-            interceptors += UploadProgressListenerInterceptor(partUploadProgressListener)
-            enableAccelerate = transferRecord.useAccelerateEndpoint == 1
-        }.uploadPart {
-            bucket = transferRecord.bucketName
-            key = transferRecord.key
-            uploadId = multiPartUploadId
-            body = File(transferRecord.file).asByteStream(
-                start = transferRecord.fileOffset,
-                transferRecord.fileOffset + transferRecord.bytesTotal - 1
-            )
-            partNumber = transferRecord.partNumber
+        return partUploadScheduler.uploadPart(transferRecord.mainUploadId, transferRecord.bytesTotal) {
+            s3.withConfig {
+                interceptors += UploadProgressListenerInterceptor(partUploadProgressListener)
+                enableAccelerate = transferRecord.useAccelerateEndpoint == 1
+            }.uploadPart {
+                bucket = transferRecord.bucketName
+                key = transferRecord.key
+                uploadId = multiPartUploadId
+                body = File(transferRecord.file).asByteStream(
+                    start = transferRecord.fileOffset,
+                    transferRecord.fileOffset + transferRecord.bytesTotal - 1
+                )
+                partNumber = transferRecord.partNumber
+            }
         }.let { response ->
             response.eTag?.let { tag ->
                 transferDB.updateETag(transferRecord.id, tag)
@@ -19,6 +19,7 @@ import androidx.work.ListenableWorker
 import androidx.work.WorkerFactory
 import androidx.work.WorkerParameters
 import aws.sdk.kotlin.services.s3.S3Client
+import com.amplifyframework.storage.s3.transfer.PartUploadScheduler
 import com.amplifyframework.storage.s3.transfer.TransferDB
 import com.amplifyframework.storage.s3.transfer.TransferStatusUpdater
 
@@ -28,7 +29,8 @@ import com.amplifyframework.storage.s3.transfer.TransferStatusUpdater
 internal class TransferWorkerFactory(
     private val transferDB: TransferDB,
     private val s3: S3Client,
-    private val transferStatusUpdater: TransferStatusUpdater
+    private val transferStatusUpdater: TransferStatusUpdater,
+    private val partUploadScheduler: PartUploadScheduler
 ) : WorkerFactory() {
     override fun createWorker(
         appContext: Context,
@@ -65,6 +67,7 @@ internal class TransferWorkerFactory(
                     s3,
                     transferDB,
                     transferStatusUpdater,
+                    partUploadScheduler,
                     appContext,
                     workerParameters
                 )
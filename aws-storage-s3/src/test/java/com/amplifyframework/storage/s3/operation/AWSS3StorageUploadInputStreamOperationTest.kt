@@ -22,6 +22,7 @@ import com.amplifyframework.storage.StorageException
 import com.amplifyframework.storage.s3.ServerSideEncryption
 import com.amplifyframework.storage.s3.configuration.AWSS3PluginPrefixResolver
 import com.amplifyframework.storage.s3.configuration.AWSS3StoragePluginConfiguration
+import com.amplifyframework.storage.s3.options.AWSS3StorageUploadInputStreamOptions
 import com.amplifyframework.storage.s3.request.AWSS3StorageUploadRequest
 import com.amplifyframework.storage.s3.service.StorageService
 import com.amplifyframework.storage.s3.transfer.TransferObserver
@@ -208,4 +209,55 @@ class AWSS3StorageUploadInputStreamOperationTest {
             eq(false)
         )
     }
+
+    @Test
+    fun optionsArePassedToStorageService() {
+        val key = "123"
+        val expectedKey = "public/123"
+        val tempInputStream = File.createTempFile("new", "file.tmp").inputStream()
+        val options = AWSS3StorageUploadInputStreamOptions.builder()
+            .streamWithoutTempFile(true)
+            .build()
+        coEvery { authCredentialsProvider.getIdentityId() } returns "abc"
+        Mockito.`when`(
+            storageService.uploadInputStream(
+                any(),
+                any(),
+                any(),
+                any(),
+                eq(false),
+                eq(options)
+            )
+        ).thenReturn(Mockito.mock(TransferObserver::class.java))
+        val request = AWSS3StorageUploadRequest<InputStream>(
+            key,
+            tempInputStream,
+            StorageAccessLevel.PUBLIC,
+            "",
+            "/image",
+            ServerSideEncryption.NONE,
+            mutableMapOf(),
+            false
+        )
+        inputStreamOperation = AWSS3StorageUploadInputStreamOperation(
+            storageService,
+            MoreExecutors.newDirectExecutorService(),
+            authCredentialsProvider,
+            AWSS3StoragePluginConfiguration {},
+            request,
+            {},
+            {},
+            {},
+            options
+        )
+        inputStreamOperation.start()
+        Mockito.verify(storageService).uploadInputStream(
+            eq(inputStreamOperation.transferId),
+            eq(expectedKey),
+            eq(tempInputStream),
+            any(ObjectMetadata::class.java),
+            eq(false),
+            eq(options)
+        )
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amplifyframework.storage.s3.transfer
+
+import aws.sdk.kotlin.services.s3.S3Client
+import aws.sdk.kotlin.services.s3.model.CompleteMultipartUploadRequest
+import aws.sdk.kotlin.services.s3.model.CompleteMultipartUploadResponse
+import aws.sdk.kotlin.services.s3.model.CreateMultipartUploadRequest
+import aws.sdk.kotlin.services.s3.model.CreateMultipartUploadResponse
+import aws.sdk.kotlin.services.s3.model.PutObjectRequest
+import aws.sdk.kotlin.services.s3.model.PutObjectResponse
+import aws.sdk.kotlin.services.s3.model.UploadPartRequest
+import aws.sdk.kotlin.services.s3.model.UploadPartResponse
+import aws.sdk.kotlin.services.s3.withConfig
+import aws.smithy.kotlin.runtime.content.ByteStream
+import com.amplifyframework.storage.TransferState
+import io.mockk.coEvery
+import io.mockk.coVerify
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.mockkStatic
+import io.mockk.slot
+import io.mockk.unmockkStatic
+import io.mockk.verify
+import java.io.ByteArrayInputStream
+import java.util.UUID
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.test.runTest
+import org.junit.After
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@OptIn(ExperimentalCoroutinesApi::class)
+@RunWith(RobolectricTestRunner::class)
+internal class InputStreamUploadTaskTest {
+    private lateinit var s3Client: S3Client
+    private lateinit var transferStatusUpdater: TransferStatusUpdater
+    private lateinit var transferRecord: TransferRecord
+
+    @Before
+    fun setup() {
+        s3Client = mockk(relaxed = true)
+        transferStatusUpdater = mockk(relaxed = true)
+        mockkStatic(S3Client::withConfig)
+        every { s3Client.withConfig(any()) } returns s3Client
+        transferRecord = TransferRecord(
+            1,
+            UUID.randomUUID().toString(),
+            bucketName = "bucket",
+            key = "key",
+            headerContentType = "text/plain"
+        )
+    }
+
+    @After
+    fun tearDown() {
+        unmockkStatic(S3Client::withConfig)
+    }
+
+    @Test
+    fun streamLargerThanPartIsUploadedInParts() = runTest {
+        val uploadedParts = mutableMapOf<Int, ByteArray>()
+        val createRequest = slot<CreateMultipartUploadRequest>()
+        val completeRequest = slot<CompleteMultipartUploadRequest>()
+        coEvery {
+            s3Client.createMultipartUpload(capture(createRequest))
+        } returns CreateMultipartUploadResponse { uploadId = "id" }
+        coEvery { s3Client.uploadPart(any()) }.coAnswers {
+            val request = firstArg<UploadPartRequest>()
+            // Buffers are reused once the part is uploaded, so the body is copied here.
+            uploadedParts[request.partNumber] = (request.body as ByteStream.Buffer).bytes().copyOf()
+            UploadPartResponse { eTag = "etag-${request.partNumber}" }
+        }
+        coEvery {
+            s3Client.completeMultipartUpload(capture(completeRequest))
+        } returns CompleteMultipartUploadResponse {}
+
+        val stream = ByteArrayInputStream(ByteArray(10) { it.toByte() })
+        InputStreamUploadTask(transferRecord, stream, s3Client, transferStatusUpdater, 4, 2).run()
+
+        assertEquals("text/plain", createRequest.captured.contentType)
+        assertArrayEquals(byteArrayOf(0, 1, 2, 3), uploadedParts[1])
+        assertArrayEquals(byteArrayOf(4, 5, 6, 7), uploadedParts[2])
+        assertArrayEquals(byteArrayOf(8, 9), uploadedParts[3])
+        assertEquals(
+            listOf(1 to "etag-1", 2 to "etag-2", 3 to "etag-3"),
+            completeRequest.captured.multipartUpload?.parts?.map { it.partNumber to it.eTag }
+        )
+        coVerify(exactly = 0) { s3Client.putObject(any()) }
+        verify { transferStatusUpdater.updateProgress(1, 10, 10, true) }
+        verify { transferStatusUpdater.updateTransferState(1, TransferState.COMPLETED) }
+    }
+
+    @Test
+    fun partSizeGrowsAsPartCountRises() = runTest {
+        val partSizes = mutableMapOf<Int, Long?>()
+        coEvery { s3Client.createMultipartUpload(any()) } returns CreateMultipartUploadResponse { uploadId = "id" }
+        coEvery { s3Client.uploadPart(any()) }.coAnswers {
+            val request = firstArg<UploadPartRequest>()
+            partSizes[request.partNumber] = request.body?.contentLength
+            UploadPartResponse { eTag = "etag-${request.partNumber}" }
+        }
+        coEvery { s3Client.completeMultipartUpload(any()) } returns CompleteMultipartUploadResponse {}
+
+        val streamLength = InputStreamUploadTask.PARTS_PER_PART_SIZE + 3
+        val stream = ByteArrayInputStream(ByteArray(streamLength))
+        InputStreamUploadTask(transferRecord, stream, s3Client, transferStatusUpdater, 1, 2).run()
+
+        assertEquals(InputStreamUploadTask.PARTS_PER_PART_SIZE + 2, partSizes.size)
+        assertEquals(1L, partSizes[InputStreamUploadTask.PARTS_PER_PART_SIZE])
+        assertEquals(2L, partSizes[InputStreamUploadTask.PARTS_PER_PART_SIZE + 1])
+        assertEquals(1L, partSizes[InputStreamUploadTask.PARTS_PER_PART_SIZE + 2])
+        verify { transferStatusUpdater.updateTransferState(1, TransferState.COMPLETED) }
+    }
+
+    @Test
+    fun streamLongerThanMaximumPartCountFails() = runTest {
+        coEvery { s3Client.createMultipartUpload(any()) } returns CreateMultipartUploadResponse { uploadId = "id" }
+        coEvery { s3Client.uploadPart(any()) } returns UploadPartResponse { eTag = "etag" }
+
+        // Parts of one byte, doubling every PARTS_PER_PART_SIZE parts, fill every part but leave one byte over.
+        val fullPartsLength = (0 until TransferRecord.MAXIMUM_UPLOAD_PARTS / InputStreamUploadTask.PARTS_PER_PART_SIZE)
+            .sumOf { InputStreamUploadTask.PARTS_PER_PART_SIZE shl it }
+        val stream = ByteArrayInputStream(ByteArray(fullPartsLength + 1))
+        InputStreamUploadTask(transferRecord, stream, s3Client, transferStatusUpdater, 1, 2).run()
+
+        coVerify(exactly = TransferRecord.MAXIMUM_UPLOAD_PARTS) { s3Client.uploadPart(any()) }
+        coVerify(exactly = 0) { s3Client.completeMultipartUpload(any()) }
+        coVerify { s3Client.abortMultipartUpload(any()) }
+        verify { transferStatusUpdater.updateOnError(1, any<IllegalStateException>()) }
+        verify { transferStatusUpdater.updateTransferState(1, TransferState.FAILED) }
+    }
+
+    @Test
+    fun streamSmallerThanPartIsUploadedInOneRequest() = runTest {
+        val putRequest = slot<PutObjectRequest>()
+        var uploadedBytes: ByteArray? = null
+        coEvery { s3Client.putObject(capture(putRequest)) }.coAnswers {
+            uploadedBytes = (putRequest.captured.body as ByteStream.Buffer).bytes().copyOf()
+            PutObjectResponse {}
+        }
+
+        val stream = ByteArrayInputStream(byteArrayOf(1, 2, 3))
+        InputStreamUploadTask(transferRecord, stream, s3Client, transferStatusUpdater, 4, 2).run()
+
+        assertArrayEquals(byteArrayOf(1, 2, 3), uploadedBytes)
+        coVerify(exactly = 0) { s3Client.createMultipartUpload(any()) }
+        verify { transferStatusUpdater.updateTransferState(1, TransferState.COMPLETED) }
+    }
+}
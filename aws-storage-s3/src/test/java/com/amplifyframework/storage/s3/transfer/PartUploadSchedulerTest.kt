@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amplifyframework.storage.s3.transfer
+
+import java.io.IOException
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.test.runCurrent
+import kotlinx.coroutines.test.runTest
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+@OptIn(ExperimentalCoroutinesApi::class)
+internal class PartUploadSchedulerTest {
+    private var now = 0L
+    private val scheduler = PartUploadScheduler { now }
+
+    @Test
+    fun partSizeFollowsMeasuredThroughputWithinLimits() = runTest {
+        val limits = MultipartUploadLimits(MEGABYTE * 5, MEGABYTE * 16, 4)
+        assertEquals(MEGABYTE * 5, scheduler.partSize(MEGABYTE * 100, limits))
+
+        // 5 MB per second uploads 25 MB in the targeted part duration, which is above the upper bound.
+        scheduler.uploadPart(1, MEGABYTE * 5) { now += 1_000_000_000L }
+        assertEquals(MEGABYTE * 16, scheduler.partSize(MEGABYTE * 100, limits))
+        assertEquals(
+            MEGABYTE * 25,
+            scheduler.partSize(MEGABYTE * 100, MultipartUploadLimits(MEGABYTE * 5, MEGABYTE * 64, 4))
+        )
+    }
+
+    @Test
+    fun partSizeFitsFileInMaximumNumberOfParts() {
+        val fileLength = MEGABYTE * 100_000
+        val partSize = scheduler.partSize(fileLength, MultipartUploadLimits())
+        assertEquals(fileLength / TransferRecord.MAXIMUM_UPLOAD_PARTS, partSize)
+    }
+
+    @Test
+    fun partsWaitForRoomInWindow() = runTest {
+        scheduler.setLimits(1, MultipartUploadLimits(maximumConcurrentParts = 4))
+        val gates = List(3) { CompletableDeferred<Unit>() }
+        var started = 0
+        gates.forEach { gate ->
+            launch {
+                scheduler.uploadPart(1, MEGABYTE * 5) {
+                    started++
+                    gate.await()
+                }
+            }
+        }
+        runCurrent()
+        assertEquals(PartUploadScheduler.INITIAL_CONCURRENT_PARTS, started)
+
+        gates[0].complete(Unit)
+        runCurrent()
+        assertEquals(3, started)
+        gates.forEach { it.complete(Unit) }
+    }
+
+    @Test
+    fun failedPartShrinksWindow() = runTest {
+        scheduler.setLimits(1, MultipartUploadLimits(maximumConcurrentParts = 4))
+        val gates = List(3) { CompletableDeferred<Unit>() }
+        var started = 0
+        gates.forEach { gate ->
+            launch {
+                runCatching {
+                    scheduler.uploadPart(1, MEGABYTE * 5) {
+                        started++
+                        gate.await()
+                    }
+                }
+            }
+        }
+        runCurrent()
+        assertEquals(2, started)
+
+        gates[0].completeExceptionally(IOException("Connection reset"))
+        runCurrent()
+        assertEquals(2, started)
+
+        gates[1].complete(Unit)
+        runCurrent()
+        assertEquals(3, started)
+        gates[2].complete(Unit)
+    }
+
+    companion object {
+        private const val MEGABYTE = 1024L * 1024
+    }
+}
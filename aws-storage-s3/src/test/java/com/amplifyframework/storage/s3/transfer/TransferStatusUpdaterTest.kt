@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amplifyframework.storage.s3.transfer
+
+import android.os.Looper
+import com.amplifyframework.storage.TransferState
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import java.util.concurrent.ScheduledExecutorService
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.Shadows.shadowOf
+
+@RunWith(RobolectricTestRunner::class)
+internal class TransferStatusUpdaterTest {
+    private lateinit var transferDB: TransferDB
+    private lateinit var progressFlushExecutor: ScheduledExecutorService
+    private lateinit var transferStatusUpdater: TransferStatusUpdater
+
+    @Before
+    fun setup() {
+        transferDB = mockk(relaxed = true)
+        progressFlushExecutor = mockk(relaxed = true)
+        every { transferDB.getTransferRecordById(any()) } returns null
+        transferStatusUpdater = TransferStatusUpdater(transferDB, progressFlushExecutor)
+    }
+
+    @Test
+    fun progressIsWrittenToDBOncePerFlush() {
+        transferStatusUpdater.updateProgress(1, 10, 100, false)
+        transferStatusUpdater.updateProgress(1, 20, 100, false)
+        transferStatusUpdater.updateProgress(2, 5, 50, false)
+
+        verify(exactly = 1) { progressFlushExecutor.schedule(any(), any(), any()) }
+        verify(exactly = 0) { transferDB.updateBytesTransferred(any(), any(), any()) }
+
+        transferStatusUpdater.flushProgress()
+
+        verify(exactly = 1) {
+            transferDB.updateBytesTransferred(mapOf(1 to Pair(20L, 100L), 2 to Pair(5L, 50L)))
+        }
+    }
+
+    @Test
+    fun lateProgressDoesNotMoveProgressBack() {
+        transferStatusUpdater.updateProgress(1, 20, 100, false)
+        transferStatusUpdater.updateProgress(1, 10, 100, false)
+
+        transferStatusUpdater.flushProgress()
+
+        verify(exactly = 1) { transferDB.updateBytesTransferred(mapOf(1 to Pair(20L, 100L))) }
+    }
+
+    @Test
+    fun progressStartsOverWhenTransferIsInProgressAgain() {
+        transferStatusUpdater.activeTransferMap[1] = TransferRecord(1, "transfer", state = TransferState.IN_PROGRESS)
+        transferStatusUpdater.updateProgress(1, 20, 100, false)
+        transferStatusUpdater.updateTransferState(1, TransferState.WAITING)
+        transferStatusUpdater.updateTransferState(1, TransferState.IN_PROGRESS)
+        transferStatusUpdater.updateProgress(1, 5, 100, false)
+
+        transferStatusUpdater.flushProgress()
+
+        verify(exactly = 1) { transferDB.updateBytesTransferred(mapOf(1 to Pair(5L, 100L))) }
+    }
+
+    @Test
+    fun resetProgressLetsProgressStartOver() {
+        transferStatusUpdater.updateProgress(1, 20, 100, false)
+        transferStatusUpdater.resetProgress(1)
+        transferStatusUpdater.updateProgress(1, 5, 100, false)
+
+        transferStatusUpdater.flushProgress()
+
+        verify(exactly = 1) { transferDB.updateBytesTransferred(mapOf(1 to Pair(5L, 100L))) }
+    }
+
+    @Test
+    fun listenersGetCoalescedProgressAndFinalUpdate() {
+        val listener = mockk<TransferListener>(relaxed = true)
+        transferStatusUpdater.registerListener(1, listener)
+
+        transferStatusUpdater.updateProgress(1, 10, 100, true)
+        transferStatusUpdater.updateProgress(1, 11, 100, true)
+        transferStatusUpdater.updateProgress(1, 100, 100, true)
+        shadowOf(Looper.getMainLooper()).idle()
+
+        verify(exactly = 1) { listener.onProgressChanged(1, any(), any()) }
+        verify(exactly = 1) { listener.onProgressChanged(1, 100, 100) }
+    }
+}
@@ -20,9 +20,11 @@ import androidx.work.ListenableWorker
 import androidx.work.WorkerParameters
 import androidx.work.workDataOf
 import aws.sdk.kotlin.services.s3.S3Client
+import aws.sdk.kotlin.services.s3.model.GetObjectRequest
 import aws.sdk.kotlin.services.s3.model.GetObjectResponse
 import aws.sdk.kotlin.services.s3.withConfig
 import aws.smithy.kotlin.runtime.content.ByteStream
+import aws.smithy.kotlin.runtime.content.fromBytes
 import aws.smithy.kotlin.runtime.content.fromFile
 import com.amplifyframework.storage.TransferState
 import com.amplifyframework.storage.s3.transfer.DownloadProgressListenerInterceptor
@@ -33,6 +35,7 @@ import io.mockk.coEvery
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.mockkStatic
+import io.mockk.slot
 import io.mockk.unmockkStatic
 import io.mockk.verify
 import java.io.File
@@ -41,6 +44,7 @@ import java.util.UUID
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.test.runTest
 import org.junit.After
+import org.junit.Assert.assertArrayEquals
 import org.junit.Assert.assertEquals
 import org.junit.Before
 import org.junit.Test
@@ -70,6 +74,7 @@ internal class DownloadWorkerTest {
         every { workerParameters.runAttemptCount }.answers { 1 }
         every { workerParameters.taskExecutor }.answers { ImmediateTaskExecutor() }
         every { s3Client.withConfig(any()) } returns s3Client
+        every { transferDB.getPartTransferRecords(any()) } returns emptyList()
     }
 
     @After
@@ -148,6 +153,223 @@ internal class DownloadWorkerTest {
         assertEquals(expectedResult, result)
     }
 
+    @Test
+    fun testMultipartDownloadResumesIncompleteParts() = runTest {
+        val file = File.createTempFile("Temp", "_file.txt")
+        RandomAccessFile(file, "rw").use { it.setLength(8) }
+        val transferRecord = TransferRecord(
+            1,
+            UUID.randomUUID().toString(),
+            bytesTotal = 8,
+            bucketName = "bucket_name",
+            key = "key",
+            file = file.path
+        )
+        val completedPart = TransferRecord(
+            2,
+            UUID.randomUUID().toString(),
+            mainUploadId = 1,
+            isMultipart = 1,
+            partNumber = 1,
+            bytesTotal = 4,
+            bytesCurrent = 4,
+            rangeStart = 0,
+            rangeLast = 3,
+            fileOffset = 0,
+            state = TransferState.PART_COMPLETED,
+            file = file.path
+        )
+        val partialPart = TransferRecord(
+            3,
+            UUID.randomUUID().toString(),
+            mainUploadId = 1,
+            isMultipart = 1,
+            partNumber = 2,
+            bytesTotal = 4,
+            bytesCurrent = 1,
+            rangeStart = 4,
+            rangeLast = 7,
+            fileOffset = 4,
+            state = TransferState.IN_PROGRESS,
+            file = file.path
+        )
+        val request = slot<GetObjectRequest>()
+        val response = GetObjectResponse {
+            contentLength = 3
+            body = ByteStream.fromBytes(byteArrayOf(6, 7, 8))
+        }
+        coEvery {
+            s3Client.getObject(
+                capture(request),
+                any<suspend (GetObjectResponse) -> Unit>()
+            )
+        }.coAnswers { secondArg<suspend (GetObjectResponse) -> Unit>().invoke(response) }
+        every { transferDB.getTransferRecordById(any()) }.answers { transferRecord }
+        every { transferDB.getPartTransferRecords(1) } returns listOf(completedPart, partialPart)
+        every { transferDB.updateState(any(), any()) } returns 1
+        every { transferDB.updateBytesTransferred(any(), any(), any()) } returns 1
+        every { transferStatusUpdater.updateProgress(1, any(), any(), true, any()) }.answers { }
+
+        val worker = DownloadWorker(s3Client, transferDB, transferStatusUpdater, context, workerParameters)
+        val result = worker.doWork()
+
+        assertEquals("bytes=5-7", request.captured.range)
+        verify { transferDB.updateBytesTransferred(3, 4, 4) }
+        verify { transferDB.updateState(3, TransferState.PART_COMPLETED) }
+        verify(exactly = 0) { transferDB.updateState(2, any()) }
+        assertArrayEquals(byteArrayOf(6, 7, 8), file.readBytes().copyOfRange(5, 8))
+        val expectedResult =
+            ListenableWorker.Result.success(workDataOf(BaseTransferWorker.OUTPUT_TRANSFER_RECORD_ID to 1))
+        assertEquals(expectedResult, result)
+    }
+
+    @Test
+    fun testMultipartDownloadStartsOverWhenFileIsMissing() = runTest {
+        val file = File.createTempFile("Temp", "_file.txt")
+        file.delete()
+        val transferRecord = TransferRecord(
+            1,
+            UUID.randomUUID().toString(),
+            bytesTotal = 8,
+            bucketName = "bucket_name",
+            key = "key",
+            file = file.path
+        )
+        val completedPart = TransferRecord(
+            2,
+            UUID.randomUUID().toString(),
+            mainUploadId = 1,
+            isMultipart = 1,
+            partNumber = 1,
+            bytesTotal = 8,
+            bytesCurrent = 8,
+            rangeStart = 0,
+            rangeLast = 7,
+            fileOffset = 0,
+            state = TransferState.PART_COMPLETED,
+            file = file.path
+        )
+        val request = slot<GetObjectRequest>()
+        val response = GetObjectResponse {
+            contentLength = 8
+            contentRange = "bytes 0-7/8"
+            body = ByteStream.fromBytes(byteArrayOf(1, 2, 3, 4, 5, 6, 7, 8))
+        }
+        coEvery {
+            s3Client.getObject(
+                capture(request),
+                any<suspend (GetObjectResponse) -> ListenableWorker.Result>()
+            )
+        }.coAnswers { secondArg<suspend (GetObjectResponse) -> ListenableWorker.Result>().invoke(response) }
+        every { transferDB.getTransferRecordById(any()) }.answers { transferRecord }
+        every { transferDB.getPartTransferRecords(1) } returns listOf(completedPart)
+        every { transferDB.deletePartTransferRecords(1) } returns 1
+        every { transferStatusUpdater.resetProgress(1) }.answers { }
+        every { transferStatusUpdater.updateProgress(1, any(), any(), true, any()) }.answers { }
+
+        val worker = DownloadWorker(s3Client, transferDB, transferStatusUpdater, context, workerParameters)
+        val result = worker.doWork()
+
+        verify { transferDB.deletePartTransferRecords(1) }
+        verify { transferStatusUpdater.resetProgress(1) }
+        assertEquals("bytes=0-${TransferRecord.MULTIPART_DOWNLOAD_THRESHOLD - 1}", request.captured.range)
+        assertArrayEquals(byteArrayOf(1, 2, 3, 4, 5, 6, 7, 8), file.readBytes())
+        val expectedResult =
+            ListenableWorker.Result.success(workDataOf(BaseTransferWorker.OUTPUT_TRANSFER_RECORD_ID to 1))
+        assertEquals(expectedResult, result)
+    }
+
+    @Test
+    fun testLargeDownloadContinuesInParts() = runTest {
+        val file = File.createTempFile("Temp", "_file.txt")
+        val firstPartSize = TransferRecord.MULTIPART_DOWNLOAD_THRESHOLD.toLong()
+        val objectSize = firstPartSize + 10
+        val transferRecord = TransferRecord(
+            1,
+            UUID.randomUUID().toString(),
+            bucketName = "bucket_name",
+            key = "key",
+            file = file.path
+        )
+        val firstPart = TransferRecord(
+            2,
+            UUID.randomUUID().toString(),
+            mainUploadId = 1,
+            isMultipart = 1,
+            partNumber = 1,
+            bytesTotal = firstPartSize,
+            rangeStart = 0,
+            rangeLast = firstPartSize - 1,
+            fileOffset = 0,
+            file = file.path
+        )
+        val secondPart = TransferRecord(
+            3,
+            UUID.randomUUID().toString(),
+            mainUploadId = 1,
+            isMultipart = 1,
+            partNumber = 2,
+            bytesTotal = 10,
+            rangeStart = firstPartSize,
+            rangeLast = objectSize - 1,
+            fileOffset = firstPartSize,
+            file = file.path
+        )
+        val lastBytes = byteArrayOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+        val firstResponse = GetObjectResponse {
+            contentLength = firstPartSize
+            contentRange = "bytes 0-${firstPartSize - 1}/$objectSize"
+            body = ByteStream.fromFile(createFile(firstPartSize.toInt() / (1024 * 1024)))
+        }
+        val secondResponse = GetObjectResponse {
+            contentLength = 10
+            contentRange = "bytes $firstPartSize-${objectSize - 1}/$objectSize"
+            body = ByteStream.fromBytes(lastBytes)
+        }
+        val requestedRanges = mutableListOf<String?>()
+        coEvery {
+            s3Client.getObject(
+                any(),
+                any<suspend (GetObjectResponse) -> Any?>()
+            )
+        }.coAnswers {
+            val range = firstArg<GetObjectRequest>().range
+            requestedRanges += range
+            val response = if (range == "bytes=0-${firstPartSize - 1}") firstResponse else secondResponse
+            secondArg<suspend (GetObjectResponse) -> Any?>().invoke(response)
+        }
+        val partRanges = slot<List<LongRange>>()
+        every { transferDB.getTransferRecordById(any()) }.answers { transferRecord }
+        every { transferDB.insertMultipartDownloadRecords(transferRecord, capture(partRanges)) } returns true
+        every { transferDB.updateBytesTotalForDownload(1, objectSize) } returns 1
+        // No parts before the first request, then the parts as created, then with the first part completed.
+        every { transferDB.getPartTransferRecords(1) } returnsMany listOf(
+            emptyList(),
+            listOf(firstPart, secondPart),
+            listOf(firstPart.copy(state = TransferState.PART_COMPLETED), secondPart)
+        )
+        every { transferDB.updateState(any(), any()) } returns 1
+        every { transferDB.updateBytesTransferred(any(), any(), any()) } returns 1
+        every { transferStatusUpdater.updateProgress(1, any(), any(), true, any()) }.answers { }
+
+        val worker = DownloadWorker(s3Client, transferDB, transferStatusUpdater, context, workerParameters)
+        val result = worker.doWork()
+
+        assertEquals(listOf(0L until firstPartSize, firstPartSize until objectSize), partRanges.captured)
+        assertEquals(
+            listOf("bytes=0-${firstPartSize - 1}", "bytes=$firstPartSize-${objectSize - 1}"),
+            requestedRanges
+        )
+        verify { transferDB.updateState(2, TransferState.PART_COMPLETED) }
+        verify { transferDB.updateState(3, TransferState.PART_COMPLETED) }
+        verify { transferStatusUpdater.updateProgress(1, objectSize, objectSize, true, true) }
+        assertEquals(objectSize, file.length())
+        assertArrayEquals(lastBytes, file.readBytes().copyOfRange(firstPartSize.toInt(), objectSize.toInt()))
+        val expectedResult =
+            ListenableWorker.Result.success(workDataOf(BaseTransferWorker.OUTPUT_TRANSFER_RECORD_ID to 1))
+        assertEquals(expectedResult, result)
+    }
+
     private fun createFile(size: Int): File {
         val file = File((System.getProperty("java.io.tmpdir")?.plus(File.separator)) + "file")
         file.createNewFile()
@@ -19,9 +19,12 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.util.ObjectsCompat;
 
+import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.ApiException;
 import com.amplifyframework.util.Immutable;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +36,8 @@ import java.util.Objects;
  * @param <R> queried data type
  */
 public final class GraphQLResponse<R> {
+    private static final int READ_BUFFER_SIZE = 8192;
+
     private final R data;
     private final List<Error> errors;
 
@@ -240,5 +245,36 @@ public final class GraphQLResponse<R> {
          */
         <R> GraphQLResponse<R> buildResponse(GraphQLRequest<R> request, String apiResponseJson)
             throws ApiException;
+
+        /**
+         * Deserializes a JSON response body returned by an API into an object of the provided typeOfR.
+         * By default the whole body is read into a String and passed to
+         * {@link #buildResponse(GraphQLRequest, String)}. Implementations should override this to parse
+         * the JSON as it is read, without first buffering the whole body.
+         * The caller is responsible for closing the reader.
+         * @param request The request which resulted in this GraphQLResponse
+         * @param apiResponseJson Reader of the response from the endpoint
+         *
+         * @param <R> The typeOfR of the response object
+         * @return An instance of provided typeOfR which models the data provided in the response JSON
+         * @throws ApiException If the response cannot be read, or the class provided mismatches the data
+         */
+        default <R> GraphQLResponse<R> buildResponse(GraphQLRequest<R> request, Reader apiResponseJson)
+                throws ApiException {
+            StringBuilder json = new StringBuilder();
+            char[] buffer = new char[READ_BUFFER_SIZE];
+            try {
+                int count;
+                while ((count = apiResponseJson.read(buffer)) != -1) {
+                    json.append(buffer, 0, count);
+                }
+            } catch (IOException exception) {
+                throw new ApiException(
+                    "Could not retrieve the response body from the returned JSON",
+                    exception, AmplifyException.TODO_RECOVERY_SUGGESTION
+                );
+            }
+            return buildResponse(request, json.toString());
+        }
     }
 }
@@ -33,6 +33,8 @@ public final class SchemaRegistry {
     private final Map<String, ModelSchema> modelSchemaMap;
     // CustomType name => CustomTypeSchema map
     private final Map<String, CustomTypeSchema> customTypeSchemaMap;
+    // Incremented whenever the registered schemas change
+    private volatile int version;
 
     private SchemaRegistry() {
         modelSchemaMap = new HashMap<>();
@@ -50,6 +52,7 @@ public final class SchemaRegistry {
             final ModelSchema modelSchema = ModelSchema.fromModelClass(modelClass);
             modelSchemaMap.put(modelClassName, modelSchema);
         }
+        version++;
     }
 
     /**
@@ -58,6 +61,7 @@ public final class SchemaRegistry {
      */
     public synchronized void register(@NonNull Map<String, ModelSchema> modelSchemas) {
         modelSchemaMap.putAll(modelSchemas);
+        version++;
     }
 
     /**
@@ -71,6 +75,7 @@ public final class SchemaRegistry {
             @NonNull Map<String, CustomTypeSchema> customTypeSchemas) {
         modelSchemaMap.putAll(modelSchemas);
         customTypeSchemaMap.putAll(customTypeSchemas);
+        version++;
     }
 
     /**
@@ -80,6 +85,7 @@ public final class SchemaRegistry {
      */
     public synchronized void register(@NonNull String modelName, @NonNull ModelSchema modelSchema) {
         modelSchemaMap.put(modelName, modelSchema);
+        version++;
     }
 
     /**
@@ -89,6 +95,7 @@ public final class SchemaRegistry {
      */
     public synchronized void register(@NonNull String customTypeName, @NonNull CustomTypeSchema customTypeSchema) {
         customTypeSchemaMap.put(customTypeName, customTypeSchema);
+        version++;
     }
 
     /**
@@ -149,6 +156,15 @@ public final class SchemaRegistry {
         return Immutable.of(customTypeSchemaMap);
     }
 
+    /**
+     * Returns a number that changes whenever schemas are registered or the registry is cleared, so that values
+     * derived from the registered schemas can tell when they are out of date.
+     * @return the version of the registered schemas
+     */
+    public int getVersion() {
+        return version;
+    }
+
     /**
      * Creates a new instance.
      * @return A new instance
@@ -165,8 +181,9 @@ public final class SchemaRegistry {
     /**
      * Clears the registry.
      */
-    public void clear() {
+    public synchronized void clear() {
         this.modelSchemaMap.clear();
         this.customTypeSchemaMap.clear();
+        version++;
     }
 }
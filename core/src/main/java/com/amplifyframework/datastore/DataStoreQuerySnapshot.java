@@ -15,10 +15,15 @@
 
 package com.amplifyframework.datastore;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.util.Immutable;
 
 import java.util.List;
+import java.util.Objects;
 
 /***
  * Class which holds the snapshot of datastore queries.
@@ -27,6 +32,7 @@ import java.util.List;
 public class DataStoreQuerySnapshot<T extends Model> {
     private final List<T> items;
     private final boolean isSynced;
+    private final Diff diff;
 
     /***
      * Construtor for DataStoreQuerySnapshot.
@@ -34,8 +40,19 @@ public class DataStoreQuerySnapshot<T extends Model> {
      * @param isSynced sync status of the local datastore.
      */
     public DataStoreQuerySnapshot(List<T> items, boolean isSynced) {
+        this(items, isSynced, null);
+    }
+
+    /***
+     * Constructor for a DataStoreQuerySnapshot that follows a previous snapshot.
+     * @param items List of items.
+     * @param isSynced sync status of the local datastore.
+     * @param diff changes to the items of the previous snapshot, or null if not known.
+     */
+    public DataStoreQuerySnapshot(List<T> items, boolean isSynced, @Nullable Diff diff) {
         this.items = items;
         this.isSynced = isSynced;
+        this.diff = diff;
     }
 
     /***
@@ -53,4 +70,178 @@ public class DataStoreQuerySnapshot<T extends Model> {
     public boolean getIsSynced() {
         return isSynced;
     }
+
+    /***
+     * Get the changes from the items of the previous snapshot to the items of this snapshot.
+     * @return Changes since the previous snapshot, or null for the first snapshot.
+     */
+    @Nullable
+    public Diff getDiff() {
+        return diff;
+    }
+
+    /***
+     * Positions of the items that were removed, inserted, moved or changed between two snapshots.
+     * Applying the removals, then the insertions, then the moves to the items of the previous snapshot
+     * produces the items of the current snapshot.
+     */
+    public static final class Diff {
+        private final List<Integer> removedPositions;
+        private final List<Integer> insertedPositions;
+        private final List<Move> moves;
+        private final List<Integer> changedPositions;
+
+        /***
+         * Constructs a Diff.
+         * @param removedPositions positions in the previous snapshot of the items that were removed.
+         * @param insertedPositions positions in the current snapshot of the items that were inserted.
+         * @param moves items that changed positions relative to the other items.
+         * @param changedPositions positions in the current snapshot of the items whose content changed.
+         */
+        public Diff(@NonNull List<Integer> removedPositions,
+                    @NonNull List<Integer> insertedPositions,
+                    @NonNull List<Move> moves,
+                    @NonNull List<Integer> changedPositions) {
+            this.removedPositions = Objects.requireNonNull(removedPositions);
+            this.insertedPositions = Objects.requireNonNull(insertedPositions);
+            this.moves = Objects.requireNonNull(moves);
+            this.changedPositions = Objects.requireNonNull(changedPositions);
+        }
+
+        /***
+         * Get the positions of removed items.
+         * @return Ascending positions in the previous snapshot.
+         */
+        @NonNull
+        public List<Integer> getRemovedPositions() {
+            return Immutable.of(removedPositions);
+        }
+
+        /***
+         * Get the positions of inserted items.
+         * @return Ascending positions in the current snapshot.
+         */
+        @NonNull
+        public List<Integer> getInsertedPositions() {
+            return Immutable.of(insertedPositions);
+        }
+
+        /***
+         * Get the items that moved.
+         * @return Moves, by ascending position in the current snapshot.
+         */
+        @NonNull
+        public List<Move> getMoves() {
+            return Immutable.of(moves);
+        }
+
+        /***
+         * Get the positions of items that are in both snapshots, but whose content changed.
+         * @return Ascending positions in the current snapshot.
+         */
+        @NonNull
+        public List<Integer> getChangedPositions() {
+            return Immutable.of(changedPositions);
+        }
+
+        /***
+         * Check if there are no differences between the snapshots.
+         * @return true if nothing was removed, inserted, moved or changed.
+         */
+        public boolean isEmpty() {
+            return removedPositions.isEmpty() && insertedPositions.isEmpty()
+                && moves.isEmpty() && changedPositions.isEmpty();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object thatObject) {
+            if (this == thatObject) {
+                return true;
+            }
+            if (thatObject == null || getClass() != thatObject.getClass()) {
+                return false;
+            }
+            Diff that = (Diff) thatObject;
+            return ObjectsCompat.equals(removedPositions, that.removedPositions) &&
+                ObjectsCompat.equals(insertedPositions, that.insertedPositions) &&
+                ObjectsCompat.equals(moves, that.moves) &&
+                ObjectsCompat.equals(changedPositions, that.changedPositions);
+        }
+
+        @Override
+        public int hashCode() {
+            return ObjectsCompat.hash(removedPositions, insertedPositions, moves, changedPositions);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Diff{" +
+                "removedPositions=" + removedPositions +
+                ", insertedPositions=" + insertedPositions +
+                ", moves=" + moves +
+                ", changedPositions=" + changedPositions +
+                '}';
+        }
+    }
+
+    /***
+     * An item that is in both snapshots, at a different position relative to the other items.
+     */
+    public static final class Move {
+        private final int fromPosition;
+        private final int toPosition;
+
+        /***
+         * Constructs a Move.
+         * @param fromPosition position of the item in the previous snapshot.
+         * @param toPosition position of the item in the current snapshot.
+         */
+        public Move(int fromPosition, int toPosition) {
+            this.fromPosition = fromPosition;
+            this.toPosition = toPosition;
+        }
+
+        /***
+         * Get the position of the item in the previous snapshot.
+         * @return Position in the previous snapshot.
+         */
+        public int getFromPosition() {
+            return fromPosition;
+        }
+
+        /***
+         * Get the position of the item in the current snapshot.
+         * @return Position in the current snapshot.
+         */
+        public int getToPosition() {
+            return toPosition;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object thatObject) {
+            if (this == thatObject) {
+                return true;
+            }
+            if (thatObject == null || getClass() != thatObject.getClass()) {
+                return false;
+            }
+            Move that = (Move) thatObject;
+            return fromPosition == that.fromPosition && toPosition == that.toPosition;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * fromPosition + toPosition;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Move{" +
+                "fromPosition=" + fromPosition +
+                ", toPosition=" + toPosition +
+                '}';
+        }
+    }
 }
@@ -24,19 +24,38 @@ import com.amplifyframework.core.BuildConfig;
 
 import org.json.JSONObject;
 
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * An implementation of the {@link HubPlugin} which dispatches messages via
  * an {@link ExecutorService}.
+ *
+ * Subscriptions are kept in a copy-on-write list per channel, so publishing does not lock.
+ * Each subscriber has its own queue of events, so each subscriber receives events in the order
+ * they were published. Subscriber filters are evaluated as the events are delivered, off the
+ * publishing thread. A queue is drained by one thread at a time, taken from a pool that grows
+ * as needed, so a subscriber that blocks only holds up its own events. When a subscriber falls
+ * behind, a queued event whose name is coalesced on its channel is dropped in favor of a newer
+ * event of the same name that passes the subscriber's filter.
  */
 public final class AWSHubPlugin extends HubPlugin<Void> {
-    private final Set<Subscription> subscriptions;
+    // Events delivered to a subscriber before its queue yields the thread to other subscribers.
+    private static final int MAX_EVENTS_PER_DRAIN = 64;
+
+    private final Map<HubChannel, List<Subscription>> subscriptionsByChannel;
+    private final Map<SubscriptionToken, Subscription> subscriptionsByToken;
+    private final Map<HubChannel, Set<String>> coalescedEventNames;
     private final ExecutorService executorService;
 
     /**
@@ -44,24 +63,29 @@ public final class AWSHubPlugin extends HubPlugin<Void> {
      */
     @SuppressWarnings("WeakerAccess") // This is a public API
     public AWSHubPlugin() {
-        this.subscriptions = new HashSet<>();
+        this.subscriptionsByChannel = new EnumMap<>(HubChannel.class);
+        this.coalescedEventNames = new EnumMap<>(HubChannel.class);
+        for (HubChannel hubChannel : HubChannel.values()) {
+            subscriptionsByChannel.put(hubChannel, new CopyOnWriteArrayList<>());
+            coalescedEventNames.put(hubChannel, ConcurrentHashMap.newKeySet());
+        }
+        this.subscriptionsByToken = new ConcurrentHashMap<>();
         this.executorService = Executors.newCachedThreadPool();
     }
 
+    @Override
+    public void coalesceEvents(@NonNull HubChannel hubChannel, @NonNull String eventName) {
+        coalescedEventNames.get(Objects.requireNonNull(hubChannel)).add(Objects.requireNonNull(eventName));
+    }
+
     @Override
     public <T> void publish(@NonNull HubChannel hubChannel, @NonNull HubEvent<T> hubEvent) {
         Objects.requireNonNull(hubChannel);
         Objects.requireNonNull(hubEvent);
-        executorService.execute(() -> {
-            synchronized (subscriptions) {
-                for (Subscription subscription : subscriptions) {
-                    if (subscription.getHubChannel().equals(hubChannel) &&
-                            subscription.getHubEventFilter().filter(hubEvent)) {
-                        executorService.execute(() -> subscription.getHubSubscriber().onEvent(hubEvent));
-                    }
-                }
-            }
-        });
+        boolean coalesce = coalescedEventNames.get(hubChannel).contains(hubEvent.getName());
+        for (Subscription subscription : subscriptionsByChannel.get(hubChannel)) {
+            subscription.enqueue(hubEvent, coalesce, executorService);
+        }
     }
 
     @NonNull
@@ -81,22 +105,19 @@ public final class AWSHubPlugin extends HubPlugin<Void> {
         Objects.requireNonNull(hubEventFilter);
         Objects.requireNonNull(hubSubscriber);
         SubscriptionToken token = SubscriptionToken.create();
-        synchronized (subscriptions) {
-            subscriptions.add(new Subscription(token, hubChannel, hubEventFilter, hubSubscriber));
-        }
+        Subscription subscription = new Subscription(token, hubChannel, hubEventFilter, hubSubscriber);
+        subscriptionsByToken.put(token, subscription);
+        subscriptionsByChannel.get(hubChannel).add(subscription);
         return token;
     }
 
     @Override
     public void unsubscribe(@NonNull SubscriptionToken subscriptionToken) {
         Objects.requireNonNull(subscriptionToken);
-        synchronized (subscriptions) {
-            Iterator<Subscription> iterator = subscriptions.iterator();
-            while (iterator.hasNext()) {
-                if (iterator.next().getSubscriptionToken().equals(subscriptionToken)) {
-                    iterator.remove();
-                }
-            }
+        Subscription subscription = subscriptionsByToken.remove(subscriptionToken);
+        if (subscription != null) {
+            subscription.cancel();
+            subscriptionsByChannel.get(subscription.getHubChannel()).remove(subscription);
         }
     }
 
@@ -129,6 +150,11 @@ public final class AWSHubPlugin extends HubPlugin<Void> {
         private final HubChannel channel;
         private final HubEventFilter hubEventFilter;
         private final HubSubscriber hubSubscriber;
+        private final Queue<PendingEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+        // The newest queued event of each coalesced event name.
+        private final Map<String, PendingEvent> latestCoalescedEvents = new ConcurrentHashMap<>();
+        private final AtomicBoolean isDraining = new AtomicBoolean(false);
+        private volatile boolean isCanceled = false;
 
         Subscription(
                 @NonNull SubscriptionToken subscriptionToken,
@@ -157,6 +183,67 @@ public final class AWSHubPlugin extends HubPlugin<Void> {
             return hubSubscriber;
         }
 
+        void cancel() {
+            isCanceled = true;
+            pendingEvents.clear();
+            latestCoalescedEvents.clear();
+        }
+
+        void enqueue(HubEvent<?> hubEvent, boolean coalesce, ExecutorService executorService) {
+            PendingEvent pendingEvent = new PendingEvent(hubEvent);
+            if (coalesce) {
+                PendingEvent previousEvent = latestCoalescedEvents.put(hubEvent.getName(), pendingEvent);
+                if (previousEvent != null) {
+                    previousEvent.nextEvent = pendingEvent;
+                }
+            }
+            pendingEvents.offer(pendingEvent);
+            scheduleDrain(executorService);
+        }
+
+        private void scheduleDrain(ExecutorService executorService) {
+            if (isDraining.compareAndSet(false, true)) {
+                executorService.execute(() -> drain(executorService));
+            }
+        }
+
+        private void drain(ExecutorService executorService) {
+            try {
+                PendingEvent pendingEvent;
+                int count = 0;
+                while (count < MAX_EVENTS_PER_DRAIN && !isCanceled && (pendingEvent = pendingEvents.poll()) != null) {
+                    latestCoalescedEvents.remove(pendingEvent.hubEvent.getName(), pendingEvent);
+                    if (matches(pendingEvent) && !isSuperseded(pendingEvent)) {
+                        count++;
+                        hubSubscriber.onEvent(pendingEvent.hubEvent);
+                    }
+                }
+            } finally {
+                // Runs even if the subscriber threw, so that its later events are still delivered.
+                isDraining.set(false);
+                if (!isCanceled && !pendingEvents.isEmpty()) {
+                    scheduleDrain(executorService);
+                }
+            }
+        }
+
+        private boolean matches(PendingEvent pendingEvent) {
+            if (pendingEvent.matches == null) {
+                pendingEvent.matches = hubEventFilter.filter(pendingEvent.hubEvent);
+            }
+            return pendingEvent.matches;
+        }
+
+        // An event is superseded by a later event of the same coalesced name that the subscriber will receive.
+        private boolean isSuperseded(PendingEvent pendingEvent) {
+            for (PendingEvent nextEvent = pendingEvent.nextEvent; nextEvent != null; nextEvent = nextEvent.nextEvent) {
+                if (matches(nextEvent)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         @Override
         public boolean equals(Object thatObject) {
             if (this == thatObject) {
@@ -199,4 +286,19 @@ public final class AWSHubPlugin extends HubPlugin<Void> {
                 '}';
         }
     }
+
+    /**
+     * An event waiting to be delivered to a subscriber.
+     */
+    private static final class PendingEvent {
+        private final HubEvent<?> hubEvent;
+        // The event of the same coalesced name that was queued after this one.
+        private volatile PendingEvent nextEvent;
+        // Whether the event passes the subscriber's filter. Only used by the drain, which runs one at a time.
+        private Boolean matches;
+
+        PendingEvent(HubEvent<?> hubEvent) {
+            this.hubEvent = hubEvent;
+        }
+    }
 }
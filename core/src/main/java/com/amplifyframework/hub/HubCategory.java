@@ -64,6 +64,17 @@ public final class HubCategory extends Category<HubPlugin<?>> implements HubCate
         getHubPlugin().unsubscribe(subscriptionToken);
     }
 
+    /**
+     * Lets a subscriber that falls behind receive only the latest of the queued events with the
+     * given name on the given channel. Publishers call this for events that each carry a complete
+     * state, so that the earlier ones are of no use once a newer one is queued.
+     * @param hubChannel Channel the events are published on
+     * @param eventName Name of events of which a subscriber only needs the latest
+     */
+    public void coalesceEvents(@NonNull HubChannel hubChannel, @NonNull String eventName) {
+        getHubPlugin().coalesceEvents(hubChannel, eventName);
+    }
+
     @NonNull
     @Override
     public CategoryType getCategoryType() {
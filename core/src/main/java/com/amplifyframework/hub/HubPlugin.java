@@ -40,4 +40,12 @@ public abstract class HubPlugin<E> implements HubCategoryBehavior, Plugin<E> {
     @WorkerThread
     @Override
     public void initialize(@NonNull Context context) throws AmplifyException {}
+
+    /**
+     * Lets a subscriber that falls behind receive only the latest of the queued events with the
+     * given name on the given channel. Plugins that don't queue events may ignore this.
+     * @param hubChannel Channel the events are published on
+     * @param eventName Name of events of which a subscriber only needs the latest
+     */
+    public void coalesceEvents(@NonNull HubChannel hubChannel, @NonNull String eventName) {}
 }
@@ -20,14 +20,19 @@ import com.amplifyframework.testutils.Latch;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Validates the functionality of the {@link AWSHubPlugin}.
@@ -126,6 +131,146 @@ public final class AWSHubPluginTest {
         }
     }
 
+    /**
+     * Validates that a subscriber receives events in the order they were published.
+     */
+    @Test
+    public void eventsAreDeliveredInPublishOrder() {
+        int eventCount = 500;
+        List<String> received = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(eventCount);
+        SubscriptionToken token = hub.subscribe(HubChannel.DATASTORE, event -> {
+            received.add(event.getName());
+            latch.countDown();
+        });
+        List<String> published = new ArrayList<>();
+        for (int index = 0; index < eventCount; index++) {
+            published.add("event-" + index);
+            hub.publish(HubChannel.DATASTORE, HubEvent.create("event-" + index));
+        }
+        Latch.await(latch);
+        assertEquals(published, received);
+        hub.unsubscribe(token);
+    }
+
+    /**
+     * Validates that when a subscriber falls behind, it only receives the latest of the
+     * queued events whose name is coalesced, while other events are all delivered.
+     * @throws InterruptedException when waiting for CountDownLatch to
+     *                              meet the desired condition is interrupted.
+     */
+    @Test
+    public void queuedCoalescedEventsAreReplacedByLatest() throws InterruptedException {
+        hub.coalesceEvents(HubChannel.DATASTORE, "status");
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        List<Object> received = new ArrayList<>();
+        SubscriptionToken token = hub.subscribe(HubChannel.DATASTORE, event -> {
+            received.add(event.getData() != null ? event.getData() : event.getName());
+            if ("first".equals(event.getName())) {
+                blocked.countDown();
+                Latch.await(release);
+            } else if ("last".equals(event.getName())) {
+                done.countDown();
+            }
+        });
+
+        hub.publish(HubChannel.DATASTORE, HubEvent.create("first"));
+        Latch.await(blocked);
+        hub.publish(HubChannel.DATASTORE, HubEvent.create("status", 1));
+        hub.publish(HubChannel.DATASTORE, HubEvent.create("other"));
+        hub.publish(HubChannel.DATASTORE, HubEvent.create("status", 2));
+        hub.publish(HubChannel.DATASTORE, HubEvent.create("last"));
+        release.countDown();
+
+        assertTrue(done.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(Arrays.asList("first", "other", 2, "last"), received);
+        hub.unsubscribe(token);
+    }
+
+    /**
+     * Validates that a coalesced event is not dropped in favor of a newer event of the same
+     * name that the subscriber filters out.
+     * @throws InterruptedException when waiting for CountDownLatch to
+     *                              meet the desired condition is interrupted.
+     */
+    @Test
+    public void coalescedEventsAreOnlyReplacedByEventsPassingTheFilter() throws InterruptedException {
+        hub.coalesceEvents(HubChannel.DATASTORE, "status");
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        List<Object> received = new ArrayList<>();
+        HubEventFilter filter = event -> !Integer.valueOf(2).equals(event.getData());
+        SubscriptionToken token = hub.subscribe(HubChannel.DATASTORE, filter, event -> {
+            received.add(event.getData() != null ? event.getData() : event.getName());
+            if ("first".equals(event.getName())) {
+                blocked.countDown();
+                Latch.await(release);
+            } else if ("last".equals(event.getName())) {
+                done.countDown();
+            }
+        });
+
+        hub.publish(HubChannel.DATASTORE, HubEvent.create("first"));
+        Latch.await(blocked);
+        hub.publish(HubChannel.DATASTORE, HubEvent.create("status", 1));
+        hub.publish(HubChannel.DATASTORE, HubEvent.create("status", 2));
+        hub.publish(HubChannel.DATASTORE, HubEvent.create("last"));
+        release.countDown();
+
+        assertTrue(done.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(Arrays.asList("first", 1, "last"), received);
+        hub.unsubscribe(token);
+    }
+
+    /**
+     * Validates that filters are not evaluated on the publishing thread.
+     */
+    @Test
+    public void filtersAreEvaluatedOffThePublishingThread() {
+        CountDownLatch latch = new CountDownLatch(1);
+        Set<Thread> filterThreads = new CopyOnWriteArraySet<>();
+        SubscriptionToken token = hub.subscribe(HubChannel.DATASTORE, event -> {
+            filterThreads.add(Thread.currentThread());
+            return true;
+        }, event -> latch.countDown());
+
+        hub.publish(HubChannel.DATASTORE, HubEvent.create("hello!"));
+        Latch.await(latch);
+        assertFalse(filterThreads.contains(Thread.currentThread()));
+        hub.unsubscribe(token);
+    }
+
+    /**
+     * Validates that subscribers that block, even more of them than there are processors, do not
+     * hold up the delivery of events to other subscribers.
+     */
+    @Test
+    public void blockedSubscribersDoNotHoldUpOthers() {
+        int blockedCount = Runtime.getRuntime().availableProcessors() + 2;
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(blockedCount);
+        List<SubscriptionToken> tokens = new ArrayList<>();
+        for (int index = 0; index < blockedCount; index++) {
+            tokens.add(hub.subscribe(HubChannel.DATASTORE, event -> {
+                blocked.countDown();
+                Latch.await(release);
+            }));
+        }
+        CountDownLatch received = new CountDownLatch(1);
+        tokens.add(hub.subscribe(HubChannel.DATASTORE, event -> received.countDown()));
+
+        hub.publish(HubChannel.DATASTORE, HubEvent.create("hello!"));
+        Latch.await(blocked);
+        Latch.await(received);
+        release.countDown();
+        for (SubscriptionToken token : tokens) {
+            hub.unsubscribe(token);
+        }
+    }
+
     enum Musician {
         JON_PARDI,
         MEMPHIS_SLIM,